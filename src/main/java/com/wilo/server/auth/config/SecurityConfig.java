@@ -50,11 +50,13 @@ public class SecurityConfig {
                                 .requestMatchers("/", "/robots.txt", "/home","/images/**", "/login", "/css/**", "/js/**", "/swagger-ui/**", "/v3/api-docs/**", "/actuator/**").permitAll()
                                 .requestMatchers("/api/v1/auth/**").permitAll()
                                 .requestMatchers(HttpMethod.PATCH, "/api/v1/users/password/reset").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/v1/users/*/community-stats").permitAll()
                                 .requestMatchers("/api/v1/chatbot-types/**").permitAll()
                                 .requestMatchers("/api/v1/chat/**").permitAll()
                                 .requestMatchers("/api/v1/guest/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/v1/community/posts/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/v1/community/users/**").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/v1/community/search-keywords/**").permitAll()
                                 .anyRequest().authenticated()
                 )
                 .sessionManagement(sessionManagement ->
@@ -1,5 +1,10 @@
 package com.wilo.server.chatbot.client;
 
+import reactor.core.publisher.Flux;
+
 public interface AiChatClient {
     AiChatResult chat(AiChatCommand command);
+
+    // 토큰 조각을 받는 대로 흘려 보내고, 마지막에 완료 조각(result) 하나를 보낸다
+    Flux<AiChatStreamChunk> chatStream(AiChatCommand command);
 }
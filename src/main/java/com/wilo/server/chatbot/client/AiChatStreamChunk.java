@@ -0,0 +1,24 @@
+package com.wilo.server.chatbot.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 스트리밍 응답 조각: 토큰이면 delta, 마지막 조각이면 전체 결과(result)를 담는다
+@Getter
+@Builder
+public class AiChatStreamChunk {
+    private String delta;
+    private AiChatResult result;
+
+    public static AiChatStreamChunk token(String delta) {
+        return AiChatStreamChunk.builder().delta(delta).build();
+    }
+
+    public static AiChatStreamChunk completed(AiChatResult result) {
+        return AiChatStreamChunk.builder().result(result).build();
+    }
+
+    public boolean isCompleted() {
+        return result != null;
+    }
+}
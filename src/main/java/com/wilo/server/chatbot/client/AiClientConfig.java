@@ -7,22 +7,28 @@ import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.beans.factory.annotation.Value;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
 
 @Configuration
 public class AiClientConfig {
+    // 서버 주소는 AiBackendPool 이 서버마다 붙인다 (ai.base-urls)
     @Bean
     public WebClient aiWebClient(
-            @Value("${ai.base-url:http://15.134.128.31:8000}") String baseUrl
+            @Value("${ai.client.max-connections:500}") int maxConnections
     ) {
-        HttpClient httpClient = HttpClient.create()
+        // 기본 연결 풀은 CPU 수에 비례(1 CPU면 16개)해서, 가상 스레드로 요청을 더 받아도 AI 호출이 풀 대기에서 막힌다
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("ai")
+                .maxConnections(maxConnections)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5_000)
                 .responseTimeout(Duration.ofSeconds(20));
 
         return WebClient.builder()
-                .baseUrl(baseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(c -> c.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
                 .build();
@@ -2,13 +2,17 @@ package com.wilo.server.chatbot.client;
 
 import com.wilo.server.chatbot.client.dto.AiChatRequest;
 import com.wilo.server.chatbot.client.dto.AiChatResponse;
+import com.wilo.server.chatbot.client.dto.AiChatStreamEvent;
+import com.wilo.server.chatbot.client.resilience.AiCallGuard;
+import com.wilo.server.chatbot.client.resilience.AiEndpoint;
+import com.wilo.server.chatbot.client.routing.AiBackendPool;
 import com.wilo.server.chatbot.exception.ChatbotErrorCase;
 import com.wilo.server.global.exception.ApplicationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -20,30 +24,25 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class RealAiChatClient implements AiChatClient {
 
-    private final WebClient aiWebClient;
+    // 스트리밍은 전체 생성 시간이 아니라 토큰 사이 간격에 제한을 둔다
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(20);
+    private static final Duration STREAM_TOTAL_TIMEOUT = Duration.ofSeconds(120);
+
+    private final AiBackendPool aiBackendPool;
+    private final AiCallGuard aiCallGuard;
 
     @Override
     public AiChatResult chat(AiChatCommand command) {
+        return aiCallGuard.call(AiEndpoint.CHAT, () -> requestChat(command));
+    }
 
-        AiChatRequest.Context context =
-                AiChatRequest.Context.builder()
-                        .recentMessages(command.getRecentMessages() == null ? List.of() : command.getRecentMessages())
-                        .sessionSummary(command.getSessionSummary() == null ? "" : command.getSessionSummary())
-                        .memory(command.getMemory() == null ? Map.of() : command.getMemory())
-                        .build();
+    private AiChatResult requestChat(AiChatCommand command) {
 
-
-        AiChatRequest req = AiChatRequest.builder()
-                .requestId(command.getRequestId())
-                .userId(command.getUserId())
-                .sessionId(String.valueOf(command.getSessionId()))
-                .personaId(command.getPersonaId())
-                .message(command.getMessage())
-                .context(context)
-                .build();
+        AiChatRequest req = toRequest(command);
 
 
-        AiChatResponse res = aiWebClient.post()
+        // 느린 서버 하나에 꼬리 지연이 묶이지 않도록 p95를 넘기면 다른 서버에도 보낸다
+        AiChatResponse res = aiBackendPool.hedged(webClient -> webClient.post()
                 .uri("/chat")
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(req)
@@ -60,7 +59,7 @@ public class RealAiChatClient implements AiChatClient {
                                 })
                 )
                 .bodyToMono(AiChatResponse.class)
-                .timeout(Duration.ofSeconds(20))
+                .timeout(Duration.ofSeconds(20)))
                 .block();
 
 
@@ -68,20 +67,98 @@ public class RealAiChatClient implements AiChatClient {
             throw new ApplicationException(ChatbotErrorCase.AI_SERVER_FAILED);
         }
 
-        if (!"success".equalsIgnoreCase(res.getStatus())) {
+        return toResult(command, res.getStatus(), res.getAnswer(), res.getChoices(), res.getSafetyStatus());
+    }
+
+    @Override
+    public Flux<AiChatStreamChunk> chatStream(AiChatCommand command) {
+        AiChatRequest req = toRequest(command);
+
+        return aiCallGuard.stream(AiEndpoint.CHAT, () -> Flux.defer(() -> {
+            // done 이벤트에 answer가 없으면 받은 토큰을 이어 붙여 쓴다
+            StringBuilder streamed = new StringBuilder();
+            return aiBackendPool.routeMany(webClient -> webClient.post()
+                    .uri("/chat/stream")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(req)
+                    .retrieve()
+                    .onStatus(s -> s.value() == 502 || s.value() == 503 || s.value() == 504,
+                            r -> Mono.error(new ApplicationException(ChatbotErrorCase.AI_SERVER_FAILED))
+                    )
+                    .onStatus(
+                            s -> s.is4xxClientError(),
+                            r -> r.bodyToMono(String.class)
+                                    .defaultIfEmpty("")
+                                    .flatMap(body -> {
+                                        log.warn("AI chat stream 4xx from upstream. requestId={}, status={}", command.getRequestId(), r.statusCode());
+                                        return Mono.error(new ApplicationException(ChatbotErrorCase.AI_RESPONSE_INVALID));
+                                    })
+                    )
+                    .bodyToFlux(AiChatStreamEvent.class)
+                    .timeout(STREAM_IDLE_TIMEOUT)
+                    .take(STREAM_TOTAL_TIMEOUT))
+                    .concatMap(event -> toChunk(command, event, streamed))
+                    // done 이후의 이벤트는 무시하고, done 없이 끝나면 실패로 본다
+                    .takeUntil(AiChatStreamChunk::isCompleted)
+                    .concatWith(Mono.error(() -> new ApplicationException(ChatbotErrorCase.AI_RESPONSE_INVALID)))
+                    .takeUntil(AiChatStreamChunk::isCompleted);
+        }));
+    }
+
+    private Mono<AiChatStreamChunk> toChunk(AiChatCommand command, AiChatStreamEvent event, StringBuilder streamed) {
+        if ("token".equalsIgnoreCase(event.getType())) {
+            if (event.getDelta() == null || event.getDelta().isEmpty()) {
+                return Mono.empty();
+            }
+            streamed.append(event.getDelta());
+            return Mono.just(AiChatStreamChunk.token(event.getDelta()));
+        }
+        if ("done".equalsIgnoreCase(event.getType())) {
+            String answer = (event.getAnswer() == null || event.getAnswer().isBlank()) ? streamed.toString() : event.getAnswer();
+            return Mono.fromCallable(() -> AiChatStreamChunk.completed(
+                    toResult(command, event.getStatus(), answer, event.getChoices(), event.getSafetyStatus())));
+        }
+        if ("error".equalsIgnoreCase(event.getType())) {
+            log.warn("AI chat stream error event. requestId={}, errorType={}", command.getRequestId(), event.getErrorType());
+            return Mono.error(new ApplicationException(ChatbotErrorCase.AI_SERVER_FAILED));
+        }
+        return Mono.empty();
+    }
+
+    private AiChatRequest toRequest(AiChatCommand command) {
+        AiChatRequest.Context context =
+                AiChatRequest.Context.builder()
+                        .recentMessages(command.getRecentMessages() == null ? List.of() : command.getRecentMessages())
+                        .sessionSummary(command.getSessionSummary() == null ? "" : command.getSessionSummary())
+                        .memory(command.getMemory() == null ? Map.of() : command.getMemory())
+                        .build();
+
+        return AiChatRequest.builder()
+                .requestId(command.getRequestId())
+                .userId(command.getUserId())
+                .sessionId(String.valueOf(command.getSessionId()))
+                .personaId(command.getPersonaId())
+                .message(command.getMessage())
+                .context(context)
+                .build();
+    }
+
+    private AiChatResult toResult(AiChatCommand command, String status, String answer, List<String> choices, String safetyStatus) {
+        if (!"success".equalsIgnoreCase(status)) {
             throw new ApplicationException(ChatbotErrorCase.AI_SERVER_FAILED);
         }
 
-        if (res.getAnswer() == null || res.getAnswer().isBlank()) {
+        if (answer == null || answer.isBlank()) {
             throw new ApplicationException(ChatbotErrorCase.AI_RESPONSE_INVALID);
         }
 
 
         return AiChatResult.builder()
                 .sessionId(command.getSessionId())
-                .answer(res.getAnswer())
-                .choices(res.getChoices() == null ? List.of() : res.getChoices())
-                .safetyStatus(AiSafetyMapper.toBackend(res.getSafetyStatus()))
+                .answer(answer)
+                .choices(choices == null ? List.of() : choices)
+                .safetyStatus(AiSafetyMapper.toBackend(safetyStatus))
                 .build();
     }
 }
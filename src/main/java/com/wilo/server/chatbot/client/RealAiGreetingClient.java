@@ -2,12 +2,14 @@ package com.wilo.server.chatbot.client;
 
 import com.wilo.server.chatbot.client.dto.AiChatRequest;
 import com.wilo.server.chatbot.client.dto.AiChatResponse;
+import com.wilo.server.chatbot.client.resilience.AiCallGuard;
+import com.wilo.server.chatbot.client.resilience.AiEndpoint;
+import com.wilo.server.chatbot.client.routing.AiBackendPool;
 import com.wilo.server.chatbot.exception.ChatbotErrorCase;
 import com.wilo.server.global.exception.ApplicationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -18,10 +20,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class RealAiGreetingClient implements AiGreetingClient {
 
-    private final WebClient aiWebClient;
+    private final AiBackendPool aiBackendPool;
+    private final AiCallGuard aiCallGuard;
 
     @Override
     public AiChatResult greeting(AiGreetingCommand command) {
+        return aiCallGuard.call(AiEndpoint.GREETING, () -> requestGreeting(command));
+    }
+
+    private AiChatResult requestGreeting(AiGreetingCommand command) {
 
         AiChatRequest.Context context = AiChatRequest.Context.builder()
                 .recentMessages(command.getRecentMessages() == null ? List.of() : command.getRecentMessages())
@@ -37,7 +44,7 @@ public class RealAiGreetingClient implements AiGreetingClient {
                 .context(context)
                 .build();
 
-        AiChatResponse res = aiWebClient.post()
+        AiChatResponse res = aiBackendPool.route(webClient -> webClient.post()
                 .uri("/greeting")
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(req)
@@ -52,7 +59,7 @@ public class RealAiGreetingClient implements AiGreetingClient {
                                 .flatMap(body -> Mono.error(new ApplicationException(ChatbotErrorCase.AI_RESPONSE_INVALID)))
                 )
                 .bodyToMono(AiChatResponse.class)
-                .timeout(Duration.ofSeconds(20))
+                .timeout(Duration.ofSeconds(20)))
                 .block();
 
         if (res == null) {
@@ -3,13 +3,15 @@ package com.wilo.server.chatbot.client;
 import com.wilo.server.chatbot.client.dto.AiRoleMessage;
 import com.wilo.server.chatbot.client.dto.AiSummarizeRequest;
 import com.wilo.server.chatbot.client.dto.AiSummarizeResponse;
+import com.wilo.server.chatbot.client.resilience.AiCallGuard;
+import com.wilo.server.chatbot.client.resilience.AiEndpoint;
+import com.wilo.server.chatbot.client.routing.AiBackendPool;
 import com.wilo.server.chatbot.exception.ChatbotErrorCase;
 import com.wilo.server.global.exception.ApplicationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
@@ -20,16 +22,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RealAiSummarizeClient implements AiSummarizeClient {
 
-    private final WebClient aiWebClient;
+    private final AiBackendPool aiBackendPool;
+    private final AiCallGuard aiCallGuard;
 
     @Override
     public AiSummarizeResult summarize(List<AiRoleMessage> messages) {
+        return aiCallGuard.call(AiEndpoint.SUMMARIZE, () -> requestSummarize(messages));
+    }
+
+    private AiSummarizeResult requestSummarize(List<AiRoleMessage> messages) {
 
         AiSummarizeRequest req = AiSummarizeRequest.builder()
                 .messages(messages == null ? List.of() : messages)
                 .build();
 
-        AiSummarizeResponse res = aiWebClient.post()
+        // 재시도는 다시 서버를 골라 보낸다
+        AiSummarizeResponse res = aiBackendPool.route(webClient -> webClient.post()
                 .uri("/summarize")
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(req)
@@ -45,7 +53,7 @@ public class RealAiSummarizeClient implements AiSummarizeClient {
 
                 .bodyToMono(AiSummarizeResponse.class)
 
-                .timeout(Duration.ofSeconds(45))
+                .timeout(Duration.ofSeconds(45)))
 
                 // retry 1회
                 .retryWhen(
@@ -0,0 +1,25 @@
+package com.wilo.server.chatbot.client.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+// /chat/stream SSE 이벤트 한 건 (data: JSON)
+// type = "token" 이면 delta만, "done" 이면 /chat 응답과 같은 최종 필드, "error" 이면 error_type이 채워진다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiChatStreamEvent {
+    private String type;
+    private String delta;
+    private String answer;
+    private List<String> choices;
+    @JsonProperty("safety_status")
+    private String safetyStatus;
+    private String status;
+    @JsonProperty("error_type")
+    private String errorType;
+}
@@ -0,0 +1,192 @@
+package com.wilo.server.chatbot.client.resilience;
+
+import com.wilo.server.chatbot.exception.ChatbotErrorCase;
+import com.wilo.server.global.exception.ApplicationException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+
+// AI 서버 호출을 엔드포인트(/chat, /greeting, /summarize)별로 격리한다.
+// 엔드포인트마다 AIMD 동시 실행 한도와 서킷 브레이커를 두고, 자리가 없으면 기다리지 않고 바로 거절한다.
+// 요약은 대화 요청이 한도의 일정 비율 이상 차 있으면 보내지 않는다 (다음 턴에 다시 시도된다).
+@Slf4j
+@Component
+public class AiCallGuard {
+
+    private static final String METRIC_PREFIX = "ai.client.";
+
+    private final MeterRegistry meterRegistry;
+    private final double summarizeYieldRatio;
+    private final Map<AiEndpoint, AimdLimit> limits = new EnumMap<>(AiEndpoint.class);
+    private final Map<AiEndpoint, AiCircuitBreaker> circuitBreakers = new EnumMap<>(AiEndpoint.class);
+
+    public AiCallGuard(AiResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.summarizeYieldRatio = properties.getSummarizeYieldRatio();
+        for (AiEndpoint endpoint : AiEndpoint.values()) {
+            AiResilienceProperties.Endpoint settings = properties.endpoint(endpoint);
+            AimdLimit limit = new AimdLimit(
+                    settings.getInitialLimit(),
+                    settings.getMinLimit(),
+                    settings.getMaxLimit(),
+                    settings.getBackoffRatio(),
+                    settings.getLatencyThresholdMs() * 1_000_000L
+            );
+            AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(properties.getCircuitBreaker(), System::nanoTime);
+            limits.put(endpoint, limit);
+            circuitBreakers.put(endpoint, circuitBreaker);
+
+            Gauge.builder(METRIC_PREFIX + "concurrency.limit", limit, AimdLimit::getLimit)
+                    .description("AI 호출 동시 실행 한도")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + "concurrency.in-flight", limit, AimdLimit::getInFlight)
+                    .description("AI 호출 동시 실행 수")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + "circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                    .description("AI 호출 서킷 상태 (0 closed, 1 half-open, 2 open)")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    public <T> T call(AiEndpoint endpoint, Supplier<T> call) {
+        Permit permit = acquire(endpoint);
+        try {
+            T result = call.get();
+            permit.succeed(true);
+            return result;
+        } catch (RuntimeException e) {
+            permit.fail(e);
+            throw e;
+        }
+    }
+
+    // 스트림은 구독할 때 자리를 잡고 끝나거나 취소될 때 돌려준다. 생성 시간이 길어 지연 시간은 한도에 반영하지 않는다.
+    public <T> Flux<T> stream(AiEndpoint endpoint, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            Permit permit = acquire(endpoint);
+            Flux<T> stream;
+            try {
+                stream = call.get();
+            } catch (RuntimeException e) {
+                // 스트림을 만들다 바로 실패하면 구독 신호가 오지 않으므로 여기서 자리를 돌려준다
+                permit.fail(e);
+                throw e;
+            }
+            return stream
+                    .doOnComplete(() -> permit.succeed(false))
+                    .doOnError(permit::fail)
+                    .doOnCancel(permit::ignore);
+        });
+    }
+
+    public AimdLimit getLimit(AiEndpoint endpoint) {
+        return limits.get(endpoint);
+    }
+
+    public AiCircuitBreaker getCircuitBreaker(AiEndpoint endpoint) {
+        return circuitBreakers.get(endpoint);
+    }
+
+    private Permit acquire(AiEndpoint endpoint) {
+        if (endpoint == AiEndpoint.SUMMARIZE) {
+            AimdLimit chat = limits.get(AiEndpoint.CHAT);
+            if (chat.getInFlight() >= chat.getLimit() * summarizeYieldRatio) {
+                throw reject(endpoint, "yield", ChatbotErrorCase.AI_SERVER_BUSY);
+            }
+        }
+
+        AiCircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        long ticket = circuitBreaker.tryAcquire();
+        if (ticket == AiCircuitBreaker.REJECTED) {
+            throw reject(endpoint, "circuit_open", ChatbotErrorCase.AI_SERVER_UNAVAILABLE);
+        }
+        AimdLimit limit = limits.get(endpoint);
+        if (!limit.tryAcquire()) {
+            circuitBreaker.onIgnored(ticket);
+            throw reject(endpoint, "limit", ChatbotErrorCase.AI_SERVER_BUSY);
+        }
+        return new Permit(endpoint, limit, circuitBreaker, ticket, System.nanoTime());
+    }
+
+    private ApplicationException reject(AiEndpoint endpoint, String reason, ChatbotErrorCase errorCase) {
+        meterRegistry.counter(METRIC_PREFIX + "rejected", "endpoint", endpoint.tag(), "reason", reason).increment();
+        log.debug("AI 호출 거절. endpoint={}, reason={}", endpoint, reason);
+        return new ApplicationException(errorCase);
+    }
+
+    // AI 서버가 버거워한다는 신호인지: 타임아웃, 연결 실패, 5xx/실패 응답
+    public static boolean isOverload(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof WebClientRequestException) {
+                return true;
+            }
+            if (cause instanceof ApplicationException e) {
+                return e.getErrorCase() == ChatbotErrorCase.AI_SERVER_FAILED;
+            }
+        }
+        return false;
+    }
+
+    private static final class Permit {
+
+        private final AiEndpoint endpoint;
+        private final AimdLimit limit;
+        private final AiCircuitBreaker circuitBreaker;
+        private final long ticket;
+        private final long startedAtNanos;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(
+                AiEndpoint endpoint,
+                AimdLimit limit,
+                AiCircuitBreaker circuitBreaker,
+                long ticket,
+                long startedAtNanos
+        ) {
+            this.endpoint = endpoint;
+            this.limit = limit;
+            this.circuitBreaker = circuitBreaker;
+            this.ticket = ticket;
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        void succeed(boolean measureLatency) {
+            if (released.compareAndSet(false, true)) {
+                limit.onSuccess(measureLatency ? System.nanoTime() - startedAtNanos : 0L);
+                circuitBreaker.onSuccess(ticket);
+            }
+        }
+
+        void fail(Throwable error) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            if (isOverload(error)) {
+                log.debug("AI 호출 실패, 한도를 줄입니다. endpoint={}", endpoint, error);
+                limit.onDropped();
+                circuitBreaker.onFailure(ticket);
+            } else {
+                limit.onIgnored();
+                circuitBreaker.onSuccess(ticket);
+            }
+        }
+
+        void ignore() {
+            if (released.compareAndSet(false, true)) {
+                limit.onIgnored();
+                circuitBreaker.onIgnored(ticket);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.wilo.server.chatbot.client.resilience;
+
+import java.util.function.LongSupplier;
+
+// 최근 windowSize 건 중 실패율이 임계치를 넘으면 openMs 동안 호출을 막는다(OPEN).
+// 그 뒤에는 halfOpenCalls 건만 시험 삼아 보내고, 모두 성공하면 닫고 하나라도 실패하면 다시 연다.
+// 상태가 바뀔 때마다 세대를 올리고 허용한 호출에 그 세대를 표로 준다. 결과는 같은 세대일 때만 반영해
+// 열리기 전에 나간 호출이 반쯤 열린 동안 끝나도 시험 호출로 세지 않는다.
+public class AiCircuitBreaker {
+
+    public static final long REJECTED = -1L;
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAtNanos;
+    private long generation;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public AiCircuitBreaker(AiResilienceProperties.CircuitBreaker properties, LongSupplier nanoClock) {
+        this.minimumCalls = properties.getMinimumCalls();
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.openNanos = properties.getOpenMs() * 1_000_000L;
+        this.halfOpenCalls = properties.getHalfOpenCalls();
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[properties.getWindowSize()];
+    }
+
+    // 허용하면 결과를 알릴 때 넘길 표를, 막으면 REJECTED를 돌려준다
+    public synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openNanos) {
+                return REJECTED;
+            }
+            state = State.HALF_OPEN;
+            generation++;
+            halfOpenPermits = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                return REJECTED;
+            }
+            halfOpenPermits++;
+        }
+        return generation;
+    }
+
+    public synchronized void onSuccess(long ticket) {
+        if (ticket != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(long ticket) {
+        // 열리기 전에 나간 호출이 늦게 실패해도 열린 시간을 늘리거나 시험 호출을 망치지 않는다
+        if (ticket != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && failures >= recorded * failureRateThreshold) {
+            open();
+        }
+    }
+
+    // 결과를 판단할 수 없는 호출(취소)은 시험 호출 자리만 돌려준다
+    public synchronized void onIgnored(long ticket) {
+        if (ticket == generation && state == State.HALF_OPEN && halfOpenPermits > halfOpenSuccesses) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        generation++;
+        openedAtNanos = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        generation++;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+}
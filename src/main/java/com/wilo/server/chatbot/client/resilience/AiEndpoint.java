@@ -0,0 +1,12 @@
+package com.wilo.server.chatbot.client.resilience;
+
+public enum AiEndpoint {
+    CHAT,
+    GREETING,
+    // 사용자가 기다리지 않는 후처리라 대화 요청에 자리를 양보한다
+    SUMMARIZE;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
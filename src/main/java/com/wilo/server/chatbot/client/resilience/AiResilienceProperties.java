@@ -0,0 +1,63 @@
+package com.wilo.server.chatbot.client.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.resilience")
+public class AiResilienceProperties {
+
+    private Endpoint chat = new Endpoint(20, 4, 200, 15_000);
+    private Endpoint greeting = new Endpoint(10, 2, 100, 15_000);
+    private Endpoint summarize = new Endpoint(2, 1, 4, 40_000);
+
+    // 대화 요청이 한도의 이 비율 이상 차 있으면 요약 요청은 보내지 않는다
+    private double summarizeYieldRatio = 0.5;
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    public Endpoint endpoint(AiEndpoint endpoint) {
+        return switch (endpoint) {
+            case CHAT -> chat;
+            case GREETING -> greeting;
+            case SUMMARIZE -> summarize;
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        // 이보다 오래 걸린 응답은 과부하 신호로 보고 한도를 줄인다
+        private long latencyThresholdMs;
+        private double backoffRatio = 0.9;
+
+        public Endpoint() {
+        }
+
+        Endpoint(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMs) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThresholdMs = latencyThresholdMs;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private long openMs = 10_000;
+        private int halfOpenCalls = 2;
+    }
+}
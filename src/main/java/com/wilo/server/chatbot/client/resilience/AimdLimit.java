@@ -0,0 +1,69 @@
+package com.wilo.server.chatbot.client.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// AIMD 동시 실행 한도: 한도 가까이 쓰면서 성공하면 1씩 늘리고,
+// 실패(타임아웃, 연결 실패, 5xx)나 느린 응답이 오면 backoffRatio 배로 줄인다.
+public class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = new AtomicInteger(Math.clamp(initialLimit, minLimit, maxLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long rttNanos) {
+        int released = inFlight.getAndDecrement();
+        if (rttNanos > latencyThresholdNanos) {
+            decrease();
+            return;
+        }
+        // 한도의 절반도 쓰지 않던 때의 성공은 한도가 충분하다는 근거가 못 된다
+        if (released * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        decrease();
+    }
+
+    // 과부하와 관계없는 결과 (잘못된 요청, 호출 취소)
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void decrease() {
+        limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+    }
+}
@@ -0,0 +1,102 @@
+package com.wilo.server.chatbot.client.routing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.web.reactive.function.client.WebClient;
+
+// AI 서버 한 대의 상태: 처리 중인 요청 수, 응답 시간 EWMA, 연속 실패 수, 격리 만료 시각.
+// EWMA는 마지막 갱신 이후 시간이 지날수록 줄어들어, 한때 느렸던 서버도 다시 선택될 기회를 얻는다.
+public class AiBackend {
+
+    private static final double EWMA_WEIGHT = 0.3;
+
+    private final String baseUrl;
+    private final WebClient webClient;
+    private final long decayNanos;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private double ewmaNanos;
+    private long ewmaUpdatedAtNanos;
+    private int consecutiveFailures;
+    private boolean ejected;
+    private long ejectedUntilNanos;
+
+    AiBackend(String baseUrl, WebClient webClient, long decayNanos) {
+        this.baseUrl = baseUrl;
+        this.webClient = webClient;
+        this.decayNanos = decayNanos;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    WebClient getWebClient() {
+        return webClient;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public synchronized double getEwmaNanos() {
+        return decayedEwma(System.nanoTime());
+    }
+
+    public synchronized boolean isEjected(long nowNanos) {
+        return ejected && ejectedUntilNanos - nowNanos > 0;
+    }
+
+    synchronized long getEjectedUntilNanos() {
+        return ejectedUntilNanos;
+    }
+
+    // 응답이 느린 서버일수록, 밀린 요청이 많을수록 점수가 커진다. 아직 응답 기록이 없는 서버는 0이라 먼저 시도된다.
+    synchronized double score(long nowNanos) {
+        return decayedEwma(nowNanos) * (outstanding.get() + 1);
+    }
+
+    void start() {
+        outstanding.incrementAndGet();
+    }
+
+    // 헤징에 져서 취소된 요청은 적어도 그만큼 느렸다는 뜻이라, 지금 EWMA보다 길면 반영한다
+    synchronized void cancel(long elapsedNanos) {
+        outstanding.decrementAndGet();
+        if (elapsedNanos > decayedEwma(System.nanoTime())) {
+            updateEwma(elapsedNanos);
+        }
+    }
+
+    synchronized void succeed(long latencyNanos) {
+        outstanding.decrementAndGet();
+        consecutiveFailures = 0;
+        if (latencyNanos > 0) {
+            updateEwma(latencyNanos);
+        }
+    }
+
+    // 연속 실패가 쌓이면 격리하고 true
+    synchronized boolean fail(int ejectionThreshold, long nowNanos, long ejectionNanos) {
+        outstanding.decrementAndGet();
+        if (++consecutiveFailures < ejectionThreshold) {
+            return false;
+        }
+        consecutiveFailures = 0;
+        ejected = true;
+        ejectedUntilNanos = nowNanos + ejectionNanos;
+        return true;
+    }
+
+    private void updateEwma(long latencyNanos) {
+        long now = System.nanoTime();
+        double current = decayedEwma(now);
+        ewmaNanos = current == 0 ? latencyNanos : current + EWMA_WEIGHT * (latencyNanos - current);
+        ewmaUpdatedAtNanos = now;
+    }
+
+    private double decayedEwma(long nowNanos) {
+        if (ewmaNanos == 0) {
+            return 0;
+        }
+        return ewmaNanos * Math.exp(-(double) Math.max(0L, nowNanos - ewmaUpdatedAtNanos) / decayNanos);
+    }
+}
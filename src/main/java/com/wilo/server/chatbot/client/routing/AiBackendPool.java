@@ -0,0 +1,241 @@
+package com.wilo.server.chatbot.client.routing;
+
+import com.wilo.server.chatbot.client.resilience.AiCallGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// 여러 AI 서버(ai.base-urls)에 요청을 나눈다.
+// 응답 시간 EWMA x (처리 중 요청 수 + 1)이 가장 작은 서버를 고르고, 연속으로 실패한 서버는 일정 시간 빼 둔다(passive ejection).
+// 모든 서버가 빠져 있으면 가장 먼저 복귀할 서버로 보낸다.
+// hedged 는 /chat 처럼 응답을 기다리는 호출에 쓴다: 최근 p95 시간을 넘기면 다른 서버에도 보내 먼저 온 응답을 쓴다.
+@Slf4j
+@Component
+public class AiBackendPool {
+
+    private static final String METRIC_PREFIX = "ai.client.";
+    private static final int LATENCY_WINDOW_SIZE = 200;
+    private static final double HEDGE_PERCENTILE = 0.95;
+
+    private final List<AiBackend> backends = new ArrayList<>();
+    private final AtomicInteger rotation = new AtomicInteger();
+    private final LatencyWindow hedgedLatencies = new LatencyWindow(LATENCY_WINDOW_SIZE);
+    private final int ejectionFailures;
+    private final long ejectionNanos;
+    private final boolean hedgingEnabled;
+    private final int hedgingMinSamples;
+    private final long hedgingMinDelayNanos;
+    private final Counter hedgesFired;
+    private final Counter hedgesWon;
+
+    public AiBackendPool(
+            WebClient aiWebClient,
+            MeterRegistry meterRegistry,
+            @Value("${ai.base-urls:${ai.base-url:http://15.134.128.31:8000}}") List<String> baseUrls,
+            @Value("${ai.routing.ejection-failures:3}") int ejectionFailures,
+            @Value("${ai.routing.ejection-ms:30000}") long ejectionMillis,
+            @Value("${ai.routing.ewma-decay-ms:10000}") long ewmaDecayMillis,
+            @Value("${ai.hedging.enabled:false}") boolean hedgingEnabled,
+            @Value("${ai.hedging.min-samples:50}") int hedgingMinSamples,
+            @Value("${ai.hedging.min-delay-ms:300}") long hedgingMinDelayMillis
+    ) {
+        for (String baseUrl : baseUrls) {
+            if (baseUrl.isBlank()) {
+                continue;
+            }
+            AiBackend backend = new AiBackend(
+                    baseUrl.trim(),
+                    aiWebClient.mutate().baseUrl(baseUrl.trim()).build(),
+                    ewmaDecayMillis * 1_000_000L
+            );
+            backends.add(backend);
+            Gauge.builder(METRIC_PREFIX + "backend.outstanding", backend, AiBackend::getOutstanding)
+                    .description("AI 서버별 처리 중인 요청 수")
+                    .tag("backend", backend.getBaseUrl())
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + "backend.ejected", backend, b -> b.isEjected(System.nanoTime()) ? 1 : 0)
+                    .description("AI 서버 격리 여부 (1 격리)")
+                    .tag("backend", backend.getBaseUrl())
+                    .register(meterRegistry);
+        }
+        if (backends.isEmpty()) {
+            throw new IllegalStateException("ai.base-urls 에 AI 서버 주소가 없습니다.");
+        }
+        this.ejectionFailures = ejectionFailures;
+        this.ejectionNanos = ejectionMillis * 1_000_000L;
+        this.hedgingEnabled = hedgingEnabled;
+        this.hedgingMinSamples = hedgingMinSamples;
+        this.hedgingMinDelayNanos = hedgingMinDelayMillis * 1_000_000L;
+        this.hedgesFired = meterRegistry.counter(METRIC_PREFIX + "hedge", "result", "fired");
+        this.hedgesWon = meterRegistry.counter(METRIC_PREFIX + "hedge", "result", "won");
+    }
+
+    public List<AiBackend> getBackends() {
+        return List.copyOf(backends);
+    }
+
+    public <T> Mono<T> route(Function<WebClient, Mono<T>> call) {
+        return Mono.defer(() -> attempt(choose(null), call, null));
+    }
+
+    // 스트림은 생성 시간이 길어 응답 시간 EWMA에 넣지 않는다
+    public <T> Flux<T> routeMany(Function<WebClient, Flux<T>> call) {
+        return Flux.defer(() -> {
+            AiBackend backend = choose(null);
+            AtomicBoolean finished = new AtomicBoolean(false);
+            backend.start();
+            return call.apply(backend.getWebClient())
+                    .doOnComplete(() -> {
+                        if (finished.compareAndSet(false, true)) {
+                            backend.succeed(0L);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (finished.compareAndSet(false, true)) {
+                            fail(backend, error);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (finished.compareAndSet(false, true)) {
+                            backend.cancel(0L);
+                        }
+                    });
+        });
+    }
+
+    public <T> Mono<T> hedged(Function<WebClient, Mono<T>> call) {
+        return Mono.defer(() -> {
+            AiBackend primary = choose(null);
+            long hedgeDelayNanos = hedgeDelayNanos();
+            if (hedgeDelayNanos <= 0) {
+                return attempt(primary, call, hedgedLatencies);
+            }
+            return Mono.create(sink -> {
+                // 1차 요청이 살아 있는 동안만 2차 요청을 띄우고, 먼저 온 값을 쓴다. 둘 다 실패하면 마지막 오류를 낸다.
+                AtomicInteger running = new AtomicInteger(1);
+                AtomicBoolean hedgeDecided = new AtomicBoolean(false);
+                Disposable.Composite inFlight = Disposables.composite();
+                sink.onDispose(inFlight);
+
+                inFlight.add(attempt(primary, call, hedgedLatencies).subscribe(
+                        sink::success,
+                        error -> {
+                            if (hedgeDecided.compareAndSet(false, true) || running.decrementAndGet() == 0) {
+                                sink.error(error);
+                            }
+                        },
+                        sink::success
+                ));
+
+                inFlight.add(Mono.delay(Duration.ofNanos(hedgeDelayNanos)).subscribe(tick -> {
+                    AiBackend secondary = choose(primary);
+                    if (secondary == primary) {
+                        return;
+                    }
+                    running.incrementAndGet();
+                    if (!hedgeDecided.compareAndSet(false, true)) {
+                        return;
+                    }
+                    hedgesFired.increment();
+                    inFlight.add(attempt(secondary, call, hedgedLatencies).subscribe(
+                            value -> {
+                                hedgesWon.increment();
+                                sink.success(value);
+                            },
+                            error -> {
+                                if (running.decrementAndGet() == 0) {
+                                    sink.error(error);
+                                }
+                            },
+                            sink::success
+                    ));
+                }));
+            });
+        });
+    }
+
+    AiBackend choose(AiBackend exclude) {
+        long now = System.nanoTime();
+        int size = backends.size();
+        int start = Math.floorMod(rotation.getAndIncrement(), size);
+        AiBackend best = null;
+        for (int i = 0; i < size; i++) {
+            AiBackend candidate = backends.get((start + i) % size);
+            if (candidate == exclude || candidate.isEjected(now)) {
+                continue;
+            }
+            if (best == null || candidate.score(now) < best.score(now)) {
+                best = candidate;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        // 모두 빠져 있으면 가장 먼저 복귀할 서버로 보낸다 (제외 대상만 남았으면 그대로 돌려준다)
+        return backends.stream()
+                .filter(candidate -> candidate != exclude)
+                .min(Comparator.comparingLong(AiBackend::getEjectedUntilNanos))
+                .orElse(exclude);
+    }
+
+    private long hedgeDelayNanos() {
+        if (!hedgingEnabled || backends.size() < 2 || hedgedLatencies.size() < hedgingMinSamples) {
+            return 0L;
+        }
+        return Math.max(hedgingMinDelayNanos, hedgedLatencies.percentile(HEDGE_PERCENTILE));
+    }
+
+    private <T> Mono<T> attempt(AiBackend backend, Function<WebClient, Mono<T>> call, LatencyWindow latencies) {
+        return Mono.defer(() -> {
+            AtomicBoolean finished = new AtomicBoolean(false);
+            long startedAt = System.nanoTime();
+            backend.start();
+            return call.apply(backend.getWebClient())
+                    .doOnSuccess(value -> {
+                        if (finished.compareAndSet(false, true)) {
+                            long latency = System.nanoTime() - startedAt;
+                            backend.succeed(latency);
+                            if (latencies != null) {
+                                latencies.record(latency);
+                            }
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (finished.compareAndSet(false, true)) {
+                            fail(backend, error);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (finished.compareAndSet(false, true)) {
+                            backend.cancel(System.nanoTime() - startedAt);
+                        }
+                    });
+        });
+    }
+
+    private void fail(AiBackend backend, Throwable error) {
+        if (!AiCallGuard.isOverload(error)) {
+            // 잘못된 요청/응답은 서버 상태와 무관하다
+            backend.succeed(0L);
+            return;
+        }
+        if (backend.fail(ejectionFailures, System.nanoTime(), ejectionNanos)) {
+            log.warn("AI 서버를 {}ms 동안 제외합니다. backend={}", ejectionNanos / 1_000_000L, backend.getBaseUrl(), error);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.wilo.server.chatbot.client.routing;
+
+import java.util.Arrays;
+
+// 최근 size 건 응답 시간으로 백분위를 구한다
+public class LatencyWindow {
+
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    public LatencyWindow(int size) {
+        this.samples = new long[size];
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    // 표본이 없으면 0
+    public synchronized long percentile(double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.clamp(index, 0, count - 1)];
+    }
+}
@@ -13,7 +13,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -59,4 +61,39 @@ public class ChatMessageController {
                 chatMessageService.sendMessage(sessionId, guestId, request)
         );
     }
+
+    @PostMapping(value = "/{sessionId}/messages/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "메시지 전송(스트리밍)",
+            description = """
+                    /messages와 같지만 AI 답변을 생성되는 대로 Server-Sent Events로 보냅니다.
+                    
+                    - event: user  → 저장된 사용자 메시지 (ChatMessageDto)
+                    - event: token → 답변 조각 {"delta": "..."}
+                    - event: done  → 저장된 USER/BOT 메시지 (ChatMessageSendResponse)
+                    - event: error → 실패 사유 (CommonResponse, errorCode/message)
+                    
+                    세션 권한/검증 오류는 스트림을 열기 전에 일반 오류 응답으로 반환합니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스트림 시작"),
+            @ApiResponse(responseCode = "400", description = "게스트 헤더 누락/요청값 검증 실패",
+                    content = @Content(schema = @Schema(implementation = CommonResponse.class))),
+            @ApiResponse(responseCode = "403", description = "세션 접근 권한 없음",
+                    content = @Content(schema = @Schema(implementation = CommonResponse.class))),
+            @ApiResponse(responseCode = "404", description = "세션 없음",
+                    content = @Content(schema = @Schema(implementation = CommonResponse.class)))
+    })
+    public SseEmitter streamMessage(
+            @Parameter(description = "대화 세션 ID", example = "101")
+            @Min(value = 1, message = "sessionId는 1 이상이어야 합니다.")
+            @PathVariable Long sessionId,
+            @Parameter(description = "비로그인 사용자 식별자(UUID). 비로그인 요청 시 필수", example = "550e8400-e29b-41d4-a716-446655440000")
+            @RequestHeader(value = "X-Guest-Id", required = false)
+            String guestId,
+            @Valid @RequestBody ChatMessageSendRequest request
+    ) {
+        return chatMessageService.streamMessage(sessionId, guestId, request);
+    }
 }
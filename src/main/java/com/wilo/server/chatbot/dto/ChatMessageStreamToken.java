@@ -0,0 +1,5 @@
+package com.wilo.server.chatbot.dto;
+
+// SSE token 이벤트 본문
+public record ChatMessageStreamToken(String delta) {
+}
@@ -1,5 +1,6 @@
 package com.wilo.server.chatbot.entity;
 
+import com.wilo.server.global.entity.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -16,7 +17,7 @@ import lombok.NoArgsConstructor;
 public class ChatMessageAttachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @Column(name = "message_id", nullable = false)
@@ -20,7 +20,9 @@ public enum ChatbotErrorCase implements ErrorCase {
     AI_SERVER_FAILED(502, 3009, "AI 서버 응답에 실패했습니다."),
     AI_RESPONSE_INVALID(502, 3010, "AI 응답 형식이 올바르지 않습니다."),
     MESSAGE_NOT_FOUND(404, 3011, "메시지를 찾을 수 없습니다."),
-    INVALID_MESSAGE_FEEDBACK(400, 3012, "봇 메시지에만 피드백을 남길 수 있습니다.");
+    INVALID_MESSAGE_FEEDBACK(400, 3012, "봇 메시지에만 피드백을 남길 수 있습니다."),
+    AI_SERVER_BUSY(503, 3013, "AI 서버 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+    AI_SERVER_UNAVAILABLE(503, 3014, "AI 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해 주세요.");
 
     private final Integer httpStatusCode;
     private final Integer errorCode;
@@ -7,6 +7,7 @@ import com.wilo.server.chatbot.dto.ChatGreetingResponse;
 import com.wilo.server.chatbot.entity.ChatMessage;
 import com.wilo.server.chatbot.exception.ChatbotErrorCase;
 import com.wilo.server.chatbot.repository.ChatMessageRepository;
+import com.wilo.server.chatbot.service.context.ChatContextCache;
 import com.wilo.server.global.exception.ApplicationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -20,6 +21,7 @@ public class ChatGreetingService {
     private final AiGreetingClient aiGreetingClient;
     private final ChatMessageTxService chatMessageTxService;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatContextCache chatContextCache;
 
     public ChatGreetingResponse createOrGetGreeting(Long sessionId, String guestIdHeader) {
 
@@ -62,6 +64,7 @@ public class ChatGreetingService {
         }
 
         ChatMessage savedBot = chatMessageTxService.saveBotMessageWithSessionUpdate(sessionId, aiResult);
+        chatContextCache.append(sessionId, chatMessageTxService.toAiMessage(savedBot));
 
         return ChatGreetingResponse.builder()
                 .sessionId(sessionId)
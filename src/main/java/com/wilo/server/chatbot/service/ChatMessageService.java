@@ -3,27 +3,132 @@ package com.wilo.server.chatbot.service;
 import com.wilo.server.chatbot.client.AiChatClient;
 import com.wilo.server.chatbot.client.AiChatCommand;
 import com.wilo.server.chatbot.client.AiChatResult;
+import com.wilo.server.chatbot.client.AiChatStreamChunk;
 import com.wilo.server.chatbot.dto.ChatMessageSendRequest;
 import com.wilo.server.chatbot.dto.ChatMessageSendResponse;
+import com.wilo.server.chatbot.dto.ChatMessageStreamToken;
 import com.wilo.server.chatbot.entity.ChatMessage;
 import com.wilo.server.chatbot.exception.ChatbotErrorCase;
+import com.wilo.server.chatbot.service.context.ChatContext;
+import com.wilo.server.chatbot.service.context.ChatContextCache;
 import com.wilo.server.global.exception.ApplicationException;
-import lombok.RequiredArgsConstructor;
+import com.wilo.server.global.response.CommonResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatMessageService {
 
     private final AiChatClient aiChatClient;
     private final ChatMessageTxService chatMessageTxService;
     private final ChatSummaryService chatSummaryService;
+    private final ChatContextCache chatContextCache;
+    private final long streamTimeoutMillis;
+
+    public ChatMessageService(
+            AiChatClient aiChatClient,
+            ChatMessageTxService chatMessageTxService,
+            ChatSummaryService chatSummaryService,
+            ChatContextCache chatContextCache,
+            @Value("${chat.stream.timeout-ms:150000}") long streamTimeoutMillis
+    ) {
+        this.aiChatClient = aiChatClient;
+        this.chatMessageTxService = chatMessageTxService;
+        this.chatSummaryService = chatSummaryService;
+        this.chatContextCache = chatContextCache;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+    }
 
     public ChatMessageSendResponse sendMessage(Long sessionId, String guestIdHeader, ChatMessageSendRequest request) {
 
+        PreparedTurn turn = prepareTurn(sessionId, guestIdHeader, request);
+
+        AiChatResult aiResult = aiChatClient.chat(turn.command());
+
+        if (aiResult == null || aiResult.getAnswer() == null) {
+            throw new ApplicationException(ChatbotErrorCase.AI_RESPONSE_INVALID);
+        }
+
+        return completeTurn(sessionId, turn.savedUser(), aiResult);
+    }
+
+    // 같은 흐름을 SSE로: user(저장된 사용자 메시지) -> token* -> done(ChatMessageSendResponse) 또는 error(CommonResponse)
+    // 봇 메시지는 스트림이 끝났을 때 한 번 저장하며, 중간에 앱 연결이 끊겨도 끝까지 받아 저장한다.
+    public SseEmitter streamMessage(Long sessionId, String guestIdHeader, ChatMessageSendRequest request) {
+
+        PreparedTurn turn = prepareTurn(sessionId, guestIdHeader, request);
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        AtomicBoolean clientGone = new AtomicBoolean(false);
+        emitter.onTimeout(() -> clientGone.set(true));
+        emitter.onError(e -> clientGone.set(true));
+        send(emitter, clientGone, "user", chatMessageTxService.toDto(turn.savedUser()));
+
+        aiChatClient.chatStream(turn.command())
+                // DB 저장과 서블릿 응답 쓰기는 블로킹이므로 네트워크 이벤트 루프에서 하지 않는다
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(
+                        chunk -> relay(sessionId, turn, chunk, emitter, clientGone),
+                        error -> fail(sessionId, error, emitter, clientGone)
+                );
+        return emitter;
+    }
+
+    private void relay(
+            Long sessionId,
+            PreparedTurn turn,
+            AiChatStreamChunk chunk,
+            SseEmitter emitter,
+            AtomicBoolean clientGone
+    ) {
+        if (!chunk.isCompleted()) {
+            send(emitter, clientGone, "token", new ChatMessageStreamToken(chunk.getDelta()));
+            return;
+        }
+
+        try {
+            send(emitter, clientGone, "done", completeTurn(sessionId, turn.savedUser(), chunk.getResult()));
+            if (!clientGone.get()) {
+                emitter.complete();
+            }
+        } catch (RuntimeException e) {
+            fail(sessionId, e, emitter, clientGone);
+        }
+    }
+
+    private void fail(Long sessionId, Throwable error, SseEmitter emitter, AtomicBoolean clientGone) {
+        ChatbotErrorCase errorCase = ChatbotErrorCase.AI_SERVER_FAILED;
+        if (error instanceof ApplicationException e && e.getErrorCase() instanceof ChatbotErrorCase chatbotErrorCase) {
+            errorCase = chatbotErrorCase;
+        }
+        log.warn("AI chat stream failed. sessionId={}, errorCase={}", sessionId, errorCase, error);
+        send(emitter, clientGone, "error", CommonResponse.error(errorCase));
+        if (!clientGone.get()) {
+            emitter.complete();
+        }
+    }
+
+    private void send(SseEmitter emitter, AtomicBoolean clientGone, String name, Object data) {
+        if (clientGone.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (Exception e) {
+            log.debug("SSE 전송 실패, 응답 저장만 계속합니다. event={}", name, e);
+            clientGone.set(true);
+        }
+    }
+
+    private PreparedTurn prepareTurn(Long sessionId, String guestIdHeader, ChatMessageSendRequest request) {
+
         Long userId = extractUserIdIfAuthenticated();
         String guestId = normalizeGuestId(guestIdHeader);
 
@@ -36,32 +141,35 @@ public class ChatMessageService {
 
         // USER 저장
         ChatMessage savedUser = chatMessageTxService.saveUserMessage(sessionId, request);
+        chatContextCache.append(sessionId, chatMessageTxService.toAiMessage(savedUser));
 
-        // context 구성 (최근 N턴 + summary)
-        String summary = chatMessageTxService.getSessionSummary(sessionId);
-        var recent = chatMessageTxService.findRecentAiMessages(sessionId, 20); // 정책값
+        // context 구성 (최근 N턴 + summary). 캐시에 없을 때만 DB에서 다시 만든다
+        ChatContext context = chatContextCache.get(sessionId, () -> new ChatContext(
+                chatMessageTxService.getSessionSummary(sessionId),
+                chatMessageTxService.findRecentAiMessages(sessionId, chatContextCache.getMaxMessages())
+        ));
 
         String requester = (userId != null) ? String.valueOf(userId) : guestId;
         String requestId = java.util.UUID.randomUUID().toString();
 
-        AiChatResult aiResult = aiChatClient.chat(
-                AiChatCommand.builder()
-                        .requestId(requestId)
-                        .userId(requester)
-                        .sessionId(sessionId)
-                        .personaId(personaCode)
-                        .message(request.getMessage())
-                        .sessionSummary(summary)
-                        .recentMessages(recent)
-                        .memory(null) // 1차는 null로
-                        .build()
-        );
+        AiChatCommand command = AiChatCommand.builder()
+                .requestId(requestId)
+                .userId(requester)
+                .sessionId(sessionId)
+                .personaId(personaCode)
+                .message(request.getMessage())
+                .sessionSummary(context.summary())
+                .recentMessages(context.recentMessages())
+                .memory(null) // 1차는 null로
+                .build();
 
-        if (aiResult == null || aiResult.getAnswer() == null) {
-            throw new ApplicationException(ChatbotErrorCase.AI_RESPONSE_INVALID);
-        }
+        return new PreparedTurn(savedUser, command);
+    }
+
+    private ChatMessageSendResponse completeTurn(Long sessionId, ChatMessage savedUser, AiChatResult aiResult) {
 
         ChatMessage savedBot = chatMessageTxService.saveBotMessageWithSessionUpdate(sessionId, aiResult);
+        chatContextCache.append(sessionId, chatMessageTxService.toAiMessage(savedBot));
 
         chatSummaryService.summarizeIfNeededAsync(sessionId); // 후처리
 
@@ -84,4 +192,7 @@ public class ChatMessageService {
         if (auth.getPrincipal() instanceof Long userId) return userId;
         return null;
     }
+
+    private record PreparedTurn(ChatMessage savedUser, AiChatCommand command) {
+    }
 }
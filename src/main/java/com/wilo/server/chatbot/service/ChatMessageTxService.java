@@ -174,13 +174,17 @@ public class ChatMessageTxService {
 
         List<ChatMessage> recentDesc = chatMessageRepository.findRecentDesc(sessionId, PageRequest.of(0, n));
         return recentDesc.reversed().stream()
-                .map(m -> AiRoleMessage.builder()
-                        .role(m.getSenderType() == SenderType.USER ? "user" : "assistant")
-                        .content(m.getContent())
-                        .build())
+                .map(this::toAiMessage)
                 .toList();
     }
 
+    public AiRoleMessage toAiMessage(ChatMessage m) {
+        return AiRoleMessage.builder()
+                .role(m.getSenderType() == SenderType.USER ? "user" : "assistant")
+                .content(m.getContent())
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public String getSessionSummary(Long sessionId) {
         return chatSessionMemoryRepository.findById(sessionId)
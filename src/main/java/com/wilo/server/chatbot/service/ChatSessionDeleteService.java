@@ -6,6 +6,7 @@ import com.wilo.server.chatbot.exception.ChatbotErrorCase;
 import com.wilo.server.chatbot.repository.ChatMessageRepository;
 import com.wilo.server.chatbot.repository.ChatSessionMemoryRepository;
 import com.wilo.server.chatbot.repository.ChatSessionRepository;
+import com.wilo.server.chatbot.service.context.ChatContextCache;
 import com.wilo.server.global.exception.ApplicationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +23,7 @@ public class ChatSessionDeleteService {
     private final ChatSessionRepository chatSessionRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatSessionMemoryRepository chatSessionMemoryRepository;
+    private final ChatContextCache chatContextCache;
 
     @Transactional
     public ChatSessionDeleteResponse deleteSessions(String guestIdHeader, ChatSessionDeleteRequest request) {
@@ -58,6 +60,7 @@ public class ChatSessionDeleteService {
 
         // 세션 삭제
         int deletedCount = chatSessionRepository.deleteByIds(uniqueIds);
+        chatContextCache.evict(uniqueIds);
 
         return ChatSessionDeleteResponse.of(deletedCount);
     }
@@ -4,6 +4,7 @@ import com.wilo.server.chatbot.client.AiSummarizeClient;
 import com.wilo.server.chatbot.client.AiSummarizeResult;
 import com.wilo.server.chatbot.client.dto.AiRoleMessage;
 import com.wilo.server.chatbot.exception.ChatbotErrorCase;
+import com.wilo.server.chatbot.service.context.ChatContextCache;
 import com.wilo.server.global.exception.ApplicationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ChatSummaryService {
     private final AiSummarizeClient aiSummarizeClient;
     private final ChatSummaryTxService chatSummaryTxService;
+    private final ChatContextCache chatContextCache;
     private final Set<Long> runningSessionIds = ConcurrentHashMap.newKeySet();
 
     // 메시지 수가 충분히 쌓였으면 요약 생성 + 오래된 raw 삭제
@@ -35,7 +37,12 @@ public class ChatSummaryService {
             }
             summarizeAndTrim(sessionId);
         } catch (Exception e) {
-            log.warn("요약 후처리 실패 sessionId={}", sessionId, e);
+            if (isShed(e)) {
+                // 대화 요청에 자리를 양보했거나 AI 서버가 차단된 상태. 다음 턴에 다시 시도된다.
+                log.debug("요약 후처리 보류 sessionId={}", sessionId);
+            } else {
+                log.warn("요약 후처리 실패 sessionId={}", sessionId, e);
+            }
         } finally {
             runningSessionIds.remove(sessionId);
         }
@@ -51,6 +58,9 @@ public class ChatSummaryService {
         try {
             result = aiSummarizeClient.summarize(toSummarize);
         } catch (Exception e) {
+            if (isShed(e)) {
+                throw e;
+            }
             log.error("summarize failed sessionId={}", sessionId, e);
             throw new ApplicationException(ChatbotErrorCase.AI_SERVER_FAILED, e);
         }
@@ -68,5 +78,12 @@ public class ChatSummaryService {
         }
 
         chatSummaryTxService.saveSummaryAndTrim(sessionId, summary, keyTopics);
+        chatContextCache.updateSummary(sessionId, summary);
+    }
+
+    private static boolean isShed(Exception e) {
+        return e instanceof ApplicationException applicationException
+                && (applicationException.getErrorCase() == ChatbotErrorCase.AI_SERVER_BUSY
+                || applicationException.getErrorCase() == ChatbotErrorCase.AI_SERVER_UNAVAILABLE);
     }
 }
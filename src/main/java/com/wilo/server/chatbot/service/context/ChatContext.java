@@ -0,0 +1,8 @@
+package com.wilo.server.chatbot.service.context;
+
+import com.wilo.server.chatbot.client.dto.AiRoleMessage;
+import java.util.List;
+
+// AI 요청에 함께 보내는 세션 문맥: 현재 요약 + 최근 메시지(오래된 순)
+public record ChatContext(String summary, List<AiRoleMessage> recentMessages) {
+}
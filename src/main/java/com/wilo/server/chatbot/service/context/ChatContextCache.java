@@ -0,0 +1,245 @@
+package com.wilo.server.chatbot.service.context;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wilo.server.chatbot.client.dto.AiRoleMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+// 세션별 AI 문맥(최근 메시지 링 버퍼 + 요약) 캐시: 로컬 메모리 -> Redis -> DB 순으로 찾는다.
+// 메시지/요약을 저장한 쪽에서 바로 반영(write-through)하므로 평소 턴은 MySQL에서 문맥을 다시 읽지 않는다.
+// 로컬 항목은 Redis에 둔 버전과 같을 때만 쓰고, 다른 노드가 갱신했으면 Redis에서 다시 받는다.
+// Redis를 쓸 수 없으면 로컬 항목을 TTL 동안만 믿고, 캐시에 없는 세션은 DB에서 다시 만든다.
+// 요약(비동기 요약기)과 최근 메시지(턴 처리)는 서로 다른 해시 필드에 쓰고 버전은 같은 MULTI 안에서 HINCRBY로 올려,
+// 한쪽 갱신이 다른 쪽 변경을 덮어쓰지 않는다. 같은 노드 안의 읽고-고쳐-쓰기는 세션별 락으로 직렬화한다.
+@Slf4j
+@Component
+public class ChatContextCache {
+
+    // 요약/메시지를 한 필드에 두던 이전 형식과 섞이지 않도록 키를 바꿨다
+    static final String KEY_PREFIX = "chat:context:v2:";
+    private static final String VERSION_FIELD = "version";
+    private static final String SUMMARY_FIELD = "summary";
+    private static final String MESSAGES_FIELD = "messages";
+    // Redis에 쓰지 못해 이 노드에만 있는 항목의 버전 (Redis 버전은 숫자라 겹치지 않는다)
+    private static final String LOCAL_ONLY_VERSION = "local";
+    private static final int LOCK_STRIPES = 64;
+    private static final TypeReference<List<AiRoleMessage>> MESSAGES_TYPE = new TypeReference<>() {
+    };
+    private static final String METRIC_NAME = "chat.context.cache";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxMessages;
+    private final long localTtlMillis;
+    private final Duration redisTtl;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, CachedContext> localContexts = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public ChatContextCache(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${chat.context-cache.max-messages:20}") int maxMessages,
+            @Value("${chat.context-cache.local-ttl-ms:60000}") long localTtlMillis,
+            @Value("${chat.context-cache.redis-ttl-ms:86400000}") long redisTtlMillis,
+            @Value("${chat.context-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxMessages = maxMessages;
+        this.localTtlMillis = localTtlMillis;
+        this.redisTtl = Duration.ofMillis(redisTtlMillis);
+        this.maxEntries = maxEntries;
+        this.localHits = meterRegistry.counter(METRIC_NAME, "result", "hit_local");
+        this.redisHits = meterRegistry.counter(METRIC_NAME, "result", "hit_redis");
+        this.misses = meterRegistry.counter(METRIC_NAME, "result", "miss");
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    // 링 버퍼 크기 (DB에서 다시 만들 때 읽을 최근 메시지 수)
+    public int getMaxMessages() {
+        return maxMessages;
+    }
+
+    public ChatContext get(Long sessionId, Supplier<ChatContext> loader) {
+        CachedContext cached = lookup(sessionId, true);
+        if (cached != null) {
+            return cached.context();
+        }
+
+        misses.increment();
+        ChatContext loaded = loader.get();
+        ChatContext context = new ChatContext(loaded.summary(), trim(loaded.recentMessages()));
+        synchronized (lockOf(sessionId)) {
+            write(sessionId, null, context, List.of(SUMMARY_FIELD, MESSAGES_FIELD));
+        }
+        return context;
+    }
+
+    // 저장된 메시지를 링 버퍼 끝에 붙인다 (캐시에 없는 세션이면 다음 조회 때 DB에서 만든다)
+    public void append(Long sessionId, AiRoleMessage message) {
+        update(sessionId, MESSAGES_FIELD, context -> {
+            List<AiRoleMessage> messages = new ArrayList<>(context.recentMessages());
+            messages.add(message);
+            return new ChatContext(context.summary(), trim(messages));
+        });
+    }
+
+    public void updateSummary(Long sessionId, String summary) {
+        update(sessionId, SUMMARY_FIELD, context -> new ChatContext(summary, context.recentMessages()));
+    }
+
+    public void evict(Collection<Long> sessionIds) {
+        for (Long sessionId : sessionIds) {
+            localContexts.remove(sessionId);
+            try {
+                redisTemplate.delete(KEY_PREFIX + sessionId);
+            } catch (RuntimeException e) {
+                log.debug("대화 문맥 Redis 삭제 실패. sessionId={}", sessionId, e);
+            }
+        }
+    }
+
+    // 바뀐 필드만 쓴다. 다른 노드와는 필드가 달라 겹치지 않고, 같은 세션의 턴(메시지 필드)은 앱에서 차례로 온다.
+    private void update(Long sessionId, String field, UnaryOperator<ChatContext> change) {
+        synchronized (lockOf(sessionId)) {
+            CachedContext current = lookup(sessionId, false);
+            if (current != null) {
+                write(sessionId, current.version(), change.apply(current.context()), List.of(field));
+            }
+        }
+    }
+
+    private CachedContext lookup(Long sessionId, boolean countHits) {
+        CachedContext local = localContexts.get(sessionId);
+        String key = KEY_PREFIX + sessionId;
+        try {
+            if (local != null) {
+                Object version = redisTemplate.opsForHash().get(key, VERSION_FIELD);
+                if (version != null && local.version().equals(version.toString())) {
+                    if (countHits) {
+                        localHits.increment();
+                    }
+                    return local;
+                }
+            }
+
+            List<Object> values = redisTemplate.opsForHash()
+                    .multiGet(key, List.of(VERSION_FIELD, SUMMARY_FIELD, MESSAGES_FIELD));
+            if (values.get(0) == null || values.get(1) == null || values.get(2) == null) {
+                // Redis에서 만료/삭제된 항목은 로컬에서도 버리고 DB에서 다시 만든다
+                localContexts.remove(sessionId);
+                return null;
+            }
+            ChatContext context = new ChatContext(
+                    objectMapper.readValue(values.get(1).toString(), String.class),
+                    objectMapper.readValue(values.get(2).toString(), MESSAGES_TYPE)
+            );
+            CachedContext loaded = putLocal(sessionId, values.get(0).toString(), context);
+            if (countHits) {
+                redisHits.increment();
+            }
+            return loaded;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("대화 문맥 Redis 조회 실패. sessionId={}", sessionId, e);
+            if (local != null && local.expiresAtMillis() > System.currentTimeMillis()) {
+                if (countHits) {
+                    localHits.increment();
+                }
+                return local;
+            }
+            return null;
+        }
+    }
+
+    // 필드와 버전 증가를 한 MULTI로 쓴다. baseVersion은 고친 문맥이 읽은 버전 (새로 적재한 문맥이면 null)
+    private void write(Long sessionId, String baseVersion, ChatContext context, List<String> fields) {
+        String key = KEY_PREFIX + sessionId;
+        try {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String field : fields) {
+                values.put(field, objectMapper.writeValueAsString(
+                        SUMMARY_FIELD.equals(field) ? context.summary() : context.recentMessages()));
+            }
+
+            List<Object> results = redisTemplate.execute(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                    operations.multi();
+                    values.forEach((field, value) -> operations.opsForHash().put(key, field, value));
+                    operations.opsForHash().increment(key, VERSION_FIELD, 1L);
+                    operations.expire(key, redisTtl);
+                    return operations.exec();
+                }
+            });
+            long version = ((Number) results.get(values.size())).longValue();
+
+            // 그사이 다른 쪽이 쓰지 않았을 때(버전이 하나만 올랐을 때)만 고친 문맥이 Redis 전체와 같다.
+            // 새로 적재한 문맥은 Redis에 남아 있던 다른 필드와 다를 수 있어 버전 1일 때만 로컬에 둔다.
+            boolean whole = baseVersion == null ? version == 1L : baseVersion.equals(Long.toString(version - 1));
+            if (whole) {
+                putLocal(sessionId, Long.toString(version), context);
+            } else {
+                localContexts.remove(sessionId);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("대화 문맥 Redis 저장 실패. sessionId={}", sessionId, e);
+            putLocal(sessionId, LOCAL_ONLY_VERSION, context);
+        }
+    }
+
+    private Object lockOf(Long sessionId) {
+        return locks[Math.floorMod(sessionId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private CachedContext putLocal(Long sessionId, String version, ChatContext context) {
+        long now = System.currentTimeMillis();
+        if (localContexts.size() >= maxEntries) {
+            localContexts.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+            // 만료된 항목이 없으면 임의의 항목을 하나 비워 크기를 유지한다
+            Iterator<Long> keys = localContexts.keySet().iterator();
+            if (localContexts.size() >= maxEntries && keys.hasNext()) {
+                localContexts.remove(keys.next());
+            }
+        }
+        CachedContext entry = new CachedContext(version, context, now + localTtlMillis);
+        localContexts.put(sessionId, entry);
+        return entry;
+    }
+
+    private List<AiRoleMessage> trim(List<AiRoleMessage> messages) {
+        if (messages.size() <= maxMessages) {
+            return List.copyOf(messages);
+        }
+        return List.copyOf(messages.subList(messages.size() - maxMessages, messages.size()));
+    }
+
+    private record CachedContext(String version, ChatContext context, long expiresAtMillis) {
+    }
+}
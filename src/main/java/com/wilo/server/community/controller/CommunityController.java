@@ -3,17 +3,23 @@ package com.wilo.server.community.controller;
 import com.wilo.server.auth.error.AuthErrorCase;
 import com.wilo.server.community.dto.comment.CommunityCommentCreateRequestDto;
 import com.wilo.server.community.dto.comment.CommunityCommentDto;
+import com.wilo.server.community.dto.comment.CommunityCommentListResponseDto;
 import com.wilo.server.community.dto.post.CommunityLikeResponseDto;
 import com.wilo.server.community.dto.post.CommunityPostCreateRequestDto;
 import com.wilo.server.community.dto.post.CommunityPostDetailResponseDto;
 import com.wilo.server.community.dto.post.CommunityPostListResponseDto;
 import com.wilo.server.community.dto.post.CommunityPostUpdateRequestDto;
+import com.wilo.server.community.dto.search.CommunityAutocompleteResponseDto;
 import com.wilo.server.community.dto.search.CommunitySearchHistoryListResponseDto;
+import com.wilo.server.community.dto.search.CommunityTrendingKeywordListResponseDto;
 import com.wilo.server.community.dto.comment.CommunityUserCommentListResponseDto;
 import com.wilo.server.community.entity.post.CommunityCategory;
 import com.wilo.server.community.entity.post.CommunityPostSortType;
 import com.wilo.server.community.service.community.CommunityService;
 import com.wilo.server.community.service.search.CommunitySearchService;
+import com.wilo.server.community.service.search.autocomplete.CommunityAutocompleteService;
+import com.wilo.server.community.service.search.trending.CommunityTrendingKeywordService;
+import com.wilo.server.community.service.version.CommunityContentVersionService;
 import com.wilo.server.global.exception.ApplicationException;
 import com.wilo.server.global.response.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,8 +30,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,9 +45,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -43,8 +57,19 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Community", description = "커뮤니티 API")
 public class CommunityController {
 
+    // 목록/상세는 매번 ETag로 재검증하고, 검색/검색 기록처럼 요청마다 기록이 남는 응답은 저장하지 않는다
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+    private static final CacheControl NO_STORE = CacheControl.noStore();
+    private static final CacheControl AUTOCOMPLETE = CacheControl.maxAge(10, TimeUnit.SECONDS).cachePrivate();
+    private static final CacheControl TRENDING = CacheControl.maxAge(10, TimeUnit.SECONDS).cachePublic();
+    private static final String GUEST_ID_HEADER = "X-Guest-Id";
+    private static final int GUEST_ID_MAX_LENGTH = 64;
+
     private final CommunityService communityService;
     private final CommunitySearchService communitySearchService;
+    private final CommunityTrendingKeywordService communityTrendingKeywordService;
+    private final CommunityAutocompleteService communityAutocompleteService;
+    private final CommunityContentVersionService communityContentVersionService;
 
     @PostMapping("/posts")
     @Operation(summary = "게시글 작성", description = "카테고리/제목/내용/이미지 URL로 게시글을 생성합니다.")
@@ -152,8 +177,16 @@ public class CommunityController {
             @RequestParam(defaultValue = "RECOMMENDED") CommunityPostSortType sort,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String cursor,
-            @RequestParam(defaultValue = "20") Integer size
+            @RequestParam(defaultValue = "20") Integer size,
+            ServletWebRequest webRequest
         ) {
+        if (keyword != null && !keyword.isBlank()) {
+            applyCacheControl(webRequest, NO_STORE);
+        } else if (isNotModified(webRequest, REVALIDATE,
+                "posts", communitySearchService.getPostListVersion(category, sort, cursor))) {
+            return null;
+        }
+
         Long userId = extractUserIdIfPresent();
         return CommonResponse.success(communitySearchService.getPosts(userId, category, sort, keyword, cursor, size));
     }
@@ -161,7 +194,7 @@ public class CommunityController {
     @GetMapping("/users/{userId}/posts")
     @Operation(
             summary = "특정 유저 작성 게시글 조회",
-            description = "특정 유저가 작성한 게시글을 최신순(createdAt desc, id desc)으로 커서 페이지네이션 조회합니다. "
+            description = "특정 유저가 작성한 게시글을 최신순(id desc)으로 커서 페이지네이션 조회합니다. "
                     + "첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor를 cursor로 전달하세요."
     )
     @ApiResponses(value = {
@@ -174,11 +207,15 @@ public class CommunityController {
     public CommonResponse<CommunityPostListResponseDto> getPostsByAuthor(
             @Parameter(description = "조회할 작성자 유저 ID")
             @PathVariable Long userId,
-            @Parameter(description = "커서 값. 포맷: createdAt|id (예: 2026-03-01T12:30:00|123)")
+            @Parameter(description = "커서 값. 포맷: id (예: 123). 이전 형식 createdAt|id도 허용")
             @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 크기. 기본값 20, 최대 50")
-            @RequestParam(defaultValue = "20") Integer size
+            @RequestParam(defaultValue = "20") Integer size,
+            ServletWebRequest webRequest
     ) {
+        if (isNotModified(webRequest, REVALIDATE, "users", communityContentVersionService.getFeedVersion())) {
+            return null;
+        }
         return CommonResponse.success(communityService.getPostsByAuthor(userId, cursor, size));
     }
 
@@ -201,8 +238,12 @@ public class CommunityController {
             @Parameter(description = "커서 값. 포맷: createdAt|id (예: 2026-03-01T12:30:00|123)")
             @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 크기. 기본값 20, 최대 50")
-            @RequestParam(defaultValue = "20") Integer size
+            @RequestParam(defaultValue = "20") Integer size,
+            ServletWebRequest webRequest
     ) {
+        if (isNotModified(webRequest, REVALIDATE, "users", communityContentVersionService.getFeedVersion())) {
+            return null;
+        }
         return CommonResponse.success(communityService.getCommentsByAuthor(userId, cursor, size));
     }
 
@@ -225,8 +266,12 @@ public class CommunityController {
             @Parameter(description = "커서 값. 포맷: createdAt|id (예: 2026-03-01T12:30:00|123)")
             @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 크기. 기본값 20, 최대 50")
-            @RequestParam(defaultValue = "20") Integer size
+            @RequestParam(defaultValue = "20") Integer size,
+            ServletWebRequest webRequest
     ) {
+        if (isNotModified(webRequest, REVALIDATE, "users", communityContentVersionService.getFeedVersion())) {
+            return null;
+        }
         return CommonResponse.success(communityService.getLikedPostsByUser(userId, cursor, size));
     }
 
@@ -250,9 +295,11 @@ public class CommunityController {
             @Parameter(description = "커서 값. 포맷: lastSearchedAt|id")
             @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 크기. 기본값 20, 최대 50")
-            @RequestParam(defaultValue = "20") Integer size
+            @RequestParam(defaultValue = "20") Integer size,
+            ServletWebRequest webRequest
     ) {
         Long userId = extractUserId();
+        applyCacheControl(webRequest, NO_STORE);
         return CommonResponse.success(communitySearchService.getSearchHistories(userId, cursor, size));
     }
 
@@ -290,8 +337,81 @@ public class CommunityController {
         return CommonResponse.success(communitySearchService.deleteAllSearchHistories(userId));
     }
 
+    @GetMapping("/search-keywords/autocomplete")
+    @Operation(
+            summary = "검색어 자동완성",
+            description = "입력 중인 접두어로 내 최근 검색어와 게시글 제목을 추천합니다. "
+                    + "초성(예: ㄴㅁ)으로도 검색할 수 있고, 로그인하지 않으면 게시글 제목만 추천합니다."
+    )
+    public CommonResponse<CommunityAutocompleteResponseDto> autocomplete(
+            @Parameter(description = "입력 중인 검색어")
+            @RequestParam String prefix,
+            @Parameter(description = "추천 개수. 기본값 10, 최대 20")
+            @RequestParam(defaultValue = "10") Integer size,
+            ServletWebRequest webRequest
+    ) {
+        Long userId = extractUserIdIfPresent();
+        applyCacheControl(webRequest, AUTOCOMPLETE);
+        return CommonResponse.success(communityAutocompleteService.suggest(userId, prefix, size));
+    }
+
+    @GetMapping("/search-keywords/trending")
+    @Operation(
+            summary = "인기 검색어 조회",
+            description = "최근 구간(기본 60분) 동안 많이 검색된 키워드를 순위순으로 조회합니다. "
+                    + "집계는 주기적으로 갱신되며 searchCount는 근사치입니다."
+    )
+    public CommonResponse<CommunityTrendingKeywordListResponseDto> getTrendingKeywords(
+            @Parameter(description = "조회 개수. 기본값 10, 최대 20")
+            @RequestParam(defaultValue = "10") Integer size,
+            ServletWebRequest webRequest
+    ) {
+        CommunityTrendingKeywordListResponseDto trendingKeywords = communityTrendingKeywordService.getTrendingKeywords(size);
+        if (isNotModified(webRequest, TRENDING,
+                "trending", Long.toString(trendingKeywords.aggregatedAt().toEpochSecond(ZoneOffset.UTC), 36))) {
+            return null;
+        }
+        return CommonResponse.success(trendingKeywords);
+    }
+
     @GetMapping("/posts/{postId}")
-    @Operation(summary = "게시글 상세 조회", description = "게시글 상세 정보(작성자, 이미지, 댓글/답글)를 조회하고 조회수를 증가시킵니다.")
+    @Operation(
+            summary = "게시글 상세 조회",
+            description = "게시글 상세 정보(작성자, 이미지, 댓글 첫 페이지)를 조회하고 조회수를 증가시킵니다. "
+                    + "다음 댓글은 commentsNextCursor로 댓글 목록 API를 호출하세요."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "게시글 없음",
+                    content = @Content(
+                            schema = @Schema(implementation = CommonResponse.class),
+                            examples = @ExampleObject(value = "{\"errorCode\":5001,\"message\":\"게시글을 찾을 수 없습니다.\"}")
+                    )
+            )
+    })
+    public CommonResponse<CommunityPostDetailResponseDto> getPostDetail(
+            @PathVariable Long postId,
+            @Parameter(description = "비로그인 사용자의 기기별 식별자. 순 방문자 수 집계에 사용합니다.")
+            @RequestHeader(value = GUEST_ID_HEADER, required = false) String guestId,
+            ServletWebRequest webRequest
+    ) {
+        String viewerKey = resolveViewerKey(guestId);
+        // viewCount는 ETag에 넣지 않는다 (약한 ETag: 조회수 차이는 같은 내용으로 본다)
+        if (isNotModified(webRequest, REVALIDATE, "post", communityContentVersionService.getPostVersion(postId))) {
+            communityService.recordPostView(postId, viewerKey);
+            return null;
+        }
+        return CommonResponse.success(communityService.getPostDetail(postId, viewerKey));
+    }
+
+    @GetMapping("/posts/{postId}/comments")
+    @Operation(
+            summary = "댓글 목록 조회",
+            description = "게시글의 댓글을 오래된 순(createdAt asc, id asc)으로 커서 페이지네이션 조회합니다. "
+                    + "댓글마다 답글 수(replyCount)와 앞쪽 답글 일부가 포함되며, 나머지 답글은 repliesNextCursor로 답글 목록 API를 호출하세요."
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(
@@ -303,8 +423,58 @@ public class CommunityController {
                     )
             )
     })
-    public CommonResponse<CommunityPostDetailResponseDto> getPostDetail(@PathVariable Long postId) {
-        return CommonResponse.success(communityService.getPostDetail(postId));
+    public CommonResponse<CommunityCommentListResponseDto> getComments(
+            @PathVariable Long postId,
+            @Parameter(description = "커서 값. 포맷: createdAt|id (예: 2026-03-01T12:30:00|123)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기. 기본값 20, 최대 50")
+            @RequestParam(defaultValue = "20") Integer size,
+            ServletWebRequest webRequest
+    ) {
+        if (isNotModified(webRequest, REVALIDATE, "comments", communityContentVersionService.getPostVersion(postId))) {
+            return null;
+        }
+        return CommonResponse.success(communityService.getComments(postId, cursor, size));
+    }
+
+    @GetMapping("/posts/{postId}/comments/{commentId}/replies")
+    @Operation(
+            summary = "답글 목록 조회",
+            description = "댓글의 답글을 오래된 순(createdAt asc, id asc)으로 커서 페이지네이션 조회합니다. "
+                    + "댓글 목록의 repliesNextCursor를 cursor로 전달하면 미리 보여준 답글 다음부터 조회됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "게시글에 속한 댓글이 아니거나 답글",
+                    content = @Content(
+                            schema = @Schema(implementation = CommonResponse.class),
+                            examples = @ExampleObject(value = "{\"errorCode\":5003,\"message\":\"해당 게시글에 속한 댓글만 답글 부모로 지정할 수 있습니다.\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "댓글 없음",
+                    content = @Content(
+                            schema = @Schema(implementation = CommonResponse.class),
+                            examples = @ExampleObject(value = "{\"errorCode\":5002,\"message\":\"댓글을 찾을 수 없습니다.\"}")
+                    )
+            )
+    })
+    public CommonResponse<CommunityCommentListResponseDto> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @Parameter(description = "커서 값. 포맷: createdAt|id (예: 2026-03-01T12:30:00|123)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기. 기본값 20, 최대 50")
+            @RequestParam(defaultValue = "20") Integer size,
+            ServletWebRequest webRequest
+    ) {
+        if (isNotModified(webRequest, REVALIDATE, "replies", communityContentVersionService.getPostVersion(postId))) {
+            return null;
+        }
+        return CommonResponse.success(communityService.getReplies(postId, commentId, cursor, size));
     }
 
     @PostMapping("/posts/{postId}/comments")
@@ -364,6 +534,34 @@ public class CommunityController {
         return CommonResponse.success(communityService.unlikePost(userId, postId));
     }
 
+    // 버전 스탬프로 만든 약한 ETag가 If-None-Match와 같으면 본문을 조회/직렬화하지 않고 304로 응답한다
+    // daysAgo는 내용이 그대로여도 날짜가 바뀌면 달라지므로 오늘 날짜도 ETag에 넣는다
+    private boolean isNotModified(ServletWebRequest webRequest, CacheControl cacheControl, String... versionParts) {
+        applyCacheControl(webRequest, cacheControl);
+        String today = Long.toString(LocalDate.now().toEpochDay(), 36);
+        return webRequest.checkNotModified("W/\"" + String.join("-", versionParts) + "-" + today + "\"");
+    }
+
+    private void applyCacheControl(ServletWebRequest webRequest, CacheControl cacheControl) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+    }
+
+    // 순 방문자 키: 로그인 사용자는 회원 id, 아니면 클라이언트가 보낸 게스트 id
+    private String resolveViewerKey(String guestId) {
+        Long userId = extractUserIdIfPresent();
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        if (guestId == null || guestId.isBlank()) {
+            return null;
+        }
+        String trimmed = guestId.trim();
+        return "g:" + (trimmed.length() > GUEST_ID_MAX_LENGTH ? trimmed.substring(0, GUEST_ID_MAX_LENGTH) : trimmed);
+    }
+
     private Long extractUserId() {
         Object principal = SecurityContextHolder.getContext().getAuthentication() != null
                 ? SecurityContextHolder.getContext().getAuthentication().getPrincipal()
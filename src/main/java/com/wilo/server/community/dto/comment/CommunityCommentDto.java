@@ -10,7 +10,9 @@ public record CommunityCommentDto(
         String content,
         long daysAgo,
         LocalDateTime createdAt,
-        List<CommunityCommentDto> replies
+        List<CommunityCommentDto> replies,
+        long replyCount,
+        String repliesNextCursor
 ) {
     public static CommunityCommentDto of(
             Long id,
@@ -19,6 +21,6 @@ public record CommunityCommentDto(
             long daysAgo,
             LocalDateTime createdAt
     ) {
-        return new CommunityCommentDto(id, author, content, daysAgo, createdAt, new ArrayList<>());
+        return new CommunityCommentDto(id, author, content, daysAgo, createdAt, new ArrayList<>(), 0L, null);
     }
 }
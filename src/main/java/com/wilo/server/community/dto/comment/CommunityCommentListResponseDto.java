@@ -0,0 +1,12 @@
+package com.wilo.server.community.dto.comment;
+
+import java.util.List;
+
+public record CommunityCommentListResponseDto(
+        List<CommunityCommentDto> items,
+        String cursor,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
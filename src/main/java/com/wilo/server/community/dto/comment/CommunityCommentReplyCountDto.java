@@ -0,0 +1,7 @@
+package com.wilo.server.community.dto.comment;
+
+public record CommunityCommentReplyCountDto(
+        Long parentCommentId,
+        long replyCount
+) {
+}
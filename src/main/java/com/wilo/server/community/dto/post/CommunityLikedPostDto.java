@@ -0,0 +1,32 @@
+package com.wilo.server.community.dto.post;
+
+import com.wilo.server.community.entity.post.CommunityCategory;
+import java.time.LocalDateTime;
+
+// 좋아요한 게시글 목록 행. 커서는 좋아요 시각/ID 기준이다.
+public record CommunityLikedPostDto(
+        Long likeId,
+        LocalDateTime likedAt,
+        CommunityPostSummaryDto post
+) {
+    public CommunityLikedPostDto(
+            Long likeId,
+            LocalDateTime likedAt,
+            Long postId,
+            CommunityCategory category,
+            String title,
+            String contentPreview,
+            LocalDateTime createdAt,
+            Long viewCount,
+            Long likeCount,
+            Long commentCount
+    ) {
+        this(
+                likeId,
+                likedAt,
+                new CommunityPostSummaryDto(
+                        postId, category, title, contentPreview, createdAt, viewCount, likeCount, commentCount
+                )
+        );
+    }
+}
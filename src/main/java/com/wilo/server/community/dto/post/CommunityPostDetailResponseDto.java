@@ -15,10 +15,14 @@ public record CommunityPostDetailResponseDto(
         LocalDateTime createdAt,
         long daysAgo,
         long viewCount,
+        long uniqueViewCount,
         long likeCount,
         long commentCount,
         CommunityPostAuthorDto author,
         List<String> imageUrls,
-        List<CommunityCommentDto> comments
+        List<CommunityCommentDto> comments,
+        boolean hasMoreComments,
+        String commentsNextCursor,
+        List<CommunityRelatedPostDto> relatedPosts
 ) {
 }
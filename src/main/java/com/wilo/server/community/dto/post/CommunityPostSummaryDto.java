@@ -1,7 +1,9 @@
 package com.wilo.server.community.dto.post;
 
 import com.wilo.server.community.entity.post.CommunityCategory;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 public record CommunityPostSummaryDto(
         Long id,
@@ -15,4 +17,28 @@ public record CommunityPostSummaryDto(
         long likeCount,
         long commentCount
 ) {
+    // QueryDSL 생성자 프로젝션용. 목록 조회 컬럼만 받아 표시용 값은 여기서 채운다.
+    public CommunityPostSummaryDto(
+            Long id,
+            CommunityCategory category,
+            String title,
+            String contentPreview,
+            LocalDateTime createdAt,
+            Long viewCount,
+            Long likeCount,
+            Long commentCount
+    ) {
+        this(
+                id,
+                category,
+                category.getDisplayName(),
+                title,
+                contentPreview,
+                createdAt,
+                ChronoUnit.DAYS.between(createdAt.toLocalDate(), LocalDate.now()),
+                viewCount,
+                likeCount,
+                commentCount
+        );
+    }
 }
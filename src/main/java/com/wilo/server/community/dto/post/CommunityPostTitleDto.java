@@ -0,0 +1,7 @@
+package com.wilo.server.community.dto.post;
+
+public record CommunityPostTitleDto(
+        Long id,
+        String title
+) {
+}
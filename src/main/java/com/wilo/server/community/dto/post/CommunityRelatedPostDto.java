@@ -0,0 +1,11 @@
+package com.wilo.server.community.dto.post;
+
+import java.time.LocalDateTime;
+
+public record CommunityRelatedPostDto(
+        Long id,
+        String title,
+        String contentPreview,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.wilo.server.community.dto.search;
+
+public record CommunityAutocompleteItemDto(
+        String text,
+        CommunityAutocompleteType type
+) {
+}
@@ -0,0 +1,9 @@
+package com.wilo.server.community.dto.search;
+
+import java.util.List;
+
+public record CommunityAutocompleteResponseDto(
+        String prefix,
+        List<CommunityAutocompleteItemDto> items
+) {
+}
@@ -0,0 +1,6 @@
+package com.wilo.server.community.dto.search;
+
+public enum CommunityAutocompleteType {
+    HISTORY,
+    POST_TITLE
+}
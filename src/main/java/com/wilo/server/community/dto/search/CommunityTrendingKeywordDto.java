@@ -0,0 +1,8 @@
+package com.wilo.server.community.dto.search;
+
+public record CommunityTrendingKeywordDto(
+        int rank,
+        String keyword,
+        long searchCount
+) {
+}
@@ -0,0 +1,11 @@
+package com.wilo.server.community.dto.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CommunityTrendingKeywordListResponseDto(
+        List<CommunityTrendingKeywordDto> items,
+        int windowMinutes,
+        LocalDateTime aggregatedAt
+) {
+}
@@ -19,6 +19,8 @@ import org.hibernate.annotations.SQLRestriction;
         name = "community_comments",
         indexes = {
                 @Index(name = "idx_comments_post_created_id", columnList = "post_id,created_at,id"),
+                @Index(name = "idx_comments_post_parent_created_id", columnList = "post_id,parent_comment_id,created_at,id"),
+                @Index(name = "idx_comments_parent_created_id", columnList = "parent_comment_id,created_at,id"),
                 @Index(name = "idx_comments_user_created_id", columnList = "user_id,created_at,id")
         }
 )
@@ -18,10 +18,9 @@ import org.hibernate.annotations.SQLRestriction;
 @Table(
         name = "community_posts",
         indexes = {
-                @Index(name = "idx_posts_created_id", columnList = "created_at,id"),
-                @Index(name = "idx_posts_category_created_id", columnList = "category,created_at,id"),
+                @Index(name = "idx_posts_category_id", columnList = "category,id"),
                 @Index(name = "idx_posts_like_created_id", columnList = "like_count,created_at,id"),
-                @Index(name = "idx_posts_user_created_id", columnList = "user_id,created_at,id")
+                @Index(name = "idx_posts_user_id", columnList = "user_id,id")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -29,6 +28,8 @@ import org.hibernate.annotations.SQLRestriction;
 @SQLRestriction("deleted_at IS NULL")
 public class CommunityPost extends BaseEntity {
 
+    public static final int CONTENT_PREVIEW_LENGTH = 120;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,13 +48,23 @@ public class CommunityPost extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @Column(nullable = false)
+    // 목록 조회가 TEXT 컬럼을 읽지 않도록 작성/수정 시점에 미리 잘라 둔 본문
+    @Column(name = "content_preview", nullable = false, length = 130)
+    private String contentPreview;
+
+    // 카운터 컬럼은 네이티브 증분(조회수 flush, 샤드 압축, 순 방문자 반영)만 갱신한다.
+    // 엔티티 dirty checking이 트랜잭션 시작 시점의 값으로 덮어쓰지 않도록 UPDATE 대상에서 뺀다.
+    @Column(nullable = false, updatable = false)
     private Long viewCount;
 
-    @Column(nullable = false)
+    // Redis HyperLogLog로 센 순 방문자 수를 주기적으로 옮겨 둔 값 (근사치)
+    @Column(name = "unique_view_count", nullable = false, updatable = false)
+    private Long uniqueViewCount;
+
+    @Column(nullable = false, updatable = false)
     private Long likeCount;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Long commentCount;
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -71,7 +82,9 @@ public class CommunityPost extends BaseEntity {
         this.category = category;
         this.title = title;
         this.content = content;
+        this.contentPreview = createPreview(content);
         this.viewCount = 0L;
+        this.uniqueViewCount = 0L;
         this.likeCount = 0L;
         this.commentCount = 0L;
     }
@@ -80,30 +93,7 @@ public class CommunityPost extends BaseEntity {
         this.category = category;
         this.title = title;
         this.content = content;
-    }
-
-    public void increaseViewCount() {
-        this.viewCount += 1;
-    }
-
-    public void increaseLikeCount() {
-        this.likeCount += 1;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount -= 1;
-        }
-    }
-
-    public void increaseCommentCount() {
-        this.commentCount += 1;
-    }
-
-    public void decreaseCommentCount() {
-        if (this.commentCount > 0) {
-            this.commentCount -= 1;
-        }
+        this.contentPreview = createPreview(content);
     }
 
     public void replaceImages(List<String> imageUrls) {
@@ -121,4 +111,14 @@ public class CommunityPost extends BaseEntity {
                     .build());
         }
     }
+
+    public static String createPreview(String content) {
+        if (content == null) {
+            return "";
+        }
+        if (content.length() <= CONTENT_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, CONTENT_PREVIEW_LENGTH) + "...";
+    }
 }
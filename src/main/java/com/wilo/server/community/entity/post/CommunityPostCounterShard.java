@@ -0,0 +1,33 @@
+package com.wilo.server.community.entity.post;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(
+        name = "community_post_counter_shards",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_counter_shard_post_shard", columnNames = {"post_id", "shard_no"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommunityPostCounterShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    // community_posts 컬럼에 아직 반영되지 않은 증분(음수 가능). 압축 후에도 행은 남겨 재사용한다.
+    @Column(nullable = false)
+    private Long likeCount;
+
+    @Column(nullable = false)
+    private Long commentCount;
+}
@@ -1,6 +1,7 @@
 package com.wilo.server.community.entity.post;
 
 import com.wilo.server.global.entity.BaseEntity;
+import com.wilo.server.global.entity.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,7 +24,7 @@ import org.hibernate.annotations.SQLRestriction;
 public class CommunityPostImage extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(
         name = "community_post_likes",
-        uniqueConstraints = @UniqueConstraint(name = "uk_community_post_like_post_user", columnNames = {"post_id", "user_id"})
+        uniqueConstraints = @UniqueConstraint(name = "uk_community_post_like_post_user", columnNames = {"post_id", "user_id"}),
+        indexes = @Index(name = "idx_post_likes_user_created_id", columnList = "user_id,created_at,id")
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CommunityPostLike extends BaseEntity {
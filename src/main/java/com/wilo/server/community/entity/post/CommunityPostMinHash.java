@@ -0,0 +1,36 @@
+package com.wilo.server.community.entity.post;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "community_post_minhashes")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommunityPostMinHash {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private CommunityCategory category;
+
+    // MinHash 서명 (int 64개, big-endian)
+    @Column(nullable = false, length = 256)
+    private byte[] signature;
+
+    public CommunityPostMinHash(Long postId, CommunityCategory category, byte[] signature) {
+        this.postId = postId;
+        this.category = category;
+        this.signature = signature;
+    }
+
+    public void update(CommunityCategory category, byte[] signature) {
+        this.category = category;
+        this.signature = signature;
+    }
+}
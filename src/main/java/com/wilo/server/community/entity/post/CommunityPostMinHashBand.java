@@ -0,0 +1,41 @@
+package com.wilo.server.community.entity.post;
+
+import com.wilo.server.global.entity.TsidGenerated;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// LSH 밴드 버킷. 같은 카테고리에서 버킷이 같은 글이 유사 글 후보가 된다.
+@Getter
+@Entity
+@Table(
+        name = "community_post_minhash_bands",
+        indexes = {
+                @Index(name = "idx_minhash_bands_category_bucket", columnList = "category,bucket"),
+                @Index(name = "idx_minhash_bands_post", columnList = "post_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommunityPostMinHashBand {
+
+    @Id
+    @TsidGenerated
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private CommunityCategory category;
+
+    @Column(nullable = false)
+    private Long bucket;
+
+    public CommunityPostMinHashBand(Long postId, CommunityCategory category, Long bucket) {
+        this.postId = postId;
+        this.category = category;
+        this.bucket = bucket;
+    }
+}
@@ -0,0 +1,42 @@
+package com.wilo.server.community.entity.post;
+
+import com.wilo.server.global.entity.TsidGenerated;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시글마다 미리 계산해 둔 유사 글 상위 N개
+@Getter
+@Entity
+@Table(
+        name = "community_related_posts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_related_posts_post_related", columnNames = {"post_id", "related_post_id"}),
+        indexes = {
+                @Index(name = "idx_related_posts_post_similarity", columnList = "post_id,similarity"),
+                @Index(name = "idx_related_posts_related", columnList = "related_post_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommunityRelatedPost {
+
+    @Id
+    @TsidGenerated
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "related_post_id", nullable = false)
+    private Long relatedPostId;
+
+    // MinHash로 추정한 자카드 유사도 (0 ~ 1)
+    @Column(nullable = false)
+    private Double similarity;
+
+    public CommunityRelatedPost(Long postId, Long relatedPostId, Double similarity) {
+        this.postId = postId;
+        this.relatedPostId = relatedPostId;
+        this.similarity = similarity;
+    }
+}
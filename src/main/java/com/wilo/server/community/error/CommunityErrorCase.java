@@ -15,7 +15,9 @@ public enum CommunityErrorCase implements ErrorCase {
     FORBIDDEN_POST_UPDATE(403, 5005, "본인이 작성한 게시글만 수정할 수 있습니다."),
     FORBIDDEN_POST_DELETE(403, 5006, "본인이 작성한 게시글만 삭제할 수 있습니다."),
     SEARCH_HISTORY_NOT_FOUND(404, 5007, "검색 기록을 찾을 수 없습니다."),
-    FORBIDDEN_SEARCH_HISTORY_ACCESS(403, 5008, "본인의 검색 기록만 삭제할 수 있습니다.");
+    FORBIDDEN_SEARCH_HISTORY_ACCESS(403, 5008, "본인의 검색 기록만 삭제할 수 있습니다."),
+    DUPLICATE_POST(409, 5009, "최근에 작성한 게시글과 거의 같은 내용입니다."),
+    SIMILAR_POST_RATE_LIMITED(429, 5010, "비슷한 내용의 게시글이 짧은 시간에 너무 많이 작성되었습니다. 잠시 후 다시 시도해 주세요.");
 
     private final Integer httpStatusCode;
     private final Integer errorCode;
@@ -0,0 +1,11 @@
+package com.wilo.server.community.event;
+
+// 게시글 변경 이벤트. 커밋 이후 랭킹/캐시 등 파생 데이터 갱신에 사용한다.
+public record CommunityPostEvent(
+        Long postId,
+        CommunityPostEventType type
+) {
+    public static CommunityPostEvent of(Long postId, CommunityPostEventType type) {
+        return new CommunityPostEvent(postId, type);
+    }
+}
@@ -0,0 +1,11 @@
+package com.wilo.server.community.event;
+
+public enum CommunityPostEventType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    LIKED,
+    UNLIKED,
+    COMMENTED,
+    RECOUNTED
+}
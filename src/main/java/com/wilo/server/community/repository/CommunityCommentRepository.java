@@ -1,11 +1,62 @@
 package com.wilo.server.community.repository;
 
+import com.wilo.server.community.dto.comment.CommunityCommentReplyCountDto;
 import com.wilo.server.community.entity.comment.CommunityComment;
 import com.wilo.server.community.repository.query.CommunityCommentQueryRepository;
+import com.wilo.server.community.service.counter.CommunityPostRowCount;
+import com.wilo.server.community.service.stats.UserActivityCount;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommunityCommentRepository extends JpaRepository<CommunityComment, Long>, CommunityCommentQueryRepository {
 
-    List<CommunityComment> findByPostIdOrderByCreatedAtAscIdAsc(Long postId);
+    // 부모 댓글별 답글 수
+    @Query("""
+        select new com.wilo.server.community.dto.comment.CommunityCommentReplyCountDto(c.parentComment.id, count(c))
+        from CommunityComment c
+        where c.parentComment.id in :parentCommentIds
+        group by c.parentComment.id
+    """)
+    List<CommunityCommentReplyCountDto> countRepliesByParentCommentIds(
+            @Param("parentCommentIds") Collection<Long> parentCommentIds
+    );
+
+    // 부모 댓글마다 오래된 순 앞쪽 limit개의 답글만 한 번에 조회
+    @Query(value = """
+        SELECT ranked.*
+        FROM (
+            SELECT c.*,
+                   ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_at, c.id) AS reply_rank
+            FROM community_comments c
+            WHERE c.parent_comment_id IN (:parentCommentIds)
+              AND c.deleted_at IS NULL
+        ) ranked
+        WHERE ranked.reply_rank <= :limit
+        ORDER BY ranked.parent_comment_id, ranked.created_at, ranked.id
+    """, nativeQuery = true)
+    List<CommunityComment> findFirstRepliesByParentCommentIds(
+            @Param("parentCommentIds") Collection<Long> parentCommentIds,
+            @Param("limit") int limit
+    );
+
+    // 사용자별 삭제되지 않은 댓글/답글 수 (프로필 집계 보정용)
+    @Query("""
+        select new com.wilo.server.community.service.stats.UserActivityCount(c.user.id, count(c))
+        from CommunityComment c
+        where c.user.id in :userIds
+        group by c.user.id
+    """)
+    List<UserActivityCount> countCommentsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // id 구간 [fromId, toId) 게시글별 삭제되지 않은 댓글/답글 수 (카운터 보정용)
+    @Query("""
+        select new com.wilo.server.community.service.counter.CommunityPostRowCount(c.post.id, count(c))
+        from CommunityComment c
+        where c.post.id >= :fromId and c.post.id < :toId
+        group by c.post.id
+    """)
+    List<CommunityPostRowCount> countByPostIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,41 @@
+package com.wilo.server.community.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CommunityPostCounterRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL =
+            "UPDATE community_posts SET view_count = view_count + ? WHERE id = ?";
+    private static final String RAISE_UNIQUE_VIEW_COUNT_SQL =
+            "UPDATE community_posts SET unique_view_count = GREATEST(unique_view_count, ?) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addViewCounts(Map<Long, Long> deltasByPostId) {
+        if (deltasByPostId.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltasByPostId.size());
+        deltasByPostId.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, batchArgs);
+    }
+
+    // HyperLogLog 추정치는 흔들릴 수 있어 더 큰 값일 때만 올린다
+    public void raiseUniqueViewCounts(Map<Long, Long> countsByPostId) {
+        if (countsByPostId.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(countsByPostId.size());
+        countsByPostId.forEach((postId, count) -> batchArgs.add(new Object[]{count, postId}));
+        jdbcTemplate.batchUpdate(RAISE_UNIQUE_VIEW_COUNT_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,106 @@
+package com.wilo.server.community.repository;
+
+import com.wilo.server.community.entity.post.CommunityPostCounterShard;
+import com.wilo.server.community.service.counter.CommunityPostCounterTally;
+import com.wilo.server.community.service.counter.CommunityPostCounts;
+import com.wilo.server.community.service.counter.CommunityPostDisplayCounts;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommunityPostCounterShardRepository extends JpaRepository<CommunityPostCounterShard, Long> {
+
+    // 샤드 행에 증분 누적 (행이 없으면 생성)
+    @Modifying
+    @Query(value = """
+        INSERT INTO community_post_counter_shards (post_id, shard_no, like_count, comment_count)
+        VALUES (:postId, :shardNo, :likeDelta, :commentDelta)
+        ON DUPLICATE KEY UPDATE
+            like_count = like_count + :likeDelta,
+            comment_count = comment_count + :commentDelta
+    """, nativeQuery = true)
+    int addDelta(
+            @Param("postId") Long postId,
+            @Param("shardNo") int shardNo,
+            @Param("likeDelta") long likeDelta,
+            @Param("commentDelta") long commentDelta
+    );
+
+    // 게시글의 미반영 증분 합계
+    @Query("""
+        select new com.wilo.server.community.service.counter.CommunityPostCounts(
+            coalesce(sum(s.likeCount), 0L),
+            coalesce(sum(s.commentCount), 0L)
+        )
+        from CommunityPostCounterShard s
+        where s.postId = :postId
+    """)
+    CommunityPostCounts sumDeltasByPostId(@Param("postId") Long postId);
+
+    // 여러 게시글의 미반영 증분 합계 (증분 행이 없는 게시글은 결과에 없다)
+    @Query("""
+        select new com.wilo.server.community.service.counter.CommunityPostCounterTally(
+            s.postId,
+            coalesce(sum(s.likeCount), 0L),
+            coalesce(sum(s.commentCount), 0L)
+        )
+        from CommunityPostCounterShard s
+        where s.postId in :postIds
+        group by s.postId
+    """)
+    List<CommunityPostCounterTally> sumDeltasByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 게시글 컬럼과 샤드 증분을 한 번에 합산한다 (삭제된 게시글이면 빈 결과)
+    @Query("""
+        select new com.wilo.server.community.service.counter.CommunityPostDisplayCounts(
+            p.viewCount,
+            p.uniqueViewCount,
+            p.likeCount + coalesce((select sum(s.likeCount) from CommunityPostCounterShard s where s.postId = p.id), 0L),
+            p.commentCount + coalesce((select sum(s.commentCount) from CommunityPostCounterShard s where s.postId = p.id), 0L)
+        )
+        from CommunityPost p
+        where p.id = :postId
+    """)
+    Optional<CommunityPostDisplayCounts> findDisplayCountsByPostId(@Param("postId") Long postId);
+
+    // 압축 대상 게시글 ID 조회
+    @Query("""
+        select distinct s.postId
+        from CommunityPostCounterShard s
+        where s.likeCount <> 0 or s.commentCount <> 0
+    """)
+    List<Long> findPostIdsWithPendingDeltas(Pageable pageable);
+
+    List<CommunityPostCounterShard> findByPostId(Long postId);
+
+    // 읽은 만큼만 차감해서 압축 도중 들어온 증분은 샤드에 남긴다
+    @Modifying
+    @Query("""
+        update CommunityPostCounterShard s
+        set s.likeCount = s.likeCount - :likeDelta,
+            s.commentCount = s.commentCount - :commentDelta
+        where s.id = :shardId
+    """)
+    int subtractDelta(
+            @Param("shardId") Long shardId,
+            @Param("likeDelta") long likeDelta,
+            @Param("commentDelta") long commentDelta
+    );
+
+    // id 구간 [fromId, toId) 게시글의 저장된 카운터 (컬럼 + 샤드 증분)
+    @Query("""
+        select new com.wilo.server.community.service.counter.CommunityPostCounterTally(
+            p.id,
+            p.likeCount + coalesce((select sum(s.likeCount) from CommunityPostCounterShard s where s.postId = p.id), 0L),
+            p.commentCount + coalesce((select sum(s.commentCount) from CommunityPostCounterShard s where s.postId = p.id), 0L)
+        )
+        from CommunityPost p
+        where p.id >= :fromId and p.id < :toId
+    """)
+    List<CommunityPostCounterTally> findStoredCountsInRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
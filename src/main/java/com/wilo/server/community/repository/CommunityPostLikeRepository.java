@@ -2,9 +2,16 @@ package com.wilo.server.community.repository;
 
 import com.wilo.server.community.entity.post.CommunityPostLike;
 import com.wilo.server.community.repository.query.CommunityPostLikeQueryRepository;
+import com.wilo.server.community.service.counter.CommunityPostRowCount;
+import com.wilo.server.community.service.stats.UserActivityCount;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommunityPostLikeRepository extends JpaRepository<CommunityPostLike, Long>, CommunityPostLikeQueryRepository {
 
@@ -13,4 +20,57 @@ public interface CommunityPostLikeRepository extends JpaRepository<CommunityPost
     Optional<CommunityPostLike> findByPostIdAndUserId(Long postId, Long userId);
 
     List<CommunityPostLike> findByPostId(Long postId);
+
+    // (post_id, user_id) 유니크 제약을 멱등 키로 사용: 새로 추가된 경우에만 1 반환
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO community_post_likes (post_id, user_id, created_at, updated_at)
+        VALUES (:postId, :userId, :now, :now)
+    """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("postId") Long postId,
+            @Param("userId") Long userId,
+            @Param("now") LocalDateTime now
+    );
+
+    // 실제로 삭제된 경우에만 1 반환
+    @Modifying
+    @Query(value = """
+        DELETE FROM community_post_likes
+        WHERE post_id = :postId
+          AND user_id = :userId
+    """, nativeQuery = true)
+    int deleteByPostIdAndUserId(
+            @Param("postId") Long postId,
+            @Param("userId") Long userId
+    );
+
+    // 작성자별로 삭제되지 않은 글이 받은 좋아요 수 (프로필 집계 보정용)
+    @Query("""
+        select new com.wilo.server.community.service.stats.UserActivityCount(p.user.id, count(l))
+        from CommunityPostLike l
+        join l.post p
+        where p.user.id in :userIds
+        group by p.user.id
+    """)
+    List<UserActivityCount> countLikesReceivedByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 사용자별로 삭제되지 않은 글에 누른 좋아요 수 (프로필 집계 보정용)
+    @Query("""
+        select new com.wilo.server.community.service.stats.UserActivityCount(l.user.id, count(l))
+        from CommunityPostLike l
+        join l.post p
+        where l.user.id in :userIds
+        group by l.user.id
+    """)
+    List<UserActivityCount> countLikesGivenByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // id 구간 [fromId, toId) 게시글별 실제 좋아요 행 수 (카운터 보정용)
+    @Query("""
+        select new com.wilo.server.community.service.counter.CommunityPostRowCount(l.post.id, count(l))
+        from CommunityPostLike l
+        where l.post.id >= :fromId and l.post.id < :toId
+        group by l.post.id
+    """)
+    List<CommunityPostRowCount> countByPostIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
 }
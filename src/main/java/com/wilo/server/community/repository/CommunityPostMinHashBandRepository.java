@@ -0,0 +1,35 @@
+package com.wilo.server.community.repository;
+
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPostMinHashBand;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommunityPostMinHashBandRepository extends JpaRepository<CommunityPostMinHashBand, Long> {
+
+    // 같은 카테고리에서 버킷을 공유하는 글 (공유한 밴드가 많은 글부터)
+    @Query("""
+        select b.postId
+        from CommunityPostMinHashBand b
+        where b.category = :category
+          and b.bucket in :buckets
+          and b.postId <> :postId
+        group by b.postId
+        order by count(b) desc, b.postId desc
+    """)
+    List<Long> findCandidatePostIds(
+            @Param("category") CommunityCategory category,
+            @Param("buckets") Collection<Long> buckets,
+            @Param("postId") Long postId,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("delete from CommunityPostMinHashBand b where b.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
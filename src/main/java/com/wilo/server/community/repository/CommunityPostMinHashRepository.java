@@ -0,0 +1,7 @@
+package com.wilo.server.community.repository;
+
+import com.wilo.server.community.entity.post.CommunityPostMinHash;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CommunityPostMinHashRepository extends JpaRepository<CommunityPostMinHash, Long> {
+}
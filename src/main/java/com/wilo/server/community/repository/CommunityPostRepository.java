@@ -1,8 +1,74 @@
 package com.wilo.server.community.repository;
 
+import com.wilo.server.community.dto.post.CommunityPostTitleDto;
 import com.wilo.server.community.entity.post.CommunityPost;
 import com.wilo.server.community.repository.query.CommunityPostQueryRepository;
+import com.wilo.server.community.service.stats.UserActivityCount;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommunityPostRepository extends JpaRepository<CommunityPost, Long>, CommunityPostQueryRepository {
+
+    // 샤드에 쌓인 좋아요/댓글 증분을 게시글 행에 반영
+    @Modifying
+    @Query(value = """
+        UPDATE community_posts
+        SET like_count = like_count + :likeDelta,
+            comment_count = comment_count + :commentDelta
+        WHERE id = :postId
+    """, nativeQuery = true)
+    int addCounterDeltas(
+            @Param("postId") Long postId,
+            @Param("likeDelta") long likeDelta,
+            @Param("commentDelta") long commentDelta
+    );
+
+    // 상세 캐시 적재용: 작성자까지 한 번에 읽어 트랜잭션 밖에서도 지연 로딩이 없도록 한다
+    @Query("select p from CommunityPost p join fetch p.user where p.id = :postId")
+    Optional<CommunityPost> findWithUserById(@Param("postId") Long postId);
+
+    // id 구간 순회 (랭킹 재구축 등 배치 작업용)
+    List<CommunityPost> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 특정 시각 이후 변경된 게시글 id 구간 순회 (검색 색인 재기동 시 변경분 반영)
+    List<CommunityPost> findByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            LocalDateTime updatedAt,
+            Long id,
+            Pageable pageable
+    );
+
+    // 자동완성 색인용 id/제목 구간 조회 (본문 컬럼은 읽지 않는다)
+    @Query("""
+        select new com.wilo.server.community.dto.post.CommunityPostTitleDto(p.id, p.title)
+        from CommunityPost p
+        where p.id > :lastId
+        order by p.id asc
+    """)
+    List<CommunityPostTitleDto> findTitlesByIdGreaterThan(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select p.title from CommunityPost p where p.id = :postId")
+    Optional<String> findTitleById(@Param("postId") Long postId);
+
+    // 자동완성에서 정리됐던 제목이 다시 들어올 때 같은 제목 게시글 수를 다시 센다
+    @Query("select p.id from CommunityPost p where p.title = :title")
+    List<Long> findIdsByTitle(@Param("title") String title);
+
+    // 사용자별 삭제되지 않은 글 수 (프로필 집계 보정용)
+    @Query("""
+        select new com.wilo.server.community.service.stats.UserActivityCount(p.user.id, count(p))
+        from CommunityPost p
+        where p.user.id in :userIds
+        group by p.user.id
+    """)
+    List<UserActivityCount> countPostsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("select max(p.id) from CommunityPost p")
+    Long findMaxId();
 }
@@ -0,0 +1,38 @@
+package com.wilo.server.community.repository;
+
+import com.wilo.server.community.dto.post.CommunityRelatedPostDto;
+import com.wilo.server.community.entity.post.CommunityRelatedPost;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommunityRelatedPostRepository extends JpaRepository<CommunityRelatedPost, Long> {
+
+    // (post_id, similarity) 인덱스 범위 한 번 + 게시글 PK 조회
+    @Query("""
+        select new com.wilo.server.community.dto.post.CommunityRelatedPostDto(
+            p.id, p.title, p.contentPreview, p.createdAt
+        )
+        from CommunityRelatedPost r
+        join CommunityPost p on p.id = r.relatedPostId
+        where r.postId = :postId
+        order by r.similarity desc, r.relatedPostId desc
+    """)
+    List<CommunityRelatedPostDto> findRelatedPosts(@Param("postId") Long postId, Pageable pageable);
+
+    List<CommunityRelatedPost> findByPostIdOrderBySimilarityDesc(Long postId);
+
+    @Query("select r.postId from CommunityRelatedPost r where r.relatedPostId = :relatedPostId")
+    List<Long> findPostIdsByRelatedPostId(@Param("relatedPostId") Long relatedPostId);
+
+    @Modifying
+    @Query("delete from CommunityRelatedPost r where r.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("delete from CommunityRelatedPost r where r.relatedPostId = :relatedPostId")
+    int deleteByRelatedPostId(@Param("relatedPostId") Long relatedPostId);
+}
@@ -0,0 +1,38 @@
+package com.wilo.server.community.repository;
+
+import com.wilo.server.community.service.search.history.CommunitySearchHistoryTouch;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CommunitySearchHistoryUpsertRepository {
+
+    // (user_id, keyword) 유니크 키로 upsert, 늦게 도착한 과거 시각이 최신 시각을 덮지 않도록 GREATEST 사용
+    private static final String UPSERT_SQL = """
+            INSERT INTO community_search_histories (user_id, keyword, last_searched_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                last_searched_at = GREATEST(last_searched_at, VALUES(last_searched_at)),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<CommunitySearchHistoryTouch> touches) {
+        if (touches.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(touches.size());
+        for (CommunitySearchHistoryTouch touch : touches) {
+            Timestamp searchedAt = Timestamp.valueOf(touch.searchedAt());
+            batchArgs.add(new Object[]{touch.userId(), touch.keyword(), searchedAt, searchedAt, searchedAt});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+    }
+}
@@ -13,4 +13,18 @@ public interface CommunityCommentQueryRepository {
             Long cursorId,
             Pageable pageable
     );
+
+    List<CommunityComment> findRootCommentsByPostIdCursor(
+            Long postId,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            Pageable pageable
+    );
+
+    List<CommunityComment> findRepliesByParentIdCursor(
+            Long parentCommentId,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            Pageable pageable
+    );
 }
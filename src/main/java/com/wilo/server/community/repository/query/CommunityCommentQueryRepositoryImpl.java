@@ -1,10 +1,10 @@
 package com.wilo.server.community.repository.query;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.wilo.server.community.entity.comment.CommunityComment;
 import com.wilo.server.community.entity.comment.QCommunityComment;
 import com.wilo.server.community.entity.post.QCommunityPost;
+import com.wilo.server.global.pagination.KeysetCondition;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -32,19 +32,47 @@ public class CommunityCommentQueryRepositoryImpl implements CommunityCommentQuer
                 .join(comment.post, post).fetchJoin()
                 .where(
                         comment.user.id.eq(userId),
-                        cursorCondition(cursorCreatedAt, cursorId)
+                        KeysetCondition.before(comment.createdAt, cursorCreatedAt, comment.id, cursorId)
                 )
                 .orderBy(comment.createdAt.desc(), comment.id.desc())
                 .limit(pageable.getPageSize())
                 .fetch();
     }
 
-    private BooleanExpression cursorCondition(LocalDateTime cursorCreatedAt, Long cursorId) {
-        if (cursorCreatedAt == null || cursorId == null) {
-            return null;
-        }
+    @Override
+    public List<CommunityComment> findRootCommentsByPostIdCursor(
+            Long postId,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            Pageable pageable
+    ) {
+        return queryFactory
+                .selectFrom(comment)
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.parentComment.isNull(),
+                        KeysetCondition.after(comment.createdAt, cursorCreatedAt, comment.id, cursorId)
+                )
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
 
-        return comment.createdAt.lt(cursorCreatedAt)
-                .or(comment.createdAt.eq(cursorCreatedAt).and(comment.id.lt(cursorId)));
+    @Override
+    public List<CommunityComment> findRepliesByParentIdCursor(
+            Long parentCommentId,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            Pageable pageable
+    ) {
+        return queryFactory
+                .selectFrom(comment)
+                .where(
+                        comment.parentComment.id.eq(parentCommentId),
+                        KeysetCondition.after(comment.createdAt, cursorCreatedAt, comment.id, cursorId)
+                )
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(pageable.getPageSize())
+                .fetch();
     }
 }
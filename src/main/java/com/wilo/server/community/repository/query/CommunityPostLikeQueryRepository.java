@@ -1,13 +1,13 @@
 package com.wilo.server.community.repository.query;
 
-import com.wilo.server.community.entity.post.CommunityPostLike;
+import com.wilo.server.community.dto.post.CommunityLikedPostDto;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 
 public interface CommunityPostLikeQueryRepository {
 
-    List<CommunityPostLike> findLikedPostsByUserIdCursor(
+    List<CommunityLikedPostDto> findLikedPostsByUserIdCursor(
             Long userId,
             LocalDateTime cursorCreatedAt,
             Long cursorId,
@@ -1,10 +1,11 @@
 package com.wilo.server.community.repository.query;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.wilo.server.community.entity.post.CommunityPostLike;
+import com.wilo.server.community.dto.post.CommunityLikedPostDto;
 import com.wilo.server.community.entity.post.QCommunityPost;
 import com.wilo.server.community.entity.post.QCommunityPostLike;
+import com.wilo.server.global.pagination.KeysetCondition;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -21,30 +22,36 @@ public class CommunityPostLikeQueryRepositoryImpl implements CommunityPostLikeQu
     private static final QCommunityPost post = QCommunityPost.communityPost;
 
     @Override
-    public List<CommunityPostLike> findLikedPostsByUserIdCursor(
+    public List<CommunityLikedPostDto> findLikedPostsByUserIdCursor(
             Long userId,
             LocalDateTime cursorCreatedAt,
             Long cursorId,
             Pageable pageable
     ) {
         return queryFactory
-                .selectFrom(postLike)
-                .join(postLike.post, post).fetchJoin()
+                .select(Projections.constructor(
+                        CommunityLikedPostDto.class,
+                        postLike.id,
+                        postLike.createdAt,
+                        post.id,
+                        post.category,
+                        post.title,
+                        post.contentPreview,
+                        post.createdAt,
+                        post.viewCount,
+                        post.likeCount,
+                        post.commentCount
+                ))
+                .from(postLike)
+                .join(postLike.post, post)
                 .where(
                         postLike.user.id.eq(userId),
-                        cursorCondition(cursorCreatedAt, cursorId)
+                        // 삭제된 게시글은 조인 단계에서 걸러 페이지 크기를 그대로 채운다
+                        post.deletedAt.isNull(),
+                        KeysetCondition.before(postLike.createdAt, cursorCreatedAt, postLike.id, cursorId)
                 )
                 .orderBy(postLike.createdAt.desc(), postLike.id.desc())
                 .limit(pageable.getPageSize())
                 .fetch();
     }
-
-    private BooleanExpression cursorCondition(LocalDateTime cursorCreatedAt, Long cursorId) {
-        if (cursorCreatedAt == null || cursorId == null) {
-            return null;
-        }
-
-        return postLike.createdAt.lt(cursorCreatedAt)
-                .or(postLike.createdAt.eq(cursorCreatedAt).and(postLike.id.lt(cursorId)));
-    }
 }
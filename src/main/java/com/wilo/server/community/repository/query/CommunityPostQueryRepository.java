@@ -1,34 +1,37 @@
 package com.wilo.server.community.repository.query;
 
+import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
 import com.wilo.server.community.entity.post.CommunityCategory;
-import com.wilo.server.community.entity.post.CommunityPost;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 
 public interface CommunityPostQueryRepository {
 
-    List<CommunityPost> findLatestPostsByCursor(
+    List<CommunityPostSummaryDto> findLatestPostsByCursor(
             CommunityCategory category,
             String keyword,
-            LocalDateTime cursorCreatedAt,
+            Collection<Long> candidateIds,
             Long cursorId,
             Pageable pageable
     );
 
-    List<CommunityPost> findRecommendedPostsByCursor(
+    List<CommunityPostSummaryDto> findRecommendedPostsByCursor(
             CommunityCategory category,
             String keyword,
+            Collection<Long> candidateIds,
             Long cursorLikeCount,
             LocalDateTime cursorCreatedAt,
             Long cursorId,
             Pageable pageable
     );
 
-    List<CommunityPost> findLatestPostsByAuthorCursor(
+    List<CommunityPostSummaryDto> findLatestPostsByAuthorCursor(
             Long authorUserId,
-            LocalDateTime cursorCreatedAt,
             Long cursorId,
             Pageable pageable
     );
+
+    List<CommunityPostSummaryDto> findSummariesByIds(Collection<Long> ids);
 }
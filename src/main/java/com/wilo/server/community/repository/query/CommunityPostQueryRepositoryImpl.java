@@ -1,11 +1,15 @@
 package com.wilo.server.community.repository.query;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
 import com.wilo.server.community.entity.post.CommunityCategory;
-import com.wilo.server.community.entity.post.CommunityPost;
 import com.wilo.server.community.entity.post.QCommunityPost;
+import com.wilo.server.global.pagination.KeysetCondition;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -19,41 +23,64 @@ public class CommunityPostQueryRepositoryImpl implements CommunityPostQueryRepos
 
     private static final QCommunityPost post = QCommunityPost.communityPost;
 
+    // 목록 화면에 필요한 컬럼만 읽는다 (본문 TEXT 대신 content_preview)
+    private static final ConstructorExpression<CommunityPostSummaryDto> SUMMARY = Projections.constructor(
+            CommunityPostSummaryDto.class,
+            post.id,
+            post.category,
+            post.title,
+            post.contentPreview,
+            post.createdAt,
+            post.viewCount,
+            post.likeCount,
+            post.commentCount
+    );
+
+    // 게시글 id는 작성 순서대로 증가하므로 최신순은 id만으로 정렬한다 (인덱스 (category, id) 또는 PK 범위 스캔)
     @Override
-    public List<CommunityPost> findLatestPostsByCursor(
+    public List<CommunityPostSummaryDto> findLatestPostsByCursor(
             CommunityCategory category,
             String keyword,
-            LocalDateTime cursorCreatedAt,
+            Collection<Long> candidateIds,
             Long cursorId,
             Pageable pageable
     ) {
         return queryFactory
-                .selectFrom(post)
+                .select(SUMMARY)
+                .from(post)
                 .where(
                         categoryEq(category),
+                        idIn(candidateIds),
                         keywordContains(keyword),
-                        latestCursorCondition(cursorCreatedAt, cursorId)
+                        KeysetCondition.idBefore(post.id, cursorId)
                 )
-                .orderBy(post.createdAt.desc(), post.id.desc())
+                .orderBy(post.id.desc())
                 .limit(pageable.getPageSize())
                 .fetch();
     }
 
     @Override
-    public List<CommunityPost> findRecommendedPostsByCursor(
+    public List<CommunityPostSummaryDto> findRecommendedPostsByCursor(
             CommunityCategory category,
             String keyword,
+            Collection<Long> candidateIds,
             Long cursorLikeCount,
             LocalDateTime cursorCreatedAt,
             Long cursorId,
             Pageable pageable
     ) {
         return queryFactory
-                .selectFrom(post)
+                .select(SUMMARY)
+                .from(post)
                 .where(
                         categoryEq(category),
+                        idIn(candidateIds),
                         keywordContains(keyword),
-                        recommendedCursorCondition(cursorLikeCount, cursorCreatedAt, cursorId)
+                        KeysetCondition.before(
+                                post.likeCount, cursorLikeCount,
+                                post.createdAt, cursorCreatedAt,
+                                post.id, cursorId
+                        )
                 )
                 .orderBy(post.likeCount.desc(), post.createdAt.desc(), post.id.desc())
                 .limit(pageable.getPageSize())
@@ -61,23 +88,36 @@ public class CommunityPostQueryRepositoryImpl implements CommunityPostQueryRepos
     }
 
     @Override
-    public List<CommunityPost> findLatestPostsByAuthorCursor(
+    public List<CommunityPostSummaryDto> findLatestPostsByAuthorCursor(
             Long authorUserId,
-            LocalDateTime cursorCreatedAt,
             Long cursorId,
             Pageable pageable
     ) {
         return queryFactory
-                .selectFrom(post)
+                .select(SUMMARY)
+                .from(post)
                 .where(
                         authorUserIdEq(authorUserId),
-                        latestCursorCondition(cursorCreatedAt, cursorId)
+                        KeysetCondition.idBefore(post.id, cursorId)
                 )
-                .orderBy(post.createdAt.desc(), post.id.desc())
+                .orderBy(post.id.desc())
                 .limit(pageable.getPageSize())
                 .fetch();
     }
 
+    @Override
+    public List<CommunityPostSummaryDto> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(SUMMARY)
+                .from(post)
+                .where(post.id.in(ids))
+                .fetch();
+    }
+
     private BooleanExpression categoryEq(CommunityCategory category) {
         if (category == null) {
             return null;
@@ -85,6 +125,14 @@ public class CommunityPostQueryRepositoryImpl implements CommunityPostQueryRepos
         return post.category.eq(category);
     }
 
+    // 검색 색인이 좁혀 준 후보 id. 최종 일치 여부는 keywordContains로 다시 확인한다.
+    private BooleanExpression idIn(Collection<Long> candidateIds) {
+        if (candidateIds == null) {
+            return null;
+        }
+        return post.id.in(candidateIds);
+    }
+
     private BooleanExpression keywordContains(String keyword) {
         if (keyword == null || keyword.isBlank()) {
             return null;
@@ -101,29 +149,4 @@ public class CommunityPostQueryRepositoryImpl implements CommunityPostQueryRepos
         }
         return post.user.id.eq(authorUserId);
     }
-
-    private BooleanExpression latestCursorCondition(LocalDateTime cursorCreatedAt, Long cursorId) {
-        if (cursorCreatedAt == null || cursorId == null) {
-            return null;
-        }
-
-        return post.createdAt.lt(cursorCreatedAt)
-                .or(post.createdAt.eq(cursorCreatedAt).and(post.id.lt(cursorId)));
-    }
-
-    private BooleanExpression recommendedCursorCondition(
-            Long cursorLikeCount,
-            LocalDateTime cursorCreatedAt,
-            Long cursorId
-    ) {
-        if (cursorLikeCount == null || cursorCreatedAt == null || cursorId == null) {
-            return null;
-        }
-
-        return post.likeCount.lt(cursorLikeCount)
-                .or(post.likeCount.eq(cursorLikeCount).and(post.createdAt.lt(cursorCreatedAt)))
-                .or(post.likeCount.eq(cursorLikeCount)
-                        .and(post.createdAt.eq(cursorCreatedAt))
-                        .and(post.id.lt(cursorId)));
-    }
 }
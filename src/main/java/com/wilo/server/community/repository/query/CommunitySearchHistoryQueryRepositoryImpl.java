@@ -1,9 +1,9 @@
 package com.wilo.server.community.repository.query;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.wilo.server.community.entity.search.CommunitySearchHistory;
 import com.wilo.server.community.entity.search.QCommunitySearchHistory;
+import com.wilo.server.global.pagination.KeysetCondition;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -29,19 +29,10 @@ public class CommunitySearchHistoryQueryRepositoryImpl implements CommunitySearc
                 .selectFrom(history)
                 .where(
                         history.user.id.eq(userId),
-                        cursorCondition(cursorLastSearchedAt, cursorId)
+                        KeysetCondition.before(history.lastSearchedAt, cursorLastSearchedAt, history.id, cursorId)
                 )
                 .orderBy(history.lastSearchedAt.desc(), history.id.desc())
                 .limit(pageable.getPageSize())
                 .fetch();
     }
-
-    private BooleanExpression cursorCondition(LocalDateTime cursorLastSearchedAt, Long cursorId) {
-        if (cursorLastSearchedAt == null || cursorId == null) {
-            return null;
-        }
-
-        return history.lastSearchedAt.lt(cursorLastSearchedAt)
-                .or(history.lastSearchedAt.eq(cursorLastSearchedAt).and(history.id.lt(cursorId)));
-    }
 }
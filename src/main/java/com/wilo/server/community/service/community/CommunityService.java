@@ -2,7 +2,10 @@ package com.wilo.server.community.service.community;
 
 import com.wilo.server.community.dto.comment.CommunityCommentCreateRequestDto;
 import com.wilo.server.community.dto.comment.CommunityCommentDto;
+import com.wilo.server.community.dto.comment.CommunityCommentListResponseDto;
+import com.wilo.server.community.dto.comment.CommunityCommentReplyCountDto;
 import com.wilo.server.community.dto.post.CommunityLikeResponseDto;
+import com.wilo.server.community.dto.post.CommunityLikedPostDto;
 import com.wilo.server.community.dto.comment.CommunityPostAuthorDto;
 import com.wilo.server.community.dto.post.CommunityPostCreateRequestDto;
 import com.wilo.server.community.dto.post.CommunityPostDetailResponseDto;
@@ -17,11 +20,26 @@ import com.wilo.server.community.entity.post.CommunityPost;
 import com.wilo.server.community.entity.post.CommunityPostImage;
 import com.wilo.server.community.entity.post.CommunityPostLike;
 import com.wilo.server.community.error.CommunityErrorCase;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
 import com.wilo.server.community.repository.CommunityCommentRepository;
 import com.wilo.server.community.repository.CommunityPostImageRepository;
 import com.wilo.server.community.repository.CommunityPostLikeRepository;
 import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.counter.CommunityPostCounterCache;
+import com.wilo.server.community.service.counter.CommunityPostCounterService;
+import com.wilo.server.community.service.counter.CommunityPostDisplayCounts;
+import com.wilo.server.community.service.counter.CommunityUniqueViewCounter;
+import com.wilo.server.community.service.counter.CommunityViewCountBuffer;
+import com.wilo.server.community.service.detail.CommunityPostDetailCache;
+import com.wilo.server.community.service.duplicate.CommunityDuplicatePostGuard;
+import com.wilo.server.community.service.detail.CommunityPostDetailSnapshot;
+import com.wilo.server.community.service.related.CommunityRelatedPostService;
+import com.wilo.server.community.service.stats.UserCommunityStatsService;
+import com.wilo.server.community.service.version.CommunityContentVersionService;
 import com.wilo.server.global.exception.ApplicationException;
+import com.wilo.server.global.pagination.IdCursor;
+import com.wilo.server.global.pagination.TimeIdCursor;
 import com.wilo.server.notification.service.NotificationService;
 import com.wilo.server.user.entity.User;
 import com.wilo.server.user.error.UserErrorCase;
@@ -31,9 +49,15 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -43,8 +67,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CommunityService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
     private static final int MAX_PAGE_SIZE = 50;
-    private static final int CONTENT_PREVIEW_LENGTH = 120;
 
     private final CommunityPostRepository communityPostRepository;
     private final CommunityPostImageRepository communityPostImageRepository;
@@ -52,10 +76,25 @@ public class CommunityService {
     private final CommunityPostLikeRepository communityPostLikeRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final CommunityViewCountBuffer communityViewCountBuffer;
+    private final CommunityUniqueViewCounter communityUniqueViewCounter;
+    private final CommunityPostCounterService communityPostCounterService;
+    private final CommunityPostCounterCache communityPostCounterCache;
+    private final CommunityPostDetailCache communityPostDetailCache;
+    private final CommunityContentVersionService communityContentVersionService;
+    private final CommunityRelatedPostService communityRelatedPostService;
+    private final CommunityDuplicatePostGuard communityDuplicatePostGuard;
+    private final UserCommunityStatsService userCommunityStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 댓글 목록에서 댓글마다 미리 보여줄 답글 수
+    @Value("${community.comment.preview-reply-size:3}")
+    private int previewReplySize;
 
     @Transactional
     public Long createPost(Long userId, CommunityPostCreateRequestDto request) {
         User user = getUserOrThrow(userId);
+        communityDuplicatePostGuard.check(userId, request.title(), request.content());
 
         CommunityPost post = communityPostRepository.save(
                 CommunityPost.builder()
@@ -79,6 +118,9 @@ public class CommunityService {
             communityPostImageRepository.saveAll(images);
         }
 
+        communityDuplicatePostGuard.register(post.getId(), userId, request.title(), request.content());
+        userCommunityStatsService.recordPostCreated(userId);
+        eventPublisher.publishEvent(CommunityPostEvent.of(post.getId(), CommunityPostEventType.CREATED));
         return post.getId();
     }
 
@@ -91,9 +133,13 @@ public class CommunityService {
             throw ApplicationException.from(CommunityErrorCase.FORBIDDEN_POST_UPDATE);
         }
 
+        // 삭제 시 지울 수 있도록 지문을 수정한 내용으로 바꿔 둔다
+        communityDuplicatePostGuard.unregister(postId, post.getTitle(), post.getContent());
         post.updatePost(request.category(), request.title(), request.content());
         post.replaceImages(request.imageUrls());
+        communityDuplicatePostGuard.register(postId, userId, request.title(), request.content());
 
+        eventPublisher.publishEvent(CommunityPostEvent.of(postId, CommunityPostEventType.UPDATED));
         return post.getId();
     }
 
@@ -106,7 +152,10 @@ public class CommunityService {
             throw ApplicationException.from(CommunityErrorCase.FORBIDDEN_POST_DELETE);
         }
 
+        userCommunityStatsService.recordPostDeleted(userId, postId);
+        communityDuplicatePostGuard.unregister(postId, post.getTitle(), post.getContent());
         communityPostRepository.delete(post);
+        eventPublisher.publishEvent(CommunityPostEvent.of(postId, CommunityPostEventType.DELETED));
     }
 
     @Transactional(readOnly = true)
@@ -118,22 +167,20 @@ public class CommunityService {
         int safeSize = size == null || size < 1 ? 20 : Math.min(size, MAX_PAGE_SIZE);
         Pageable pageable = PageRequest.of(0, safeSize + 1);
 
-        LatestCursor latestCursor = LatestCursor.from(cursor);
-        List<CommunityPost> fetchedPosts = communityPostRepository.findLatestPostsByAuthorCursor(
+        IdCursor idCursor = IdCursor.from(cursor);
+        List<CommunityPostSummaryDto> fetchedPosts = communityPostRepository.findLatestPostsByAuthorCursor(
                 authorUserId,
-                latestCursor.createdAt(),
-                latestCursor.id(),
+                idCursor.id(),
                 pageable
         );
 
         boolean hasNext = fetchedPosts.size() > safeSize;
-        List<CommunityPost> pagePosts = hasNext ? fetchedPosts.subList(0, safeSize) : fetchedPosts;
-        List<CommunityPostSummaryDto> items = toSummaryItems(pagePosts);
+        List<CommunityPostSummaryDto> items = hasNext ? fetchedPosts.subList(0, safeSize) : fetchedPosts;
 
         String nextCursor = null;
-        if (hasNext && !pagePosts.isEmpty()) {
-            CommunityPost lastPost = pagePosts.get(pagePosts.size() - 1);
-            nextCursor = LatestCursor.of(lastPost).toCursorValue();
+        if (hasNext && !items.isEmpty()) {
+            CommunityPostSummaryDto lastPost = items.get(items.size() - 1);
+            nextCursor = IdCursor.toCursorValue(lastPost.id());
         }
 
         return new CommunityPostListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
@@ -148,11 +195,11 @@ public class CommunityService {
         int safeSize = size == null || size < 1 ? 20 : Math.min(size, MAX_PAGE_SIZE);
         Pageable pageable = PageRequest.of(0, safeSize + 1);
 
-        LatestCursor latestCursor = LatestCursor.from(cursor);
+        TimeIdCursor commentCursor = TimeIdCursor.from(cursor);
         List<CommunityComment> fetchedComments = communityCommentRepository.findLatestByUserIdCursor(
                 authorUserId,
-                latestCursor.createdAt(),
-                latestCursor.id(),
+                commentCursor.time(),
+                commentCursor.id(),
                 pageable
         );
 
@@ -173,7 +220,7 @@ public class CommunityService {
         String nextCursor = null;
         if (hasNext && !pageComments.isEmpty()) {
             CommunityComment lastComment = pageComments.get(pageComments.size() - 1);
-            nextCursor = lastComment.getCreatedAt() + "|" + lastComment.getId();
+            nextCursor = TimeIdCursor.toCursorValue(lastComment.getCreatedAt(), lastComment.getId());
         }
 
         return new CommunityUserCommentListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
@@ -188,58 +235,108 @@ public class CommunityService {
         int safeSize = size == null || size < 1 ? 20 : Math.min(size, MAX_PAGE_SIZE);
         Pageable pageable = PageRequest.of(0, safeSize + 1);
 
-        LatestCursor latestCursor = LatestCursor.from(cursor);
-        List<CommunityPostLike> fetchedLikes = communityPostLikeRepository.findLikedPostsByUserIdCursor(
+        TimeIdCursor likeCursor = TimeIdCursor.from(cursor);
+        List<CommunityLikedPostDto> fetchedLikes = communityPostLikeRepository.findLikedPostsByUserIdCursor(
                 userId,
-                latestCursor.createdAt(),
-                latestCursor.id(),
+                likeCursor.time(),
+                likeCursor.id(),
                 pageable
         );
 
         boolean hasNext = fetchedLikes.size() > safeSize;
-        List<CommunityPostLike> pageLikes = hasNext ? fetchedLikes.subList(0, safeSize) : fetchedLikes;
-        List<CommunityPost> pagePosts = pageLikes.stream()
-                .map(CommunityPostLike::getPost)
+        List<CommunityLikedPostDto> pageLikes = hasNext ? fetchedLikes.subList(0, safeSize) : fetchedLikes;
+        List<CommunityPostSummaryDto> items = pageLikes.stream()
+                .map(CommunityLikedPostDto::post)
                 .toList();
 
-        List<CommunityPostSummaryDto> items = toSummaryItems(pagePosts);
-
         String nextCursor = null;
         if (hasNext && !pageLikes.isEmpty()) {
-            CommunityPostLike lastLike = pageLikes.get(pageLikes.size() - 1);
-            nextCursor = lastLike.getCreatedAt() + "|" + lastLike.getId();
+            CommunityLikedPostDto lastLike = pageLikes.get(pageLikes.size() - 1);
+            nextCursor = TimeIdCursor.toCursorValue(lastLike.likedAt(), lastLike.likeId());
         }
 
         return new CommunityPostListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
     }
 
-    @Transactional
-    public CommunityPostDetailResponseDto getPostDetail(Long postId) {
-        CommunityPost post = getPostOrThrow(postId);
-        post.increaseViewCount();
+    // 캐시 적중 시 DB 커넥션을 쓰지 않도록 트랜잭션 없이 조회한다 (미스일 때만 적재 쿼리가 나간다)
+    public CommunityPostDetailResponseDto getPostDetail(Long postId, String viewerKey) {
+        String version = communityContentVersionService.getPostVersion(postId);
+        CommunityPostDetailSnapshot snapshot =
+                communityPostDetailCache.get(postId, version, this::loadPostDetailSnapshot);
+        CommunityPostDisplayCounts counts = communityPostCounterCache.get(postId, version)
+                .orElseThrow(() -> ApplicationException.from(CommunityErrorCase.POST_NOT_FOUND));
+        recordPostView(postId, viewerKey);
 
-        List<String> imageUrls = communityPostImageRepository.findByPostIdOrderBySortOrderAsc(postId).stream()
-                .map(CommunityPostImage::getImageUrl)
-                .toList();
+        return new CommunityPostDetailResponseDto(
+                snapshot.id(),
+                snapshot.category(),
+                snapshot.category().getDisplayName(),
+                snapshot.title(),
+                snapshot.content(),
+                snapshot.createdAt(),
+                calculateDaysAgo(snapshot.createdAt()),
+                counts.viewCount() + communityViewCountBuffer.getPendingCount(postId),
+                counts.uniqueViewCount(),
+                counts.likeCount(),
+                counts.commentCount(),
+                snapshot.author(),
+                snapshot.imageUrls(),
+                snapshot.comments(),
+                snapshot.hasMoreComments(),
+                snapshot.commentsNextCursor(),
+                snapshot.relatedPosts()
+        );
+    }
 
-        List<CommunityComment> comments = communityCommentRepository.findByPostIdOrderByCreatedAtAscIdAsc(postId);
-        List<CommunityCommentDto> commentTree = buildCommentTree(comments);
+    // 304 응답처럼 본문을 다시 보내지 않는 조회도 조회수에는 반영한다
+    // viewerKey는 회원 id 또는 게스트 id로 만든 순 방문자 키 (식별할 수 없으면 null)
+    public void recordPostView(Long postId, String viewerKey) {
+        communityViewCountBuffer.increment(postId);
+        communityUniqueViewCounter.record(postId, viewerKey);
+    }
 
-        return new CommunityPostDetailResponseDto(
-                post.getId(),
-                post.getCategory(),
-                post.getCategory().getDisplayName(),
-                post.getTitle(),
-                post.getContent(),
-                post.getCreatedAt(),
-                calculateDaysAgo(post.getCreatedAt()),
-                post.getViewCount(),
-                post.getLikeCount(),
-                post.getCommentCount(),
-                CommunityPostAuthorDto.from(post.getUser()),
-                imageUrls,
-                commentTree
+    @Transactional(readOnly = true)
+    public CommunityCommentListResponseDto getComments(Long postId, String cursor, Integer size) {
+        getPostOrThrow(postId);
+
+        int safeSize = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        return getRootCommentPage(postId, cursor, safeSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CommunityCommentListResponseDto getReplies(Long postId, Long commentId, String cursor, Integer size) {
+        CommunityComment parentComment = communityCommentRepository.findById(commentId)
+                .orElseThrow(() -> ApplicationException.from(CommunityErrorCase.COMMENT_NOT_FOUND));
+
+        if (!parentComment.getPost().getId().equals(postId) || parentComment.getParentComment() != null) {
+            throw ApplicationException.from(CommunityErrorCase.INVALID_PARENT_COMMENT);
+        }
+
+        int safeSize = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(0, safeSize + 1);
+
+        TimeIdCursor replyCursor = TimeIdCursor.from(cursor);
+        List<CommunityComment> fetchedReplies = communityCommentRepository.findRepliesByParentIdCursor(
+                commentId,
+                replyCursor.time(),
+                replyCursor.id(),
+                pageable
         );
+
+        boolean hasNext = fetchedReplies.size() > safeSize;
+        List<CommunityComment> pageReplies = hasNext ? fetchedReplies.subList(0, safeSize) : fetchedReplies;
+
+        Map<Long, CommunityPostAuthorDto> authors = loadAuthors(pageReplies);
+        List<CommunityCommentDto> items = pageReplies.stream()
+                .map(reply -> toCommentDto(reply, authors, List.of(), 0L, null))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext && !pageReplies.isEmpty()) {
+            nextCursor = toCommentCursor(pageReplies.get(pageReplies.size() - 1));
+        }
+
+        return new CommunityCommentListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
     }
 
     @Transactional
@@ -270,8 +367,10 @@ public class CommunityService {
                         .build()
         );
 
-        post.increaseCommentCount();
+        communityPostCounterService.increaseCommentCount(postId);
+        userCommunityStatsService.recordCommentCreated(userId);
         notificationService.notifyComment(post, user, comment);
+        eventPublisher.publishEvent(CommunityPostEvent.of(postId, CommunityPostEventType.COMMENTED));
 
         return CommunityCommentDto.of(
                 comment.getId(),
@@ -287,19 +386,15 @@ public class CommunityService {
         User user = getUserOrThrow(userId);
         CommunityPost post = getPostOrThrow(postId);
 
-        boolean alreadyLiked = communityPostLikeRepository.existsByPostIdAndUserId(postId, userId);
-        if (!alreadyLiked) {
-            communityPostLikeRepository.save(
-                    CommunityPostLike.builder()
-                            .post(post)
-                            .user(user)
-                            .build()
-            );
-            post.increaseLikeCount();
+        boolean liked = communityPostLikeRepository.insertIfAbsent(postId, userId, LocalDateTime.now()) > 0;
+        if (liked) {
+            communityPostCounterService.increaseLikeCount(postId);
+            userCommunityStatsService.recordLiked(userId, post.getUser().getId());
             notificationService.notifyPostLike(post, user);
+            eventPublisher.publishEvent(CommunityPostEvent.of(postId, CommunityPostEventType.LIKED));
         }
 
-        return new CommunityLikeResponseDto(true, post.getLikeCount());
+        return new CommunityLikeResponseDto(true, communityPostCounterService.getCounts(post).likeCount());
     }
 
     @Transactional
@@ -307,49 +402,138 @@ public class CommunityService {
         getUserOrThrow(userId);
         CommunityPost post = getPostOrThrow(postId);
 
-        communityPostLikeRepository.findByPostIdAndUserId(postId, userId)
-                .ifPresent(like -> {
-                    communityPostLikeRepository.delete(like);
-                    post.decreaseLikeCount();
-                });
+        boolean unliked = communityPostLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0;
+        if (unliked) {
+            communityPostCounterService.decreaseLikeCount(postId);
+            userCommunityStatsService.recordUnliked(userId, post.getUser().getId());
+            eventPublisher.publishEvent(CommunityPostEvent.of(postId, CommunityPostEventType.UNLIKED));
+        }
 
-        return new CommunityLikeResponseDto(false, post.getLikeCount());
+        return new CommunityLikeResponseDto(false, communityPostCounterService.getCounts(post).likeCount());
     }
 
-    private List<CommunityCommentDto> buildCommentTree(List<CommunityComment> comments) {
-        Map<Long, CommunityCommentDto> commentMap = new HashMap<>();
-        List<CommunityCommentDto> roots = new ArrayList<>();
+    // 댓글 한 페이지(오래된 순)와 댓글별 답글 수, 앞쪽 답글을 쿼리 몇 번으로 모아 조립한다.
+    // 작성자는 댓글/답글 전체의 user id를 모아 한 번에 조회한다.
+    private CommunityPostDetailSnapshot loadPostDetailSnapshot(Long postId) {
+        CommunityPost post = communityPostRepository.findWithUserById(postId)
+                .orElseThrow(() -> ApplicationException.from(CommunityErrorCase.POST_NOT_FOUND));
 
-        for (CommunityComment comment : comments) {
-            CommunityCommentDto dto = CommunityCommentDto.of(
-                    comment.getId(),
-                    CommunityPostAuthorDto.from(comment.getUser()),
-                    comment.getContent(),
-                    calculateDaysAgo(comment.getCreatedAt()),
-                    comment.getCreatedAt()
-            );
-            commentMap.put(comment.getId(), dto);
+        List<String> imageUrls = communityPostImageRepository.findByPostIdOrderBySortOrderAsc(postId).stream()
+                .map(CommunityPostImage::getImageUrl)
+                .toList();
+
+        CommunityCommentListResponseDto commentPage = getRootCommentPage(postId, null, DEFAULT_PAGE_SIZE);
+
+        return new CommunityPostDetailSnapshot(
+                post.getId(),
+                post.getCategory(),
+                post.getTitle(),
+                post.getContent(),
+                post.getCreatedAt(),
+                CommunityPostAuthorDto.from(post.getUser()),
+                imageUrls,
+                commentPage.items(),
+                commentPage.hasNext(),
+                commentPage.nextCursor(),
+                communityRelatedPostService.getRelatedPosts(postId)
+        );
+    }
+
+    private CommunityCommentListResponseDto getRootCommentPage(Long postId, String cursor, int safeSize) {
+        TimeIdCursor commentCursor = TimeIdCursor.from(cursor);
+        List<CommunityComment> fetchedComments = communityCommentRepository.findRootCommentsByPostIdCursor(
+                postId,
+                commentCursor.time(),
+                commentCursor.id(),
+                PageRequest.of(0, safeSize + 1)
+        );
+
+        boolean hasNext = fetchedComments.size() > safeSize;
+        List<CommunityComment> pageComments = hasNext ? fetchedComments.subList(0, safeSize) : fetchedComments;
+        if (pageComments.isEmpty()) {
+            return new CommunityCommentListResponseDto(List.of(), cursor, safeSize, false, null);
         }
 
-        for (CommunityComment comment : comments) {
-            CommunityCommentDto dto = commentMap.get(comment.getId());
-            CommunityComment parent = comment.getParentComment();
+        List<Long> commentIds = pageComments.stream().map(CommunityComment::getId).toList();
+        Map<Long, Long> replyCounts = communityCommentRepository.countRepliesByParentCommentIds(commentIds).stream()
+                .collect(Collectors.toMap(
+                        CommunityCommentReplyCountDto::parentCommentId,
+                        CommunityCommentReplyCountDto::replyCount
+                ));
+
+        List<CommunityComment> previewReplies = replyCounts.isEmpty() || previewReplySize < 1
+                ? List.of()
+                : communityCommentRepository.findFirstRepliesByParentCommentIds(replyCounts.keySet(), previewReplySize);
+
+        List<CommunityComment> allComments = new ArrayList<>(pageComments);
+        allComments.addAll(previewReplies);
+        Map<Long, CommunityPostAuthorDto> authors = loadAuthors(allComments);
+
+        Map<Long, List<CommunityComment>> repliesByParentId = previewReplies.stream()
+                .collect(Collectors.groupingBy(
+                        reply -> reply.getParentComment().getId(),
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+
+        List<CommunityCommentDto> items = pageComments.stream()
+                .map(comment -> {
+                    List<CommunityComment> replies = repliesByParentId.getOrDefault(comment.getId(), List.of());
+                    long replyCount = replyCounts.getOrDefault(comment.getId(), 0L);
+                    String repliesNextCursor = replyCount > replies.size() && !replies.isEmpty()
+                            ? toCommentCursor(replies.get(replies.size() - 1))
+                            : null;
+
+                    List<CommunityCommentDto> replyDtos = replies.stream()
+                            .map(reply -> toCommentDto(reply, authors, List.of(), 0L, null))
+                            .toList();
+                    return toCommentDto(comment, authors, replyDtos, replyCount, repliesNextCursor);
+                })
+                .toList();
 
-            if (parent == null) {
-                roots.add(dto);
-                continue;
-            }
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = toCommentCursor(pageComments.get(pageComments.size() - 1));
+        }
 
-            CommunityCommentDto parentDto = commentMap.get(parent.getId());
-            if (parentDto == null) {
-                roots.add(dto);
-                continue;
-            }
+        return new CommunityCommentListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
+    }
 
-            parentDto.replies().add(dto);
+    private Map<Long, CommunityPostAuthorDto> loadAuthors(List<CommunityComment> comments) {
+        Set<Long> userIds = new HashSet<>();
+        for (CommunityComment comment : comments) {
+            userIds.add(comment.getUser().getId());
         }
 
-        return roots;
+        Map<Long, CommunityPostAuthorDto> authors = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            authors.put(user.getId(), CommunityPostAuthorDto.from(user));
+        }
+        return authors;
+    }
+
+    private CommunityCommentDto toCommentDto(
+            CommunityComment comment,
+            Map<Long, CommunityPostAuthorDto> authors,
+            List<CommunityCommentDto> replies,
+            long replyCount,
+            String repliesNextCursor
+    ) {
+        return new CommunityCommentDto(
+                comment.getId(),
+                authors.get(comment.getUser().getId()),
+                comment.getContent(),
+                calculateDaysAgo(comment.getCreatedAt()),
+                comment.getCreatedAt(),
+                replies,
+                replyCount,
+                repliesNextCursor
+        );
+    }
+
+    // 댓글 커서는 오래된 순이지만 포맷은 최신순 커서와 같은 createdAt|id 이다
+    private String toCommentCursor(CommunityComment comment) {
+        return TimeIdCursor.toCursorValue(comment.getCreatedAt(), comment.getId());
     }
 
     private User getUserOrThrow(Long userId) {
@@ -362,62 +546,7 @@ public class CommunityService {
                 .orElseThrow(() -> ApplicationException.from(CommunityErrorCase.POST_NOT_FOUND));
     }
 
-    private List<CommunityPostSummaryDto> toSummaryItems(List<CommunityPost> posts) {
-        return posts.stream()
-                .map(post -> new CommunityPostSummaryDto(
-                        post.getId(),
-                        post.getCategory(),
-                        post.getCategory().getDisplayName(),
-                        post.getTitle(),
-                        createPreview(post.getContent()),
-                        post.getCreatedAt(),
-                        calculateDaysAgo(post.getCreatedAt()),
-                        post.getViewCount(),
-                        post.getLikeCount(),
-                        post.getCommentCount()
-                ))
-                .toList();
-    }
-
     private long calculateDaysAgo(LocalDateTime createdAt) {
         return ChronoUnit.DAYS.between(createdAt.toLocalDate(), LocalDate.now());
     }
-
-    private String createPreview(String content) {
-        if (content == null) {
-            return "";
-        }
-        if (content.length() <= CONTENT_PREVIEW_LENGTH) {
-            return content;
-        }
-        return content.substring(0, CONTENT_PREVIEW_LENGTH) + "...";
-    }
-
-    private record LatestCursor(LocalDateTime createdAt, Long id) {
-        private static LatestCursor from(String cursor) {
-            if (cursor == null || cursor.isBlank()) {
-                return new LatestCursor(null, null);
-            }
-
-            String[] parts = cursor.split("\\|");
-            if (parts.length != 2) {
-                return new LatestCursor(null, null);
-            }
-
-            try {
-                return new LatestCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
-            } catch (RuntimeException e) {
-                return new LatestCursor(null, null);
-            }
-        }
-
-        private static LatestCursor of(CommunityPost post) {
-            return new LatestCursor(post.getCreatedAt(), post.getId());
-        }
-
-        private String toCursorValue() {
-            return createdAt + "|" + id;
-        }
-    }
-
 }
@@ -0,0 +1,66 @@
+package com.wilo.server.community.service.counter;
+
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import com.wilo.server.community.repository.CommunityPostCounterShardRepository;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 상세 조회용 카운터 캐시: 인기 게시글 조회마다 샤드 합산 쿼리가 나가지 않도록 짧은 TTL 동안 재사용한다.
+// 이 노드에서 일어난 좋아요/댓글/삭제는 이벤트로 바로 비우고, 다른 노드의 변경은 게시글 버전이 바뀌면 다시 읽는다.
+@Component
+public class CommunityPostCounterCache {
+
+    private final CommunityPostCounterShardRepository communityPostCounterShardRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, CachedCounts> cachedCounts = new ConcurrentHashMap<>();
+
+    public CommunityPostCounterCache(
+            CommunityPostCounterShardRepository communityPostCounterShardRepository,
+            @Value("${community.post-detail.counter-ttl-ms:1000}") long ttlMillis,
+            @Value("${community.post-detail.max-entries:10000}") int maxEntries
+    ) {
+        this.communityPostCounterShardRepository = communityPostCounterShardRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public Optional<CommunityPostDisplayCounts> get(Long postId, String version) {
+        long now = System.currentTimeMillis();
+        CachedCounts cached = cachedCounts.get(postId);
+        if (cached != null && cached.version().equals(version) && cached.expiresAtMillis() > now) {
+            return Optional.of(cached.counts());
+        }
+
+        Optional<CommunityPostDisplayCounts> counts = communityPostCounterShardRepository.findDisplayCountsByPostId(postId);
+        if (counts.isEmpty()) {
+            cachedCounts.remove(postId);
+            return counts;
+        }
+        if (cachedCounts.size() >= maxEntries) {
+            cachedCounts.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        }
+        cachedCounts.put(postId, new CachedCounts(version, counts.get(), now + ttlMillis));
+        return counts;
+    }
+
+    // 조회수 버퍼가 DB에 반영된 직후 호출된다 (버퍼에서 빠진 조회수가 캐시된 DB 값에도 없어 잠시 줄어 보이지 않도록)
+    public void evict(Collection<Long> postIds) {
+        postIds.forEach(cachedCounts::remove);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostEvent(CommunityPostEvent event) {
+        if (event.type() != CommunityPostEventType.CREATED) {
+            cachedCounts.remove(event.postId());
+        }
+    }
+
+    private record CachedCounts(String version, CommunityPostDisplayCounts counts, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.wilo.server.community.service.counter;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityPostCounterCompactor {
+
+    private static final int COMPACTION_BATCH_SIZE = 200;
+
+    private final CommunityPostCounterService communityPostCounterService;
+
+    @Scheduled(fixedDelayString = "${community.counter.compaction-interval-ms:10000}")
+    public void compactPendingCounters() {
+        List<Long> postIds = communityPostCounterService.findPostIdsToCompact(COMPACTION_BATCH_SIZE);
+
+        for (Long postId : postIds) {
+            try {
+                communityPostCounterService.compact(postId);
+            } catch (RuntimeException e) {
+                log.warn("카운터 압축 실패 postId={}", postId, e);
+            }
+        }
+    }
+}
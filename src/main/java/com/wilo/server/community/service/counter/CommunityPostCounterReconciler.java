@@ -0,0 +1,105 @@
+package com.wilo.server.community.service.counter;
+
+import com.wilo.server.community.repository.CommunityPostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 좋아요/댓글 수 야간 보정: community_posts를 id 구간 단위로 훑으며 실제 행 수와 다른 게시글만 고친다.
+// 구간 처리 시간을 DB 부하 신호로 삼아, 목표보다 느리면 구간을 절반으로 줄이고 빠르면 조금씩 늘린다.
+// 구간마다 걸린 시간에 비례해 쉬므로 DB를 점유하는 비율도 제한된다. 쉬는 동안 다른 주기 작업이 멈추지 않도록
+// 스케줄러 스레드가 아닌 maintenanceExecutor에서 실행한다.
+@Slf4j
+@Component
+public class CommunityPostCounterReconciler {
+
+    private final CommunityPostRepository communityPostRepository;
+    private final CommunityPostCounterService communityPostCounterService;
+    private final int initialChunkSize;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetChunkMillis;
+    private final double pauseRatio;
+    private final Counter correctedPosts;
+
+    public CommunityPostCounterReconciler(
+            CommunityPostRepository communityPostRepository,
+            CommunityPostCounterService communityPostCounterService,
+            MeterRegistry meterRegistry,
+            @Value("${community.counter.reconcile.initial-chunk-size:1000}") int initialChunkSize,
+            @Value("${community.counter.reconcile.min-chunk-size:100}") int minChunkSize,
+            @Value("${community.counter.reconcile.max-chunk-size:10000}") int maxChunkSize,
+            @Value("${community.counter.reconcile.target-chunk-ms:200}") long targetChunkMillis,
+            @Value("${community.counter.reconcile.pause-ratio:1.0}") double pauseRatio
+    ) {
+        this.communityPostRepository = communityPostRepository;
+        this.communityPostCounterService = communityPostCounterService;
+        this.initialChunkSize = initialChunkSize;
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetChunkMillis = targetChunkMillis;
+        this.pauseRatio = pauseRatio;
+        this.correctedPosts = meterRegistry.counter("community.counter.reconcile.corrected");
+    }
+
+    @Async("maintenanceExecutor")
+    @Scheduled(cron = "${community.counter.reconcile-cron:0 30 3 * * *}")
+    public void reconcileNightly() {
+        reconcileAll();
+    }
+
+    // 고친 게시글 수를 반환한다
+    public int reconcileAll() {
+        Long maxId = communityPostRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int chunkSize = Math.clamp(initialChunkSize, minChunkSize, maxChunkSize);
+        int corrected = 0;
+        long fromId = 0L;
+        while (fromId <= maxId) {
+            long toId = fromId + chunkSize;
+            long chunkStartedAt = System.nanoTime();
+            try {
+                corrected += communityPostCounterService.reconcileRange(fromId, toId).size();
+            } catch (RuntimeException e) {
+                log.warn("카운터 보정 실패, 다음 구간으로 넘어갑니다. range=[{}, {})", fromId, toId, e);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStartedAt);
+
+            chunkSize = elapsedMillis > targetChunkMillis
+                    ? Math.max(minChunkSize, chunkSize / 2)
+                    : Math.min(maxChunkSize, chunkSize + Math.max(chunkSize / 4, 1));
+            fromId = toId;
+            if (!pause((long) (elapsedMillis * pauseRatio))) {
+                log.info("카운터 보정이 중단되었습니다. nextFromId={}", fromId);
+                break;
+            }
+        }
+
+        correctedPosts.increment(corrected);
+        log.info("카운터 보정 완료. maxId={}, corrected={}, elapsedMs={}",
+                maxId, corrected, System.currentTimeMillis() - startedAt);
+        return corrected;
+    }
+
+    private boolean pause(long millis) {
+        if (millis <= 0L) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
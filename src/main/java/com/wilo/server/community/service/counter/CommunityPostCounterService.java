@@ -0,0 +1,146 @@
+package com.wilo.server.community.service.counter;
+
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.entity.post.CommunityPostCounterShard;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import com.wilo.server.community.repository.CommunityCommentRepository;
+import com.wilo.server.community.repository.CommunityPostCounterShardRepository;
+import com.wilo.server.community.repository.CommunityPostLikeRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 좋아요/댓글 수 카운터: 증감은 N개 샤드 행에 원자적으로 누적하고, 읽을 때 게시글 컬럼과 합산한다.
+@Service
+@RequiredArgsConstructor
+public class CommunityPostCounterService {
+
+    private final CommunityPostCounterShardRepository communityPostCounterShardRepository;
+    private final CommunityPostRepository communityPostRepository;
+    private final CommunityPostLikeRepository communityPostLikeRepository;
+    private final CommunityCommentRepository communityCommentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${community.counter.shard-count:8}")
+    private int shardCount;
+
+    @Transactional
+    public void increaseLikeCount(Long postId) {
+        addDelta(postId, 1L, 0L);
+    }
+
+    @Transactional
+    public void decreaseLikeCount(Long postId) {
+        addDelta(postId, -1L, 0L);
+    }
+
+    @Transactional
+    public void increaseCommentCount(Long postId) {
+        addDelta(postId, 0L, 1L);
+    }
+
+    @Transactional
+    public void decreaseCommentCount(Long postId) {
+        addDelta(postId, 0L, -1L);
+    }
+
+    @Transactional(readOnly = true)
+    public CommunityPostCounts getCounts(CommunityPost post) {
+        CommunityPostCounts pending = communityPostCounterShardRepository.sumDeltasByPostId(post.getId());
+        return pending.plus(post.getLikeCount(), post.getCommentCount());
+    }
+
+    // 여러 게시글의 카운터를 샤드 합산 쿼리 한 번으로 구한다 (랭킹 재구축 등 일괄 처리용)
+    @Transactional(readOnly = true)
+    public Map<Long, CommunityPostCounts> getCounts(List<CommunityPost> posts) {
+        if (posts.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, CommunityPostCounterTally> pending = communityPostCounterShardRepository
+                .sumDeltasByPostIds(posts.stream().map(CommunityPost::getId).toList()).stream()
+                .collect(Collectors.toMap(CommunityPostCounterTally::postId, tally -> tally));
+
+        Map<Long, CommunityPostCounts> counts = new HashMap<>();
+        for (CommunityPost post : posts) {
+            CommunityPostCounterTally tally = pending.get(post.getId());
+            CommunityPostCounts stored = new CommunityPostCounts(post.getLikeCount(), post.getCommentCount());
+            counts.put(post.getId(), tally == null ? stored : stored.plus(tally.likeCount(), tally.commentCount()));
+        }
+        return counts;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findPostIdsToCompact(int limit) {
+        return communityPostCounterShardRepository.findPostIdsWithPendingDeltas(PageRequest.of(0, limit));
+    }
+
+    // 샤드 증분을 게시글 행으로 옮긴다. 옮긴 양만큼만 차감하므로 동시 증감이 있어도 합계는 보존된다.
+    @Transactional
+    public void compact(Long postId) {
+        List<CommunityPostCounterShard> shards = communityPostCounterShardRepository.findByPostId(postId);
+
+        long likeDelta = 0L;
+        long commentDelta = 0L;
+        for (CommunityPostCounterShard shard : shards) {
+            likeDelta += shard.getLikeCount();
+            commentDelta += shard.getCommentCount();
+        }
+
+        if (likeDelta != 0L || commentDelta != 0L) {
+            communityPostRepository.addCounterDeltas(postId, likeDelta, commentDelta);
+        }
+
+        for (CommunityPostCounterShard shard : shards) {
+            if (shard.getLikeCount() != 0L || shard.getCommentCount() != 0L) {
+                communityPostCounterShardRepository.subtractDelta(shard.getId(), shard.getLikeCount(), shard.getCommentCount());
+            }
+        }
+    }
+
+    // id 구간 [fromId, toId)의 게시글을 다시 세어 저장된 값(컬럼 + 샤드 증분)과 다른 만큼 샤드에 보정 증분을 넣는다.
+    // 실제 행 수와 저장된 값을 한 스냅샷에서 읽으므로, 그사이 들어온 증감이나 압축과 겹쳐도 보정량이 정확하다.
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public List<Long> reconcileRange(long fromId, long toId) {
+        List<CommunityPostCounterTally> stored = communityPostCounterShardRepository.findStoredCountsInRange(fromId, toId);
+        if (stored.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> likeCounts = toMap(communityPostLikeRepository.countByPostIdRange(fromId, toId));
+        Map<Long, Long> commentCounts = toMap(communityCommentRepository.countByPostIdRange(fromId, toId));
+
+        List<Long> correctedPostIds = new ArrayList<>();
+        for (CommunityPostCounterTally tally : stored) {
+            long likeDelta = likeCounts.getOrDefault(tally.postId(), 0L) - tally.likeCount();
+            long commentDelta = commentCounts.getOrDefault(tally.postId(), 0L) - tally.commentCount();
+            if (likeDelta != 0L || commentDelta != 0L) {
+                addDelta(tally.postId(), likeDelta, commentDelta);
+                correctedPostIds.add(tally.postId());
+                eventPublisher.publishEvent(CommunityPostEvent.of(tally.postId(), CommunityPostEventType.RECOUNTED));
+            }
+        }
+        return correctedPostIds;
+    }
+
+    private static Map<Long, Long> toMap(List<CommunityPostRowCount> counts) {
+        return counts.stream().collect(Collectors.toMap(CommunityPostRowCount::postId, CommunityPostRowCount::count));
+    }
+
+    private void addDelta(Long postId, long likeDelta, long commentDelta) {
+        int shardNo = ThreadLocalRandom.current().nextInt(Math.max(shardCount, 1));
+        communityPostCounterShardRepository.addDelta(postId, shardNo, likeDelta, commentDelta);
+    }
+}
@@ -0,0 +1,8 @@
+package com.wilo.server.community.service.counter;
+
+public record CommunityPostCounterTally(
+        Long postId,
+        long likeCount,
+        long commentCount
+) {
+}
@@ -0,0 +1,10 @@
+package com.wilo.server.community.service.counter;
+
+public record CommunityPostCounts(
+        long likeCount,
+        long commentCount
+) {
+    public CommunityPostCounts plus(long likeDelta, long commentDelta) {
+        return new CommunityPostCounts(likeCount + likeDelta, commentCount + commentDelta);
+    }
+}
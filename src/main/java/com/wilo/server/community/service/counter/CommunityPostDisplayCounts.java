@@ -0,0 +1,10 @@
+package com.wilo.server.community.service.counter;
+
+// 상세 화면에 보여줄 카운터 (조회수는 DB 반영분만, 버퍼에 쌓인 조회수는 포함하지 않는다)
+public record CommunityPostDisplayCounts(
+        long viewCount,
+        long uniqueViewCount,
+        long likeCount,
+        long commentCount
+) {
+}
@@ -0,0 +1,7 @@
+package com.wilo.server.community.service.counter;
+
+public record CommunityPostRowCount(
+        Long postId,
+        Long count
+) {
+}
@@ -0,0 +1,152 @@
+package com.wilo.server.community.service.counter;
+
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import com.wilo.server.community.repository.CommunityPostCounterRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 순 방문자 수: 게시글마다 Redis HyperLogLog(최대 12KB)에 방문자 키(회원 id 또는 게스트 id)를 PFADD 하고,
+// 추정치가 바뀐 게시글만 dirty 집합에 모아 주기적으로 PFCOUNT 값을 unique_view_count 컬럼에 옮긴다.
+// Redis를 쓸 수 없으면 노드 로컬 HyperLogLog로 세고, 컬럼은 GREATEST로만 올려 값이 줄어들지 않게 한다.
+@Slf4j
+@Component
+public class CommunityUniqueViewCounter {
+
+    static final String KEY_PREFIX = "community:post:viewers:";
+    static final String DIRTY_KEY = "community:post:viewers:dirty";
+    private static final int FOLD_BATCH_SIZE = 500;
+    private static final int LOCAL_PRECISION = 12;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CommunityPostCounterRepository communityPostCounterRepository;
+    private final int localMaxPosts;
+    private final ConcurrentHashMap<Long, HyperLogLog> localSketches = new ConcurrentHashMap<>();
+    private final Set<Long> localDirtyPostIds = ConcurrentHashMap.newKeySet();
+
+    public CommunityUniqueViewCounter(
+            RedisTemplate<String, Object> redisTemplate,
+            CommunityPostCounterRepository communityPostCounterRepository,
+            @Value("${community.unique-view.local-max-posts:1000}") int localMaxPosts
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.communityPostCounterRepository = communityPostCounterRepository;
+        this.localMaxPosts = localMaxPosts;
+    }
+
+    public void record(Long postId, String viewerKey) {
+        if (viewerKey == null) {
+            return;
+        }
+
+        try {
+            Long changed = redisTemplate.opsForHyperLogLog().add(KEY_PREFIX + postId, viewerKey);
+            if (changed != null && changed > 0) {
+                redisTemplate.opsForSet().add(DIRTY_KEY, postId);
+            }
+        } catch (RuntimeException e) {
+            log.debug("순 방문자 Redis 기록 실패, 로컬 스케치에 기록합니다. postId={}", postId, e);
+            recordLocal(postId, viewerKey);
+        }
+    }
+
+    // 로컬 스케치의 현재 추정치 (Redis 장애 중에만 쌓인다)
+    public long getLocalEstimate(Long postId) {
+        HyperLogLog sketch = localSketches.get(postId);
+        if (sketch == null) {
+            return 0L;
+        }
+        synchronized (sketch) {
+            return sketch.estimate();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.unique-view.fold-interval-ms:60000}")
+    public void fold() {
+        foldLocal();
+        try {
+            foldRedis();
+        } catch (RuntimeException e) {
+            log.debug("순 방문자 Redis 반영 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostEvent(CommunityPostEvent event) {
+        if (event.type() != CommunityPostEventType.DELETED) {
+            return;
+        }
+        localSketches.remove(event.postId());
+        localDirtyPostIds.remove(event.postId());
+        try {
+            redisTemplate.delete(KEY_PREFIX + event.postId());
+        } catch (RuntimeException e) {
+            log.debug("순 방문자 Redis 키 삭제 실패. postId={}", event.postId(), e);
+        }
+    }
+
+    private void recordLocal(Long postId, String viewerKey) {
+        // 메모리를 제한하기 위해 새 게시글은 상한까지만 로컬로 센다
+        if (localSketches.size() >= localMaxPosts && !localSketches.containsKey(postId)) {
+            return;
+        }
+        HyperLogLog sketch = localSketches.computeIfAbsent(postId, ignored -> new HyperLogLog(LOCAL_PRECISION));
+        boolean changed;
+        synchronized (sketch) {
+            changed = sketch.add(viewerKey);
+        }
+        if (changed) {
+            localDirtyPostIds.add(postId);
+        }
+    }
+
+    private void foldLocal() {
+        Map<Long, Long> estimates = new HashMap<>();
+        for (Long postId : localDirtyPostIds) {
+            if (localDirtyPostIds.remove(postId)) {
+                estimates.put(postId, getLocalEstimate(postId));
+            }
+        }
+        if (estimates.isEmpty()) {
+            return;
+        }
+
+        try {
+            communityPostCounterRepository.raiseUniqueViewCounts(estimates);
+        } catch (RuntimeException e) {
+            log.warn("순 방문자 수 반영 실패, 다음 주기에 재시도합니다. posts={}", estimates.size(), e);
+            localDirtyPostIds.addAll(estimates.keySet());
+        }
+    }
+
+    private void foldRedis() {
+        List<Object> popped;
+        while ((popped = redisTemplate.opsForSet().pop(DIRTY_KEY, FOLD_BATCH_SIZE)) != null && !popped.isEmpty()) {
+            Map<Long, Long> counts = new HashMap<>();
+            for (Object value : popped) {
+                Long postId = ((Number) value).longValue();
+                Long count = redisTemplate.opsForHyperLogLog().size(KEY_PREFIX + postId);
+                counts.put(postId, count == null ? 0L : count);
+            }
+
+            try {
+                communityPostCounterRepository.raiseUniqueViewCounts(counts);
+            } catch (RuntimeException e) {
+                redisTemplate.opsForSet().add(DIRTY_KEY, popped.toArray());
+                throw e;
+            }
+            if (popped.size() < FOLD_BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+}
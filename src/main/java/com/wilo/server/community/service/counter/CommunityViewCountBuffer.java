@@ -0,0 +1,59 @@
+package com.wilo.server.community.service.counter;
+
+import com.wilo.server.community.repository.CommunityPostCounterRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 조회수 write-behind 버퍼: 조회 시 메모리에 누적하고 flush 주기마다 배치 UPDATE로 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityViewCountBuffer {
+
+    private final CommunityPostCounterRepository communityPostCounterRepository;
+    private final CommunityPostCounterCache communityPostCounterCache;
+    private final ConcurrentHashMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        pendingCounts.merge(postId, 1L, Long::sum);
+    }
+
+    public long getPendingCount(Long postId) {
+        return pendingCounts.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${community.view-count.flush-interval-ms:3000}")
+    public void flush() {
+        if (pendingCounts.isEmpty()) {
+            return;
+        }
+
+        // remove는 키 단위로 원자적이라 drain 도중 들어온 증분은 다음 flush로 넘어간다.
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long postId : pendingCounts.keySet()) {
+            Long delta = pendingCounts.remove(postId);
+            if (delta != null && delta > 0) {
+                drained.put(postId, delta);
+            }
+        }
+
+        try {
+            communityPostCounterRepository.addViewCounts(drained);
+            communityPostCounterCache.evict(drained.keySet());
+        } catch (RuntimeException e) {
+            log.warn("조회수 flush 실패, 다음 주기에 재시도합니다. posts={}", drained.size(), e);
+            drained.forEach((postId, delta) -> pendingCounts.merge(postId, delta, Long::sum));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,192 @@
+package com.wilo.server.community.service.detail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시글 상세 read-through 캐시: 로컬 메모리 -> Redis -> DB 순으로 찾는다.
+// 같은 게시글의 동시 미스는 노드마다 한 번만 적재하고(single-flight), 나머지 요청은 그 결과를 기다린다.
+// 항목에는 적재 직전의 게시글 버전을 함께 두어, 다른 노드에서 일어난 변경도 버전이 달라지면 다시 읽는다.
+// 이 노드의 수정/삭제/댓글 이벤트는 로컬과 Redis 항목을 바로 지운다.
+@Slf4j
+@Component
+public class CommunityPostDetailCache {
+
+    static final String KEY_PREFIX = "community:post:detail:";
+    private static final String METRIC_NAME = "community.post.detail.cache";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long localTtlMillis;
+    private final Duration redisTtl;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Long, CachedSnapshot> localSnapshots = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CompletableFuture<CommunityPostDetailSnapshot>> inFlightLoads =
+            new ConcurrentHashMap<>();
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter coalescedHits;
+    private final Counter misses;
+
+    public CommunityPostDetailCache(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${community.post-detail.local-ttl-ms:5000}") long localTtlMillis,
+            @Value("${community.post-detail.redis-ttl-ms:600000}") long redisTtlMillis,
+            @Value("${community.post-detail.max-entries:10000}") int maxEntries
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localTtlMillis = localTtlMillis;
+        this.redisTtl = Duration.ofMillis(redisTtlMillis);
+        this.maxEntries = maxEntries;
+        this.localHits = meterRegistry.counter(METRIC_NAME, "result", "hit_local");
+        this.redisHits = meterRegistry.counter(METRIC_NAME, "result", "hit_redis");
+        this.coalescedHits = meterRegistry.counter(METRIC_NAME, "result", "hit_coalesced");
+        this.misses = meterRegistry.counter(METRIC_NAME, "result", "miss");
+        Gauge.builder(METRIC_NAME + ".hit.ratio", this, CommunityPostDetailCache::hitRatio)
+                .description("게시글 상세 캐시 적중률 (DB 적재 없이 응답한 비율)")
+                .register(meterRegistry);
+    }
+
+    public CommunityPostDetailSnapshot get(
+            Long postId,
+            String version,
+            Function<Long, CommunityPostDetailSnapshot> loader
+    ) {
+        CachedSnapshot cached = localSnapshots.get(postId);
+        if (cached != null && cached.version().equals(version)
+                && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            localHits.increment();
+            return cached.snapshot();
+        }
+
+        CompletableFuture<CommunityPostDetailSnapshot> load = new CompletableFuture<>();
+        CompletableFuture<CommunityPostDetailSnapshot> existing = inFlightLoads.putIfAbsent(postId, load);
+        if (existing != null) {
+            coalescedHits.increment();
+            return await(existing);
+        }
+
+        try {
+            CommunityPostDetailSnapshot snapshot = readRedis(postId)
+                    .filter(entry -> entry.version().equals(version))
+                    .map(CommunityPostDetailCacheEntry::snapshot)
+                    .orElse(null);
+            if (snapshot != null) {
+                redisHits.increment();
+            } else {
+                misses.increment();
+                snapshot = loader.apply(postId);
+                // 적재 도중 무효화됐다면 오래된 내용을 다시 올리지 않는다
+                if (inFlightLoads.get(postId) == load) {
+                    writeRedis(postId, new CommunityPostDetailCacheEntry(version, snapshot));
+                }
+            }
+            if (inFlightLoads.remove(postId, load)) {
+                putLocal(postId, version, snapshot);
+            }
+            load.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            inFlightLoads.remove(postId, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostEvent(CommunityPostEvent event) {
+        // 좋아요 수는 스냅샷에 없으므로 카운터 캐시만 비우면 된다
+        if (event.type() == CommunityPostEventType.UPDATED
+                || event.type() == CommunityPostEventType.DELETED
+                || event.type() == CommunityPostEventType.COMMENTED) {
+            evict(event.postId());
+        }
+    }
+
+    public void evict(Long postId) {
+        inFlightLoads.remove(postId);
+        localSnapshots.remove(postId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + postId);
+        } catch (RuntimeException e) {
+            log.debug("게시글 상세 캐시 Redis 삭제 실패. postId={}", postId, e);
+        }
+    }
+
+    public void evictAll() {
+        localSnapshots.clear();
+    }
+
+    double hitRatio() {
+        double hits = localHits.count() + redisHits.count() + coalescedHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private CommunityPostDetailSnapshot await(CompletableFuture<CommunityPostDetailSnapshot> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void putLocal(Long postId, String version, CommunityPostDetailSnapshot snapshot) {
+        long now = System.currentTimeMillis();
+        if (localSnapshots.size() >= maxEntries) {
+            localSnapshots.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+            // 만료된 항목이 없으면 임의의 항목을 하나 비워 크기를 유지한다
+            Iterator<Long> keys = localSnapshots.keySet().iterator();
+            if (localSnapshots.size() >= maxEntries && keys.hasNext()) {
+                localSnapshots.remove(keys.next());
+            }
+        }
+        localSnapshots.put(postId, new CachedSnapshot(version, snapshot, now + localTtlMillis));
+    }
+
+    private Optional<CommunityPostDetailCacheEntry> readRedis(Long postId) {
+        try {
+            Object value = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value.toString(), CommunityPostDetailCacheEntry.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("게시글 상세 캐시 Redis 조회 실패. postId={}", postId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeRedis(Long postId, CommunityPostDetailCacheEntry entry) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + postId, objectMapper.writeValueAsString(entry), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("게시글 상세 캐시 Redis 저장 실패. postId={}", postId, e);
+        }
+    }
+
+    private record CachedSnapshot(String version, CommunityPostDetailSnapshot snapshot, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.wilo.server.community.service.detail;
+
+// Redis에 저장하는 상세 스냅샷. 적재 시점의 게시글 버전이 현재 버전과 다르면 버린다.
+public record CommunityPostDetailCacheEntry(
+        String version,
+        CommunityPostDetailSnapshot snapshot
+) {
+}
@@ -0,0 +1,28 @@
+package com.wilo.server.community.service.detail;
+
+import com.wilo.server.community.dto.comment.CommunityCommentDto;
+import com.wilo.server.community.dto.comment.CommunityPostAuthorDto;
+import com.wilo.server.community.dto.post.CommunityRelatedPostDto;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 게시글 상세 중 캐시해 두는 부분 (본문, 작성자, 이미지, 첫 댓글 페이지, 관련 글). 카운터는 조회 시점에 덧씌운다.
+public record CommunityPostDetailSnapshot(
+        Long id,
+        CommunityCategory category,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        CommunityPostAuthorDto author,
+        List<String> imageUrls,
+        List<CommunityCommentDto> comments,
+        boolean hasMoreComments,
+        String commentsNextCursor,
+        List<CommunityRelatedPostDto> relatedPosts
+) {
+    // 관련 글이 추가되기 전에 Redis에 저장된 항목은 빈 목록으로 읽는다
+    public CommunityPostDetailSnapshot {
+        relatedPosts = relatedPosts == null ? List.of() : relatedPosts;
+    }
+}
@@ -0,0 +1,297 @@
+package com.wilo.server.community.service.duplicate;
+
+import com.wilo.server.community.error.CommunityErrorCase;
+import com.wilo.server.global.exception.ApplicationException;
+import com.wilo.server.global.transaction.AfterCommit;
+import com.wilo.server.global.transaction.AfterCompletion;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 게시글 작성 직전의 중복/스팸 검사. 최근 글의 SimHash 지문을 밴드 키별로 모아 두고(노드 메모리 + Redis ZSET),
+// 새 글과 밴드가 같은 항목만 해밍 거리로 비교하므로 검사 비용은 글 수와 관계없이 밴드 수 x 버킷 크기로 고정된다.
+// 같은 작성자의 거의 같은 글은 거절하고, 여러 계정에서 같은 글이 몰리면 일정 수부터 거절한다.
+// 검사는 INSERT 전에 하면서 임시 id(음수)로 지문을 바로 예약해, 동시에 들어온 같은 글은 서로를 보고 거절된다.
+// 노드 안에서는 검사와 예약을 한 락으로 묶고, 노드 사이에서는 Redis에 먼저 예약한 뒤 다시 읽어 확인한다
+// (동시에 예약한 둘이 서로를 보면 둘 다 거절될 수는 있어도 둘 다 통과하지는 않는다).
+// 지문은 게시글 트랜잭션이 커밋된 뒤에 게시글 id로 등록하고, 예약은 트랜잭션이 끝나면(롤백 포함) 지운다.
+// 트랜잭션이 끝나지 않고 남은 예약은 짧은 TTL이 지나면 비교하지 않는다.
+// 삭제된 글의 지문은 삭제가 커밋된 뒤 지워서 같은 글을 다시 올릴 수 있게 한다.
+@Slf4j
+@Component
+public class CommunityDuplicatePostGuard {
+
+    static final String KEY_PREFIX = "community:post:simhash:";
+    private static final int MAX_BUCKET_SIZE = 50;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxDistance;
+    private final int burstLimit;
+    private final int minFeatures;
+    private final long pendingTtlMillis;
+    private final ConcurrentHashMap<Long, Deque<Entry>> localBuckets = new ConcurrentHashMap<>();
+    private final Object reservationLock = new Object();
+
+    public CommunityDuplicatePostGuard(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${community.duplicate-post.enabled:true}") boolean enabled,
+            @Value("${community.duplicate-post.window-ms:3600000}") long windowMillis,
+            @Value("${community.duplicate-post.max-distance:6}") int maxDistance,
+            @Value("${community.duplicate-post.burst-limit:3}") int burstLimit,
+            @Value("${community.duplicate-post.min-features:20}") int minFeatures,
+            @Value("${community.duplicate-post.pending-ttl-ms:30000}") long pendingTtlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.maxDistance = Math.min(maxDistance, SimHash.BANDS - 1);
+        this.burstLimit = burstLimit;
+        this.minFeatures = minFeatures;
+        this.pendingTtlMillis = pendingTtlMillis;
+    }
+
+    public void check(Long userId, String title, String content) {
+        Long fingerprint = fingerprintOf(title, content);
+        if (fingerprint == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Entry pending = new Entry(-ThreadLocalRandom.current().nextLong(1L, Long.MAX_VALUE), fingerprint, userId, now);
+        Map<Long, Entry> matches = new HashMap<>();
+        synchronized (reservationLock) {
+            collectLocal(fingerprint, now, matches);
+            verdict(userId, matches);
+            recordLocal(pending);
+        }
+
+        try {
+            recordRedis(pending);
+            collectRedis(fingerprint, now, matches);
+            matches.remove(pending.id());
+            verdict(userId, matches);
+        } catch (ApplicationException e) {
+            release(pending);
+            throw e;
+        }
+        AfterCompletion.run(() -> release(pending));
+    }
+
+    public void register(Long postId, Long userId, String title, String content) {
+        Long fingerprint = fingerprintOf(title, content);
+        if (fingerprint == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            Entry entry = new Entry(postId, fingerprint, userId, System.currentTimeMillis());
+            recordLocal(entry);
+            recordRedis(entry);
+        });
+    }
+
+    public void unregister(Long postId, String title, String content) {
+        Long fingerprint = fingerprintOf(title, content);
+        if (fingerprint == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            removeLocal(postId, fingerprint);
+            removeRedis(postId, fingerprint);
+        });
+    }
+
+    // 시간 창(예약은 예약 TTL)이 지난 항목만 남은 버킷을 비운다
+    @Scheduled(fixedDelayString = "${community.duplicate-post.purge-interval-ms:60000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        for (Long key : localBuckets.keySet()) {
+            localBuckets.computeIfPresent(key, (ignored, bucket) -> {
+                synchronized (bucket) {
+                    bucket.removeIf(entry -> isExpired(entry, now));
+                    return bucket.isEmpty() ? null : bucket;
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        localBuckets.clear();
+    }
+
+    // 검사하지 않는 글(꺼져 있거나 짧은 글)이면 null
+    private Long fingerprintOf(String title, String content) {
+        if (!enabled) {
+            return null;
+        }
+        SimHash.Fingerprint fingerprint = SimHash.fingerprint(title, content);
+        // 짧은 글은 지문이 쉽게 겹치므로 검사하지 않는다
+        return fingerprint.features() < minFeatures ? null : fingerprint.value();
+    }
+
+    private void verdict(Long userId, Map<Long, Entry> matches) {
+        if (matches.values().stream().anyMatch(entry -> entry.userId().equals(userId))) {
+            throw ApplicationException.from(CommunityErrorCase.DUPLICATE_POST);
+        }
+        if (matches.size() >= burstLimit) {
+            throw ApplicationException.from(CommunityErrorCase.SIMILAR_POST_RATE_LIMITED);
+        }
+    }
+
+    private void collectLocal(long fingerprint, long now, Map<Long, Entry> matches) {
+        for (int band = 0; band < SimHash.BANDS; band++) {
+            Deque<Entry> bucket = localBuckets.get(SimHash.bandKey(fingerprint, band));
+            if (bucket == null) {
+                continue;
+            }
+            synchronized (bucket) {
+                for (Entry entry : bucket) {
+                    if (isMatch(entry, fingerprint, now)) {
+                        matches.put(entry.id(), entry);
+                    }
+                }
+            }
+        }
+    }
+
+    // 다른 노드에서 등록된 지문까지 본다. Redis를 쓸 수 없으면 이 노드의 지문만으로 판단한다.
+    private void collectRedis(long fingerprint, long now, Map<Long, Entry> matches) {
+        try {
+            ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+            for (int band = 0; band < SimHash.BANDS; band++) {
+                Set<Object> members = zSet.rangeByScore(redisKey(fingerprint, band), now - windowMillis, Double.MAX_VALUE);
+                if (members == null) {
+                    continue;
+                }
+                for (Object member : members) {
+                    Entry entry = Entry.parse(member.toString());
+                    if (entry != null && isMatch(entry, fingerprint, now)) {
+                        matches.put(entry.id(), entry);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("게시글 지문 Redis 조회 실패, 로컬 지문만 비교합니다.", e);
+        }
+    }
+
+    private void recordLocal(Entry entry) {
+        for (int band = 0; band < SimHash.BANDS; band++) {
+            Deque<Entry> bucket = localBuckets.computeIfAbsent(
+                    SimHash.bandKey(entry.fingerprint(), band), ignored -> new ArrayDeque<>());
+            synchronized (bucket) {
+                bucket.addLast(entry);
+                if (bucket.size() > MAX_BUCKET_SIZE) {
+                    bucket.removeFirst();
+                }
+            }
+        }
+    }
+
+    private void recordRedis(Entry entry) {
+        try {
+            ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+            for (int band = 0; band < SimHash.BANDS; band++) {
+                String key = redisKey(entry.fingerprint(), band);
+                zSet.add(key, entry.toMember(), entry.createdAtMillis());
+                zSet.removeRange(key, 0, -(MAX_BUCKET_SIZE + 1));
+                redisTemplate.expire(key, Duration.ofMillis(windowMillis));
+            }
+        } catch (RuntimeException e) {
+            log.debug("게시글 지문 Redis 등록 실패.", e);
+        }
+    }
+
+    private void release(Entry pending) {
+        removeLocal(pending.id(), pending.fingerprint());
+        try {
+            ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+            for (int band = 0; band < SimHash.BANDS; band++) {
+                zSet.remove(redisKey(pending.fingerprint(), band), pending.toMember());
+            }
+        } catch (RuntimeException e) {
+            log.debug("게시글 지문 예약 Redis 삭제 실패.", e);
+        }
+    }
+
+    private void removeLocal(Long postId, long fingerprint) {
+        for (int band = 0; band < SimHash.BANDS; band++) {
+            localBuckets.computeIfPresent(SimHash.bandKey(fingerprint, band), (ignored, bucket) -> {
+                synchronized (bucket) {
+                    bucket.removeIf(entry -> entry.id() == postId);
+                    return bucket.isEmpty() ? null : bucket;
+                }
+            });
+        }
+    }
+
+    private void removeRedis(Long postId, long fingerprint) {
+        try {
+            ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+            for (int band = 0; band < SimHash.BANDS; band++) {
+                String key = redisKey(fingerprint, band);
+                Set<Object> members = zSet.range(key, 0, -1);
+                if (members == null) {
+                    continue;
+                }
+                for (Object member : members) {
+                    Entry entry = Entry.parse(member.toString());
+                    if (entry != null && entry.id() == postId) {
+                        zSet.remove(key, member);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("게시글 지문 Redis 삭제 실패.", e);
+        }
+    }
+
+    private boolean isMatch(Entry entry, long fingerprint, long now) {
+        return !isExpired(entry, now) && SimHash.distance(entry.fingerprint(), fingerprint) <= maxDistance;
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.createdAtMillis() > (entry.isPending() ? pendingTtlMillis : windowMillis);
+    }
+
+    private static String redisKey(long fingerprint, int band) {
+        return KEY_PREFIX + Long.toHexString(SimHash.bandKey(fingerprint, band));
+    }
+
+    // id가 음수이면 아직 커밋되지 않은 작성의 예약
+    private record Entry(long id, long fingerprint, Long userId, long createdAtMillis) {
+
+        boolean isPending() {
+            return id < 0L;
+        }
+
+        String toMember() {
+            return id + ":" + fingerprint + ":" + userId + ":" + createdAtMillis;
+        }
+
+        static Entry parse(String member) {
+            String[] parts = member.split(":");
+            if (parts.length != 4) {
+                return null;
+            }
+            try {
+                return new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                        Long.parseLong(parts[3]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.wilo.server.community.service.duplicate;
+
+import com.wilo.server.community.service.search.index.NgramTokenizer;
+
+// 64비트 SimHash: 문자 3-gram마다 해시 비트를 +1/-1로 누적해 부호만 남긴다.
+// 비슷한 글일수록 지문의 해밍 거리가 작다(짧은 글은 몇 단어만 바뀌어도 5~6비트). 8비트씩 8개 밴드로 나누면
+// 거리가 7 이하인 두 지문은 적어도 한 밴드가 정확히 같으므로(비둘기집), 밴드 값이 같은 항목만 비교하면 된다.
+public final class SimHash {
+
+    public static final int BANDS = 8;
+    private static final int BAND_BITS = Long.SIZE / BANDS;
+
+    private SimHash() {
+    }
+
+    public record Fingerprint(long value, int features) {
+    }
+
+    public static Fingerprint fingerprint(String title, String content) {
+        long[] shingles = NgramTokenizer.trigrams(title, content);
+        int[] weights = new int[Long.SIZE];
+        for (long shingle : shingles) {
+            long hash = NgramTokenizer.mix(shingle);
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+
+        long value = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                value |= 1L << bit;
+            }
+        }
+        return new Fingerprint(value, shingles.length);
+    }
+
+    // 밴드 번호를 상위 비트에 붙인 밴드 키
+    public static long bandKey(long fingerprint, int band) {
+        long bandValue = (fingerprint >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1);
+        return ((long) band << BAND_BITS) | bandValue;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
@@ -0,0 +1,46 @@
+package com.wilo.server.community.service.ranking;
+
+import com.wilo.server.community.service.version.CommunityContentVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 이벤트 유실/시간 경과로 어긋난 랭킹 ZSET을 주기적으로 DB 기준으로 재구축
+// 전체를 훑는 작업이라 기동 준비(헬스 체크)와 스케줄러 스레드를 막지 않도록 maintenanceExecutor에서 실행한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityPostRankingRebuilder {
+
+    private final CommunityPostRankingService communityPostRankingService;
+    private final CommunityContentVersionService communityContentVersionService;
+
+    @Async("maintenanceExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        try {
+            if (!communityPostRankingService.isReady()) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("추천순 랭킹 초기화 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    @Async("maintenanceExecutor")
+    @Scheduled(cron = "${community.ranking.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        try {
+            int count = communityPostRankingService.rebuild();
+            // 재구축으로 추천순 순서가 바뀌었을 수 있으니 목록 ETag를 바꾼다
+            communityContentVersionService.bumpFeedVersion();
+            log.info("추천순 랭킹 재구축 완료: {}건", count);
+        } catch (RuntimeException e) {
+            log.warn("추천순 랭킹 재구축 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.wilo.server.community.service.ranking;
+
+import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.counter.CommunityPostCounterService;
+import com.wilo.server.community.service.counter.CommunityPostCounts;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 추천순 랭킹: 전체/카테고리별 ZSET에 게시글 점수를 유지하고 id 목록으로 게시글을 조회한다.
+// 이벤트로 갱신한 게시글 id는 DIRTY_KEY에도 모아 두고, 재구축이 임시 키를 rename으로 덮어쓴 뒤 다시 반영한다.
+// (재구축이 먼저 훑은 글의 갱신이 rename으로 사라지지 않게 한다. 재구축마다 비우므로 하루치 id만 남는다)
+// Redis를 쓸 수 없거나 키가 아직 없으면 Optional.empty()를 반환해 호출 측이 DB 정렬로 대체한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommunityPostRankingService {
+
+    static final String GLOBAL_KEY = "community:ranking:global";
+    static final String CATEGORY_KEY_PREFIX = "community:ranking:category:";
+    static final String DIRTY_KEY = "community:ranking:dirty";
+    private static final String REBUILD_SUFFIX = ":rebuilding";
+    private static final String REPLAY_SUFFIX = ":replaying";
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CommunityPostRepository communityPostRepository;
+    private final CommunityPostCounterService communityPostCounterService;
+
+    @Value("${community.ranking.like-weight:4.0}")
+    private double likeWeight;
+
+    @Value("${community.ranking.comment-weight:0.5}")
+    private double commentWeight;
+
+    // 이 시간(초)만큼 늦게 작성된 글은 log10 기준 좋아요 likeWeight 한 단계만큼 가산된다
+    @Value("${community.ranking.decay-seconds:45000}")
+    private long decaySeconds;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostEvent(CommunityPostEvent event) {
+        try {
+            // 반영보다 먼저 기록해야 rename 직전에 반영된 갱신도 재구축 뒤 다시 반영된다
+            redisTemplate.opsForSet().add(DIRTY_KEY, toMember(event.postId()));
+            communityPostRepository.findById(event.postId())
+                    .ifPresentOrElse(
+                            post -> upsert(post, communityPostCounterService.getCounts(post)),
+                            () -> remove(event.postId())
+                    );
+        } catch (RuntimeException e) {
+            log.warn("추천순 랭킹 갱신 실패 postId={}, type={}: {}", event.postId(), event.type(), e.getMessage());
+        }
+    }
+
+    public Optional<List<RankedPost>> findRankedPosts(CommunityCategory category, String cursor, int limit) {
+        String key = keyOf(category);
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                return Optional.empty();
+            }
+            return Optional.of(fetchRankedPosts(key, RankingCursor.from(cursor), limit));
+        } catch (RuntimeException e) {
+            log.warn("추천순 랭킹 조회 실패, DB 정렬로 대체합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(GLOBAL_KEY));
+    }
+
+    // 전체 게시글을 id 순으로 훑어 임시 키에 채운 뒤 rename으로 한 번에 교체하고, 그사이 바뀐 글을 다시 반영한다
+    public int rebuild() {
+        Map<String, Set<ZSetOperations.TypedTuple<Object>>> buffers = new HashMap<>();
+        Set<String> writtenKeys = new HashSet<>();
+        deleteRebuildKeys();
+        redisTemplate.delete(DIRTY_KEY);
+
+        int total = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<CommunityPost> posts = communityPostRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            if (posts.isEmpty()) {
+                break;
+            }
+
+            buffers.clear();
+            Map<Long, CommunityPostCounts> counts = communityPostCounterService.getCounts(posts);
+            for (CommunityPost post : posts) {
+                ZSetOperations.TypedTuple<Object> tuple = ZSetOperations.TypedTuple.of(
+                        toMember(post.getId()), score(post, counts.get(post.getId())));
+                buffers.computeIfAbsent(GLOBAL_KEY + REBUILD_SUFFIX, key -> new HashSet<>()).add(tuple);
+                buffers.computeIfAbsent(keyOf(post.getCategory()) + REBUILD_SUFFIX, key -> new HashSet<>()).add(tuple);
+            }
+            buffers.forEach((key, tuples) -> redisTemplate.opsForZSet().add(key, tuples));
+            writtenKeys.addAll(buffers.keySet());
+
+            total += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+
+        for (String key : allKeys()) {
+            String rebuildKey = key + REBUILD_SUFFIX;
+            if (writtenKeys.contains(rebuildKey)) {
+                redisTemplate.rename(rebuildKey, key);
+            } else {
+                redisTemplate.delete(key);
+            }
+        }
+        replayChangedDuringRebuild();
+        return total;
+    }
+
+    public double score(CommunityPost post, CommunityPostCounts counts) {
+        double engagement = Math.max(counts.likeCount(), 0L) + commentWeight * Math.max(counts.commentCount(), 0L);
+        double recency = (double) post.getCreatedAt().atZone(ZONE_ID).toEpochSecond() / decaySeconds;
+        return likeWeight * Math.log10(1 + engagement) + recency;
+    }
+
+    void upsert(CommunityPost post, CommunityPostCounts counts) {
+        String member = toMember(post.getId());
+        double score = score(post, counts);
+
+        ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+        for (CommunityCategory category : CommunityCategory.values()) {
+            if (category != post.getCategory()) {
+                zSet.remove(keyOf(category), member);
+            }
+        }
+        zSet.add(GLOBAL_KEY, member, score);
+        zSet.add(keyOf(post.getCategory()), member, score);
+    }
+
+    void remove(Long postId) {
+        String member = toMember(postId);
+        ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+        zSet.remove(GLOBAL_KEY, member);
+        for (CommunityCategory category : CommunityCategory.values()) {
+            zSet.remove(keyOf(category), member);
+        }
+    }
+
+    private List<RankedPost> fetchRankedPosts(String key, RankingCursor cursor, int limit) {
+        List<RankedPost> result = new ArrayList<>();
+        RankingCursor current = cursor;
+
+        // 삭제된 게시글이 섞여 페이지가 모자라면 다음 구간을 이어서 읽는다
+        while (result.size() < limit) {
+            List<ZSetOperations.TypedTuple<Object>> entries = fetchEntriesAfter(key, current, limit - result.size());
+            if (entries.isEmpty()) {
+                break;
+            }
+
+            List<Long> postIds = entries.stream().map(entry -> toPostId(entry.getValue())).toList();
+            Map<Long, CommunityPostSummaryDto> postsById = communityPostRepository.findSummariesByIds(postIds).stream()
+                    .collect(Collectors.toMap(CommunityPostSummaryDto::id, Function.identity()));
+
+            List<Long> staleIds = new ArrayList<>();
+            for (ZSetOperations.TypedTuple<Object> entry : entries) {
+                Long postId = toPostId(entry.getValue());
+                CommunityPostSummaryDto post = postsById.get(postId);
+                if (post == null) {
+                    staleIds.add(postId);
+                    continue;
+                }
+                result.add(new RankedPost(post, entry.getScore()));
+            }
+            removeStale(staleIds);
+
+            ZSetOperations.TypedTuple<Object> last = entries.get(entries.size() - 1);
+            current = new RankingCursor(last.getScore(), toPostId(last.getValue()));
+        }
+
+        return result;
+    }
+
+    private List<ZSetOperations.TypedTuple<Object>> fetchEntriesAfter(String key, RankingCursor cursor, int limit) {
+        double max = cursor.isFirstPage() ? Double.POSITIVE_INFINITY : cursor.score();
+        List<ZSetOperations.TypedTuple<Object>> entries = new ArrayList<>();
+        long offset = 0;
+
+        while (entries.size() < limit) {
+            Set<ZSetOperations.TypedTuple<Object>> chunk = redisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, offset, limit);
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+
+            for (ZSetOperations.TypedTuple<Object> entry : chunk) {
+                if (!cursor.isFirstPage() && cursor.isAtOrBefore(entry.getScore(), toPostId(entry.getValue()))) {
+                    continue;
+                }
+                entries.add(entry);
+                if (entries.size() == limit) {
+                    break;
+                }
+            }
+
+            if (chunk.size() < limit) {
+                break;
+            }
+            offset += chunk.size();
+        }
+
+        return entries;
+    }
+
+    private void replayChangedDuringRebuild() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(DIRTY_KEY))) {
+            return;
+        }
+        // 이후 이벤트는 새 DIRTY_KEY에 쌓이고 rename 뒤의 실제 키에 바로 반영된다
+        String replayKey = DIRTY_KEY + REPLAY_SUFFIX;
+        redisTemplate.rename(DIRTY_KEY, replayKey);
+        Set<Object> members = redisTemplate.opsForSet().members(replayKey);
+        redisTemplate.delete(replayKey);
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+
+        Set<Long> postIds = members.stream().map(CommunityPostRankingService::toPostId).collect(Collectors.toSet());
+        List<CommunityPost> posts = communityPostRepository.findAllById(postIds);
+        Map<Long, CommunityPostCounts> counts = communityPostCounterService.getCounts(posts);
+        for (CommunityPost post : posts) {
+            upsert(post, counts.get(post.getId()));
+            postIds.remove(post.getId());
+        }
+        postIds.forEach(this::remove);
+    }
+
+    private void deleteRebuildKeys() {
+        redisTemplate.delete(allKeys().stream().map(key -> key + REBUILD_SUFFIX).toList());
+    }
+
+    private static List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(GLOBAL_KEY);
+        for (CommunityCategory category : CommunityCategory.values()) {
+            keys.add(keyOf(category));
+        }
+        return keys;
+    }
+
+    private void removeStale(Collection<Long> staleIds) {
+        staleIds.forEach(this::remove);
+    }
+
+    static String keyOf(CommunityCategory category) {
+        return category == null ? GLOBAL_KEY : CATEGORY_KEY_PREFIX + category.name();
+    }
+
+    // 같은 score에서 사전순 정렬이 id 순서와 일치하도록 0으로 채운다
+    static String toMember(Long postId) {
+        return String.format("%019d", postId);
+    }
+
+    private static Long toPostId(Object member) {
+        return Long.parseLong(member.toString());
+    }
+}
@@ -0,0 +1,9 @@
+package com.wilo.server.community.service.ranking;
+
+import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
+
+public record RankedPost(
+        CommunityPostSummaryDto post,
+        double score
+) {
+}
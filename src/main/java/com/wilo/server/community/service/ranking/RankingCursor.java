@@ -0,0 +1,37 @@
+package com.wilo.server.community.service.ranking;
+
+import com.wilo.server.global.pagination.KeysetCursor;
+
+// 추천순 랭킹 커서. 포맷: score|id (같은 score는 id 내림차순)
+public record RankingCursor(Double score, Long id) {
+
+    public static RankingCursor from(String cursor) {
+        String[] parts = KeysetCursor.split(cursor, 2);
+        if (parts == null) {
+            return new RankingCursor(null, null);
+        }
+
+        try {
+            return new RankingCursor(Double.parseDouble(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            return new RankingCursor(null, null);
+        }
+    }
+
+    public static RankingCursor of(RankedPost rankedPost) {
+        return new RankingCursor(rankedPost.score(), rankedPost.post().id());
+    }
+
+    public boolean isFirstPage() {
+        return score == null || id == null;
+    }
+
+    // 커서 위치 이전(같은 score에서 id가 같거나 큰) 항목인지
+    public boolean isAtOrBefore(double otherScore, long otherId) {
+        return Double.compare(otherScore, score) == 0 && otherId >= id;
+    }
+
+    public String toCursorValue() {
+        return KeysetCursor.join(score, id);
+    }
+}
@@ -0,0 +1,107 @@
+package com.wilo.server.community.service.related;
+
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import com.wilo.server.community.repository.CommunityPostMinHashRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.detail.CommunityPostDetailCache;
+import com.wilo.server.community.service.version.CommunityContentVersionService;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 관련 글 목록 갱신 시점: 게시글 생성/수정/삭제 커밋 후 비동기로 증분 갱신하고,
+// 삭제로 생긴 빈자리와 밀린 이벤트(큐가 차면 버린다)는 야간 전체 재계산이 채운다.
+// 서명이 하나도 없으면(최초 배포) 기동 시 전체를 한 번 계산한다. 전체 계산은 스케줄러 스레드를 오래 잡지 않도록
+// 증분 갱신과 같은 relatedPostExecutor에서 실행하고, 목록이 바뀐 글은 상세 캐시와 ETag 버전을 함께 갱신한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityRelatedPostIndexer {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final CommunityRelatedPostService communityRelatedPostService;
+    private final CommunityPostRepository communityPostRepository;
+    private final CommunityPostMinHashRepository communityPostMinHashRepository;
+    private final CommunityPostDetailCache communityPostDetailCache;
+    private final CommunityContentVersionService communityContentVersionService;
+
+    @Value("${community.related.enabled:true}")
+    private boolean enabled;
+
+    @Async("relatedPostExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled || communityPostMinHashRepository.count() > 0) {
+            return;
+        }
+
+        try {
+            log.info("관련 글 초기 계산 완료: {}건", rebuildAll());
+        } catch (RuntimeException e) {
+            log.warn("관련 글 초기 계산 실패, 야간 재계산 때 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    @Async("relatedPostExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostEvent(CommunityPostEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (event.type() == CommunityPostEventType.DELETED) {
+                evict(communityRelatedPostService.remove(event.postId()));
+            } else if (event.type() == CommunityPostEventType.CREATED || event.type() == CommunityPostEventType.UPDATED) {
+                evict(communityRelatedPostService.refresh(event.postId()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("관련 글 갱신 실패, 야간 재계산 때 반영됩니다. postId={}", event.postId(), e);
+        }
+    }
+
+    @Async("relatedPostExecutor")
+    @Scheduled(cron = "${community.related.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        log.info("관련 글 재계산 완료: {}건", rebuildAll());
+    }
+
+    // id 순으로 다시 계산하면 뒤의 글이 앞의 글 목록에도 끼어들어 전체가 대칭으로 채워진다
+    public int rebuildAll() {
+        int refreshed = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<CommunityPost> posts = communityPostRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (posts.isEmpty()) {
+                return refreshed;
+            }
+
+            for (CommunityPost post : posts) {
+                evict(communityRelatedPostService.refresh(post));
+            }
+            refreshed += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+    }
+
+    private void evict(Set<Long> postIds) {
+        postIds.forEach(communityPostDetailCache::evict);
+        communityContentVersionService.bumpPostVersions(postIds);
+    }
+}
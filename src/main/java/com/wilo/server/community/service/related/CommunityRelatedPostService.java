@@ -0,0 +1,175 @@
+package com.wilo.server.community.service.related;
+
+import com.wilo.server.community.dto.post.CommunityRelatedPostDto;
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.entity.post.CommunityPostMinHash;
+import com.wilo.server.community.entity.post.CommunityPostMinHashBand;
+import com.wilo.server.community.entity.post.CommunityRelatedPost;
+import com.wilo.server.community.repository.CommunityPostMinHashBandRepository;
+import com.wilo.server.community.repository.CommunityPostMinHashRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.repository.CommunityRelatedPostRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 관련 글 추천: 게시글이 작성/수정될 때 MinHash 서명과 LSH 버킷을 저장하고,
+// 같은 카테고리에서 버킷을 공유하는 글만 서명을 비교해 상위 N개를 community_related_posts에 둔다.
+// 새 글은 이웃 글의 목록에도 (더 유사하면) 끼워 넣는다. 상세 조회는 저장된 목록을 읽기만 한다.
+@Service
+public class CommunityRelatedPostService {
+
+    private final CommunityPostRepository communityPostRepository;
+    private final CommunityPostMinHashRepository communityPostMinHashRepository;
+    private final CommunityPostMinHashBandRepository communityPostMinHashBandRepository;
+    private final CommunityRelatedPostRepository communityRelatedPostRepository;
+    private final int maxNeighbors;
+    private final int maxCandidates;
+    private final double minSimilarity;
+    private final int displaySize;
+
+    public CommunityRelatedPostService(
+            CommunityPostRepository communityPostRepository,
+            CommunityPostMinHashRepository communityPostMinHashRepository,
+            CommunityPostMinHashBandRepository communityPostMinHashBandRepository,
+            CommunityRelatedPostRepository communityRelatedPostRepository,
+            @Value("${community.related.max-neighbors:10}") int maxNeighbors,
+            @Value("${community.related.max-candidates:200}") int maxCandidates,
+            @Value("${community.related.min-similarity:0.2}") double minSimilarity,
+            @Value("${community.related.display-size:5}") int displaySize
+    ) {
+        this.communityPostRepository = communityPostRepository;
+        this.communityPostMinHashRepository = communityPostMinHashRepository;
+        this.communityPostMinHashBandRepository = communityPostMinHashBandRepository;
+        this.communityRelatedPostRepository = communityRelatedPostRepository;
+        this.maxNeighbors = maxNeighbors;
+        this.maxCandidates = maxCandidates;
+        this.minSimilarity = minSimilarity;
+        this.displaySize = displaySize;
+    }
+
+    @Transactional(readOnly = true)
+    public List<CommunityRelatedPostDto> getRelatedPosts(Long postId) {
+        return communityRelatedPostRepository.findRelatedPosts(postId, PageRequest.of(0, displaySize));
+    }
+
+    // 관련 글 목록이 실제로 바뀐 게시글 id를 반환한다 (상세 캐시/ETag 무효화용)
+    @Transactional
+    public Set<Long> refresh(Long postId) {
+        return communityPostRepository.findById(postId)
+                .map(this::refresh)
+                .orElseGet(() -> remove(postId));
+    }
+
+    @Transactional
+    public Set<Long> refresh(CommunityPost post) {
+        Long postId = post.getId();
+        int[] signature = MinHash.signature(post.getTitle(), post.getContent());
+        if (signature == null) {
+            return remove(postId);
+        }
+
+        // 카테고리나 본문이 바뀌었을 수 있으니 이 글이 들어 있던 목록에서 먼저 뺀다
+        Map<Long, Set<Long>> before = snapshot(postId);
+        Set<Long> touched = new HashSet<>(before.keySet());
+        clear(postId);
+        communityPostMinHashRepository.findById(postId).ifPresentOrElse(
+                minHash -> minHash.update(post.getCategory(), MinHash.toBytes(signature)),
+                () -> communityPostMinHashRepository.save(
+                        new CommunityPostMinHash(postId, post.getCategory(), MinHash.toBytes(signature)))
+        );
+
+        List<Long> buckets = Arrays.stream(MinHash.bandBuckets(signature)).boxed().toList();
+        communityPostMinHashBandRepository.saveAll(buckets.stream()
+                .map(bucket -> new CommunityPostMinHashBand(postId, post.getCategory(), bucket))
+                .toList());
+
+        List<Long> candidateIds = communityPostMinHashBandRepository.findCandidatePostIds(
+                post.getCategory(), buckets, postId, PageRequest.of(0, maxCandidates));
+        List<CommunityRelatedPost> neighbors = new ArrayList<>();
+        for (CommunityPostMinHash candidate : communityPostMinHashRepository.findAllById(candidateIds)) {
+            double similarity = MinHash.similarity(signature, MinHash.fromBytes(candidate.getSignature()));
+            if (similarity >= minSimilarity) {
+                neighbors.add(new CommunityRelatedPost(postId, candidate.getPostId(), similarity));
+            }
+        }
+        neighbors.sort(Comparator.comparing(CommunityRelatedPost::getSimilarity).reversed()
+                .thenComparing(CommunityRelatedPost::getRelatedPostId, Comparator.reverseOrder()));
+        List<CommunityRelatedPost> topNeighbors = neighbors.subList(0, Math.min(maxNeighbors, neighbors.size()));
+        communityRelatedPostRepository.saveAll(topNeighbors);
+
+        for (CommunityRelatedPost neighbor : topNeighbors) {
+            if (offer(neighbor.getRelatedPostId(), postId, neighbor.getSimilarity())) {
+                touched.add(neighbor.getRelatedPostId());
+            }
+        }
+        return changedOnly(touched, before);
+    }
+
+    // 삭제된 글을 이웃으로 두던 목록은 빈자리를 다음 재계산 때 채운다
+    @Transactional
+    public Set<Long> remove(Long postId) {
+        Map<Long, Set<Long>> before = snapshot(postId);
+        clear(postId);
+        communityPostMinHashRepository.deleteById(postId);
+        return changedOnly(before.keySet(), before);
+    }
+
+    private void clear(Long postId) {
+        communityRelatedPostRepository.deleteByRelatedPostId(postId);
+        communityRelatedPostRepository.deleteByPostId(postId);
+        communityPostMinHashBandRepository.deleteByPostId(postId);
+    }
+
+    // 이 글의 목록과 이 글이 들어 있는 목록들의 현재 구성
+    private Map<Long, Set<Long>> snapshot(Long postId) {
+        Map<Long, Set<Long>> lists = new HashMap<>();
+        lists.put(postId, relatedIdsOf(postId));
+        for (Long ownerId : communityRelatedPostRepository.findPostIdsByRelatedPostId(postId)) {
+            lists.put(ownerId, relatedIdsOf(ownerId));
+        }
+        return lists;
+    }
+
+    // 다시 계산해도 구성이 같은 목록은 빼서 야간 재계산이 모든 글의 ETag를 바꾸지 않게 한다
+    private Set<Long> changedOnly(Set<Long> touched, Map<Long, Set<Long>> before) {
+        Set<Long> changed = new HashSet<>();
+        for (Long ownerId : touched) {
+            Set<Long> previous = before.get(ownerId);
+            if (previous == null || !previous.equals(relatedIdsOf(ownerId))) {
+                changed.add(ownerId);
+            }
+        }
+        return changed;
+    }
+
+    private Set<Long> relatedIdsOf(Long ownerPostId) {
+        return communityRelatedPostRepository.findByPostIdOrderBySimilarityDesc(ownerPostId).stream()
+                .map(CommunityRelatedPost::getRelatedPostId)
+                .collect(Collectors.toSet());
+    }
+
+    // 이웃 글의 목록이 덜 찼거나 가장 덜 유사한 항목보다 유사하면 끼워 넣고 상위 N개로 자른다
+    private boolean offer(Long ownerPostId, Long postId, double similarity) {
+        List<CommunityRelatedPost> current = communityRelatedPostRepository.findByPostIdOrderBySimilarityDesc(ownerPostId);
+        if (current.size() >= maxNeighbors && current.get(maxNeighbors - 1).getSimilarity() >= similarity) {
+            return false;
+        }
+
+        communityRelatedPostRepository.save(new CommunityRelatedPost(ownerPostId, postId, similarity));
+        if (current.size() >= maxNeighbors) {
+            communityRelatedPostRepository.deleteAll(current.subList(maxNeighbors - 1, current.size()));
+        }
+        return true;
+    }
+}
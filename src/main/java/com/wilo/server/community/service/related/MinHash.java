@@ -0,0 +1,97 @@
+package com.wilo.server.community.service.related;
+
+import com.wilo.server.community.service.search.index.NgramTokenizer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// 제목/본문의 문자 3-gram(공백 제외) 집합을 64개 해시 함수의 최솟값으로 요약한 MinHash 서명.
+// 두 서명에서 같은 자리의 값이 일치하는 비율이 자카드 유사도의 추정치가 된다.
+// LSH: 서명을 4개씩 16개 밴드로 나눠 밴드마다 버킷 값을 만들고, 버킷이 하나라도 같은 글만 후보로 본다
+// (유사도 0.5에서 후보가 될 확률 약 0.65, 0.8에서 약 1.0).
+public final class MinHash {
+
+    public static final int NUM_HASHES = 64;
+    public static final int BANDS = 16;
+    public static final int ROWS_PER_BAND = NUM_HASHES / BANDS;
+    public static final int SIGNATURE_BYTES = NUM_HASHES * Integer.BYTES;
+
+    private static final long[] SEEDS = seeds();
+
+    private MinHash() {
+    }
+
+    // 3-gram을 만들 만큼 글자가 없으면 null
+    public static int[] signature(String title, String content) {
+        long[] shingles = shingles(title, content);
+        if (shingles.length == 0) {
+            return null;
+        }
+
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int value = (int) (NgramTokenizer.mix(shingle ^ SEEDS[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // 밴드 번호를 상위 32비트에 넣어 밴드끼리 버킷 값이 겹치지 않게 한다
+    public static long[] bandBuckets(int[] signature) {
+        long[] buckets = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long hash = band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                hash = NgramTokenizer.mix(hash * 31 + signature[band * ROWS_PER_BAND + row]);
+            }
+            buckets[band] = ((long) band << 32) | (hash & 0xffffffffL);
+        }
+        return buckets;
+    }
+
+    public static double similarity(int[] a, int[] b) {
+        int matches = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / NUM_HASHES;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(SIGNATURE_BYTES);
+        for (int value : signature) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[NUM_HASHES];
+        for (int i = 0; i < NUM_HASHES; i++) {
+            signature[i] = buffer.getInt();
+        }
+        return signature;
+    }
+
+    private static long[] shingles(String title, String content) {
+        return Arrays.stream(NgramTokenizer.trigrams(title, content)).sorted().distinct().toArray();
+    }
+
+    // 노드와 재기동에 관계없이 같은 서명이 나오도록 고정된 시드를 쓴다
+    private static long[] seeds() {
+        long[] seeds = new long[NUM_HASHES];
+        long state = 0x5eed_5eed_5eedL;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            state = NgramTokenizer.mix(state);
+            seeds[i] = state;
+        }
+        return seeds;
+    }
+}
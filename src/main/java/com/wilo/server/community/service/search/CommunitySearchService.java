@@ -5,18 +5,29 @@ import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
 import com.wilo.server.community.dto.search.CommunitySearchHistoryItemDto;
 import com.wilo.server.community.dto.search.CommunitySearchHistoryListResponseDto;
 import com.wilo.server.community.entity.post.CommunityCategory;
-import com.wilo.server.community.entity.post.CommunityPost;
 import com.wilo.server.community.entity.post.CommunityPostSortType;
 import com.wilo.server.community.entity.search.CommunitySearchHistory;
 import com.wilo.server.community.error.CommunityErrorCase;
 import com.wilo.server.community.repository.CommunityPostRepository;
 import com.wilo.server.community.repository.CommunitySearchHistoryRepository;
+import com.wilo.server.community.service.ranking.CommunityPostRankingService;
+import com.wilo.server.community.service.ranking.RankedPost;
+import com.wilo.server.community.service.ranking.RankingCursor;
+import com.wilo.server.community.service.search.autocomplete.CommunityAutocompleteService;
+import com.wilo.server.community.service.search.feed.CommunityFeedEntry;
+import com.wilo.server.community.service.search.feed.CommunityPostFeedCache;
+import com.wilo.server.community.service.search.history.CommunitySearchHistoryBuffer;
+import com.wilo.server.community.service.search.index.CommunityPostSearchIndex;
+import com.wilo.server.community.service.search.trending.CommunityTrendingKeywordService;
+import com.wilo.server.community.service.version.CommunityContentVersionService;
 import com.wilo.server.global.exception.ApplicationException;
-import com.wilo.server.user.repository.UserRepository;
-import java.time.LocalDate;
+import com.wilo.server.global.pagination.IdCursor;
+import com.wilo.server.global.pagination.TimeIdCursor;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,13 +39,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommunitySearchService {
 
     private static final int MAX_PAGE_SIZE = 50;
-    private static final int CONTENT_PREVIEW_LENGTH = 120;
+    // 최신순은 후보 id를 이 크기 구간으로 나눠 IN 조회한다
+    private static final int CANDIDATE_WINDOW_SIZE = 1000;
+    // 추천순은 후보 전체를 한 번에 정렬해야 하므로 이보다 많으면 LIKE 조회로 대체한다
+    private static final int MAX_RECOMMENDED_CANDIDATES = 5000;
 
     private final CommunityPostRepository communityPostRepository;
     private final CommunitySearchHistoryRepository communitySearchHistoryRepository;
-    private final UserRepository userRepository;
+    private final CommunitySearchHistoryBuffer communitySearchHistoryBuffer;
+    private final CommunityTrendingKeywordService communityTrendingKeywordService;
+    private final CommunityAutocompleteService communityAutocompleteService;
+    private final CommunityPostRankingService communityPostRankingService;
+    private final CommunityPostSearchIndex communityPostSearchIndex;
+    private final CommunityPostFeedCache communityPostFeedCache;
+    private final CommunityContentVersionService communityContentVersionService;
+
+    // 검색어 없는 목록의 버전 스탬프. 첫 페이지는 미리 계산한 피드가 늦게 갱신될 수 있어 피드 생성 시각도 붙인다.
+    public String getPostListVersion(CommunityCategory category, CommunityPostSortType sort, String cursor) {
+        String feedVersion = communityContentVersionService.getFeedVersion();
+        if ((cursor != null && !cursor.isBlank()) || !communityPostFeedCache.isEnabled()) {
+            return feedVersion;
+        }
+        CommunityPostSortType sortType = sort == null ? CommunityPostSortType.RECOMMENDED : sort;
+        return feedVersion + "-" + Long.toString(communityPostFeedCache.getBuiltAtMillis(category, sortType), 36);
+    }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public CommunityPostListResponseDto getPosts(
             Long requesterUserId,
             CommunityCategory category,
@@ -43,28 +73,63 @@ public class CommunitySearchService {
             String cursor,
             Integer size
     ) {
-        saveSearchKeywordIfNeeded(requesterUserId, keyword);
+        if (keyword != null && !keyword.isBlank()) {
+            LocalDateTime searchedAt = LocalDateTime.now();
+            communitySearchHistoryBuffer.record(requesterUserId, keyword, searchedAt);
+            communityAutocompleteService.recordHistory(requesterUserId, keyword, searchedAt);
+            communityTrendingKeywordService.record(keyword);
+        }
 
         int safeSize = size == null || size < 1 ? 20 : Math.min(size, MAX_PAGE_SIZE);
         CommunityPostSortType sortType = sort == null ? CommunityPostSortType.RECOMMENDED : sort;
         Pageable pageable = PageRequest.of(0, safeSize + 1);
 
-        List<CommunityPost> fetchedPosts = switch (sortType) {
+        // 검색어/커서 없는 첫 페이지는 미리 계산해 둔 피드로 응답한다
+        if ((keyword == null || keyword.isBlank()) && (cursor == null || cursor.isBlank())
+                && communityPostFeedCache.isEnabled()) {
+            List<CommunityFeedEntry> entries = communityPostFeedCache.getFirstPage(
+                    category, sortType, () -> loadFirstPageEntries(category, sortType));
+            return toFeedResponse(entries, cursor, safeSize);
+        }
+
+        // 검색어 없는 추천순은 Redis 랭킹을 우선 사용하고, 준비되지 않았으면 DB 정렬로 대체
+        if (sortType == CommunityPostSortType.RECOMMENDED && (keyword == null || keyword.isBlank())) {
+            Optional<List<RankedPost>> rankedPosts =
+                    communityPostRankingService.findRankedPosts(category, cursor, safeSize + 1);
+            if (rankedPosts.isPresent()) {
+                return toRankedPostListResponse(rankedPosts.get(), cursor, safeSize);
+            }
+        }
+
+        Optional<long[]> candidateIds = communityPostSearchIndex.findCandidateIds(keyword);
+
+        List<CommunityPostSummaryDto> fetchedPosts = switch (sortType) {
             case LATEST -> {
-                LatestCursor latestCursor = LatestCursor.from(cursor);
+                IdCursor idCursor = IdCursor.from(cursor);
+                if (candidateIds.isPresent()) {
+                    yield findLatestPostsByCandidates(category, keyword, candidateIds.get(), idCursor, safeSize + 1);
+                }
                 yield communityPostRepository.findLatestPostsByCursor(
                         category,
                         keyword,
-                        latestCursor.createdAt(),
-                        latestCursor.id(),
+                        null,
+                        idCursor.id(),
                         pageable
                 );
             }
             case RECOMMENDED -> {
                 RecommendedCursor recommendedCursor = RecommendedCursor.from(cursor);
+                List<Long> recommendedCandidateIds = candidateIds
+                        .filter(ids -> ids.length <= MAX_RECOMMENDED_CANDIDATES)
+                        .map(ids -> Arrays.stream(ids).boxed().toList())
+                        .orElse(null);
+                if (recommendedCandidateIds != null && recommendedCandidateIds.isEmpty()) {
+                    yield List.of();
+                }
                 yield communityPostRepository.findRecommendedPostsByCursor(
                         category,
                         keyword,
+                        recommendedCandidateIds,
                         recommendedCursor.likeCount(),
                         recommendedCursor.createdAt(),
                         recommendedCursor.id(),
@@ -74,49 +139,124 @@ public class CommunitySearchService {
         };
 
         boolean hasNext = fetchedPosts.size() > safeSize;
-        List<CommunityPost> pagePosts = hasNext ? fetchedPosts.subList(0, safeSize) : fetchedPosts;
+        List<CommunityPostSummaryDto> items = hasNext ? fetchedPosts.subList(0, safeSize) : fetchedPosts;
+
+        String nextCursor = null;
+        if (hasNext && !items.isEmpty()) {
+            CommunityPostSummaryDto lastPost = items.get(items.size() - 1);
+            nextCursor = switch (sortType) {
+                case LATEST -> IdCursor.toCursorValue(lastPost.id());
+                case RECOMMENDED -> RecommendedCursor.of(lastPost).toCursorValue();
+            };
+        }
+
+        return new CommunityPostListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
+    }
+
+    // 후보 id는 내림차순이고 최신순도 id 내림차순이므로, 앞 구간부터 채우면 순서가 유지된다
+    private List<CommunityPostSummaryDto> findLatestPostsByCandidates(
+            CommunityCategory category,
+            String keyword,
+            long[] candidateIds,
+            IdCursor idCursor,
+            int limit
+    ) {
+        int start = 0;
+        if (idCursor.id() != null) {
+            while (start < candidateIds.length && candidateIds[start] >= idCursor.id()) {
+                start++;
+            }
+        }
+
+        List<CommunityPostSummaryDto> posts = new ArrayList<>();
+        while (start < candidateIds.length && posts.size() < limit) {
+            int end = Math.min(start + CANDIDATE_WINDOW_SIZE, candidateIds.length);
+            posts.addAll(communityPostRepository.findLatestPostsByCursor(
+                    category,
+                    keyword,
+                    Arrays.stream(candidateIds, start, end).boxed().toList(),
+                    idCursor.id(),
+                    PageRequest.of(0, limit - posts.size())
+            ));
+            start = end;
+        }
+        return posts;
+    }
+
+    // 어떤 페이지 크기로 잘라도 다음 커서를 줄 수 있도록 항목마다 커서를 함께 담는다
+    private List<CommunityFeedEntry> loadFirstPageEntries(CommunityCategory category, CommunityPostSortType sortType) {
+        int limit = MAX_PAGE_SIZE + 1;
+        if (sortType == CommunityPostSortType.LATEST) {
+            return communityPostRepository.findLatestPostsByCursor(
+                            category, null, null, null, PageRequest.of(0, limit)).stream()
+                    .map(post -> new CommunityFeedEntry(post, IdCursor.toCursorValue(post.id())))
+                    .toList();
+        }
+
+        Optional<List<RankedPost>> rankedPosts = communityPostRankingService.findRankedPosts(category, null, limit);
+        if (rankedPosts.isPresent()) {
+            return rankedPosts.get().stream()
+                    .map(rankedPost -> new CommunityFeedEntry(
+                            rankedPost.post(), RankingCursor.of(rankedPost).toCursorValue()))
+                    .toList();
+        }
+        return communityPostRepository.findRecommendedPostsByCursor(
+                        category, null, null, null, null, null, PageRequest.of(0, limit)).stream()
+                .map(post -> new CommunityFeedEntry(post, RecommendedCursor.of(post).toCursorValue()))
+                .toList();
+    }
+
+    private CommunityPostListResponseDto toFeedResponse(List<CommunityFeedEntry> entries, String cursor, int safeSize) {
+        boolean hasNext = entries.size() > safeSize;
+        List<CommunityFeedEntry> pageEntries = hasNext ? entries.subList(0, safeSize) : entries;
+
+        List<CommunityPostSummaryDto> items = pageEntries.stream()
+                .map(CommunityFeedEntry::post)
+                .toList();
+        String nextCursor = hasNext && !pageEntries.isEmpty()
+                ? pageEntries.get(pageEntries.size() - 1).cursor()
+                : null;
+
+        return new CommunityPostListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
+    }
+
+    private CommunityPostListResponseDto toRankedPostListResponse(
+            List<RankedPost> fetchedPosts,
+            String cursor,
+            int safeSize
+    ) {
+        boolean hasNext = fetchedPosts.size() > safeSize;
+        List<RankedPost> pagePosts = hasNext ? fetchedPosts.subList(0, safeSize) : fetchedPosts;
 
         List<CommunityPostSummaryDto> items = pagePosts.stream()
-                .map(post -> new CommunityPostSummaryDto(
-                        post.getId(),
-                        post.getCategory(),
-                        post.getCategory().getDisplayName(),
-                        post.getTitle(),
-                        createPreview(post.getContent()),
-                        post.getCreatedAt(),
-                        calculateDaysAgo(post.getCreatedAt()),
-                        post.getViewCount(),
-                        post.getLikeCount(),
-                        post.getCommentCount()
-                ))
+                .map(RankedPost::post)
                 .toList();
 
         String nextCursor = null;
         if (hasNext && !pagePosts.isEmpty()) {
-            CommunityPost lastPost = pagePosts.get(pagePosts.size() - 1);
-            nextCursor = switch (sortType) {
-                case LATEST -> LatestCursor.of(lastPost).toCursorValue();
-                case RECOMMENDED -> RecommendedCursor.of(lastPost).toCursorValue();
-            };
+            nextCursor = RankingCursor.of(pagePosts.get(pagePosts.size() - 1)).toCursorValue();
         }
 
         return new CommunityPostListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
     }
 
-    @Transactional(readOnly = true)
+    // 밀린 검색 기록 flush는 별도(REQUIRES_NEW) 트랜잭션을 쓰므로, 바깥 트랜잭션 없이 먼저 끝내고 조회한다.
+    // 바깥에 읽기 트랜잭션을 잡으면 요청마다 커넥션 두 개를 쥐게 된다 (조회는 리포지토리 기본 읽기 트랜잭션 하나).
     public CommunitySearchHistoryListResponseDto getSearchHistories(
             Long userId,
             String cursor,
             Integer size
     ) {
+        communitySearchHistoryBuffer.flush(userId);
+
         int safeSize = size == null || size < 1 ? 20 : Math.min(size, MAX_PAGE_SIZE);
         Pageable pageable = PageRequest.of(0, safeSize + 1);
 
-        LatestCursor latestCursor = LatestCursor.from(cursor);
+        TimeIdCursor historyCursor = TimeIdCursor.from(cursor);
         List<CommunitySearchHistory> fetchedHistories = communitySearchHistoryRepository.findLatestByUserIdCursor(
                 userId,
-                latestCursor.createdAt(),
-                latestCursor.id(),
+                historyCursor.time(),
+                historyCursor.id(),
                 pageable
         );
 
@@ -136,7 +276,7 @@ public class CommunitySearchService {
         String nextCursor = null;
         if (hasNext && !pageHistories.isEmpty()) {
             CommunitySearchHistory lastHistory = pageHistories.get(pageHistories.size() - 1);
-            nextCursor = lastHistory.getLastSearchedAt() + "|" + lastHistory.getId();
+            nextCursor = TimeIdCursor.toCursorValue(lastHistory.getLastSearchedAt(), lastHistory.getId());
         }
 
         return new CommunitySearchHistoryListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
@@ -151,110 +291,15 @@ public class CommunitySearchService {
             throw ApplicationException.from(CommunityErrorCase.FORBIDDEN_SEARCH_HISTORY_ACCESS);
         }
 
+        communitySearchHistoryBuffer.discard(userId, history.getKeyword());
+        communityAutocompleteService.evictHistory(userId);
         communitySearchHistoryRepository.delete(history);
     }
 
     @Transactional
     public int deleteAllSearchHistories(Long userId) {
+        communitySearchHistoryBuffer.discard(userId);
+        communityAutocompleteService.evictHistory(userId);
         return communitySearchHistoryRepository.deleteByUserId(userId);
     }
-
-    private void saveSearchKeywordIfNeeded(Long userId, String keyword) {
-        if (userId == null || keyword == null || keyword.isBlank()) {
-            return;
-        }
-
-        String normalizedKeyword = keyword.trim();
-        if (normalizedKeyword.isEmpty()) {
-            return;
-        }
-
-        LocalDateTime now = LocalDateTime.now();
-        communitySearchHistoryRepository.findByUserIdAndKeyword(userId, normalizedKeyword)
-                .ifPresentOrElse(
-                        history -> {
-                            history.touch(now);
-                            communitySearchHistoryRepository.save(history);
-                        },
-                        () -> communitySearchHistoryRepository.save(
-                                CommunitySearchHistory.builder()
-                                        .user(userRepository.getReferenceById(userId))
-                                        .keyword(normalizedKeyword)
-                                        .lastSearchedAt(now)
-                                        .build()
-                        )
-                );
-    }
-
-    private long calculateDaysAgo(LocalDateTime createdAt) {
-        return ChronoUnit.DAYS.between(createdAt.toLocalDate(), LocalDate.now());
-    }
-
-    private String createPreview(String content) {
-        if (content == null) {
-            return "";
-        }
-        if (content.length() <= CONTENT_PREVIEW_LENGTH) {
-            return content;
-        }
-        return content.substring(0, CONTENT_PREVIEW_LENGTH) + "...";
-    }
-
-    private record LatestCursor(LocalDateTime createdAt, Long id) {
-        private static LatestCursor from(String cursor) {
-            if (cursor == null || cursor.isBlank()) {
-                return new LatestCursor(null, null);
-            }
-
-            String[] parts = cursor.split("\\|");
-            if (parts.length != 2) {
-                return new LatestCursor(null, null);
-            }
-
-            try {
-                return new LatestCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
-            } catch (RuntimeException e) {
-                return new LatestCursor(null, null);
-            }
-        }
-
-        private static LatestCursor of(CommunityPost post) {
-            return new LatestCursor(post.getCreatedAt(), post.getId());
-        }
-
-        private String toCursorValue() {
-            return createdAt + "|" + id;
-        }
-    }
-
-    private record RecommendedCursor(Long likeCount, LocalDateTime createdAt, Long id) {
-        private static RecommendedCursor from(String cursor) {
-            if (cursor == null || cursor.isBlank()) {
-                return new RecommendedCursor(null, null, null);
-            }
-
-            String[] parts = cursor.split("\\|");
-            if (parts.length != 3) {
-                return new RecommendedCursor(null, null, null);
-            }
-
-            try {
-                return new RecommendedCursor(
-                        Long.parseLong(parts[0]),
-                        LocalDateTime.parse(parts[1]),
-                        Long.parseLong(parts[2])
-                );
-            } catch (RuntimeException e) {
-                return new RecommendedCursor(null, null, null);
-            }
-        }
-
-        private static RecommendedCursor of(CommunityPost post) {
-            return new RecommendedCursor(post.getLikeCount(), post.getCreatedAt(), post.getId());
-        }
-
-        private String toCursorValue() {
-            return likeCount + "|" + createdAt + "|" + id;
-        }
-    }
 }
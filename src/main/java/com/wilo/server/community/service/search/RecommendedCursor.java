@@ -0,0 +1,36 @@
+package com.wilo.server.community.service.search;
+
+import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
+import com.wilo.server.global.pagination.KeysetCursor;
+import java.time.LocalDateTime;
+
+// DB 정렬 추천순 커서. 포맷: likeCount|createdAt|id
+public record RecommendedCursor(Long likeCount, LocalDateTime createdAt, Long id) {
+
+    private static final RecommendedCursor FIRST_PAGE = new RecommendedCursor(null, null, null);
+
+    public static RecommendedCursor from(String cursor) {
+        String[] parts = KeysetCursor.split(cursor, 3);
+        if (parts == null) {
+            return FIRST_PAGE;
+        }
+
+        try {
+            return new RecommendedCursor(
+                    Long.parseLong(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (RuntimeException e) {
+            return FIRST_PAGE;
+        }
+    }
+
+    public static RecommendedCursor of(CommunityPostSummaryDto post) {
+        return new RecommendedCursor(post.likeCount(), post.createdAt(), post.id());
+    }
+
+    public String toCursorValue() {
+        return KeysetCursor.join(likeCount, createdAt, id);
+    }
+}
@@ -0,0 +1,234 @@
+package com.wilo.server.community.service.search.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 압축(radix) 트라이: 간선에 문자열 조각을 두어 노드 수를 줄이고, 노드마다 하위 추천어 상위 topSize개를 캐시한다.
+// 추천어(display)는 여러 키(정규화 제목, 단어 시작 접미사, 초성)로 등록되고 가중치가 높은 순으로 반환된다.
+// 변경 시 해당 키 경로의 캐시만 무효화하고, 다음 조회 때 자식 캐시를 합쳐 다시 계산한다.
+// 변경은 외부에서 직렬화해야 하며, 변경이 없는 동안의 조회는 동시에 해도 안전하다.
+public class AutocompleteTrie {
+
+    private final int topSize;
+    private final Node root = new Node("");
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Comparator<String> byWeight;
+
+    public AutocompleteTrie(int topSize) {
+        this.topSize = topSize;
+        this.byWeight = Comparator.<String>comparingLong(display -> entries.get(display).weight)
+                .reversed()
+                .thenComparing(Comparator.naturalOrder());
+    }
+
+    public void add(String display, Collection<String> keys, long delta) {
+        Entry entry = entries.get(display);
+        if (entry == null) {
+            entry = new Entry(List.copyOf(new LinkedHashSet<>(keys)));
+            entries.put(display, entry);
+            for (String key : entry.keys) {
+                insert(key, display);
+            }
+        } else {
+            entry.keys.forEach(this::invalidatePath);
+        }
+        entry.weight += delta;
+    }
+
+    public void decrement(String display, long delta) {
+        Entry entry = entries.get(display);
+        if (entry == null) {
+            return;
+        }
+        entry.weight -= delta;
+        if (entry.weight <= 0) {
+            remove(display);
+        } else {
+            entry.keys.forEach(this::invalidatePath);
+        }
+    }
+
+    public void remove(String display) {
+        Entry entry = entries.remove(display);
+        if (entry == null) {
+            return;
+        }
+        for (String key : entry.keys) {
+            delete(root, key, display);
+        }
+    }
+
+    public boolean contains(String display) {
+        return entries.containsKey(display);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        Node node = findPrefixNode(prefix);
+        if (node == null) {
+            return List.of();
+        }
+        List<String> top = top(node);
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    // 가중치가 낮은 추천어부터 지워 targetSize개만 남긴다
+    public int prune(int targetSize) {
+        int excess = entries.size() - targetSize;
+        if (excess <= 0) {
+            return 0;
+        }
+        List<String> displays = new ArrayList<>(entries.keySet());
+        displays.sort(byWeight.reversed());
+        for (String display : displays.subList(0, excess)) {
+            remove(display);
+        }
+        return excess;
+    }
+
+    private void insert(String key, String display) {
+        Node node = root;
+        int position = 0;
+        node.top = null;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null) {
+                Node leaf = new Node(key.substring(position));
+                node.children.put(key.charAt(position), leaf);
+                node = leaf;
+                position = key.length();
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지면 공통 조각으로 중간 노드를 만든다
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            child.top = null;
+            node = child;
+            position += common;
+        }
+        node.top = null;
+        node.displays.add(display);
+    }
+
+    private boolean delete(Node node, String key, String display) {
+        node.top = null;
+        if (key.isEmpty()) {
+            node.displays.remove(display);
+            return node.displays.isEmpty() && node.children.isEmpty();
+        }
+
+        Node child = node.children.get(key.charAt(0));
+        if (child == null || !key.startsWith(child.label)) {
+            return false;
+        }
+        if (delete(child, key.substring(child.label.length()), display)) {
+            node.children.remove(key.charAt(0));
+        } else if (child.displays.isEmpty() && child.children.size() == 1) {
+            // 자식이 하나뿐인 빈 노드는 자식과 합쳐 압축 상태를 유지한다
+            Node grandChild = child.children.values().iterator().next();
+            grandChild.label = child.label + grandChild.label;
+            grandChild.top = null;
+            node.children.put(key.charAt(0), grandChild);
+        }
+        return node != root && node.displays.isEmpty() && node.children.isEmpty();
+    }
+
+    private void invalidatePath(String key) {
+        Node node = root;
+        int position = 0;
+        node.top = null;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null || !key.startsWith(child.label, position)) {
+                return;
+            }
+            child.top = null;
+            node = child;
+            position += child.label.length();
+        }
+    }
+
+    private Node findPrefixNode(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(position));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (position + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    private List<String> top(Node node) {
+        List<String> cached = node.top;
+        if (cached != null) {
+            return cached;
+        }
+
+        Set<String> merged = new HashSet<>(node.displays);
+        for (Node child : node.children.values()) {
+            merged.addAll(top(child));
+        }
+        List<String> sorted = new ArrayList<>(merged);
+        sorted.sort(byWeight);
+        List<String> computed = List.copyOf(sorted.size() <= topSize ? sorted : sorted.subList(0, topSize));
+        node.top = computed;
+        return computed;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Set<String> displays = new HashSet<>(2);
+        private volatile List<String> top;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class Entry {
+        private final List<String> keys;
+        private long weight;
+
+        private Entry(List<String> keys) {
+            this.keys = keys;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.wilo.server.community.service.search.autocomplete;
+
+import com.wilo.server.community.dto.post.CommunityPostTitleDto;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 자동완성 제목 트라이 수명주기: 기동 시 게시글 제목 전체 적재, 게시글 생성/수정/삭제 이벤트 반영.
+// 적재 도중 온 이벤트는 적재가 읽은 구간과 순서가 섞이지 않도록 모아 뒀다가 적재가 끝난 뒤 DB를 다시 읽어 반영한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityAutocompleteIndexer {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private final CommunityAutocompleteService communityAutocompleteService;
+    private final CommunityPostRepository communityPostRepository;
+    private final Queue<CommunityPostEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private volatile boolean loaded;
+
+    @Async("searchIndexExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            int count = 0;
+            Long lastId = 0L;
+            while (true) {
+                List<CommunityPostTitleDto> titles = communityPostRepository.findTitlesByIdGreaterThan(
+                        lastId, PageRequest.of(0, CHUNK_SIZE));
+                if (titles.isEmpty()) {
+                    break;
+                }
+
+                titles.forEach(title -> communityAutocompleteService.putTitle(title.id(), title.title()));
+                count += titles.size();
+                lastId = titles.get(titles.size() - 1).id();
+            }
+            log.info("자동완성 제목 적재 완료: 게시글 {}건, 제목 {}개", count, communityAutocompleteService.titleCount());
+        } catch (RuntimeException e) {
+            log.warn("자동완성 제목 적재 실패: {}", e.getMessage());
+        } finally {
+            loaded = true;
+            drainPendingEvents();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostEvent(CommunityPostEvent event) {
+        if (!loaded) {
+            pendingEvents.add(event);
+            // 큐에 넣는 사이 적재가 끝났으면 직접 비운다
+            if (loaded) {
+                drainPendingEvents();
+            }
+            return;
+        }
+        apply(event);
+    }
+
+    private void drainPendingEvents() {
+        CommunityPostEvent event;
+        while ((event = pendingEvents.poll()) != null) {
+            try {
+                apply(event);
+            } catch (RuntimeException e) {
+                log.warn("자동완성 보류 이벤트 반영 실패. postId={}: {}", event.postId(), e.getMessage());
+            }
+        }
+    }
+
+    private void apply(CommunityPostEvent event) {
+        if (event.type() == CommunityPostEventType.DELETED) {
+            communityAutocompleteService.removeTitle(event.postId());
+            return;
+        }
+        if (event.type() == CommunityPostEventType.CREATED || event.type() == CommunityPostEventType.UPDATED) {
+            communityPostRepository.findTitleById(event.postId()).ifPresentOrElse(title -> {
+                if (communityAutocompleteService.wasPruned(title)) {
+                    // 정리됐던 제목은 같은 제목 게시글을 다시 세어 가중치를 맞춘다
+                    communityAutocompleteService.putTitles(title, communityPostRepository.findIdsByTitle(title));
+                } else {
+                    communityAutocompleteService.putTitle(event.postId(), title);
+                }
+            }, () -> communityAutocompleteService.removeTitle(event.postId()));
+        }
+    }
+}
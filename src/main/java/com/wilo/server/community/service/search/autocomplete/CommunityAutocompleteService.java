@@ -0,0 +1,312 @@
+package com.wilo.server.community.service.search.autocomplete;
+
+import com.wilo.server.community.dto.search.CommunityAutocompleteItemDto;
+import com.wilo.server.community.dto.search.CommunityAutocompleteResponseDto;
+import com.wilo.server.community.dto.search.CommunityAutocompleteType;
+import com.wilo.server.community.entity.search.CommunitySearchHistory;
+import com.wilo.server.community.repository.CommunitySearchHistoryRepository;
+import com.wilo.server.community.service.search.history.CommunitySearchHistoryBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+// 검색창 자동완성: 게시글 제목 트라이(전체 공용)와 사용자별 검색 기록 트라이(LRU 캐시)에서 접두어로 추천어를 찾는다.
+// 제목은 같은 제목의 게시글 수를 가중치로, 검색 기록은 마지막 검색 시각을 가중치로 쓴다.
+// 게시글 id -> 제목 표는 트라이에 남은 제목의 게시글만 들고, 제목을 정리할 때 함께 지운다.
+// 정리된 제목은 고정 크기 블룸 필터에 남겨, 다시 들어올 때 같은 제목 게시글을 DB에서 다시 세어 가중치를 맞춘다.
+@Slf4j
+@Service
+public class CommunityAutocompleteService {
+
+    private static final int TOP_SIZE = 20;
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 20;
+    private static final int MAX_KEY_LENGTH = 40;
+    private static final int MAX_WORD_KEYS = 6;
+    private static final int HISTORY_LOAD_SIZE = 50;
+    private static final int PRUNED_FILTER_BITS = 1 << 20;
+    private static final int PRUNED_FILTER_PROBES = 3;
+
+    private final CommunitySearchHistoryRepository communitySearchHistoryRepository;
+    private final CommunitySearchHistoryBuffer communitySearchHistoryBuffer;
+    private final int maxTitles;
+    private final AutocompleteTrie titleTrie = new AutocompleteTrie(TOP_SIZE);
+    private final ReentrantReadWriteLock titleLock = new ReentrantReadWriteLock();
+    // 아래 표와 필터는 titleLock 안에서만 읽고 쓴다
+    private final Map<Long, String> titlesByPostId = new HashMap<>();
+    private final Map<String, Set<Long>> postIdsByTitle = new HashMap<>();
+    private final BitSet prunedTitles = new BitSet(PRUNED_FILTER_BITS);
+    private final Map<Long, AutocompleteTrie> historyTries;
+
+    public CommunityAutocompleteService(
+            CommunitySearchHistoryRepository communitySearchHistoryRepository,
+            CommunitySearchHistoryBuffer communitySearchHistoryBuffer,
+            @Value("${community.autocomplete.max-titles:200000}") int maxTitles,
+            @Value("${community.autocomplete.history-cache-users:10000}") int historyCacheUsers
+    ) {
+        this.communitySearchHistoryRepository = communitySearchHistoryRepository;
+        this.communitySearchHistoryBuffer = communitySearchHistoryBuffer;
+        this.maxTitles = maxTitles;
+        this.historyTries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, AutocompleteTrie> eldest) {
+                return size() > historyCacheUsers;
+            }
+        });
+    }
+
+    public CommunityAutocompleteResponseDto suggest(Long userId, String prefix, Integer size) {
+        int safeSize = size == null || size < 1 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        String key = toQueryKey(prefix);
+        if (key.isEmpty()) {
+            return new CommunityAutocompleteResponseDto(prefix, List.of());
+        }
+
+        Set<String> seen = new LinkedHashSet<>();
+        List<CommunityAutocompleteItemDto> items = new ArrayList<>(safeSize);
+        if (userId != null) {
+            AutocompleteTrie historyTrie = getHistoryTrie(userId);
+            List<String> histories;
+            synchronized (historyTrie) {
+                histories = historyTrie.suggest(key, safeSize);
+            }
+            for (String keyword : histories) {
+                if (seen.add(keyword)) {
+                    items.add(new CommunityAutocompleteItemDto(keyword, CommunityAutocompleteType.HISTORY));
+                }
+            }
+        }
+
+        List<String> titles;
+        titleLock.readLock().lock();
+        try {
+            titles = titleTrie.suggest(key, safeSize);
+        } finally {
+            titleLock.readLock().unlock();
+        }
+        for (String title : titles) {
+            if (items.size() >= safeSize) {
+                break;
+            }
+            if (seen.add(title)) {
+                items.add(new CommunityAutocompleteItemDto(title, CommunityAutocompleteType.POST_TITLE));
+            }
+        }
+
+        return new CommunityAutocompleteResponseDto(prefix, items);
+    }
+
+    public void putTitle(Long postId, String title) {
+        titleLock.writeLock().lock();
+        try {
+            attach(postId, title == null ? "" : title.trim());
+            pruneIfNeeded();
+        } finally {
+            titleLock.writeLock().unlock();
+        }
+    }
+
+    // 같은 제목의 게시글을 한 번에 넣는다 (정리됐던 제목을 DB에서 다시 센 경우)
+    public void putTitles(String title, Collection<Long> postIds) {
+        String display = title == null ? "" : title.trim();
+        titleLock.writeLock().lock();
+        try {
+            postIds.forEach(postId -> attach(postId, display));
+            pruneIfNeeded();
+        } finally {
+            titleLock.writeLock().unlock();
+        }
+    }
+
+    // 트라이에 없고 예전에 정리됐을 수 있는 제목인지 (블룸 필터라 가끔 아닌데도 true)
+    public boolean wasPruned(String title) {
+        String display = title == null ? "" : title.trim();
+        titleLock.readLock().lock();
+        try {
+            return !display.isEmpty() && !titleTrie.contains(display) && mightBePruned(display);
+        } finally {
+            titleLock.readLock().unlock();
+        }
+    }
+
+    public void removeTitle(Long postId) {
+        titleLock.writeLock().lock();
+        try {
+            detach(postId);
+        } finally {
+            titleLock.writeLock().unlock();
+        }
+    }
+
+    public int titleCount() {
+        titleLock.readLock().lock();
+        try {
+            return titleTrie.size();
+        } finally {
+            titleLock.readLock().unlock();
+        }
+    }
+
+    // 이미 캐시된 사용자만 갱신한다. 캐시에 없으면 다음 자동완성 때 DB에서 읽는다.
+    public void recordHistory(Long userId, String keyword, LocalDateTime searchedAt) {
+        if (userId == null || keyword == null || keyword.isBlank()) {
+            return;
+        }
+        AutocompleteTrie historyTrie = historyTries.get(userId);
+        if (historyTrie == null) {
+            return;
+        }
+        synchronized (historyTrie) {
+            putHistory(historyTrie, keyword.trim(), searchedAt);
+        }
+    }
+
+    public void evictHistory(Long userId) {
+        historyTries.remove(userId);
+    }
+
+    private AutocompleteTrie getHistoryTrie(Long userId) {
+        AutocompleteTrie cached = historyTries.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 버퍼에 남은 검색까지 보이도록 먼저 반영한 뒤 최근 기록을 읽는다
+        communitySearchHistoryBuffer.flush(userId);
+        List<CommunitySearchHistory> histories = communitySearchHistoryRepository.findLatestByUserIdCursor(
+                userId, null, null, PageRequest.of(0, HISTORY_LOAD_SIZE));
+        AutocompleteTrie historyTrie = new AutocompleteTrie(TOP_SIZE);
+        for (CommunitySearchHistory history : histories) {
+            putHistory(historyTrie, history.getKeyword(), history.getLastSearchedAt());
+        }
+        AutocompleteTrie existing = historyTries.putIfAbsent(userId, historyTrie);
+        return existing == null ? historyTrie : existing;
+    }
+
+    private void putHistory(AutocompleteTrie historyTrie, String keyword, LocalDateTime searchedAt) {
+        historyTrie.remove(keyword);
+        historyTrie.add(keyword, keysOf(keyword), searchedAt.toEpochSecond(ZoneOffset.UTC));
+        historyTrie.prune(HISTORY_LOAD_SIZE);
+    }
+
+    private void attach(Long postId, String display) {
+        if (display.equals(titlesByPostId.get(postId))) {
+            return;
+        }
+        detach(postId);
+        if (display.isEmpty()) {
+            return;
+        }
+        titlesByPostId.put(postId, display);
+        postIdsByTitle.computeIfAbsent(display, key -> new HashSet<>()).add(postId);
+        titleTrie.add(display, keysOf(display), 1);
+    }
+
+    private void detach(Long postId) {
+        String previous = titlesByPostId.remove(postId);
+        if (previous == null) {
+            return;
+        }
+        Set<Long> postIds = postIdsByTitle.get(previous);
+        if (postIds != null && postIds.remove(postId) && postIds.isEmpty()) {
+            postIdsByTitle.remove(previous);
+        }
+        titleTrie.decrement(previous, 1);
+    }
+
+    // 빈도가 낮은 제목부터 지워 메모리를 제한한다. 매번 정리하지 않도록 10% 여유를 둔다.
+    // 정리된 제목의 게시글도 표에서 빼고(이후 수정/삭제는 트라이에 영향이 없다), 제목은 필터에 남긴다.
+    private void pruneIfNeeded() {
+        if (titleTrie.size() <= maxTitles + maxTitles / 10) {
+            return;
+        }
+        int pruned = titleTrie.prune(maxTitles);
+        Iterator<Map.Entry<String, Set<Long>>> groups = postIdsByTitle.entrySet().iterator();
+        while (groups.hasNext()) {
+            Map.Entry<String, Set<Long>> group = groups.next();
+            if (!titleTrie.contains(group.getKey())) {
+                group.getValue().forEach(titlesByPostId::remove);
+                markPruned(group.getKey());
+                groups.remove();
+            }
+        }
+        log.info("자동완성 제목 {}개를 빈도순으로 정리했습니다. 남은 제목 {}개", pruned, titleTrie.size());
+    }
+
+    private void markPruned(String display) {
+        int hash = display.hashCode();
+        for (int i = 0; i < PRUNED_FILTER_PROBES; i++) {
+            prunedTitles.set(probe(hash, i));
+        }
+    }
+
+    private boolean mightBePruned(String display) {
+        int hash = display.hashCode();
+        for (int i = 0; i < PRUNED_FILTER_PROBES; i++) {
+            if (!prunedTitles.get(probe(hash, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int probe(int hash, int index) {
+        int mixed = (hash + index * 0x9E3779B9) * 0x85EBCA6B;
+        return Math.floorMod(mixed ^ (mixed >>> 15), PRUNED_FILTER_BITS);
+    }
+
+    // 정규화한 전체 문자열과 단어 시작 위치의 접미사, 그리고 각각의 초성(공백 제거)을 키로 쓴다
+    static List<String> keysOf(String text) {
+        String normalized = normalize(text);
+        List<String> keys = new ArrayList<>();
+        int words = 0;
+        for (int i = 0; i < normalized.length() && words < MAX_WORD_KEYS; i++) {
+            if (i > 0 && normalized.charAt(i - 1) != ' ') {
+                continue;
+            }
+            String suffix = normalized.substring(i);
+            keys.add(truncate(suffix));
+            if (HangulChoseong.hasHangulSyllable(suffix)) {
+                keys.add(truncate(HangulChoseong.toChoseong(suffix).replace(" ", "")));
+            }
+            words++;
+        }
+        return keys;
+    }
+
+    static String toQueryKey(String prefix) {
+        String normalized = normalize(prefix);
+        if (HangulChoseong.containsChoseong(normalized)) {
+            normalized = HangulChoseong.toChoseong(normalized).replace(" ", "");
+        }
+        return truncate(normalized);
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+}
@@ -0,0 +1,50 @@
+package com.wilo.server.community.service.search.autocomplete;
+
+// 한글 초성 변환: 완성형 음절(가-힣)은 초성 자모로 바꾸고 나머지 문자는 그대로 둔다.
+public final class HangulChoseong {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char SYLLABLE_START = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private HangulChoseong() {
+    }
+
+    public static String toChoseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_START && c <= SYLLABLE_END) {
+                builder.append(CHOSEONG[(c - SYLLABLE_START) / SYLLABLES_PER_CHOSEONG]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // 호환용 자음(ㄱ-ㅎ)이 하나라도 있으면 초성 검색으로 본다
+    public static boolean containsChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean hasHangulSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_START && c <= SYLLABLE_END) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package com.wilo.server.community.service.search.feed;
+
+import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
+
+// 첫 페이지 항목과, 이 항목에서 끊었을 때 다음 페이지를 요청할 커서 값
+public record CommunityFeedEntry(
+        CommunityPostSummaryDto post,
+        String cursor
+) {
+}
@@ -0,0 +1,9 @@
+package com.wilo.server.community.service.search.feed;
+
+import java.util.List;
+
+public record CommunityFeedPage(
+        List<CommunityFeedEntry> entries,
+        long builtAtMillis
+) {
+}
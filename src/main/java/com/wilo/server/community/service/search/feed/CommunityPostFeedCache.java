@@ -0,0 +1,216 @@
+package com.wilo.server.community.service.search.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPostSortType;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 카테고리 x 정렬별 첫 페이지(커서 없음, 검색어 없음)를 미리 계산해 로컬 메모리와 Redis에 둔다.
+// 게시글/좋아요 이벤트는 해당 키를 dirty로 표시만 하고, 주기 작업이 모아서 다시 계산한다(debounce).
+// 재계산 중에도 기존 목록을 계속 응답하고, 다른 노드의 갱신은 로컬 TTL이 지나면 Redis에서 받아온다.
+@Slf4j
+@Component
+public class CommunityPostFeedCache {
+
+    static final String KEY_PREFIX = "community:feed:first-page:";
+    private static final String ALL_CATEGORIES = "ALL";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long localTtlMillis;
+    private final long maxAgeMillis;
+    private final ConcurrentHashMap<FeedKey, CachedPage> localPages = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<FeedKey, Supplier<List<CommunityFeedEntry>>> loaders = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<FeedKey, Object> loadLocks = new ConcurrentHashMap<>();
+    private final Set<FeedKey> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private final Set<FeedKey> staleKeys = ConcurrentHashMap.newKeySet();
+
+    public CommunityPostFeedCache(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${community.feed.cache.enabled:true}") boolean enabled,
+            @Value("${community.feed.cache.local-ttl-ms:5000}") long localTtlMillis,
+            @Value("${community.feed.cache.max-age-ms:60000}") long maxAgeMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.localTtlMillis = localTtlMillis;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<CommunityFeedEntry> getFirstPage(
+            CommunityCategory category,
+            CommunityPostSortType sort,
+            Supplier<List<CommunityFeedEntry>> loader
+    ) {
+        FeedKey key = new FeedKey(category, sort);
+        loaders.putIfAbsent(key, loader);
+
+        CachedPage cached = localPages.get(key);
+        if (cached != null) {
+            if (System.currentTimeMillis() - cached.syncedAtMillis() > localTtlMillis) {
+                staleKeys.add(key);
+            }
+            return cached.page().entries();
+        }
+
+        // 첫 요청만 동기로 채운다 (키별 single-flight)
+        synchronized (loadLocks.computeIfAbsent(key, ignored -> new Object())) {
+            cached = localPages.get(key);
+            if (cached == null) {
+                CommunityFeedPage page = readRedis(key)
+                        .filter(this::isFresh)
+                        .orElseGet(() -> rebuild(key, loader));
+                cached = new CachedPage(page, System.currentTimeMillis());
+                localPages.put(key, cached);
+            }
+            return cached.page().entries();
+        }
+    }
+
+    // 아직 적재하지 않은 키는 0
+    public long getBuiltAtMillis(CommunityCategory category, CommunityPostSortType sort) {
+        CachedPage cached = localPages.get(new FeedKey(category, sort));
+        return cached == null ? 0L : cached.page().builtAtMillis();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostEvent(CommunityPostEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        boolean countersOnly = event.type() == CommunityPostEventType.LIKED
+                || event.type() == CommunityPostEventType.UNLIKED
+                || event.type() == CommunityPostEventType.COMMENTED
+                || event.type() == CommunityPostEventType.RECOUNTED;
+        for (FeedKey key : loaders.keySet()) {
+            // 카운터 변화는 추천순 순위를 바꿀 수 있고, 최신순은 그 글이 첫 페이지에 있을 때만 영향을 받는다
+            if (!countersOnly || key.sort() == CommunityPostSortType.RECOMMENDED || contains(key, event.postId())) {
+                dirtyKeys.add(key);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.feed.cache.refresh-debounce-ms:1000}")
+    public void refresh() {
+        for (FeedKey key : drain(dirtyKeys)) {
+            staleKeys.remove(key);
+            refreshKey(key, true);
+        }
+        for (FeedKey key : drain(staleKeys)) {
+            refreshKey(key, false);
+        }
+    }
+
+    public void evictAll() {
+        localPages.clear();
+        dirtyKeys.clear();
+        staleKeys.clear();
+    }
+
+    private void refreshKey(FeedKey key, boolean forceRebuild) {
+        Supplier<List<CommunityFeedEntry>> loader = loaders.get(key);
+        if (loader == null) {
+            return;
+        }
+
+        try {
+            CommunityFeedPage page = forceRebuild ? null : readRedis(key).filter(this::isFresh).orElse(null);
+            CachedPage current = localPages.get(key);
+            // Redis 쓰기가 실패했던 경우 로컬이 더 최신일 수 있다
+            if (page != null && current != null && page.builtAtMillis() < current.page().builtAtMillis()) {
+                page = current.page();
+            }
+            if (page == null) {
+                page = rebuild(key, loader);
+            }
+            localPages.put(key, new CachedPage(page, System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            log.warn("첫 페이지 피드 갱신 실패, 이전 목록을 유지합니다. key={}", key, e);
+        }
+    }
+
+    private CommunityFeedPage rebuild(FeedKey key, Supplier<List<CommunityFeedEntry>> loader) {
+        CommunityFeedPage page = new CommunityFeedPage(List.copyOf(loader.get()), System.currentTimeMillis());
+        writeRedis(key, page);
+        return page;
+    }
+
+    private Optional<CommunityFeedPage> readRedis(FeedKey key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(redisKey(key));
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value.toString(), CommunityFeedPage.class));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("첫 페이지 피드 Redis 조회 실패. key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeRedis(FeedKey key, CommunityFeedPage page) {
+        try {
+            redisTemplate.opsForValue().set(
+                    redisKey(key),
+                    objectMapper.writeValueAsString(page),
+                    Duration.ofMillis(maxAgeMillis * 2)
+            );
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("첫 페이지 피드 Redis 저장 실패. key={}", key, e);
+        }
+    }
+
+    private boolean isFresh(CommunityFeedPage page) {
+        return System.currentTimeMillis() - page.builtAtMillis() <= maxAgeMillis;
+    }
+
+    private boolean contains(FeedKey key, Long postId) {
+        CachedPage cached = localPages.get(key);
+        return cached != null && cached.page().entries().stream()
+                .anyMatch(entry -> entry.post().id().equals(postId));
+    }
+
+    private static List<FeedKey> drain(Set<FeedKey> keys) {
+        List<FeedKey> drained = new ArrayList<>();
+        for (FeedKey key : keys) {
+            if (keys.remove(key)) {
+                drained.add(key);
+            }
+        }
+        return drained;
+    }
+
+    private static String redisKey(FeedKey key) {
+        String category = key.category() == null ? ALL_CATEGORIES : key.category().name();
+        return KEY_PREFIX + category + ":" + key.sort().name();
+    }
+
+    private record FeedKey(CommunityCategory category, CommunityPostSortType sort) {
+    }
+
+    private record CachedPage(CommunityFeedPage page, long syncedAtMillis) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.wilo.server.community.service.search.history;
+
+import com.wilo.server.community.repository.CommunitySearchHistoryUpsertRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 검색 기록 write-behind 버퍼: 같은 (사용자, 키워드) 검색은 flush 주기 안에서 최신 시각 하나로 합치고
+// flush 때 배치 upsert로 반영한다. 검색 요청은 DB 쓰기 없이 읽기 전용 트랜잭션으로 처리된다.
+@Slf4j
+@Component
+public class CommunitySearchHistoryBuffer {
+
+    private static final int KEYWORD_MAX_LENGTH = 120;
+
+    private final CommunitySearchHistoryUpsertRepository communitySearchHistoryUpsertRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final int maxPending;
+    private final ConcurrentHashMap<Key, LocalDateTime> pendingTouches = new ConcurrentHashMap<>();
+
+    public CommunitySearchHistoryBuffer(
+            CommunitySearchHistoryUpsertRepository communitySearchHistoryUpsertRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${community.search-history.max-pending:50000}") int maxPending
+    ) {
+        this.communitySearchHistoryUpsertRepository = communitySearchHistoryUpsertRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxPending = maxPending;
+    }
+
+    public void record(Long userId, String keyword, LocalDateTime searchedAt) {
+        if (userId == null || keyword == null) {
+            return;
+        }
+
+        String normalizedKeyword = keyword.trim();
+        if (normalizedKeyword.isEmpty()) {
+            return;
+        }
+        if (normalizedKeyword.length() > KEYWORD_MAX_LENGTH) {
+            normalizedKeyword = normalizedKeyword.substring(0, KEYWORD_MAX_LENGTH);
+        }
+
+        Key key = new Key(userId, normalizedKeyword);
+        // DB가 오래 응답하지 않을 때 메모리가 무한히 늘지 않도록 새 키는 버린다 (기존 키 갱신은 허용)
+        if (pendingTouches.size() >= maxPending && !pendingTouches.containsKey(key)) {
+            log.debug("검색 기록 버퍼가 가득 차 기록을 건너뜁니다. userId={}", userId);
+            return;
+        }
+        pendingTouches.merge(key, searchedAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    public int getPendingCount() {
+        return pendingTouches.size();
+    }
+
+    @Scheduled(fixedDelayString = "${community.search-history.flush-interval-ms:2000}")
+    public void flush() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+        write(drain(null));
+    }
+
+    // 기록 조회 직전에 호출해서 방금 검색한 키워드가 목록에 바로 보이게 한다
+    public void flush(Long userId) {
+        List<CommunitySearchHistoryTouch> touches = drain(userId);
+        if (touches.isEmpty()) {
+            return;
+        }
+        // 호출 측의 읽기 전용 트랜잭션과 분리해서 쓴다
+        requiresNewTransaction.executeWithoutResult(status -> write(touches));
+    }
+
+    // 삭제한 기록이 대기 중인 검색으로 다시 살아나지 않도록 버린다
+    public void discard(Long userId) {
+        pendingTouches.keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    public void discard(Long userId, String keyword) {
+        pendingTouches.remove(new Key(userId, keyword));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<CommunitySearchHistoryTouch> drain(Long userId) {
+        // remove는 키 단위로 원자적이라 drain 도중 들어온 검색은 다음 flush로 넘어간다.
+        List<CommunitySearchHistoryTouch> drained = new ArrayList<>();
+        for (Key key : pendingTouches.keySet()) {
+            if (userId != null && !key.userId().equals(userId)) {
+                continue;
+            }
+            LocalDateTime searchedAt = pendingTouches.remove(key);
+            if (searchedAt != null) {
+                drained.add(new CommunitySearchHistoryTouch(key.userId(), key.keyword(), searchedAt));
+            }
+        }
+        return drained;
+    }
+
+    private void write(List<CommunitySearchHistoryTouch> touches) {
+        try {
+            communitySearchHistoryUpsertRepository.upsertAll(touches);
+        } catch (RuntimeException e) {
+            log.warn("검색 기록 배치 flush 실패, 건별로 재시도합니다. touches={}", touches.size(), e);
+            writeOneByOne(touches);
+        }
+    }
+
+    // 탈퇴한 사용자처럼 영구히 실패하는 행은 버리고, 그 밖의 실패는 다음 주기로 넘긴다
+    private void writeOneByOne(List<CommunitySearchHistoryTouch> touches) {
+        for (int i = 0; i < touches.size(); i++) {
+            CommunitySearchHistoryTouch touch = touches.get(i);
+            try {
+                communitySearchHistoryUpsertRepository.upsertAll(List.of(touch));
+            } catch (DataIntegrityViolationException e) {
+                log.warn("검색 기록을 저장할 수 없어 버립니다. userId={}", touch.userId(), e);
+            } catch (RuntimeException e) {
+                touches.subList(i, touches.size()).forEach(this::requeue);
+                return;
+            }
+        }
+    }
+
+    private void requeue(CommunitySearchHistoryTouch touch) {
+        pendingTouches.merge(
+                new Key(touch.userId(), touch.keyword()),
+                touch.searchedAt(),
+                (previous, current) -> current.isAfter(previous) ? current : previous
+        );
+    }
+
+    private record Key(Long userId, String keyword) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.wilo.server.community.service.search.history;
+
+import java.time.LocalDateTime;
+
+public record CommunitySearchHistoryTouch(
+        Long userId,
+        String keyword,
+        LocalDateTime searchedAt
+) {
+}
@@ -0,0 +1,409 @@
+package com.wilo.server.community.service.search.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 게시글 제목/본문 bigram 역색인.
+// 최근 색인분은 메모리 세그먼트에 쌓고, flush 시 불변 세그먼트 파일로 내려 mmap 한다.
+// 조회 결과는 후보 id(상위 집합)이므로 최종 일치 여부는 DB 조건으로 다시 확인한다.
+// 삭제 표시에는 삭제 시점의 다음 세그먼트 번호를 적어 두고, 그보다 먼저 기록돼 그 글을 담을 수 있는 세그먼트와
+// 아직 내리지 않은 메모리 세그먼트가 모두 사라지면(flush/병합에서 걸러지면) 지운다.
+@Slf4j
+@Component
+public class CommunityPostSearchIndex {
+
+    private static final String MANIFEST_FILE = "manifest.properties";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int SKIP_TERM_RATIO = 16;
+
+    private final Path directory;
+    private final int maxSegments;
+    private final int maxCandidates;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // postId -> 삭제 시점의 nextSegmentNo (번호를 읽는 중이면 Long.MAX_VALUE)
+    private final ConcurrentHashMap<Long, Long> deletedIds = new ConcurrentHashMap<>();
+
+    private volatile List<MappedSegment> segments = List.of();
+    private volatile boolean ready;
+    private MutableSegment activeSegment = new MutableSegment();
+    private MutableSegment flushingSegment;
+    // 지금 메모리 세그먼트가 만들어질 때의 nextSegmentNo. 이 번호 이후의 삭제는 메모리 세그먼트에 남아 있을 수 있다.
+    private long activeSince;
+    private volatile long nextSegmentNo;
+
+    public CommunityPostSearchIndex(
+            @Value("${community.search.index.dir:${java.io.tmpdir}/wilo-search-index}") String directory,
+            @Value("${community.search.index.max-segments:8}") int maxSegments,
+            @Value("${community.search.index.max-candidates:20000}") int maxCandidates
+    ) {
+        this.directory = Paths.get(directory);
+        this.maxSegments = Math.max(maxSegments, 2);
+        this.maxCandidates = maxCandidates;
+    }
+
+    // 마지막 flush 시점의 manifest를 읽어 세그먼트를 mmap 한다. 없거나 깨졌으면 비운 뒤 empty.
+    public synchronized Optional<IndexCheckpoint> load() {
+        Path manifestPath = directory.resolve(MANIFEST_FILE);
+        if (!Files.exists(manifestPath)) {
+            clear();
+            return Optional.empty();
+        }
+
+        try (InputStream in = Files.newInputStream(manifestPath)) {
+            Properties manifest = new Properties();
+            manifest.load(in);
+
+            List<MappedSegment> loaded = new ArrayList<>();
+            for (String name : manifest.getProperty("segments", "").split(",")) {
+                if (!name.isBlank()) {
+                    loaded.add(MappedSegment.open(directory.resolve(name)));
+                }
+            }
+            segments = List.copyOf(loaded);
+            nextSegmentNo = Long.parseLong(manifest.getProperty("nextSegmentNo", "0"));
+            deleteUnreferencedFiles();
+
+            return Optional.of(new IndexCheckpoint(LocalDateTime.parse(manifest.getProperty("committedAt"))));
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 색인 manifest 로드 실패, 전체 재색인합니다: {}", e.getMessage());
+            clear();
+            return Optional.empty();
+        }
+    }
+
+    public void add(long postId, String title, String content) {
+        int[] terms = NgramTokenizer.bigrams(title, content);
+        lock.writeLock().lock();
+        try {
+            activeSegment.add(postId, terms);
+            deletedIds.remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 번호는 표시를 남긴 뒤에 읽는다: 이 표시를 보지 못하고 기록된 세그먼트는 모두 읽은 번호보다 작다
+    public void remove(long postId) {
+        deletedIds.put(postId, Long.MAX_VALUE);
+        deletedIds.replace(postId, Long.MAX_VALUE, nextSegmentNo);
+    }
+
+    public int deletedCount() {
+        return deletedIds.size();
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 키워드의 bigram을 포함하는 게시글 id (내림차순). 색인을 쓸 수 없거나 쓰는 편이 손해면 empty.
+    // 결과는 상위 집합이면 충분하므로(DB에서 다시 확인) 후보를 거의 줄이지 못하는 흔한 bigram은 건너뛴다.
+    public Optional<long[]> findCandidateIds(String keyword) {
+        if (!ready || !NgramTokenizer.isSearchable(keyword)) {
+            return Optional.empty();
+        }
+
+        int[] terms = NgramTokenizer.bigrams(keyword);
+        long[] candidates = null;
+
+        lock.readLock().lock();
+        try {
+            // 세그먼트 목록과 flush 중인 세그먼트는 쓰기 락 안에서 함께 바뀌므로 읽기 락 안에서 함께 읽는다
+            List<MappedSegment> currentSegments = segments;
+            int[] frequencies = new int[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                frequencies[i] = documentFrequency(currentSegments, terms[i]);
+                if (frequencies[i] == 0) {
+                    return Optional.of(new long[0]);
+                }
+            }
+
+            Integer[] order = new Integer[terms.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> frequencies[i]));
+
+            // 가장 드문 bigram조차 흔하면 LIKE 스캔이 앞쪽에서 금방 페이지를 채우므로 색인을 쓰지 않는다
+            if (frequencies[order[0]] > maxCandidates) {
+                return Optional.empty();
+            }
+
+            for (int i : order) {
+                if (candidates != null && frequencies[i] > candidates.length * SKIP_TERM_RATIO) {
+                    break;
+                }
+                long[] ids = find(currentSegments, terms[i]);
+                candidates = candidates == null ? ids : PostingList.intersect(candidates, ids);
+                if (candidates.length == 0) {
+                    return Optional.of(candidates);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long[] result = Arrays.stream(candidates).filter(id -> !deletedIds.containsKey(id)).toArray();
+        for (int i = 0, j = result.length - 1; i < j; i++, j--) {
+            long temp = result[i];
+            result[i] = result[j];
+            result[j] = temp;
+        }
+        return Optional.of(result);
+    }
+
+    private int documentFrequency(List<MappedSegment> currentSegments, int term) {
+        int frequency = activeSegment.documentFrequency(term);
+        if (flushingSegment != null) {
+            frequency += flushingSegment.documentFrequency(term);
+        }
+        for (MappedSegment segment : currentSegments) {
+            frequency += segment.documentFrequency(term);
+        }
+        return frequency;
+    }
+
+    private long[] find(List<MappedSegment> currentSegments, int term) {
+        long[] ids = activeSegment.find(term);
+        if (flushingSegment != null) {
+            ids = PostingList.union(ids, flushingSegment.find(term));
+        }
+        for (MappedSegment segment : currentSegments) {
+            ids = PostingList.union(ids, segment.find(term));
+        }
+        return ids;
+    }
+
+    public int pendingDocCount() {
+        lock.readLock().lock();
+        try {
+            return activeSegment.docCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 메모리 세그먼트를 파일로 내리고 manifest를 갱신한다. committedAt 이후 변경분은 재시작 시 다시 색인된다.
+    public synchronized void flush(LocalDateTime committedAt) {
+        long flushingSince = activeSince;
+        lock.writeLock().lock();
+        try {
+            if (!activeSegment.isEmpty()) {
+                flushingSegment = activeSegment;
+                activeSegment = new MutableSegment();
+                activeSince = nextSegmentNo;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (flushingSegment == null) {
+            pruneDeletedIds();
+            writeManifest(committedAt);
+            return;
+        }
+
+        MappedSegment written;
+        try {
+            Files.createDirectories(directory);
+            written = MappedSegment.write(
+                    nextSegmentPath(),
+                    flushingSegment.snapshot(id -> !deletedIds.containsKey(id)).iterator(),
+                    flushingSegment.docCount(),
+                    flushingSegment.maxPostId()
+            );
+        } catch (IOException e) {
+            // 기록에 실패했으면 다음 flush에서 다시 시도하도록 메모리 세그먼트로 되돌린다
+            lock.writeLock().lock();
+            try {
+                flushingSegment.absorb(activeSegment);
+                activeSegment = flushingSegment;
+                activeSince = flushingSince;
+                flushingSegment = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw new UncheckedIOException(e);
+        }
+
+        lock.writeLock().lock();
+        try {
+            segments = append(segments, List.of(), written);
+            flushingSegment = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        mergeIfNeeded();
+        pruneDeletedIds();
+        writeManifest(committedAt);
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public synchronized void clear() {
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            segments = List.of();
+            activeSegment = new MutableSegment();
+            flushingSegment = null;
+            deletedIds.clear();
+            nextSegmentNo = 0;
+            activeSince = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Files.createDirectories(directory);
+            deleteUnreferencedFiles();
+            Files.deleteIfExists(directory.resolve(MANIFEST_FILE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 작은 세그먼트부터 절반을 하나로 합쳐 조회 시 열어보는 파일 수를 제한한다
+    private void mergeIfNeeded() {
+        List<MappedSegment> current = segments;
+        if (current.size() <= maxSegments) {
+            return;
+        }
+
+        List<MappedSegment> bySize = new ArrayList<>(current);
+        bySize.sort(Comparator.comparingLong(MappedSegment::sizeInBytes));
+        List<MappedSegment> targets = List.copyOf(bySize.subList(0, Math.max(2, current.size() / 2)));
+
+        int docCount = targets.stream().mapToInt(MappedSegment::docCount).sum();
+        long maxPostId = targets.stream().mapToLong(MappedSegment::maxPostId).max().orElse(0L);
+        try {
+            MappedSegment merged = MappedSegment.write(
+                    nextSegmentPath(),
+                    MappedSegment.merge(targets, id -> !deletedIds.containsKey(id)),
+                    docCount,
+                    maxPostId
+            );
+            replaceSegments(targets, merged);
+        } catch (IOException e) {
+            log.warn("검색 색인 세그먼트 병합 실패: {}", e.getMessage());
+        }
+    }
+
+    // 삭제 표시가 필요한 곳: 삭제 전에 기록됐고 그 id까지 담는 세그먼트, 또는 삭제 뒤에도 남은 메모리 세그먼트.
+    // 값 비교로 지우므로 그사이 다시 삭제된(번호를 새로 단) 표시는 남는다.
+    private void pruneDeletedIds() {
+        List<MappedSegment> current = segments;
+        long[] numbers = current.stream().mapToLong(CommunityPostSearchIndex::segmentNo).toArray();
+        long since = activeSince;
+        deletedIds.entrySet().removeIf(entry -> {
+            long deletedAt = entry.getValue();
+            if (deletedAt >= since) {
+                return false;
+            }
+            for (int i = 0; i < numbers.length; i++) {
+                if (numbers[i] < deletedAt && current.get(i).maxPostId() >= entry.getKey()) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    private static long segmentNo(MappedSegment segment) {
+        String name = segment.path().getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private void replaceSegments(List<MappedSegment> removed, MappedSegment added) {
+        lock.writeLock().lock();
+        try {
+            segments = append(segments, removed, added);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<MappedSegment> append(List<MappedSegment> current, List<MappedSegment> removed, MappedSegment added) {
+        List<MappedSegment> next = new ArrayList<>(current);
+        next.removeAll(removed);
+        next.add(added);
+        return List.copyOf(next);
+    }
+
+    private Path nextSegmentPath() {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%06d", nextSegmentNo++) + SEGMENT_SUFFIX);
+    }
+
+    private void writeManifest(LocalDateTime committedAt) {
+        List<MappedSegment> current = segments;
+        Properties manifest = new Properties();
+        manifest.setProperty("segments", String.join(",",
+                current.stream().map(segment -> segment.path().getFileName().toString()).toList()));
+        manifest.setProperty("maxPostId", String.valueOf(current.stream().mapToLong(MappedSegment::maxPostId).max().orElse(0L)));
+        manifest.setProperty("nextSegmentNo", String.valueOf(nextSegmentNo));
+        manifest.setProperty("committedAt", committedAt.toString());
+
+        Path manifestPath = directory.resolve(MANIFEST_FILE);
+        Path tempPath = directory.resolve(MANIFEST_FILE + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempPath)) {
+            manifest.store(out, "community post search index");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            deleteUnreferencedFiles();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteUnreferencedFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        Set<Path> referenced = new HashSet<>();
+        segments.forEach(segment -> referenced.add(segment.path()));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!referenced.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
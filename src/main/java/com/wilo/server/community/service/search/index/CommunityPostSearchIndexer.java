@@ -0,0 +1,164 @@
+package com.wilo.server.community.service.search.index;
+
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 검색 색인 수명주기: 기동 시 디스크 세그먼트 로드 + 변경분 재색인(없으면 전체 색인),
+// 게시글 생성/수정/삭제 이벤트 반영, 주기적 flush.
+// 이벤트는 이 노드에서 커밋된 변경만 오므로(배포 전환 중 이전 컨테이너가 받은 글 등) updated_at 기준으로 주기적으로 따라잡는다.
+// 다른 노드에서 삭제된 글이 후보에 남아도 본 조회가 DB에서 걸러내므로 검색 결과에는 나오지 않는다.
+// 색인 디렉터리(community.search.index.dir)는 배포 후에도 남는 볼륨에 두어야 기동 시 전체 색인 대신 변경분만 따라잡는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityPostSearchIndexer {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int BUILD_FLUSH_DOC_COUNT = 50_000;
+    // 기준 시각 직전에 커밋됐지만 이벤트가 늦게 반영된 변경분(노드 간 시계 차이 포함)까지 덮도록 여유를 둔다
+    private static final long CATCH_UP_MARGIN_MINUTES = 5;
+
+    private final CommunityPostSearchIndex communityPostSearchIndex;
+    private final CommunityPostRepository communityPostRepository;
+
+    @Value("${community.search.index.enabled:true}")
+    private boolean enabled;
+
+    // 마지막으로 따라잡기를 시작한 시각 (초기화 전이면 null)
+    private volatile LocalDateTime caughtUpAt;
+
+    @Async("searchIndexExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            Optional<IndexCheckpoint> checkpoint = communityPostSearchIndex.load();
+            int indexed = checkpoint
+                    .map(value -> catchUp(value.committedAt()))
+                    .orElseGet(this::buildAll);
+
+            communityPostSearchIndex.flush(startedAt);
+            communityPostSearchIndex.markReady();
+            caughtUpAt = startedAt;
+            log.info("게시글 검색 색인 준비 완료: {}건 색인, 세그먼트 {}개", indexed, communityPostSearchIndex.segmentCount());
+        } catch (RuntimeException e) {
+            log.warn("게시글 검색 색인 초기화 실패, LIKE 검색을 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostEvent(CommunityPostEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        if (event.type() == CommunityPostEventType.DELETED) {
+            communityPostSearchIndex.remove(event.postId());
+            return;
+        }
+        if (event.type() == CommunityPostEventType.CREATED || event.type() == CommunityPostEventType.UPDATED) {
+            communityPostRepository.findById(event.postId()).ifPresent(this::index);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.search.index.flush-interval-ms:60000}")
+    public void flush() {
+        if (!communityPostSearchIndex.isReady()) {
+            return;
+        }
+
+        try {
+            communityPostSearchIndex.flush(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("게시글 검색 색인 flush 실패: {}", e.getMessage());
+        }
+    }
+
+    // 초기화와 같은 단일 스레드 executor에서 돌려 초기화가 끝난 뒤에만 실행되고 스케줄러 스레드를 잡지 않는다
+    @Async("searchIndexExecutor")
+    @Scheduled(fixedDelayString = "${community.search.index.catch-up-interval-ms:300000}")
+    public void catchUpRecent() {
+        LocalDateTime since = caughtUpAt;
+        if (!enabled || since == null || !communityPostSearchIndex.isReady()) {
+            return;
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            int indexed = catchUp(since);
+            caughtUpAt = startedAt;
+            if (indexed > 0) {
+                log.debug("게시글 검색 색인 따라잡기: {}건", indexed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("게시글 검색 색인 따라잡기 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private int buildAll() {
+        int indexed = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<CommunityPost> posts = communityPostRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (posts.isEmpty()) {
+                return indexed;
+            }
+
+            posts.forEach(this::index);
+            indexed += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+
+            if (communityPostSearchIndex.pendingDocCount() >= BUILD_FLUSH_DOC_COUNT) {
+                communityPostSearchIndex.flush(LocalDateTime.now());
+            }
+        }
+    }
+
+    // 기준 시각 이후 생성/수정된 게시글만 다시 색인한다
+    private int catchUp(LocalDateTime from) {
+        LocalDateTime since = from.minusMinutes(CATCH_UP_MARGIN_MINUTES);
+        int indexed = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<CommunityPost> posts = communityPostRepository.findByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                    since, lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (posts.isEmpty()) {
+                return indexed;
+            }
+
+            posts.forEach(this::index);
+            indexed += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+    }
+
+    private void index(CommunityPost post) {
+        communityPostSearchIndex.add(post.getId(), post.getTitle(), post.getContent());
+    }
+}
@@ -0,0 +1,7 @@
+package com.wilo.server.community.service.search.index;
+
+import java.time.LocalDateTime;
+
+// 디스크 세그먼트에 반영된 범위. 재시작 시 이 이후 변경분만 다시 색인한다.
+public record IndexCheckpoint(LocalDateTime committedAt) {
+}
@@ -0,0 +1,275 @@
+package com.wilo.server.community.service.search.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongPredicate;
+
+// 디스크에 기록된 불변 세그먼트. 파일을 mmap 해서 힙에 올리지 않고 바로 읽는다.
+//
+// 파일 구조
+//   header   : magic(int) version(int) termCount(int) docCount(int) maxPostId(long) termsStart(long)
+//   postings : term별 [개수 varint][id 증분 varint...]
+//   terms    : int[termCount]        (오름차순)
+//   offsets  : long[termCount + 1]   (파일 기준 postings 시작 위치)
+final class MappedSegment {
+
+    private static final int MAGIC = 0x57494C53;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 8 + 8;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int termCount;
+    private final int docCount;
+    private final long maxPostId;
+    private final int termsStart;
+    private final int offsetsStart;
+
+    private MappedSegment(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("잘못된 검색 색인 세그먼트: " + path);
+        }
+        this.termCount = buffer.getInt(8);
+        this.docCount = buffer.getInt(12);
+        this.maxPostId = buffer.getLong(16);
+        this.termsStart = (int) buffer.getLong(24);
+        this.offsetsStart = termsStart + termCount * Integer.BYTES;
+    }
+
+    static MappedSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("세그먼트 크기가 mmap 한도를 넘었습니다: " + path);
+            }
+            return new MappedSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // term 오름차순으로 들어오는 postings를 스트리밍으로 기록한다. 임시 파일에 쓴 뒤 원자적으로 교체.
+    static MappedSegment write(Path path, Iterator<TermPostings> postings, int docCount, long maxPostId)
+            throws IOException {
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        int[] terms = new int[1024];
+        long[] offsets = new long[1025];
+        int termCount = 0;
+
+        try (FileChannel channel = FileChannel.open(tempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer out = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            long position = HEADER_SIZE;
+            channel.position(position);
+
+            while (postings.hasNext()) {
+                TermPostings next = postings.next();
+                if (next.ids().length == 0) {
+                    continue;
+                }
+                if (termCount == terms.length) {
+                    terms = Arrays.copyOf(terms, terms.length * 2);
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                terms[termCount] = next.term();
+                offsets[termCount++] = position;
+
+                position += writeVarLong(channel, out, next.ids().length);
+                long previous = 0;
+                for (long id : next.ids()) {
+                    position += writeVarLong(channel, out, id - previous);
+                    previous = id;
+                }
+            }
+            drain(channel, out);
+
+            long termsStart = position;
+            long fileSize = termsStart + (long) termCount * Integer.BYTES + (long) (termCount + 1) * Long.BYTES;
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IllegalStateException("세그먼트 크기가 mmap 한도를 넘었습니다: " + path);
+            }
+            offsets[termCount] = termsStart;
+
+            ByteBuffer tail = ByteBuffer.allocate((int) (fileSize - termsStart));
+            for (int i = 0; i < termCount; i++) {
+                tail.putInt(terms[i]);
+            }
+            for (int i = 0; i <= termCount; i++) {
+                tail.putLong(offsets[i]);
+            }
+            tail.flip();
+            writeFully(channel, tail, termsStart);
+
+            ByteBuffer head = ByteBuffer.allocate(HEADER_SIZE);
+            head.putInt(MAGIC).putInt(VERSION).putInt(termCount).putInt(docCount).putLong(maxPostId).putLong(termsStart);
+            head.flip();
+            writeFully(channel, head, 0);
+            channel.force(true);
+        }
+
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return open(path);
+    }
+
+    // 여러 세그먼트를 term 순서대로 k-way 병합한다. keep이 false인 id(삭제된 게시글)는 버린다.
+    static Iterator<TermPostings> merge(List<MappedSegment> segments, LongPredicate keep) {
+        int[] cursors = new int[segments.size()];
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                for (int i = 0; i < cursors.length; i++) {
+                    if (cursors[i] < segments.get(i).termCount) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public TermPostings next() {
+                int minTerm = 0;
+                boolean found = false;
+                for (int i = 0; i < cursors.length; i++) {
+                    MappedSegment segment = segments.get(i);
+                    if (cursors[i] < segment.termCount) {
+                        int term = segment.termAt(cursors[i]);
+                        if (!found || term < minTerm) {
+                            minTerm = term;
+                            found = true;
+                        }
+                    }
+                }
+                if (!found) {
+                    throw new NoSuchElementException();
+                }
+
+                long[] ids = new long[0];
+                for (int i = 0; i < cursors.length; i++) {
+                    MappedSegment segment = segments.get(i);
+                    if (cursors[i] < segment.termCount && segment.termAt(cursors[i]) == minTerm) {
+                        ids = PostingList.union(ids, segment.decode(cursors[i]++));
+                    }
+                }
+                return new TermPostings(minTerm, Arrays.stream(ids).filter(keep).toArray());
+            }
+        };
+    }
+
+    long[] find(int term) {
+        int index = findTermIndex(term);
+        return index < 0 ? new long[0] : decode(index);
+    }
+
+    // postings를 풀지 않고 개수만 읽는다
+    int documentFrequency(int term) {
+        int index = findTermIndex(term);
+        if (index < 0) {
+            return 0;
+        }
+        int[] position = {(int) buffer.getLong(offsetsStart + index * Long.BYTES)};
+        return (int) readVarLong(position);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int docCount() {
+        return docCount;
+    }
+
+    long maxPostId() {
+        return maxPostId;
+    }
+
+    long sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    private int findTermIndex(int term) {
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = termAt(mid);
+            if (value < term) {
+                low = mid + 1;
+            } else if (value > term) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int termAt(int index) {
+        return buffer.getInt(termsStart + index * Integer.BYTES);
+    }
+
+    // 동시 조회를 위해 position을 건드리지 않는 절대 위치 읽기만 사용한다
+    private long[] decode(int termIndex) {
+        int[] position = {(int) buffer.getLong(offsetsStart + termIndex * Long.BYTES)};
+        int count = (int) readVarLong(position);
+
+        long[] ids = new long[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += readVarLong(position);
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    private long readVarLong(int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get(position[0]++);
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static int writeVarLong(FileChannel channel, ByteBuffer out, long value) throws IOException {
+        if (out.remaining() < 10) {
+            drain(channel, out);
+        }
+        int bytes = 1;
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+            bytes++;
+        }
+        out.put((byte) value);
+        return bytes;
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer out) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer source, long position) throws IOException {
+        long current = position;
+        while (source.hasRemaining()) {
+            current += channel.write(source, current);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.wilo.server.community.service.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongPredicate;
+
+// 아직 디스크에 쓰지 않은 최근 색인분. 잠금은 CommunityPostSearchIndex가 관리한다.
+final class MutableSegment {
+
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private int docCount;
+    private long maxPostId;
+
+    void add(long postId, int[] terms) {
+        for (int term : terms) {
+            postings.computeIfAbsent(term, key -> new PostingList()).add(postId);
+        }
+        docCount++;
+        maxPostId = Math.max(maxPostId, postId);
+    }
+
+    void absorb(MutableSegment other) {
+        other.postings.forEach((term, list) -> {
+            PostingList target = postings.computeIfAbsent(term, key -> new PostingList());
+            for (long id : list.toArray()) {
+                target.add(id);
+            }
+        });
+        docCount += other.docCount;
+        maxPostId = Math.max(maxPostId, other.maxPostId);
+    }
+
+    long[] find(int term) {
+        PostingList list = postings.get(term);
+        return list == null ? new long[0] : list.toArray();
+    }
+
+    int documentFrequency(int term) {
+        PostingList list = postings.get(term);
+        return list == null ? 0 : list.size();
+    }
+
+    int docCount() {
+        return docCount;
+    }
+
+    long maxPostId() {
+        return maxPostId;
+    }
+
+    boolean isEmpty() {
+        return docCount == 0;
+    }
+
+    // term 오름차순 스냅샷 (세그먼트 파일 기록용). keep이 false인 id는 버린다.
+    List<TermPostings> snapshot(LongPredicate keep) {
+        List<TermPostings> sorted = new ArrayList<>(postings.size());
+        new TreeMap<>(postings).forEach((term, list) ->
+                sorted.add(new TermPostings(term, Arrays.stream(list.toArray()).filter(keep).toArray())));
+        return sorted;
+    }
+}
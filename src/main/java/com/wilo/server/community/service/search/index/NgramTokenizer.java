@@ -0,0 +1,75 @@
+package com.wilo.server.community.service.search.index;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+// 문자 bigram 토크나이저. 한글은 형태소 분석 없이 음절 bigram만으로도 부분 일치 검색이 가능하다.
+// 두 UTF-16 문자를 int 하나(상위 16비트 | 하위 16비트)로 묶어 term으로 사용한다.
+public final class NgramTokenizer {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private NgramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    // 정렬·중복 제거된 bigram 목록
+    public static int[] bigrams(String text) {
+        String normalized = normalize(text);
+        if (normalized.length() < 2) {
+            return new int[0];
+        }
+
+        int[] terms = new int[normalized.length() - 1];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = (normalized.charAt(i) << 16) | normalized.charAt(i + 1);
+        }
+        return Arrays.stream(terms).sorted().distinct().toArray();
+    }
+
+    // 제목/본문은 LIKE 조건처럼 각각 따로 매칭되므로 경계를 넘는 bigram은 만들지 않는다
+    public static int[] bigrams(String title, String content) {
+        int[] titleTerms = bigrams(title);
+        int[] contentTerms = bigrams(content);
+        int[] merged = Arrays.copyOf(titleTerms, titleTerms.length + contentTerms.length);
+        System.arraycopy(contentTerms, 0, merged, titleTerms.length, contentTerms.length);
+        return Arrays.stream(merged).sorted().distinct().toArray();
+    }
+
+    // 유사 문서 비교용 문자 3-gram(정렬·중복 제거 전). 띄어쓰기만 다른 글이 같아지도록 공백을 지우고,
+    // 제목과 본문 경계를 넘는 3-gram은 만들지 않는다. 세 UTF-16 문자를 long 하나로 묶는다.
+    public static long[] trigrams(String title, String content) {
+        String normalizedTitle = normalize(title).replace(" ", "");
+        String normalizedContent = normalize(content).replace(" ", "");
+        long[] shingles = new long[Math.max(0, normalizedTitle.length() - 2) + Math.max(0, normalizedContent.length() - 2)];
+        int count = addTrigrams(normalizedTitle, shingles, 0);
+        addTrigrams(normalizedContent, shingles, count);
+        return shingles;
+    }
+
+    // 3-gram 등 long 값을 고르게 섞는 해시 (splitmix64 finalizer). SimHash/MinHash가 함께 쓴다.
+    public static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    public static boolean isSearchable(String keyword) {
+        return normalize(keyword).trim().length() >= MIN_QUERY_LENGTH;
+    }
+
+    private static int addTrigrams(String text, long[] shingles, int offset) {
+        int count = offset;
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            shingles[count++] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,95 @@
+package com.wilo.server.community.service.search.index;
+
+import java.util.Arrays;
+
+// 게시글 id 목록 (오름차순 정렬, 중복 없음)
+final class PostingList {
+
+    private long[] ids;
+    private int size;
+
+    PostingList() {
+        this.ids = new long[4];
+    }
+
+    PostingList(long[] sortedIds) {
+        this.ids = sortedIds;
+        this.size = sortedIds.length;
+    }
+
+    void add(long id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            insertAt(-index - 1, id);
+            return;
+        }
+        ensureCapacity();
+        ids[size++] = id;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    private void insertAt(int position, long id) {
+        ensureCapacity();
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+
+    static long[] union(long[] left, long[] right) {
+        long[] merged = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                merged[k++] = left[i++];
+            } else if (left[i] > right[j]) {
+                merged[k++] = right[j++];
+            } else {
+                merged[k++] = left[i++];
+                j++;
+            }
+        }
+        while (i < left.length) {
+            merged[k++] = left[i++];
+        }
+        while (j < right.length) {
+            merged[k++] = right[j++];
+        }
+        return Arrays.copyOf(merged, k);
+    }
+
+    static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[k++] = left[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+}
@@ -0,0 +1,4 @@
+package com.wilo.server.community.service.search.index;
+
+record TermPostings(int term, long[] ids) {
+}
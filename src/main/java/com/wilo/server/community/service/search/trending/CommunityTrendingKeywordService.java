@@ -0,0 +1,173 @@
+package com.wilo.server.community.service.search.trending;
+
+import com.wilo.server.community.dto.search.CommunityTrendingKeywordDto;
+import com.wilo.server.community.dto.search.CommunityTrendingKeywordListResponseDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+// 인기 검색어: 노드마다 시간 버킷별 스케치/후보를 메모리에 쌓고, 주기적으로 Redis 해시(버킷→노드별 스냅샷)에 올린 뒤
+// 모든 노드의 스냅샷을 병합해 상위 키워드를 계산해 둔다. 조회는 계산된 목록을 그대로 돌려준다.
+// Redis를 쓸 수 없으면 이 노드의 버킷만으로 계산한다.
+@Slf4j
+@Service
+public class CommunityTrendingKeywordService {
+
+    static final String BUCKET_KEY_PREFIX = "community:trending:bucket:";
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2048;
+    private static final int CANDIDATE_CAPACITY = 100;
+    private static final int KEYWORD_MAX_LENGTH = 120;
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 20;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final String nodeId;
+    private final ConcurrentHashMap<Long, TrendingKeywordBucket> localBuckets = new ConcurrentHashMap<>();
+    private volatile CommunityTrendingKeywordListResponseDto ranking;
+
+    public CommunityTrendingKeywordService(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${community.trending.bucket-minutes:5}") int bucketMinutes,
+            @Value("${community.trending.bucket-count:12}") int bucketCount,
+            @Value("${community.trending.node-id:}") String nodeId
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.bucketMillis = Duration.ofMinutes(bucketMinutes).toMillis();
+        this.bucketCount = bucketCount;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.ranking = new CommunityTrendingKeywordListResponseDto(List.of(), windowMinutes(), LocalDateTime.now());
+    }
+
+    public void record(String keyword) {
+        String normalizedKeyword = normalize(keyword);
+        if (normalizedKeyword.isEmpty()) {
+            return;
+        }
+
+        long bucketId = currentBucketId();
+        localBuckets.computeIfAbsent(
+                bucketId,
+                id -> new TrendingKeywordBucket(id, SKETCH_DEPTH, SKETCH_WIDTH, CANDIDATE_CAPACITY)
+        ).add(normalizedKeyword);
+    }
+
+    public CommunityTrendingKeywordListResponseDto getTrendingKeywords(Integer size) {
+        int safeSize = size == null || size < 1 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        CommunityTrendingKeywordListResponseDto current = ranking;
+        if (current.items().size() <= safeSize) {
+            return current;
+        }
+        return new CommunityTrendingKeywordListResponseDto(
+                current.items().subList(0, safeSize),
+                current.windowMinutes(),
+                current.aggregatedAt()
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${community.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        long oldestBucketId = currentBucketId() - bucketCount + 1;
+        localBuckets.keySet().removeIf(bucketId -> bucketId < oldestBucketId);
+
+        List<TrendingKeywordBucket> buckets;
+        try {
+            publishLocalBuckets();
+            buckets = loadMergedBuckets(oldestBucketId);
+        } catch (RuntimeException e) {
+            log.debug("인기 검색어 Redis 병합 실패, 로컬 버킷으로 계산합니다.", e);
+            buckets = List.copyOf(localBuckets.values());
+        }
+
+        ranking = new CommunityTrendingKeywordListResponseDto(rank(buckets), windowMinutes(), LocalDateTime.now());
+    }
+
+    private void publishLocalBuckets() {
+        Duration ttl = Duration.ofMillis(bucketMillis * (bucketCount + 1L));
+        for (TrendingKeywordBucket bucket : localBuckets.values()) {
+            if (!bucket.isDirty()) {
+                continue;
+            }
+            // 노드별 필드에 덮어쓰므로 같은 버킷을 여러 번 올려도 중복 집계되지 않는다
+            String key = BUCKET_KEY_PREFIX + bucket.bucketId();
+            String snapshot = bucket.toSnapshot();
+            try {
+                redisTemplate.opsForHash().put(key, nodeId, snapshot);
+                redisTemplate.expire(key, ttl);
+            } catch (RuntimeException e) {
+                bucket.markDirty();
+                throw e;
+            }
+        }
+    }
+
+    private List<TrendingKeywordBucket> loadMergedBuckets(long oldestBucketId) {
+        List<TrendingKeywordBucket> buckets = new ArrayList<>();
+        for (long bucketId = oldestBucketId; bucketId <= currentBucketId(); bucketId++) {
+            List<Object> snapshots = redisTemplate.opsForHash().values(BUCKET_KEY_PREFIX + bucketId);
+            for (Object snapshot : snapshots) {
+                try {
+                    buckets.add(TrendingKeywordBucket.fromSnapshot(snapshot.toString()));
+                } catch (RuntimeException e) {
+                    log.warn("인기 검색어 스냅샷을 읽을 수 없어 건너뜁니다. bucketId={}", bucketId, e);
+                }
+            }
+        }
+        return buckets;
+    }
+
+    // 모든 버킷의 스케치를 합친 뒤 후보 키워드의 구간 전체 빈도를 추정해 정렬한다
+    private List<CommunityTrendingKeywordDto> rank(Collection<TrendingKeywordBucket> buckets) {
+        CountMinSketch windowSketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        Set<String> candidates = new HashSet<>();
+        for (TrendingKeywordBucket bucket : buckets) {
+            bucket.mergeSketchInto(windowSketch);
+            candidates.addAll(bucket.candidateKeywords());
+        }
+
+        List<String> ranked = candidates.stream()
+                .sorted(Comparator.comparingLong(windowSketch::estimate).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(MAX_SIZE)
+                .toList();
+
+        List<CommunityTrendingKeywordDto> items = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            String keyword = ranked.get(i);
+            items.add(new CommunityTrendingKeywordDto(i + 1, keyword, windowSketch.estimate(keyword)));
+        }
+        return List.copyOf(items);
+    }
+
+    private long currentBucketId() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private int windowMinutes() {
+        return (int) Duration.ofMillis(bucketMillis * bucketCount).toMinutes();
+    }
+
+    private static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String normalized = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.length() > KEYWORD_MAX_LENGTH ? normalized.substring(0, KEYWORD_MAX_LENGTH) : normalized;
+    }
+}
@@ -0,0 +1,108 @@
+package com.wilo.server.community.service.search.trending;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+// 고정 크기 카운터 배열로 키워드 빈도를 과대 추정(never under)하는 Count-Min 스케치.
+// 같은 크기의 스케치는 칸별 합으로 병합할 수 있어 노드/시간 버킷 간 합산에 쓴다.
+public class CountMinSketch {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int depth;
+    private final int width;
+    private final int[] counters;
+    private long totalCount;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("depth와 width는 1 이상이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new int[depth * width];
+    }
+
+    public long add(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + indexOf(h1, h2, row);
+            if (counters[index] < Integer.MAX_VALUE) {
+                counters[index]++;
+            }
+            estimate = Math.min(estimate, counters[index]);
+        }
+        totalCount++;
+        return estimate;
+    }
+
+    public long estimate(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + indexOf(h1, h2, row)]);
+        }
+        return estimate;
+    }
+
+    public void merge(CountMinSketch other) {
+        if (other.depth != depth || other.width != width) {
+            throw new IllegalArgumentException("크기가 다른 스케치는 병합할 수 없습니다.");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = (int) Math.min(Integer.MAX_VALUE, (long) counters[i] + other.counters[i]);
+        }
+        totalCount += other.totalCount;
+    }
+
+    public long totalCount() {
+        return totalCount;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(depth);
+        out.writeInt(width);
+        out.writeLong(totalCount);
+        for (int counter : counters) {
+            out.writeInt(counter);
+        }
+    }
+
+    static CountMinSketch readFrom(DataInputStream in) throws IOException {
+        CountMinSketch sketch = new CountMinSketch(in.readInt(), in.readInt());
+        sketch.totalCount = in.readLong();
+        for (int i = 0; i < sketch.counters.length; i++) {
+            sketch.counters[i] = in.readInt();
+        }
+        return sketch;
+    }
+
+    private int indexOf(int h1, int h2, int row) {
+        // Kirsch-Mitzenmacher 이중 해싱으로 행마다 독립 해시를 흉내 낸다
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    // 노드마다 같은 칸에 매핑되어야 하므로 JVM 무관한 FNV-1a 해시를 쓴다
+    private static long hash(String key) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        // 상위/하위 32비트를 따로 쓰므로 비트를 한 번 더 섞는다 (murmur3 fmix64)
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
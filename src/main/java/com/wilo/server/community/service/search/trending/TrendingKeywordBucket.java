@@ -0,0 +1,120 @@
+package com.wilo.server.community.service.search.trending;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// 시간 버킷 하나의 검색 빈도: 전체 빈도는 Count-Min 스케치로, 후보 키워드는 최소 힙으로 상위 capacity개만 유지한다.
+public class TrendingKeywordBucket {
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final long bucketId;
+    private final int capacity;
+    private final CountMinSketch sketch;
+    private final Map<String, Long> candidates = new HashMap<>();
+    private final PriorityQueue<Map.Entry<String, Long>> minHeap =
+            new PriorityQueue<>(Comparator.comparingLong(Map.Entry::getValue));
+    private boolean dirty;
+
+    public TrendingKeywordBucket(long bucketId, int depth, int width, int capacity) {
+        this(bucketId, new CountMinSketch(depth, width), capacity);
+    }
+
+    private TrendingKeywordBucket(long bucketId, CountMinSketch sketch, int capacity) {
+        this.bucketId = bucketId;
+        this.sketch = sketch;
+        this.capacity = capacity;
+    }
+
+    public long bucketId() {
+        return bucketId;
+    }
+
+    public synchronized void add(String keyword) {
+        long estimate = sketch.add(keyword);
+        dirty = true;
+
+        if (candidates.containsKey(keyword)) {
+            minHeap.removeIf(entry -> entry.getKey().equals(keyword));
+        } else if (candidates.size() >= capacity) {
+            // 후보가 가득 차면 힙 최솟값보다 커진 키워드만 자리를 빼앗는다
+            Map.Entry<String, Long> min = minHeap.peek();
+            if (min == null || min.getValue() >= estimate) {
+                return;
+            }
+            minHeap.poll();
+            candidates.remove(min.getKey());
+        }
+        candidates.put(keyword, estimate);
+        minHeap.add(Map.entry(keyword, estimate));
+    }
+
+    public synchronized Set<String> candidateKeywords() {
+        return Set.copyOf(candidates.keySet());
+    }
+
+    public synchronized void mergeSketchInto(CountMinSketch target) {
+        target.merge(sketch);
+    }
+
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    // 스냅샷 업로드가 실패하면 다음 주기에 다시 올리도록 표시한다
+    public synchronized void markDirty() {
+        dirty = true;
+    }
+
+    public synchronized String toSnapshot() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(bucketId);
+            out.writeInt(capacity);
+            sketch.writeTo(out);
+            out.writeInt(candidates.size());
+            for (String keyword : candidates.keySet()) {
+                out.writeUTF(keyword);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        dirty = false;
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    // 다른 노드의 스냅샷 복원: 후보 빈도는 병합된 스케치로 다시 추정하므로 키워드만 담는다
+    public static TrendingKeywordBucket fromSnapshot(String snapshot) {
+        byte[] bytes = Base64.getDecoder().decode(snapshot);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int version = in.readInt();
+            if (version != SNAPSHOT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 스냅샷 버전입니다: " + version);
+            }
+            long bucketId = in.readLong();
+            int capacity = in.readInt();
+            TrendingKeywordBucket bucket = new TrendingKeywordBucket(bucketId, CountMinSketch.readFrom(in), capacity);
+            int candidateCount = in.readInt();
+            for (int i = 0; i < candidateCount; i++) {
+                String keyword = in.readUTF();
+                long estimate = bucket.sketch.estimate(keyword);
+                bucket.candidates.put(keyword, estimate);
+                bucket.minHeap.add(Map.entry(keyword, estimate));
+            }
+            return bucket;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
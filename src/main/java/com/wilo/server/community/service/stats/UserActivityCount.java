@@ -0,0 +1,7 @@
+package com.wilo.server.community.service.stats;
+
+public record UserActivityCount(
+        Long userId,
+        Long count
+) {
+}
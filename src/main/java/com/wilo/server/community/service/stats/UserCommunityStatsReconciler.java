@@ -0,0 +1,48 @@
+package com.wilo.server.community.service.stats;
+
+import com.wilo.server.user.repository.UserRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 증분 갱신이 놓친 차이(롤백 경합, 배포 전 데이터 등)를 사용자 id 구간별로 다시 세어 맞춘다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCommunityStatsReconciler {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final UserCommunityStatsService userCommunityStatsService;
+    private final UserLikeStatsBuffer userLikeStatsBuffer;
+
+    @Scheduled(fixedDelayString = "${community.user-stats.reconcile-interval-ms:3600000}")
+    public void reconcileAll() {
+        // 이미 커밋된 좋아요의 대기 증분을 먼저 반영해야 COUNT 결과와 비교할 수 있다
+        userLikeStatsBuffer.flush();
+
+        long afterId = 0L;
+        int corrected = 0;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, RECONCILE_BATCH_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            try {
+                corrected += userCommunityStatsService.reconcile(userIds);
+            } catch (RuntimeException e) {
+                log.warn("프로필 커뮤니티 집계 보정 실패, 다음 구간으로 넘어갑니다. afterId={}", afterId, e);
+            }
+            afterId = userIds.get(userIds.size() - 1);
+        } while (userIds.size() == RECONCILE_BATCH_SIZE);
+
+        if (corrected > 0) {
+            log.info("프로필 커뮤니티 집계 보정 완료. corrected={}", corrected);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.wilo.server.community.service.stats;
+
+import com.wilo.server.community.repository.CommunityCommentRepository;
+import com.wilo.server.community.repository.CommunityPostLikeRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.user.entity.UserCommunityStats;
+import com.wilo.server.user.repository.UserCommunityStatsRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 프로필 화면의 커뮤니티 활동 집계(user_community_stats) 관리.
+// 글/댓글 쓰기 트랜잭션 안에서 원자적 증분으로 갱신하고, 좋아요 증분은 버퍼에 모아 주기적으로 반영한다.
+// 보정은 COUNT 결과와 비교해 어긋난 행만 고친다.
+@Service
+@RequiredArgsConstructor
+public class UserCommunityStatsService {
+
+    private final UserCommunityStatsRepository userCommunityStatsRepository;
+    private final CommunityPostRepository communityPostRepository;
+    private final CommunityCommentRepository communityCommentRepository;
+    private final CommunityPostLikeRepository communityPostLikeRepository;
+    private final UserLikeStatsBuffer userLikeStatsBuffer;
+
+    @Transactional
+    public void recordPostCreated(Long authorId) {
+        userCommunityStatsRepository.addDeltas(authorId, 1L, 0L, 0L, 0L);
+    }
+
+    // 좋아요 행은 남으므로 글이 삭제되기 전후 어느 쪽에서 불러도 같다.
+    // 아직 버퍼에 있는 그 글의 좋아요 증분은 flush 후 어긋나므로 보정 작업이 맞춘다.
+    @Transactional
+    public void recordPostDeleted(Long authorId, Long postId) {
+        userCommunityStatsRepository.subtractDeletedPost(authorId, postId);
+        userCommunityStatsRepository.subtractLikesGivenByPostLikers(postId);
+    }
+
+    @Transactional
+    public void recordCommentCreated(Long userId) {
+        userCommunityStatsRepository.addDeltas(userId, 0L, 1L, 0L, 0L);
+    }
+
+    public void recordLiked(Long likerId, Long authorId) {
+        userLikeStatsBuffer.record(likerId, authorId, 1L);
+    }
+
+    public void recordUnliked(Long likerId, Long authorId) {
+        userLikeStatsBuffer.record(likerId, authorId, -1L);
+    }
+
+    // 한 구간의 사용자를 다시 세어 어긋난 행을 고치고, 고친 행 수를 반환한다
+    @Transactional
+    public int reconcile(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> postCounts = toMap(communityPostRepository.countPostsByUserIds(userIds));
+        Map<Long, Long> commentCounts = toMap(communityCommentRepository.countCommentsByUserIds(userIds));
+        Map<Long, Long> likesReceived = toMap(communityPostLikeRepository.countLikesReceivedByUserIds(userIds));
+        Map<Long, Long> likesGiven = toMap(communityPostLikeRepository.countLikesGivenByUserIds(userIds));
+        Map<Long, UserCommunityStats> current = userCommunityStatsRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserCommunityStats::getUserId, stats -> stats));
+
+        int corrected = 0;
+        for (Long userId : userIds) {
+            long postCount = postCounts.getOrDefault(userId, 0L);
+            long commentCount = commentCounts.getOrDefault(userId, 0L);
+            long received = likesReceived.getOrDefault(userId, 0L);
+            long given = likesGiven.getOrDefault(userId, 0L);
+
+            UserCommunityStats stats = current.get(userId);
+            if (stats == null) {
+                // 활동이 없는 사용자는 행 없이 0으로 응답하므로 만들 필요가 없다
+                if (postCount + commentCount + received + given > 0) {
+                    corrected += userCommunityStatsRepository.insertIfAbsent(userId, postCount, commentCount, received, given);
+                }
+                continue;
+            }
+
+            if (stats.getPostCount() != postCount
+                    || stats.getCommentCount() != commentCount
+                    || stats.getLikesReceived() != received
+                    || stats.getLikesGiven() != given) {
+                corrected += userCommunityStatsRepository.overwriteIfUnchanged(
+                        userId, postCount, commentCount, received, given,
+                        stats.getPostCount(), stats.getCommentCount(), stats.getLikesReceived(), stats.getLikesGiven()
+                );
+            }
+        }
+        return corrected;
+    }
+
+    private static Map<Long, Long> toMap(List<UserActivityCount> counts) {
+        return counts.stream().collect(Collectors.toMap(UserActivityCount::userId, UserActivityCount::count));
+    }
+}
@@ -0,0 +1,87 @@
+package com.wilo.server.community.service.stats;
+
+import com.wilo.server.global.transaction.AfterCommit;
+import com.wilo.server.user.repository.UserCommunityStatsRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 좋아요로 생기는 프로필 집계 증분(받은/누른 좋아요) write-behind 버퍼.
+// 인기 작성자의 집계 행이 좋아요 트랜잭션마다 잠기지 않도록 커밋된 좋아요의 증분만 메모리에 모으고,
+// flush 주기마다 사용자 id 오름차순으로 한 트랜잭션에 반영한다 (항상 같은 순서로 잠가 교착이 생기지 않는다).
+@Slf4j
+@Component
+public class UserLikeStatsBuffer {
+
+    private final UserCommunityStatsRepository userCommunityStatsRepository;
+    private final TransactionTemplate transaction;
+    private final ConcurrentHashMap<Long, LikeDelta> pendingDeltas = new ConcurrentHashMap<>();
+
+    public UserLikeStatsBuffer(
+            UserCommunityStatsRepository userCommunityStatsRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userCommunityStatsRepository = userCommunityStatsRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void record(Long likerId, Long authorId, long delta) {
+        AfterCommit.run(() -> {
+            pendingDeltas.merge(likerId, new LikeDelta(0L, delta), LikeDelta::plus);
+            pendingDeltas.merge(authorId, new LikeDelta(delta, 0L), LikeDelta::plus);
+        });
+    }
+
+    public int getPendingCount() {
+        return pendingDeltas.size();
+    }
+
+    @Scheduled(fixedDelayString = "${community.user-stats.like-flush-interval-ms:3000}")
+    public void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        // remove는 키 단위로 원자적이라 drain 도중 들어온 증분은 다음 flush로 넘어간다.
+        Map<Long, LikeDelta> drained = new TreeMap<>();
+        for (Long userId : pendingDeltas.keySet()) {
+            LikeDelta delta = pendingDeltas.remove(userId);
+            if (delta != null && !delta.isZero()) {
+                drained.put(userId, delta);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> drained.forEach((userId, delta) ->
+                    userCommunityStatsRepository.addDeltas(userId, 0L, 0L, delta.received(), delta.given())));
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집계 flush 실패, 다음 주기에 재시도합니다. users={}", drained.size(), e);
+            drained.forEach((userId, delta) -> pendingDeltas.merge(userId, delta, LikeDelta::plus));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private record LikeDelta(long received, long given) {
+
+        LikeDelta plus(LikeDelta other) {
+            return new LikeDelta(received + other.received, given + other.given);
+        }
+
+        boolean isZero() {
+            return received == 0L && given == 0L;
+        }
+    }
+}
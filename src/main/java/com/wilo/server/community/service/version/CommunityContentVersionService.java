@@ -0,0 +1,111 @@
+package com.wilo.server.community.service.version;
+
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.user.event.UserProfileUpdatedEvent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커뮤니티 콘텐츠 버전 스탬프: 게시글 이벤트마다 게시글별 버전과 목록 전체 버전을 Redis INCR로 올린다.
+// 조회 API는 DB를 읽지 않고 이 값만으로 ETag를 만들고, 상세/카운터 캐시는 다른 노드의 변경을 알아채는 데 쓴다.
+// 응답에 작성자 닉네임/프로필 이미지도 담기므로 프로필 변경마다 올리는 전역 프로필 버전을 모든 버전 뒤에 붙인다
+// (프로필 변경은 드물어 전체 재검증으로 충분하다).
+// 버전 앞에는 epoch를 붙여 Redis가 비워져 번호가 다시 시작돼도 이전 ETag와 겹치지 않게 한다.
+// Redis를 쓸 수 없으면 이 노드의 전역 카운터로 대신한다 (어느 게시글이 바뀌어도 모든 버전이 바뀐다).
+@Slf4j
+@Service
+public class CommunityContentVersionService {
+
+    static final String EPOCH_KEY = "community:version:epoch";
+    static final String FEED_KEY = "community:version:feed";
+    static final String POST_KEY_PREFIX = "community:version:post:";
+    static final String PROFILE_KEY = "community:version:profile";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String localEpoch = "l" + Long.toString(
+            System.currentTimeMillis() * 1000 + ThreadLocalRandom.current().nextInt(1000), 36);
+    private final AtomicLong localVersion = new AtomicLong();
+
+    public CommunityContentVersionService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String getFeedVersion() {
+        return read(FEED_KEY);
+    }
+
+    public String getPostVersion(Long postId) {
+        return read(POST_KEY_PREFIX + postId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostEvent(CommunityPostEvent event) {
+        // 좋아요/댓글 수도 목록에 보이므로 모든 이벤트가 목록 버전을 올린다
+        localVersion.incrementAndGet();
+        try {
+            redisTemplate.opsForValue().increment(POST_KEY_PREFIX + event.postId());
+            redisTemplate.opsForValue().increment(FEED_KEY);
+        } catch (RuntimeException e) {
+            log.debug("콘텐츠 버전 갱신 실패. postId={}", event.postId(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProfileEvent(UserProfileUpdatedEvent event) {
+        localVersion.incrementAndGet();
+        try {
+            redisTemplate.opsForValue().increment(PROFILE_KEY);
+        } catch (RuntimeException e) {
+            log.debug("프로필 버전 갱신 실패. userId={}", event.userId(), e);
+        }
+    }
+
+    // 이벤트 없이 게시글 응답이 바뀌는 작업(관련 글 갱신 등) 뒤에 호출한다
+    public void bumpPostVersions(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        localVersion.incrementAndGet();
+        try {
+            for (Long postId : postIds) {
+                redisTemplate.opsForValue().increment(POST_KEY_PREFIX + postId);
+            }
+        } catch (RuntimeException e) {
+            log.debug("게시글 버전 갱신 실패. posts={}", postIds.size(), e);
+        }
+    }
+
+    // 이벤트 없이 목록 순서가 바뀌는 작업(랭킹 재구축 등) 뒤에 호출한다
+    public void bumpFeedVersion() {
+        localVersion.incrementAndGet();
+        try {
+            redisTemplate.opsForValue().increment(FEED_KEY);
+        } catch (RuntimeException e) {
+            log.debug("목록 버전 갱신 실패", e);
+        }
+    }
+
+    private String read(String key) {
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(Arrays.asList(EPOCH_KEY, key, PROFILE_KEY));
+            Object epoch = values.get(0);
+            if (epoch == null) {
+                redisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, Long.toString(System.currentTimeMillis(), 36));
+                epoch = redisTemplate.opsForValue().get(EPOCH_KEY);
+            }
+            Object version = values.get(1);
+            Object profileVersion = values.get(2);
+            return "r" + epoch + "." + (version == null ? "0" : version)
+                    + "." + (profileVersion == null ? "0" : profileVersion);
+        } catch (RuntimeException e) {
+            log.debug("콘텐츠 버전 조회 실패, 로컬 버전을 사용합니다. key={}", key, e);
+            return localEpoch + "." + localVersion.get();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.wilo.server.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -12,10 +13,15 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+    // 요약은 AI 서버 응답을 블로킹으로 기다린다. 가상 스레드 모드에서는 대기 중에 플랫폼 스레드를 잡지 않도록
+    // 가상 스레드로 실행하되, 요약 동시 실행 수 제한(풀/큐 크기)은 그대로 둔다.
     @Bean(name = "chatSummaryExecutor")
-    public Executor chatSummaryExecutor() {
+    public Executor chatSummaryExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setThreadNamePrefix("chat-summary-");
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("chat-summary-", 0).factory());
+        }
         executor.setCorePoolSize(1);
         executor.setMaxPoolSize(2);
         executor.setQueueCapacity(20);
@@ -23,4 +29,42 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "searchIndexExecutor")
+    public Executor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("search-index-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.initialize();
+        return executor;
+    }
+
+    // 관련 글 증분 갱신. 밀리면 버리고 야간 재계산에 맡긴다.
+    @Bean(name = "relatedPostExecutor")
+    public Executor relatedPostExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("related-post-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(200);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 야간 보정/재계산처럼 오래 걸리는 정기 작업. 스케줄러 스레드(기본 1개)를 붙잡으면
+    // 조회수 flush 등 다른 주기 작업이 모두 멈추므로 여기로 넘긴다. 밀린 작업이 쌓이면 버리고 다음 회차에 맡긴다.
+    @Bean(name = "maintenanceExecutor")
+    public Executor maintenanceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("maintenance-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,24 @@
+package com.wilo.server.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// TSID id를 쓰는 엔티티의 saveAll이 한 번의 배치 INSERT로 나가도록 JDBC 배치를 켠다.
+// spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 따른다.
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchPropertiesCustomizer(
+            @Value("${wilo.jpa.batch-size:50}") int batchSize
+    ) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
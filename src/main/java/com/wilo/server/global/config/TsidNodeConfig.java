@@ -0,0 +1,44 @@
+package com.wilo.server.global.config;
+
+import com.wilo.server.global.entity.Tsid;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+// TSID 노드 번호: 설정값이 있으면 그대로 쓰고, 없으면 Redis INCR로 기동 순서대로 받아
+// blue/green 배포처럼 동시에 떠 있는 노드끼리 같은 번호를 쓰지 않게 한다.
+@Slf4j
+@Configuration
+public class TsidNodeConfig {
+
+    static final String NODE_SEQUENCE_KEY = "wilo:tsid:node-sequence";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int configuredNodeId;
+
+    public TsidNodeConfig(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${wilo.tsid.node-id:-1}") int configuredNodeId
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.configuredNodeId = configuredNodeId;
+    }
+
+    @PostConstruct
+    public void configureNode() {
+        if (configuredNodeId >= 0) {
+            Tsid.configureNode(configuredNodeId);
+            return;
+        }
+
+        try {
+            Long sequence = redisTemplate.opsForValue().increment(NODE_SEQUENCE_KEY);
+            Tsid.configureNode((int) Math.floorMod(sequence, Tsid.MAX_NODE_ID + 1L));
+            log.info("TSID 노드 번호를 할당했습니다. nodeId={}", Tsid.nodeId());
+        } catch (RuntimeException e) {
+            log.warn("TSID 노드 번호를 Redis에서 받지 못해 임의 번호를 사용합니다. nodeId={}", Tsid.nodeId(), e);
+        }
+    }
+}
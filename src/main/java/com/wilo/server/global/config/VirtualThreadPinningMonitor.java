@@ -0,0 +1,135 @@
+package com.wilo.server.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// 가상 스레드 모드에서 캐리어(플랫폼) 스레드를 붙잡는 pinning을 JFR 이벤트(jdk.VirtualThreadPinned)로 수집한다.
+// JDK 21에서는 synchronized 블록 안에서 블로킹하면 pinning이 생긴다 (JDBC 드라이버, Redis 클라이언트 등).
+// 처음 보는 위치는 스택과 함께 경고로 남기고, 위치별 횟수는 메트릭과 종료 시 요약 로그로 남긴다.
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+    private static final String OTHER_SITE = "other";
+    private static final int MAX_SITES = 50;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final ConcurrentHashMap<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning-monitor.threshold-ms:20}") long thresholdMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @Override
+    public void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+            recording.onEvent(EVENT_NAME, this::record);
+            recording.startAsync();
+            stream = recording;
+            log.info("가상 스레드 pinning 감시 시작. threshold={}ms", threshold.toMillis());
+        } catch (RuntimeException e) {
+            // JFR을 쓸 수 없는 런타임이면 감시 없이 기동한다
+            log.warn("가상 스레드 pinning 감시를 시작하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording == null) {
+            return;
+        }
+        recording.close();
+        Map<String, Long> report = report();
+        if (!report.isEmpty()) {
+            log.warn("가상 스레드 pinning 요약 (위치별 횟수): {}", report);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    // 위치별 pinning 횟수, 많은 순
+    public Map<String, Long> report() {
+        Map<String, Long> report = new LinkedHashMap<>();
+        pinnedSites.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(entry -> report.put(entry.getKey(), entry.getValue().sum()));
+        return report;
+    }
+
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = site(frames);
+        if (!pinnedSites.containsKey(site) && pinnedSites.size() >= MAX_SITES) {
+            site = OTHER_SITE;
+        }
+
+        LongAdder count = pinnedSites.computeIfAbsent(site, ignored -> new LongAdder());
+        count.increment();
+        meterRegistry.counter(METRIC_NAME, "site", site).increment();
+        if (count.sum() == 1 && !OTHER_SITE.equals(site)) {
+            log.warn("가상 스레드 pinning 감지. site={}, duration={}ms\n{}",
+                    site, event.getDuration().toMillis(), format(frames));
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    // 스택 위에서부터 JDK 내부가 아닌 첫 프레임을 pinning 위치로 본다
+    private static String site(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        for (RecordedFrame frame : frames.subList(0, Math.min(frames.size(), LOGGED_FRAMES))) {
+            builder.append("\tat ").append(describe(frame)).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
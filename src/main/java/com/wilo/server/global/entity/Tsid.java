@@ -0,0 +1,57 @@
+package com.wilo.server.global.entity;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 시간순 정렬되는 53비트 id: [41비트 ms(2025-01-01 기준, 약 69년) | 4비트 노드 | 8비트 시퀀스].
+// JavaScript Number로도 정확히 표현되도록 2^53 안에 맞췄고, 노드당 ms마다 256개까지 만든다.
+// 노드 번호는 기동 시 TsidNodeConfig가 정하며, 그 전에는 임의 값을 쓴다.
+public final class Tsid {
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static volatile int nodeId = ThreadLocalRandom.current().nextInt(MAX_NODE_ID + 1);
+    private static long lastMillis = -1L;
+    private static int sequence;
+
+    private Tsid() {
+    }
+
+    public static void configureNode(int configuredNodeId) {
+        if (configuredNodeId < 0 || configuredNodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID);
+        }
+        nodeId = configuredNodeId;
+    }
+
+    public static int nodeId() {
+        return nodeId;
+    }
+
+    public static synchronized long next() {
+        long now = System.currentTimeMillis();
+        // 시계가 뒤로 가면 마지막 시각을 계속 써서 단조 증가를 지킨다
+        if (now <= lastMillis) {
+            if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                lastMillis++;
+                sequence = 0;
+            }
+        } else {
+            lastMillis = now;
+            sequence = 0;
+        }
+        return ((lastMillis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    public static long millisOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
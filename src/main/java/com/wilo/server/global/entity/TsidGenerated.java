@@ -0,0 +1,14 @@
+package com.wilo.server.global.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+// IDENTITY 대신 애플리케이션에서 id를 만들어 Hibernate JDBC 배치 INSERT가 가능하게 한다
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidGenerated {
+}
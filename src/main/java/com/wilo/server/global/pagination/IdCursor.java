@@ -0,0 +1,28 @@
+package com.wilo.server.global.pagination;
+
+// id가 작성 순서대로 증가하는 목록의 최신순 커서. 포맷: id
+// 이전 포맷(createdAt|id)으로 받은 커서도 id만 읽어 이어서 조회한다.
+public record IdCursor(Long id) {
+
+    private static final IdCursor FIRST_PAGE = new IdCursor(null);
+
+    public static IdCursor from(String cursor) {
+        String[] parts = KeysetCursor.split(cursor, 1);
+        if (parts == null) {
+            parts = KeysetCursor.split(cursor, 2);
+        }
+        if (parts == null) {
+            return FIRST_PAGE;
+        }
+
+        try {
+            return new IdCursor(Long.parseLong(parts[parts.length - 1]));
+        } catch (RuntimeException e) {
+            return FIRST_PAGE;
+        }
+    }
+
+    public static String toCursorValue(Long id) {
+        return String.valueOf(id);
+    }
+}
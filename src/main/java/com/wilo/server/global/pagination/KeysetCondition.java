@@ -0,0 +1,72 @@
+package com.wilo.server.global.pagination;
+
+import com.querydsl.core.types.ConstantImpl;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.util.Arrays;
+import java.util.List;
+
+// QueryDSL 키셋 페이지네이션 조건.
+// MySQL 옵티마이저가 범위 접근으로 풀어 주는 펼친 형태 a < x OR (a = x AND id < y)로 만든다 (행 값 비교 (a, id) < (x, y)는
+// 범위 접근이 보장되지 않는다). 맨 앞 키에는 a <= x를 AND로 한 번 더 걸어, OR 조건이어도 인덱스 (..., a, id) 위
+// 범위 스캔의 시작점이 정해지게 한다.
+// 커서 값 중 하나라도 없으면 첫 페이지이므로 null을 반환한다 (where 절에서 무시된다).
+public final class KeysetCondition {
+
+    private KeysetCondition() {
+    }
+
+    // 내림차순 정렬의 다음 페이지
+    public static BooleanExpression before(Expression<?> key, Object keyValue, NumberPath<Long> id, Long idValue) {
+        return compare(true, List.of(key, id), values(keyValue, idValue));
+    }
+
+    public static BooleanExpression before(
+            Expression<?> firstKey,
+            Object firstValue,
+            Expression<?> secondKey,
+            Object secondValue,
+            NumberPath<Long> id,
+            Long idValue
+    ) {
+        return compare(true, List.of(firstKey, secondKey, id), values(firstValue, secondValue, idValue));
+    }
+
+    // 오름차순 정렬의 다음 페이지
+    public static BooleanExpression after(Expression<?> key, Object keyValue, NumberPath<Long> id, Long idValue) {
+        return compare(false, List.of(key, id), values(keyValue, idValue));
+    }
+
+    // id가 작성 순서대로 증가하는 최신순 목록
+    public static BooleanExpression idBefore(NumberPath<Long> id, Long idValue) {
+        return idValue == null ? null : id.lt(idValue);
+    }
+
+    private static BooleanExpression compare(boolean descending, List<Expression<?>> keys, List<Object> values) {
+        if (values.contains(null)) {
+            return null;
+        }
+
+        BooleanExpression leadingBound = bound(keys.get(0), descending ? "<=" : ">=", values.get(0));
+        return leadingBound.and(expand(descending, keys, values, 0));
+    }
+
+    // a < x OR (a = x AND (b < y OR (b = y AND id < z)))
+    private static BooleanExpression expand(boolean descending, List<Expression<?>> keys, List<Object> values, int index) {
+        BooleanExpression strict = bound(keys.get(index), descending ? "<" : ">", values.get(index));
+        if (index == keys.size() - 1) {
+            return strict;
+        }
+        return strict.or(bound(keys.get(index), "=", values.get(index)).and(expand(descending, keys, values, index + 1)));
+    }
+
+    private static BooleanExpression bound(Expression<?> key, String operator, Object value) {
+        return Expressions.booleanTemplate("{0} " + operator + " {1}", key, ConstantImpl.create(value));
+    }
+
+    private static List<Object> values(Object... values) {
+        return Arrays.asList(values);
+    }
+}
@@ -0,0 +1,29 @@
+package com.wilo.server.global.pagination;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// 키셋 페이지네이션 커서 문자열. 포맷: 정렬 키 값을 '|'로 이은 것 (마지막 값은 항상 id)
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    // 값 개수가 다르거나 비어 있으면 null (첫 페이지로 취급)
+    public static String[] split(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        String[] parts = cursor.split("\\|");
+        return parts.length == size ? parts : null;
+    }
+
+    public static String join(Object... values) {
+        return Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+    }
+}
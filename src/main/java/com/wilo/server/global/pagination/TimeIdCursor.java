@@ -0,0 +1,26 @@
+package com.wilo.server.global.pagination;
+
+import java.time.LocalDateTime;
+
+// (시각, id) 순으로 정렬된 목록의 커서. 포맷: time|id
+public record TimeIdCursor(LocalDateTime time, Long id) {
+
+    private static final TimeIdCursor FIRST_PAGE = new TimeIdCursor(null, null);
+
+    public static TimeIdCursor from(String cursor) {
+        String[] parts = KeysetCursor.split(cursor, 2);
+        if (parts == null) {
+            return FIRST_PAGE;
+        }
+
+        try {
+            return new TimeIdCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            return FIRST_PAGE;
+        }
+    }
+
+    public static String toCursorValue(LocalDateTime time, Long id) {
+        return KeysetCursor.join(time, id);
+    }
+}
@@ -0,0 +1,24 @@
+package com.wilo.server.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 현재 트랜잭션이 끝난 뒤(커밋/롤백 모두) 실행한다. afterCommit 작업보다 나중에 돈다. 트랜잭션 밖이면 바로 실행한다.
+public final class AfterCompletion {
+
+    private AfterCompletion() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,14 +1,13 @@
 package com.wilo.server.notification.entity;
 
 import com.wilo.server.global.entity.BaseEntity;
+import com.wilo.server.global.entity.TsidGenerated;
 import com.wilo.server.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -33,7 +32,7 @@ import lombok.NoArgsConstructor;
 public class UserNotification extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
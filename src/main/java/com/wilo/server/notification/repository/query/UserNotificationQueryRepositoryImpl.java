@@ -1,7 +1,7 @@
 package com.wilo.server.notification.repository.query;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.wilo.server.global.pagination.KeysetCondition;
 import com.wilo.server.notification.entity.QUserNotification;
 import com.wilo.server.notification.entity.UserNotification;
 import com.wilo.server.user.entity.QUser;
@@ -32,19 +32,10 @@ public class UserNotificationQueryRepositoryImpl implements UserNotificationQuer
                 .join(notification.actorUser, actor).fetchJoin()
                 .where(
                         notification.receiverUser.id.eq(receiverUserId),
-                        cursorCondition(cursorCreatedAt, cursorId)
+                        KeysetCondition.before(notification.createdAt, cursorCreatedAt, notification.id, cursorId)
                 )
                 .orderBy(notification.createdAt.desc(), notification.id.desc())
                 .limit(pageable.getPageSize())
                 .fetch();
     }
-
-    private BooleanExpression cursorCondition(LocalDateTime cursorCreatedAt, Long cursorId) {
-        if (cursorCreatedAt == null || cursorId == null) {
-            return null;
-        }
-
-        return notification.createdAt.lt(cursorCreatedAt)
-                .or(notification.createdAt.eq(cursorCreatedAt).and(notification.id.lt(cursorId)));
-    }
 }
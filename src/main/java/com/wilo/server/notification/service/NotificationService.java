@@ -9,6 +9,7 @@ import com.wilo.server.notification.entity.UserNotification;
 import com.wilo.server.notification.error.NotificationErrorCase;
 import com.wilo.server.notification.repository.UserNotificationRepository;
 import com.wilo.server.global.exception.ApplicationException;
+import com.wilo.server.global.pagination.TimeIdCursor;
 import com.wilo.server.user.entity.User;
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -67,10 +68,10 @@ public class NotificationService {
         int safeSize = size == null || size < 1 ? 20 : Math.min(size, MAX_PAGE_SIZE);
         Pageable pageable = PageRequest.of(0, safeSize + 1);
 
-        Cursor parsedCursor = Cursor.from(cursor);
+        TimeIdCursor parsedCursor = TimeIdCursor.from(cursor);
         List<UserNotification> fetchedNotifications = userNotificationRepository.findLatestByReceiverWithCursor(
                 receiverUserId,
-                parsedCursor.createdAt(),
+                parsedCursor.time(),
                 parsedCursor.id(),
                 pageable
         );
@@ -87,7 +88,7 @@ public class NotificationService {
         String nextCursor = null;
         if (hasNext && !pageNotifications.isEmpty()) {
             UserNotification last = pageNotifications.get(pageNotifications.size() - 1);
-            nextCursor = Cursor.of(last).toCursorValue();
+            nextCursor = TimeIdCursor.toCursorValue(last.getCreatedAt(), last.getId());
         }
 
         return new NotificationListResponseDto(items, cursor, safeSize, hasNext, nextCursor);
@@ -176,31 +177,4 @@ public class NotificationService {
         long days = hours / 24;
         return days + "일 전";
     }
-
-    private record Cursor(LocalDateTime createdAt, Long id) {
-        private static Cursor from(String cursor) {
-            if (cursor == null || cursor.isBlank()) {
-                return new Cursor(null, null);
-            }
-
-            String[] parts = cursor.split("\\|");
-            if (parts.length != 2) {
-                return new Cursor(null, null);
-            }
-
-            try {
-                return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
-            } catch (RuntimeException e) {
-                return new Cursor(null, null);
-            }
-        }
-
-        private static Cursor of(UserNotification notification) {
-            return new Cursor(notification.getCreatedAt(), notification.getId());
-        }
-
-        private String toCursorValue() {
-            return createdAt + "|" + id;
-        }
-    }
 }
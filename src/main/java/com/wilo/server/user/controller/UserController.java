@@ -1,6 +1,7 @@
 package com.wilo.server.user.controller;
 
 import com.wilo.server.global.response.CommonResponse;
+import com.wilo.server.user.dto.UserCommunityStatsResponseDto;
 import com.wilo.server.user.dto.UserPasswordChangeRequestDto;
 import com.wilo.server.user.dto.UserPasswordResetRequestDto;
 import com.wilo.server.user.dto.UserResponseDto;
@@ -18,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -58,6 +60,17 @@ public class UserController {
         return CommonResponse.success(userService.getUserProfile(userId));
     }
 
+    @GetMapping("/{userId}/community-stats")
+    @Operation(summary = "유저 커뮤니티 활동 집계 조회", description = "프로필 화면에 표시할 작성 글/댓글 수, 받은/누른 좋아요 수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public CommonResponse<UserCommunityStatsResponseDto> getCommunityStats(
+            @PathVariable Long userId
+    ) {
+        return CommonResponse.success(userService.getCommunityStats(userId));
+    }
+
     @PatchMapping
     @Operation(summary = "내 프로필 수정", description = "현재 로그인한 유저의 닉네임/한 줄 소개를 수정합니다.")
     @ApiResponses(value = {
@@ -0,0 +1,26 @@
+package com.wilo.server.user.dto;
+
+import com.wilo.server.user.entity.UserCommunityStats;
+
+public record UserCommunityStatsResponseDto(
+        Long userId,
+        long postCount,
+        long commentCount,
+        long likesReceived,
+        long likesGiven
+) {
+    public static UserCommunityStatsResponseDto from(UserCommunityStats stats) {
+        return new UserCommunityStatsResponseDto(
+                stats.getUserId(),
+                stats.getPostCount(),
+                stats.getCommentCount(),
+                stats.getLikesReceived(),
+                stats.getLikesGiven()
+        );
+    }
+
+    // 커뮤니티 활동이 없어 집계 행이 없는 사용자
+    public static UserCommunityStatsResponseDto empty(Long userId) {
+        return new UserCommunityStatsResponseDto(userId, 0L, 0L, 0L, 0L);
+    }
+}
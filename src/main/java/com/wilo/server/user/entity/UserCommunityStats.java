@@ -0,0 +1,37 @@
+package com.wilo.server.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 프로필 화면용 커뮤니티 활동 집계. 커뮤니티 쓰기 경로가 증분으로 갱신하고 주기 작업이 COUNT 결과로 보정한다.
+@Getter
+@Entity
+@Table(name = "user_community_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserCommunityStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 삭제되지 않은 작성 글 수
+    @Column(nullable = false)
+    private Long postCount;
+
+    // 삭제되지 않은 작성 댓글/답글 수
+    @Column(nullable = false)
+    private Long commentCount;
+
+    // 삭제되지 않은 작성 글이 받은 좋아요 수
+    @Column(nullable = false)
+    private Long likesReceived;
+
+    // 삭제되지 않은 글에 누른 좋아요 수
+    @Column(nullable = false)
+    private Long likesGiven;
+}
@@ -0,0 +1,10 @@
+package com.wilo.server.user.event;
+
+// 닉네임/프로필 이미지 변경 이벤트. 커밋 이후 작성자 정보를 담은 응답의 버전 갱신에 사용한다.
+public record UserProfileUpdatedEvent(
+        Long userId
+) {
+    public static UserProfileUpdatedEvent of(Long userId) {
+        return new UserProfileUpdatedEvent(userId);
+    }
+}
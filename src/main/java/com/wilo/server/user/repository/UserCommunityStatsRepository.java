@@ -0,0 +1,88 @@
+package com.wilo.server.user.repository;
+
+import com.wilo.server.user.entity.UserCommunityStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserCommunityStatsRepository extends JpaRepository<UserCommunityStats, Long> {
+
+    // 집계 행에 증분 누적 (행이 없으면 생성). 0 아래로는 내려가지 않게 하고 어긋난 값은 보정 작업이 맞춘다.
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_community_stats (user_id, post_count, comment_count, likes_received, likes_given)
+        VALUES (:userId, GREATEST(:postDelta, 0), GREATEST(:commentDelta, 0), GREATEST(:likesReceivedDelta, 0), GREATEST(:likesGivenDelta, 0))
+        ON DUPLICATE KEY UPDATE
+            post_count = GREATEST(post_count + :postDelta, 0),
+            comment_count = GREATEST(comment_count + :commentDelta, 0),
+            likes_received = GREATEST(likes_received + :likesReceivedDelta, 0),
+            likes_given = GREATEST(likes_given + :likesGivenDelta, 0)
+    """, nativeQuery = true)
+    int addDeltas(
+            @Param("userId") Long userId,
+            @Param("postDelta") long postDelta,
+            @Param("commentDelta") long commentDelta,
+            @Param("likesReceivedDelta") long likesReceivedDelta,
+            @Param("likesGivenDelta") long likesGivenDelta
+    );
+
+    // 글 삭제 시 작성자의 글 수와 그 글이 받은 좋아요 수를 한 번에 뺀다
+    @Modifying
+    @Query(value = """
+        UPDATE user_community_stats
+        SET post_count = GREATEST(post_count - 1, 0),
+            likes_received = GREATEST(likes_received - (SELECT COUNT(*) FROM community_post_likes WHERE post_id = :postId), 0)
+        WHERE user_id = :userId
+    """, nativeQuery = true)
+    int subtractDeletedPost(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 글 삭제 시 그 글에 좋아요를 누른 사용자들의 누른 좋아요 수를 1씩 뺀다
+    @Modifying
+    @Query(value = """
+        UPDATE user_community_stats
+        SET likes_given = GREATEST(likes_given - 1, 0)
+        WHERE user_id IN (SELECT user_id FROM community_post_likes WHERE post_id = :postId)
+    """, nativeQuery = true)
+    int subtractLikesGivenByPostLikers(@Param("postId") Long postId);
+
+    // 보정: 행이 없던 사용자는 계산한 값으로 만든다 (그사이 증분이 먼저 만든 행은 다음 주기에 맞춘다)
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO user_community_stats (user_id, post_count, comment_count, likes_received, likes_given)
+        VALUES (:userId, :postCount, :commentCount, :likesReceived, :likesGiven)
+    """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("userId") Long userId,
+            @Param("postCount") long postCount,
+            @Param("commentCount") long commentCount,
+            @Param("likesReceived") long likesReceived,
+            @Param("likesGiven") long likesGiven
+    );
+
+    // 보정: 읽은 값이 그대로일 때만 덮어써서, 계산 도중 들어온 증분을 지우지 않는다
+    @Modifying
+    @Query("""
+        update UserCommunityStats s
+        set s.postCount = :postCount,
+            s.commentCount = :commentCount,
+            s.likesReceived = :likesReceived,
+            s.likesGiven = :likesGiven
+        where s.userId = :userId
+          and s.postCount = :expectedPostCount
+          and s.commentCount = :expectedCommentCount
+          and s.likesReceived = :expectedLikesReceived
+          and s.likesGiven = :expectedLikesGiven
+    """)
+    int overwriteIfUnchanged(
+            @Param("userId") Long userId,
+            @Param("postCount") long postCount,
+            @Param("commentCount") long commentCount,
+            @Param("likesReceived") long likesReceived,
+            @Param("likesGiven") long likesGiven,
+            @Param("expectedPostCount") long expectedPostCount,
+            @Param("expectedCommentCount") long expectedCommentCount,
+            @Param("expectedLikesReceived") long expectedLikesReceived,
+            @Param("expectedLikesGiven") long expectedLikesGiven
+    );
+}
@@ -5,7 +5,10 @@ import com.wilo.server.user.entity.User;
 import com.wilo.server.user.entity.AuthProvider;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -22,4 +25,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findAllByPhoneNumber(String phoneNumber);
 
     Optional<User> findByAuthProviderAndProviderUserId(AuthProvider authProvider, String providerUserId);
+
+    // id 순으로 afterId 다음 구간의 사용자 id
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -5,15 +5,19 @@ import com.wilo.server.auth.repository.PhoneVerificationCodeRepository;
 import com.wilo.server.files.service.FileService;
 import com.wilo.server.files.exception.FileErrorCase;
 import com.wilo.server.global.exception.ApplicationException;
+import com.wilo.server.user.dto.UserCommunityStatsResponseDto;
 import com.wilo.server.user.dto.UserPasswordChangeRequestDto;
 import com.wilo.server.user.dto.UserPasswordResetRequestDto;
 import com.wilo.server.user.dto.UserResponseDto;
 import com.wilo.server.user.dto.UserUpdateRequestDto;
 import com.wilo.server.user.entity.User;
 import com.wilo.server.user.error.UserErrorCase;
+import com.wilo.server.user.event.UserProfileUpdatedEvent;
+import com.wilo.server.user.repository.UserCommunityStatsRepository;
 import com.wilo.server.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,9 +29,11 @@ import org.springframework.web.multipart.MultipartFile;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCommunityStatsRepository userCommunityStatsRepository;
     private final FileService fileService;
     private final PasswordEncoder passwordEncoder;
     private final PhoneVerificationCodeRepository phoneVerificationCodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserResponseDto getUserProfile(Long userId) {
@@ -35,6 +41,14 @@ public class UserService {
         return UserResponseDto.from(user);
     }
 
+    // 집계 테이블의 기본 키 조회 한 번으로 응답한다 (COUNT 쿼리 없음)
+    @Transactional(readOnly = true)
+    public UserCommunityStatsResponseDto getCommunityStats(Long userId) {
+        return userCommunityStatsRepository.findById(userId)
+                .map(UserCommunityStatsResponseDto::from)
+                .orElseGet(() -> UserCommunityStatsResponseDto.empty(userId));
+    }
+
     @Transactional
     public UserResponseDto updateUserProfile(Long userId, UserUpdateRequestDto request) {
         User user = getUserOrThrow(userId);
@@ -52,7 +66,12 @@ public class UserService {
         String nicknameToUpdate = request.nickname() == null ? user.getNickname() : request.nickname();
         String descriptionToUpdate = request.description() == null ? user.getDescription() : request.description();
 
+        boolean nicknameChanged = !user.getNickname().equals(nicknameToUpdate);
         user.updateProfile(nicknameToUpdate, descriptionToUpdate, user.getPhoneNumber());
+        // 커뮤니티 응답에는 닉네임만 보이므로 소개글만 바뀐 경우는 알리지 않는다
+        if (nicknameChanged) {
+            eventPublisher.publishEvent(UserProfileUpdatedEvent.of(userId));
+        }
         return UserResponseDto.from(user);
     }
 
@@ -68,6 +87,7 @@ public class UserService {
 
         user.updateProfileImageUrl(uploadedImageUrl);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserProfileUpdatedEvent.of(userId));
 
         if (previousImageUrl != null && !previousImageUrl.isBlank() && !previousImageUrl.equals(uploadedImageUrl)) {
             try {
@@ -0,0 +1,48 @@
+-- 최신순 목록은 id만으로 정렬하므로 (category, id), (user_id, id) 인덱스로 바꾼다.
+-- user_id 외래 키가 쓸 인덱스를 먼저 만든 뒤 이전 인덱스를 지운다.
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'community_posts')
+        AND NOT EXISTS (SELECT 1 FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'community_posts' AND index_name = 'idx_posts_category_id'),
+    'CREATE INDEX idx_posts_category_id ON community_posts (category, id)',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'community_posts')
+        AND NOT EXISTS (SELECT 1 FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'community_posts' AND index_name = 'idx_posts_user_id'),
+    'CREATE INDEX idx_posts_user_id ON community_posts (user_id, id)',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'community_posts' AND index_name = 'idx_posts_created_id'),
+    'DROP INDEX idx_posts_created_id ON community_posts',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'community_posts' AND index_name = 'idx_posts_category_created_id'),
+    'DROP INDEX idx_posts_category_created_id ON community_posts',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'community_posts' AND index_name = 'idx_posts_user_created_id'),
+    'DROP INDEX idx_posts_user_created_id ON community_posts',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,29 @@
+-- 관련 글 추천용 MinHash 서명, LSH 밴드 버킷, 미리 계산한 상위 N개 목록.
+-- 기존 글은 서명이 없으면 애플리케이션 기동 시 한 번 전체 계산한다.
+CREATE TABLE IF NOT EXISTS community_post_minhashes (
+    post_id BIGINT NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    signature VARBINARY(256) NOT NULL,
+    PRIMARY KEY (post_id)
+);
+
+CREATE TABLE IF NOT EXISTS community_post_minhash_bands (
+    id BIGINT NOT NULL,
+    post_id BIGINT NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    bucket BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_minhash_bands_category_bucket (category, bucket),
+    INDEX idx_minhash_bands_post (post_id)
+);
+
+CREATE TABLE IF NOT EXISTS community_related_posts (
+    id BIGINT NOT NULL,
+    post_id BIGINT NOT NULL,
+    related_post_id BIGINT NOT NULL,
+    similarity DOUBLE NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_related_posts_post_related (post_id, related_post_id),
+    INDEX idx_related_posts_post_similarity (post_id, similarity),
+    INDEX idx_related_posts_related (related_post_id)
+);
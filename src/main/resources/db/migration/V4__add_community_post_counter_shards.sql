@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS community_post_counter_shards (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    post_id BIGINT NOT NULL,
+    shard_no INT NOT NULL,
+    like_count BIGINT NOT NULL,
+    comment_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_post_counter_shard_post_shard UNIQUE (post_id, shard_no)
+);
@@ -0,0 +1,19 @@
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'community_comments')
+        AND NOT EXISTS (SELECT 1 FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'community_comments' AND index_name = 'idx_comments_post_parent_created_id'),
+    'CREATE INDEX idx_comments_post_parent_created_id ON community_comments (post_id, parent_comment_id, created_at, id)',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'community_comments')
+        AND NOT EXISTS (SELECT 1 FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'community_comments' AND index_name = 'idx_comments_parent_created_id'),
+    'CREATE INDEX idx_comments_parent_created_id ON community_comments (parent_comment_id, created_at, id)',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,27 @@
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'community_posts')
+        AND NOT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'community_posts' AND column_name = 'content_preview'),
+    'ALTER TABLE community_posts ADD COLUMN content_preview VARCHAR(130) NULL',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'community_posts' AND column_name = 'content_preview'),
+    'UPDATE community_posts SET content_preview = CASE WHEN CHAR_LENGTH(content) <= 120 THEN content ELSE CONCAT(LEFT(content, 120), ''...'') END WHERE content_preview IS NULL',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'community_posts' AND column_name = 'content_preview' AND is_nullable = 'YES'),
+    'ALTER TABLE community_posts MODIFY content_preview VARCHAR(130) NOT NULL',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,9 @@
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'community_post_likes')
+        AND NOT EXISTS (SELECT 1 FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'community_post_likes' AND index_name = 'idx_post_likes_user_created_id'),
+    'CREATE INDEX idx_post_likes_user_created_id ON community_post_likes (user_id, created_at, id)',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,30 @@
+CREATE TABLE IF NOT EXISTS user_community_stats (
+    user_id BIGINT NOT NULL,
+    post_count BIGINT NOT NULL,
+    comment_count BIGINT NOT NULL,
+    likes_received BIGINT NOT NULL,
+    likes_given BIGINT NOT NULL,
+    PRIMARY KEY (user_id)
+);
+
+-- 기존 활동을 한 번 채워 둔다 (이후 차이는 보정 작업이 맞춘다)
+SET @sql := IF(
+    EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'users')
+        AND EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'community_posts')
+        AND EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'community_comments')
+        AND EXISTS (SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'community_post_likes'),
+    'INSERT IGNORE INTO user_community_stats (user_id, post_count, comment_count, likes_received, likes_given)
+     SELECT u.id,
+            (SELECT COUNT(*) FROM community_posts p WHERE p.user_id = u.id AND p.deleted_at IS NULL),
+            (SELECT COUNT(*) FROM community_comments c WHERE c.user_id = u.id AND c.deleted_at IS NULL),
+            (SELECT COUNT(*) FROM community_post_likes l JOIN community_posts p ON p.id = l.post_id
+              WHERE p.user_id = u.id AND p.deleted_at IS NULL),
+            (SELECT COUNT(*) FROM community_post_likes l JOIN community_posts p ON p.id = l.post_id
+              WHERE l.user_id = u.id AND p.deleted_at IS NULL)
+     FROM users u
+     WHERE u.deleted_at IS NULL',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
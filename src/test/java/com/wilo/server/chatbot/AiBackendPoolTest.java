@@ -0,0 +1,87 @@
+package com.wilo.server.chatbot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.chatbot.client.routing.AiBackend;
+import com.wilo.server.chatbot.client.routing.AiBackendPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class AiBackendPoolTest {
+
+    // 아무도 듣지 않는 포트라 바로 연결 거부된다
+    private static final String DEAD_BACKEND = "http://127.0.0.1:1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StubAiServer first = StubAiServer.start();
+    private final StubAiServer second = StubAiServer.start();
+
+    @AfterEach
+    void tearDown() {
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void route_ejectsBackendAfterConsecutiveFailures() {
+        AiBackendPool pool = pool(List.of(DEAD_BACKEND, first.baseUrl()), false);
+
+        int succeeded = 0;
+        for (int i = 0; i < 10; i++) {
+            String answer = pool.route(AiBackendPoolTest::chat).onErrorResume(e -> Mono.empty()).block();
+            if (answer != null) {
+                succeeded++;
+            }
+        }
+
+        AiBackend dead = pool.getBackends().get(0);
+        assertTrue(dead.isEjected(System.nanoTime()));
+        assertFalse(pool.getBackends().get(1).isEjected(System.nanoTime()));
+        assertEquals(7, succeeded);
+        assertEquals(1.0, meterRegistry.get("ai.client.backend.ejected").tag("backend", DEAD_BACKEND).gauge().value());
+    }
+
+    @Test
+    void hedged_sendsSecondRequestWhenPrimaryPassesP95() {
+        AiBackendPool pool = pool(List.of(first.baseUrl(), second.baseUrl()), true);
+        second.responseDelayMillis(100);
+        for (int i = 0; i < 20; i++) {
+            pool.hedged(AiBackendPoolTest::chat).block();
+        }
+
+        // 평소 빠르던 서버가 갑자기 느려진다
+        first.responseDelayMillis(3_000);
+        second.responseDelayMillis(0);
+        long start = System.nanoTime();
+        String answer = pool.hedged(AiBackendPoolTest::chat).block();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(answer.contains(first.answer()), answer);
+        assertTrue(elapsedMillis < 1_500, "elapsed " + elapsedMillis + "ms");
+        assertTrue(meterRegistry.get("ai.client.hedge").tag("result", "won").counter().count() >= 1, "hedge");
+        // 헤징에 진 요청의 경과 시간이 반영돼 다음 요청은 다른 서버로 간다
+        assertTrue(pool.getBackends().get(0).getEwmaNanos() > pool.getBackends().get(1).getEwmaNanos(),
+                pool.getBackends().get(0).getEwmaNanos() + " " + pool.getBackends().get(1).getEwmaNanos());
+    }
+
+    private AiBackendPool pool(List<String> baseUrls, boolean hedging) {
+        return new AiBackendPool(WebClient.builder().build(), meterRegistry, baseUrls, 3, 30_000, 100, hedging, 5, 50);
+    }
+
+    private static Mono<String> chat(WebClient webClient) {
+        return webClient.post()
+                .uri("/chat")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{}")
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+}
@@ -0,0 +1,144 @@
+package com.wilo.server.chatbot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.chatbot.client.resilience.AiCallGuard;
+import com.wilo.server.chatbot.client.resilience.AiCircuitBreaker;
+import com.wilo.server.chatbot.client.resilience.AiEndpoint;
+import com.wilo.server.chatbot.client.resilience.AiResilienceProperties;
+import com.wilo.server.chatbot.client.resilience.AimdLimit;
+import com.wilo.server.chatbot.exception.ChatbotErrorCase;
+import com.wilo.server.global.exception.ApplicationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+class AiCallGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AiCallGuard aiCallGuard = new AiCallGuard(new AiResilienceProperties(), meterRegistry);
+
+    @Test
+    void aimdLimit_growsUnderLoadAndBacksOffOnDrop() {
+        AimdLimit limit = new AimdLimit(4, 2, 8, 0.5, 1_000_000_000L);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+        assertFalse(limit.tryAcquire());
+
+        // 한도까지 쓰던 중의 성공은 한도를 1 늘리고, 느린 응답은 줄인다
+        limit.onSuccess(1_000L);
+        assertEquals(5, limit.getLimit());
+        limit.onSuccess(2_000_000_000L);
+        assertEquals(2, limit.getLimit());
+        limit.onDropped();
+        assertEquals(2, limit.getLimit());
+        assertEquals(1, limit.getInFlight());
+    }
+
+    @Test
+    void circuitBreaker_opensOnFailureRateAndClosesAfterProbes() {
+        AtomicLong now = new AtomicLong();
+        AiResilienceProperties.CircuitBreaker properties = new AiResilienceProperties.CircuitBreaker();
+        AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(properties, now::get);
+
+        // 열리기 전에 나가 늦게 끝나는 호출
+        long stale = circuitBreaker.tryAcquire();
+        for (int i = 0; i < properties.getMinimumCalls(); i++) {
+            long ticket = circuitBreaker.tryAcquire();
+            assertNotEquals(AiCircuitBreaker.REJECTED, ticket);
+            circuitBreaker.onFailure(ticket);
+        }
+        assertEquals(AiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(AiCircuitBreaker.REJECTED, circuitBreaker.tryAcquire());
+
+        now.addAndGet(properties.getOpenMs() * 1_000_000L);
+        long firstProbe = circuitBreaker.tryAcquire();
+        long secondProbe = circuitBreaker.tryAcquire();
+        assertNotEquals(AiCircuitBreaker.REJECTED, firstProbe);
+        assertNotEquals(AiCircuitBreaker.REJECTED, secondProbe);
+        assertEquals(AiCircuitBreaker.REJECTED, circuitBreaker.tryAcquire());
+        assertEquals(AiCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        // 시험 호출이 아닌 호출의 결과는 반쯤 열린 상태를 바꾸지 않는다
+        circuitBreaker.onSuccess(stale);
+        circuitBreaker.onSuccess(stale);
+        circuitBreaker.onFailure(stale);
+        assertEquals(AiCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        circuitBreaker.onSuccess(firstProbe);
+        circuitBreaker.onSuccess(secondProbe);
+        assertEquals(AiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void call_failsFastOnceCircuitOpens_andSkipsUpstream() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            assertThrows(ApplicationException.class, () -> aiCallGuard.call(AiEndpoint.GREETING, () -> {
+                upstreamCalls.incrementAndGet();
+                throw new ApplicationException(ChatbotErrorCase.AI_SERVER_FAILED);
+            }));
+        }
+
+        ApplicationException rejected = assertThrows(ApplicationException.class,
+                () -> aiCallGuard.call(AiEndpoint.GREETING, upstreamCalls::incrementAndGet));
+
+        assertEquals(ChatbotErrorCase.AI_SERVER_UNAVAILABLE, rejected.getErrorCase());
+        assertEquals(10, upstreamCalls.get());
+        assertTrue(aiCallGuard.getLimit(AiEndpoint.GREETING).getLimit() < 10);
+        // 다른 엔드포인트는 영향을 받지 않는다
+        assertEquals("ok", aiCallGuard.call(AiEndpoint.CHAT, () -> "ok"));
+        assertEquals(2.0, meterRegistry.get("ai.client.circuit.state").tag("endpoint", "greeting").gauge().value());
+    }
+
+    @Test
+    void summarize_yieldsWhileChatIsBusy() {
+        AimdLimit chat = aiCallGuard.getLimit(AiEndpoint.CHAT);
+        while (chat.getInFlight() < chat.getLimit() / 2) {
+            chat.tryAcquire();
+        }
+
+        ApplicationException rejected = assertThrows(ApplicationException.class,
+                () -> aiCallGuard.call(AiEndpoint.SUMMARIZE, () -> "summary"));
+        assertEquals(ChatbotErrorCase.AI_SERVER_BUSY, rejected.getErrorCase());
+        assertEquals(1.0, meterRegistry.get("ai.client.rejected").tag("reason", "yield").counter().count());
+
+        chat.onIgnored();
+        assertEquals("summary", aiCallGuard.call(AiEndpoint.SUMMARIZE, () -> "summary"));
+    }
+
+    @Test
+    void stream_holdsPermitUntilStreamEnds_andShedsBeyondLimit() {
+        AimdLimit chat = aiCallGuard.getLimit(AiEndpoint.CHAT);
+        Flux<String> stream = aiCallGuard.stream(AiEndpoint.CHAT, () -> Flux.just("a", "b"))
+                .doOnNext(token -> assertEquals(1, chat.getInFlight()));
+        assertEquals(2L, stream.count().block());
+        assertEquals(0, chat.getInFlight());
+
+        while (chat.tryAcquire()) {
+            // 한도까지 채운다
+        }
+        ApplicationException rejected = assertThrows(ApplicationException.class,
+                () -> aiCallGuard.stream(AiEndpoint.CHAT, () -> Flux.just("a")).blockLast());
+        assertEquals(ChatbotErrorCase.AI_SERVER_BUSY, rejected.getErrorCase());
+    }
+
+    @Test
+    void stream_releasesPermit_whenStreamCreationThrows() {
+        AimdLimit chat = aiCallGuard.getLimit(AiEndpoint.CHAT);
+        Flux<String> stream = aiCallGuard.stream(AiEndpoint.CHAT, () -> {
+            throw new IllegalStateException("요청 본문 직렬화 실패");
+        });
+
+        assertThrows(IllegalStateException.class, stream::blockLast);
+        assertEquals(0, chat.getInFlight());
+    }
+}
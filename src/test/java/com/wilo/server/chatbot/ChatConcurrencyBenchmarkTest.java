@@ -0,0 +1,169 @@
+package com.wilo.server.chatbot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wilo.server.WiloApplication;
+import com.wilo.server.chatbot.repository.ChatbotTypeRepository;
+import com.wilo.server.global.config.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 느린 AI 서버 앞에서 Tomcat 요청 스레드 방식(플랫폼 스레드 풀 / 가상 스레드)별로 동시에 진행되는 채팅 수를 비교한다.
+// 애플리케이션을 두 번 띄워 실제 포트로 요청하므로 규모를 지정했을 때만 실행한다 (고정 지점 감시 테스트는 항상 실행):
+// CHAT_CONCURRENCY_BENCHMARK_CHATS=500 CHAT_CONCURRENCY_BENCHMARK_DELAY_MS=20000 ./gradlew test --tests '*ChatConcurrencyBenchmark*'
+class ChatConcurrencyBenchmarkTest {
+
+    // 1 CPU 컨테이너에서 요청 스레드가 바닥나는 상황을 작은 풀로 재현한다
+    private static final int PLATFORM_THREADS = 20;
+    private static final String GUEST_ID = "benchmark-guest";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "CHAT_CONCURRENCY_BENCHMARK_CHATS", matches = "\\d+")
+    void virtualThreads_keepMoreChatsInFlightAgainstSlowAiServer() throws Exception {
+        int chats = Integer.parseInt(System.getenv("CHAT_CONCURRENCY_BENCHMARK_CHATS"));
+        long delayMillis = Long.parseLong(System.getenv().getOrDefault("CHAT_CONCURRENCY_BENCHMARK_DELAY_MS", "1000"));
+
+        try (StubAiServer stub = StubAiServer.start()) {
+            Result platform = run(stub, false, chats, delayMillis);
+            Result virtual = run(stub, true, chats, delayMillis);
+
+            System.out.println("==== platform threads (max " + PLATFORM_THREADS + "): peak concurrent chats "
+                    + platform.peakConcurrentChats() + ", " + chats + " chats in " + platform.elapsedMillis() + "ms ====");
+            System.out.println("==== virtual threads: peak concurrent chats "
+                    + virtual.peakConcurrentChats() + ", " + chats + " chats in " + virtual.elapsedMillis() + "ms ====");
+            System.out.println("==== virtual thread pinning: " + virtual.pinnedSites() + " ====");
+
+            assertEquals(chats, platform.succeeded());
+            assertEquals(chats, virtual.succeeded());
+            assertTrue(platform.peakConcurrentChats() <= PLATFORM_THREADS);
+            assertTrue(virtual.peakConcurrentChats() > PLATFORM_THREADS);
+        }
+    }
+
+    @Test
+    void pinningMonitor_reportsSynchronizedBlockingSite() throws Exception {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(new SimpleMeterRegistry(), 10);
+        monitor.start();
+        try {
+            Object lock = new Object();
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    sleep(50);
+                }
+            }).join();
+
+            // JFR 스트림은 주기적으로 flush 되므로 잠시 기다린다
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (System.currentTimeMillis() < deadline && !hasSiteOf(monitor.report(), getClass())) {
+                Thread.sleep(100);
+            }
+            assertTrue(hasSiteOf(monitor.report(), getClass()), monitor.report().toString());
+        } finally {
+            monitor.stop();
+        }
+    }
+
+    private Result run(StubAiServer stub, boolean virtualThreads, int chats, long delayMillis) throws Exception {
+        stub.reset();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(WiloApplication.class)
+                .profiles("test")
+                // 기본 속성(properties)은 application-test.yml 보다 우선순위가 낮아 명령행 인자로 덮어쓴다
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "--spring.datasource.url=jdbc:h2:mem:chat-benchmark-" + UUID.randomUUID() + ";MODE=MySQL",
+                        "--ai.base-url=" + stub.baseUrl(),
+                        // 스레드 모델만 비교하도록 AI 호출 동시 실행 한도는 풀어 둔다
+                        "--ai.resilience.chat.initial-limit=" + chats,
+                        "--ai.resilience.chat.max-limit=" + chats
+                );
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(clients).build()) {
+
+            String baseUrl = "http://127.0.0.1:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            Long chatbotTypeId = context.getBean(ChatbotTypeRepository.class).findByCode("EUNHAENG").orElseThrow().getId();
+            List<Long> sessionIds = new ArrayList<>();
+            for (int i = 0; i < chats; i++) {
+                sessionIds.add(createSession(httpClient, baseUrl, chatbotTypeId));
+            }
+
+            stub.reset();
+            stub.responseDelayMillis(delayMillis);
+            long start = System.nanoTime();
+            List<Future<Integer>> responses = new ArrayList<>();
+            for (Long sessionId : sessionIds) {
+                responses.add(clients.submit(() -> sendMessage(httpClient, baseUrl, sessionId)));
+            }
+            int succeeded = 0;
+            for (Future<Integer> response : responses) {
+                if (response.get(delayMillis * chats + 30_000, TimeUnit.MILLISECONDS) == 200) {
+                    succeeded++;
+                }
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            Map<String, Long> pinnedSites = context.getBeanProvider(VirtualThreadPinningMonitor.class)
+                    .stream()
+                    .findFirst()
+                    .map(VirtualThreadPinningMonitor::report)
+                    .orElse(Map.of());
+            return new Result(succeeded, stub.peakConcurrentChats(), elapsedMillis, pinnedSites);
+        }
+    }
+
+    private Long createSession(HttpClient httpClient, String baseUrl, Long chatbotTypeId) throws Exception {
+        HttpResponse<String> response = httpClient.send(post(baseUrl + "/api/v1/chat/sessions",
+                "{\"chatbotTypeId\":" + chatbotTypeId + "}"), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).path("data").path("sessionId").asLong();
+    }
+
+    private int sendMessage(HttpClient httpClient, String baseUrl, Long sessionId) throws Exception {
+        return httpClient.send(post(baseUrl + "/api/v1/chat/sessions/" + sessionId + "/messages",
+                        "{\"messageType\":\"TEXT\",\"message\":\"오늘 너무 힘들었어\"}"), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .header("X-Guest-Id", GUEST_ID)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static boolean hasSiteOf(Map<String, Long> report, Class<?> type) {
+        return report.keySet().stream().anyMatch(site -> site.startsWith(type.getName()));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(int succeeded, int peakConcurrentChats, long elapsedMillis, Map<String, Long> pinnedSites) {
+    }
+}
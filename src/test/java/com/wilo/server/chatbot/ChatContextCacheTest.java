@@ -0,0 +1,211 @@
+package com.wilo.server.chatbot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wilo.server.chatbot.client.dto.AiRoleMessage;
+import com.wilo.server.chatbot.repository.ChatMessageRepository;
+import com.wilo.server.chatbot.repository.ChatSessionRepository;
+import com.wilo.server.chatbot.repository.ChatbotTypeRepository;
+import com.wilo.server.chatbot.service.context.ChatContext;
+import com.wilo.server.chatbot.service.context.ChatContextCache;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+// 이어지는 턴은 캐시된 문맥(최근 메시지 + 요약)으로 AI 요청을 만들고 MySQL에서 문맥을 다시 읽지 않는지 확인한다.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.wilo.server.chatbot.ChatContextCacheTest$CapturingStatementInspector")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ChatContextCacheTest {
+
+    private static final String GUEST_ID = "context-guest";
+    private static final StubAiServer STUB = StubAiServer.start();
+
+    @DynamicPropertySource
+    static void aiServer(DynamicPropertyRegistry registry) {
+        registry.add("ai.base-url", STUB::baseUrl);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChatbotTypeRepository chatbotTypeRepository;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatContextCache chatContextCache;
+
+    @AfterEach
+    void tearDown() {
+        STUB.reset();
+        chatMessageRepository.deleteAll();
+        chatSessionRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    void steadyStateTurn_buildsContextFromCache_withoutReadingMySql() throws Exception {
+        Long sessionId = createSession();
+        sendMessage(sessionId, "첫 번째 이야기");
+
+        CapturingStatementInspector.STATEMENTS.clear();
+        sendMessage(sessionId, "두 번째 이야기");
+
+        List<String> contextReads = CapturingStatementInspector.contextReads();
+        assertTrue(contextReads.isEmpty(), contextReads.toString());
+        assertEquals(List.of(
+                "user:첫 번째 이야기",
+                "assistant:" + STUB.answer(),
+                "user:두 번째 이야기"
+        ), recentMessages());
+
+        // 요약 갱신도 캐시에 바로 반영된다
+        chatContextCache.updateSummary(sessionId, "힘든 하루를 보냈다");
+        sendMessage(sessionId, "세 번째 이야기");
+        assertEquals("힘든 하루를 보냈다", lastContext().path("session_summary").asText());
+        assertEquals(5, recentMessages().size());
+    }
+
+    @Test
+    void evictedSession_rebuildsContextFromDb() throws Exception {
+        Long sessionId = createSession();
+        sendMessage(sessionId, "첫 번째 이야기");
+        chatContextCache.evict(List.of(sessionId));
+
+        CapturingStatementInspector.STATEMENTS.clear();
+        sendMessage(sessionId, "두 번째 이야기");
+
+        assertFalse(CapturingStatementInspector.contextReads().isEmpty());
+        assertEquals(3, recentMessages().size());
+    }
+
+    @Test
+    void summaryUpdates_racingWithAppends_doNotDropEachOther() throws Exception {
+        Long sessionId = 9_000_001L;
+        int turns = 200;
+        chatContextCache.get(sessionId, () -> new ChatContext(null, List.of()));
+
+        // 비동기 요약기가 다음 턴의 메시지 추가와 동시에 요약을 쓴다
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?> appends = executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < turns; i++) {
+                chatContextCache.append(sessionId, new AiRoleMessage("user", "메시지 " + i));
+            }
+            return null;
+        });
+        Future<?> summaries = executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < turns; i++) {
+                chatContextCache.updateSummary(sessionId, "요약 " + i);
+            }
+            return null;
+        });
+        start.countDown();
+        appends.get();
+        summaries.get();
+        executor.shutdown();
+
+        ChatContext context = chatContextCache.get(sessionId, () -> {
+            throw new AssertionError("캐시된 문맥이 있어야 합니다");
+        });
+        assertEquals("요약 " + (turns - 1), context.summary());
+        List<String> expected = new ArrayList<>();
+        for (int i = turns - chatContextCache.getMaxMessages(); i < turns; i++) {
+            expected.add("메시지 " + i);
+        }
+        assertEquals(expected, context.recentMessages().stream().map(AiRoleMessage::getContent).toList());
+        chatContextCache.evict(List.of(sessionId));
+    }
+
+    private void sendMessage(Long sessionId, String message) throws Exception {
+        mockMvc.perform(post("/api/v1/chat/sessions/{sessionId}/messages", sessionId)
+                        .header("X-Guest-Id", GUEST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"messageType\":\"TEXT\",\"message\":\"" + message + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    private JsonNode lastContext() throws Exception {
+        return objectMapper.readTree(STUB.lastChatRequest()).path("context");
+    }
+
+    private List<String> recentMessages() throws Exception {
+        List<String> messages = new ArrayList<>();
+        for (JsonNode message : lastContext().path("recent_messages")) {
+            messages.add(message.path("role").asText() + ":" + message.path("content").asText());
+        }
+        return messages;
+    }
+
+    private Long createSession() throws Exception {
+        Long chatbotTypeId = chatbotTypeRepository.findByCode("EUNHAENG").orElseThrow().getId();
+        String response = mockMvc.perform(post("/api/v1/chat/sessions")
+                        .header("X-Guest-Id", GUEST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"chatbotTypeId\":" + chatbotTypeId + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(response).path("data").path("sessionId").asLong();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final Deque<String> STATEMENTS = new ConcurrentLinkedDeque<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.addLast(sql);
+            return sql;
+        }
+
+        // 문맥 구성용 조회: 최근 메시지 본문(chat_messages)과 요약(chat_session_memory)
+        // 요약 후처리의 메시지 수 확인(id만 조회)은 문맥 조회가 아니므로 제외한다
+        private static List<String> contextReads() {
+            return STATEMENTS.stream()
+                    .filter(sql -> sql.startsWith("select"))
+                    .filter(sql -> sql.contains(" from chat_session_memory ")
+                            || (sql.contains(" from chat_messages ") && sql.contains(".content")))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.wilo.server.chatbot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wilo.server.chatbot.entity.ChatMessage;
+import com.wilo.server.chatbot.entity.SafetyStatus;
+import com.wilo.server.chatbot.entity.SenderType;
+import com.wilo.server.chatbot.repository.ChatMessageRepository;
+import com.wilo.server.chatbot.repository.ChatSessionRepository;
+import com.wilo.server.chatbot.repository.ChatbotTypeRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ChatMessageStreamTest {
+
+    private static final String GUEST_ID = "stream-guest";
+    private static final StubAiServer STUB = StubAiServer.start();
+
+    @DynamicPropertySource
+    static void aiServer(DynamicPropertyRegistry registry) {
+        registry.add("ai.base-url", STUB::baseUrl);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChatbotTypeRepository chatbotTypeRepository;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @AfterEach
+    void tearDown() {
+        STUB.reset();
+        chatMessageRepository.deleteAll();
+        chatSessionRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    void streamMessage_relaysTokensBeforeGenerationEnds_andPersistsBotMessageOnDone() throws Exception {
+        Long sessionId = createSession();
+        CountDownLatch lastToken = STUB.holdBeforeLastToken();
+
+        MvcResult result = mockMvc.perform(post("/api/v1/chat/sessions/{sessionId}/messages/stream", sessionId)
+                        .header("X-Guest-Id", GUEST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content("{\"messageType\":\"TEXT\",\"message\":\"오늘 너무 힘들었어\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // AI 서버가 아직 답변을 끝내지 않았는데도 앞 토큰은 이미 앱으로 나가 있다
+        String partial = awaitContent(result, "event:token");
+        assertTrue(partial.contains("event:user"));
+        assertFalse(partial.contains("event:done"));
+        assertEquals(List.of(SenderType.USER), senderTypes(sessionId));
+
+        lastToken.countDown();
+        result.getAsyncResult(10_000);
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals(4, body.split("event:token", -1).length - 1);
+        JsonNode done = objectMapper.readTree(eventData(body, "done"));
+        assertEquals(STUB.answer(), done.path("botMessage").path("content").asText());
+        assertEquals(3, done.path("botMessage").path("choices").size());
+
+        ChatMessage bot = chatMessageRepository.findAll().stream()
+                .filter(message -> message.getSenderType() == SenderType.BOT)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(STUB.answer(), bot.getContent());
+        assertEquals(SafetyStatus.WARNING, bot.getSafetyStatus());
+        assertTrue(bot.getChoicesJson().contains("더 얘기할래"));
+    }
+
+    @Test
+    void streamMessage_sendsErrorEventAndSkipsBotMessage_whenUpstreamFails() throws Exception {
+        Long sessionId = createSession();
+        STUB.failStream(true);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/chat/sessions/{sessionId}/messages/stream", sessionId)
+                        .header("X-Guest-Id", GUEST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"messageType\":\"TEXT\",\"message\":\"안녕\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(10_000);
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        JsonNode error = objectMapper.readTree(eventData(body, "error"));
+        assertEquals(3009, error.path("errorCode").asInt());
+        assertEquals(List.of(SenderType.USER), senderTypes(sessionId));
+    }
+
+    @Test
+    void streamMessage_rejectsForeignSessionBeforeOpeningStream() throws Exception {
+        Long sessionId = createSession();
+
+        mockMvc.perform(post("/api/v1/chat/sessions/{sessionId}/messages/stream", sessionId)
+                        .header("X-Guest-Id", "someone-else")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"messageType\":\"TEXT\",\"message\":\"안녕\"}"))
+                .andExpect(status().isForbidden());
+    }
+
+    private Long createSession() throws Exception {
+        Long chatbotTypeId = chatbotTypeRepository.findByCode("EUNHAENG").orElseThrow().getId();
+        String response = mockMvc.perform(post("/api/v1/chat/sessions")
+                        .header("X-Guest-Id", GUEST_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"chatbotTypeId\":" + chatbotTypeId + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(response).path("data").path("sessionId").asLong();
+    }
+
+    private List<SenderType> senderTypes(Long sessionId) {
+        return chatMessageRepository.findAll().stream()
+                .filter(message -> message.getSessionId().equals(sessionId))
+                .map(ChatMessage::getSenderType)
+                .toList();
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+            if (content.contains(expected)) {
+                return content;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("스트림에 " + expected + " 이벤트가 오지 않았습니다.");
+    }
+
+    private static String eventData(String body, String event) {
+        String marker = "event:" + event + "\ndata:";
+        int start = body.indexOf(marker);
+        if (start < 0) {
+            throw new AssertionError(event + " 이벤트가 없습니다.\n" + body);
+        }
+        int dataStart = start + marker.length();
+        return body.substring(dataStart, body.indexOf("\n", dataStart));
+    }
+}
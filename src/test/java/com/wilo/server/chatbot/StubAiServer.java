@@ -0,0 +1,169 @@
+package com.wilo.server.chatbot;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 테스트용 로컬 AI 서버 (JDK HttpServer).
+// /chat 은 답변 JSON을 한 번에, /chat/stream 은 토큰을 SSE로 하나씩 보내고 마지막에 done 이벤트를 보낸다.
+// responseDelayMillis 로 느린 AI 서버를, holdBeforeLastToken 으로 생성 도중인 상태를 흉내 낸다.
+// peakConcurrentChats 는 /chat 을 동시에 처리 중이던 요청 수의 최댓값, lastChatRequest 는 마지막 /chat 요청 본문이다.
+final class StubAiServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private volatile List<String> tokens = List.of("오늘", " 하루도", " 고생", "했어요.");
+    private volatile long responseDelayMillis = 0L;
+    private volatile CountDownLatch holdBeforeLastToken = new CountDownLatch(0);
+    private volatile boolean failStream = false;
+    private final AtomicInteger inFlightChats = new AtomicInteger();
+    private final AtomicInteger peakConcurrentChats = new AtomicInteger();
+    private volatile String lastChatRequest;
+
+    private StubAiServer(HttpServer server) {
+        this.server = server;
+    }
+
+    static StubAiServer start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            StubAiServer stub = new StubAiServer(server);
+            server.createContext("/chat/stream", stub::handleStream);
+            server.createContext("/chat", stub::handleChat);
+            server.createContext("/greeting", stub::handleChat);
+            server.createContext("/summarize", stub::handleSummarize);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    String answer() {
+        return String.join("", tokens);
+    }
+
+    void responseDelayMillis(long responseDelayMillis) {
+        this.responseDelayMillis = responseDelayMillis;
+    }
+
+    // 반환된 latch를 countDown 할 때까지 마지막 토큰과 done 이벤트를 보내지 않는다
+    CountDownLatch holdBeforeLastToken() {
+        CountDownLatch latch = new CountDownLatch(1);
+        this.holdBeforeLastToken = latch;
+        return latch;
+    }
+
+    int peakConcurrentChats() {
+        return peakConcurrentChats.get();
+    }
+
+    String lastChatRequest() {
+        return lastChatRequest;
+    }
+
+    void failStream(boolean failStream) {
+        this.failStream = failStream;
+    }
+
+    void reset() {
+        tokens = List.of("오늘", " 하루도", " 고생", "했어요.");
+        responseDelayMillis = 0L;
+        holdBeforeLastToken = new CountDownLatch(0);
+        failStream = false;
+        peakConcurrentChats.set(0);
+        lastChatRequest = null;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handleChat(HttpExchange exchange) throws IOException {
+        peakConcurrentChats.accumulateAndGet(inFlightChats.incrementAndGet(), Math::max);
+        try (exchange) {
+            lastChatRequest = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            sleep(responseDelayMillis);
+            writeJson(exchange, "{\"status\":\"success\",\"answer\":\"" + answer() + "\","
+                    + "\"choices\":[\"고마워\",\"더 얘기할래\",\"괜찮아\"],\"safety_status\":\"clear\",\"citations\":[]}");
+        } finally {
+            inFlightChats.decrementAndGet();
+        }
+    }
+
+    private void handleSummarize(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            writeJson(exchange, "{\"summary\":\"\",\"key_topics\":[]}");
+        }
+    }
+
+    private void handleStream(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+
+            List<String> streamed = tokens;
+            for (int i = 0; i < streamed.size(); i++) {
+                if (i == streamed.size() - 1) {
+                    await(holdBeforeLastToken);
+                }
+                if (failStream && i == 1) {
+                    writeEvent(body, "{\"type\":\"error\",\"error_type\":\"model_overloaded\"}");
+                    return;
+                }
+                sleep(responseDelayMillis);
+                writeEvent(body, "{\"type\":\"token\",\"delta\":\"" + streamed.get(i) + "\"}");
+            }
+            writeEvent(body, "{\"type\":\"done\",\"status\":\"success\",\"choices\":[\"고마워\",\"더 얘기할래\",\"괜찮아\"],"
+                    + "\"safety_status\":\"monitor\"}");
+        }
+    }
+
+    private static void writeEvent(OutputStream body, String json) throws IOException {
+        body.write(("data:" + json + "\n\n").getBytes(StandardCharsets.UTF_8));
+        body.flush();
+    }
+
+    private static void writeJson(HttpExchange exchange, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.wilo.server.community.dto.post.CommunityPostTitleDto;
+import com.wilo.server.community.dto.search.CommunityAutocompleteItemDto;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.repository.CommunitySearchHistoryRepository;
+import com.wilo.server.community.service.search.autocomplete.CommunityAutocompleteIndexer;
+import com.wilo.server.community.service.search.autocomplete.CommunityAutocompleteService;
+import com.wilo.server.community.service.search.history.CommunitySearchHistoryBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 제목 정리가 게시글 id 표도 함께 줄이고, 정리됐던 제목이 다시 들어오면 가중치를 다시 세며,
+// 적재 도중 온 이벤트가 적재 결과에 덮이지 않는지 확인한다.
+class CommunityAutocompleteIndexerTest {
+
+    private CommunityPostRepository repository;
+    private CommunityAutocompleteService service;
+    private CommunityAutocompleteIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CommunityPostRepository.class);
+        service = new CommunityAutocompleteService(
+                mock(CommunitySearchHistoryRepository.class), mock(CommunitySearchHistoryBuffer.class), 2, 10);
+        indexer = new CommunityAutocompleteIndexer(service, repository);
+    }
+
+    @Test
+    void prunedTitles_leaveThePostMap_andComeBackWithTheirFullWeight() {
+        when(repository.findTitlesByIdGreaterThan(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        indexer.initialize();
+
+        for (long postId = 1; postId <= 4; postId++) {
+            service.putTitle(postId, "감귤 농장");
+        }
+        service.putTitle(5L, "감자 심기");
+        service.putTitle(6L, "감자 심기");
+        service.putTitle(7L, "감나무");
+        assertEquals(List.of("감귤 농장", "감자 심기"), suggest("감"));
+        assertEquals(6, postMap().size());
+
+        // 감나무 글이 세 개가 되면 감자 심기보다 앞서야 한다
+        when(repository.findTitleById(8L)).thenReturn(Optional.of("감나무"));
+        when(repository.findIdsByTitle("감나무")).thenReturn(List.of(7L, 8L, 9L));
+        indexer.handlePostEvent(CommunityPostEvent.of(8L, CommunityPostEventType.CREATED));
+
+        assertEquals(List.of("감귤 농장", "감나무"), suggest("감"));
+        assertEquals(7, postMap().size());
+    }
+
+    @Test
+    void postDeletedWhileLoading_doesNotComeBack() {
+        when(repository.findTitlesByIdGreaterThan(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            // 적재가 이 구간을 읽은 뒤 반영하기 전에 글이 삭제됐다
+            indexer.handlePostEvent(CommunityPostEvent.of(1L, CommunityPostEventType.DELETED));
+            return List.of(new CommunityPostTitleDto(1L, "감나무"));
+        });
+        when(repository.findTitlesByIdGreaterThan(eq(1L), any(Pageable.class))).thenReturn(List.of());
+
+        indexer.initialize();
+
+        assertEquals(List.of(), suggest("감"));
+        assertEquals(0, service.titleCount());
+    }
+
+    private List<String> suggest(String prefix) {
+        return service.suggest(null, prefix, 10).items().stream().map(CommunityAutocompleteItemDto::text).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> postMap() {
+        return (Map<Long, String>) ReflectionTestUtils.getField(service, "titlesByPostId");
+    }
+}
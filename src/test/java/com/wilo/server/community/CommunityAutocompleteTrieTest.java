@@ -0,0 +1,58 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.service.search.autocomplete.AutocompleteTrie;
+import com.wilo.server.community.service.search.autocomplete.HangulChoseong;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CommunityAutocompleteTrieTest {
+
+    @Test
+    void suggest_ordersByWeight_andKeepsCompressedEdgesAfterDelete() {
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+        trie.add("나무 그늘", List.of("나무 그늘", "그늘", "ㄴㅁㄱㄴ", "ㄱㄴ"), 1);
+        trie.add("나무 심기", List.of("나무 심기", "심기", "ㄴㅁㅅㄱ", "ㅅㄱ"), 3);
+        trie.add("나비", List.of("나비", "ㄴㅂ"), 2);
+
+        assertEquals(List.of("나무 심기", "나비", "나무 그늘"), trie.suggest("나", 10));
+        assertEquals(List.of("나무 심기", "나무 그늘"), trie.suggest("나무", 10));
+        assertEquals(List.of("나무 그늘"), trie.suggest("ㄴㅁㄱ", 10));
+        assertEquals(List.of("나무 심기"), trie.suggest("나무 심", 10));
+        assertEquals(List.of(), trie.suggest("나무 심깁", 10));
+
+        // 가중치가 바뀌면 경로의 캐시가 무효화된다
+        trie.add("나무 그늘", List.of(), 5);
+        assertEquals(List.of("나무 그늘", "나무 심기"), trie.suggest("나무", 10));
+
+        trie.decrement("나무 심기", 3);
+        assertEquals(List.of("나무 그늘"), trie.suggest("나무", 10));
+        assertEquals(List.of("나무 그늘", "나비"), trie.suggest("ㄴ", 10));
+        assertEquals(2, trie.size());
+
+        trie.add("나무 심기", List.of("나무 심기", "ㄴㅁㅅㄱ"), 1);
+        assertEquals(List.of("나무 그늘", "나무 심기"), trie.suggest("나무 ", 10));
+    }
+
+    @Test
+    void prune_dropsLowestWeightEntries() {
+        AutocompleteTrie trie = new AutocompleteTrie(10);
+        for (int i = 0; i < 100; i++) {
+            trie.add("제목" + i, List.of("제목" + i), i + 1);
+        }
+
+        assertEquals(90, trie.prune(10));
+        assertEquals(10, trie.size());
+        assertEquals("제목99", trie.suggest("제목", 1).get(0));
+        assertTrue(trie.suggest("제목1", 10).isEmpty() || !trie.suggest("제목1", 10).contains("제목1"));
+    }
+
+    @Test
+    void choseong_convertsSyllablesOnly() {
+        assertEquals("ㄴㅁ ㄱㄴ abc", HangulChoseong.toChoseong("나무 그늘 abc"));
+        assertEquals("ㄲㅉ", HangulChoseong.toChoseong("깜짝"));
+        assertTrue(HangulChoseong.containsChoseong("나ㅁ"));
+    }
+}
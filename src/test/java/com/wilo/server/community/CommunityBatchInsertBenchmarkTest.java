@@ -0,0 +1,194 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.dto.post.CommunityPostCreateRequestDto;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.entity.post.CommunityPostImage;
+import com.wilo.server.community.entity.post.CommunityPostLike;
+import com.wilo.server.community.repository.CommunityPostImageRepository;
+import com.wilo.server.community.repository.CommunityPostLikeRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.community.CommunityService;
+import com.wilo.server.global.entity.Tsid;
+import com.wilo.server.notification.entity.NotificationType;
+import com.wilo.server.notification.entity.UserNotification;
+import com.wilo.server.notification.repository.UserNotificationRepository;
+import com.wilo.server.user.entity.User;
+import com.wilo.server.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 반복 횟수를 늘려 실행: BATCH_INSERT_BENCHMARK_ROUNDS=200 ./gradlew test --tests '*BatchInsertBenchmark*'
+@SpringBootTest
+@ActiveProfiles("test")
+class CommunityBatchInsertBenchmarkTest {
+
+    private static final int IMAGE_COUNT = 10;
+    private static final int NOTIFICATION_COUNT = 20;
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private CommunityPostImageRepository communityPostImageRepository;
+
+    @Autowired
+    private CommunityPostLikeRepository communityPostLikeRepository;
+
+    @Autowired
+    private UserNotificationRepository userNotificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        userNotificationRepository.deleteAll();
+        communityPostLikeRepository.deleteAll();
+        communityPostImageRepository.deleteAll();
+        communityPostRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void tenImagePostCreate_andTwentyNotificationFanOut_areBatched() {
+        int rounds = Integer.parseInt(System.getenv().getOrDefault("BATCH_INSERT_BENCHMARK_ROUNDS", "20"));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User author = saveUser("batch-author@example.com", "batchAuthor");
+        List<User> receivers = new ArrayList<>();
+        for (int i = 0; i < NOTIFICATION_COUNT; i++) {
+            receivers.add(saveUser("batch-receiver" + i + "@example.com", "batchReceiver" + i));
+        }
+        List<String> imageUrls = new ArrayList<>();
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            imageUrls.add("https://example.com/batch/" + i + ".png");
+        }
+        CommunityPost post = communityPostRepository.save(CommunityPost.builder()
+                .user(author)
+                .category(CommunityCategory.TREE_SHADE)
+                .title("배치 기준 글")
+                .content("본문")
+                .build());
+
+        statistics.setStatisticsEnabled(true);
+
+        // 게시글 1건 + 이미지 10장 작성 (사용자 조회, 게시글 INSERT, 이미지 배치 INSERT)
+        statistics.clear();
+        long postCreateNanos = 0L;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            communityService.createPost(author.getId(), new CommunityPostCreateRequestDto(
+                    CommunityCategory.TREE_SHADE, "배치 글 " + round, "본문", imageUrls));
+            postCreateNanos += System.nanoTime() - start;
+        }
+        long imageInserts = statistics.getEntityStatistics(CommunityPostImage.class.getName()).getInsertCount();
+
+        // 이미지 10장만 저장할 때 준비된 INSERT 문 수
+        statistics.clear();
+        transaction.executeWithoutResult(status -> communityPostImageRepository.saveAll(images(post, imageUrls)));
+        long imageStatements = statistics.getPrepareStatementCount();
+
+        // 알림 20건 fan-out
+        statistics.clear();
+        long fanOutNanos = 0L;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            transaction.executeWithoutResult(status -> userNotificationRepository.saveAll(notifications(post, author, receivers)));
+            fanOutNanos += System.nanoTime() - start;
+        }
+        long notificationStatementsPerRound = statistics.getPrepareStatementCount() / rounds;
+
+        // 비교 기준: IDENTITY를 유지한 좋아요 10건은 행마다 INSERT 문을 준비한다
+        statistics.clear();
+        transaction.executeWithoutResult(status -> communityPostLikeRepository.saveAll(likes(post, receivers.subList(0, IMAGE_COUNT))));
+        long identityStatements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        System.out.println("==== 10-image post create: " + TimeUnit.NANOSECONDS.toMicros(postCreateNanos / rounds)
+                + "us/op, image insert statements: " + imageStatements + " ====");
+        System.out.println("==== 20-notification fan-out: " + TimeUnit.NANOSECONDS.toMicros(fanOutNanos / rounds)
+                + "us/op, statements: " + notificationStatementsPerRound + " ====");
+        System.out.println("==== IDENTITY baseline (10 likes) statements: " + identityStatements + " ====");
+
+        assertEquals((long) IMAGE_COUNT * rounds, imageInserts);
+        assertEquals(1, imageStatements);
+        assertEquals(1, notificationStatementsPerRound);
+        assertEquals(IMAGE_COUNT, identityStatements);
+    }
+
+    @Test
+    void tsid_isTimeSortedAndSafeForJavaScript() {
+        long previous = Tsid.next();
+        for (int i = 0; i < 10_000; i++) {
+            long id = Tsid.next();
+            assertTrue(id > previous);
+            assertTrue(id < (1L << 53));
+            previous = id;
+        }
+        assertTrue(Math.abs(Tsid.millisOf(previous) - System.currentTimeMillis()) < 1_000);
+    }
+
+    private List<CommunityPostImage> images(CommunityPost post, List<String> imageUrls) {
+        List<CommunityPostImage> images = new ArrayList<>();
+        for (int i = 0; i < imageUrls.size(); i++) {
+            images.add(CommunityPostImage.builder().post(post).imageUrl(imageUrls.get(i)).sortOrder(i).build());
+        }
+        return images;
+    }
+
+    private List<UserNotification> notifications(CommunityPost post, User actor, List<User> receivers) {
+        List<UserNotification> notifications = new ArrayList<>();
+        for (User receiver : receivers) {
+            notifications.add(UserNotification.builder()
+                    .receiverUser(receiver)
+                    .actorUser(actor)
+                    .type(NotificationType.POST_LIKE)
+                    .postId(post.getId())
+                    .build());
+        }
+        return notifications;
+    }
+
+    private List<CommunityPostLike> likes(CommunityPost post, List<User> users) {
+        List<CommunityPostLike> likes = new ArrayList<>();
+        for (User user : users) {
+            likes.add(CommunityPostLike.builder().post(post).user(user).build());
+        }
+        return likes;
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(
+                User.builder()
+                        .email(email)
+                        .password("encodedPassword")
+                        .nickname(nickname)
+                        .build()
+        );
+    }
+}
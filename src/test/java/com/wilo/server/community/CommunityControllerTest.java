@@ -1,32 +1,61 @@
 package com.wilo.server.community;
 
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wilo.server.community.dto.post.CommunityPostCreateRequestDto;
+import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
+import com.wilo.server.community.dto.post.CommunityPostUpdateRequestDto;
+import com.wilo.server.community.entity.comment.CommunityComment;
 import com.wilo.server.community.entity.post.CommunityCategory;
 import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.entity.post.CommunityPostLike;
 import com.wilo.server.community.repository.CommunityCommentRepository;
 import com.wilo.server.community.repository.CommunityPostImageRepository;
 import com.wilo.server.community.repository.CommunityPostLikeRepository;
 import com.wilo.server.community.repository.CommunityPostRepository;
 import com.wilo.server.community.repository.CommunitySearchHistoryRepository;
+import com.wilo.server.community.service.community.CommunityService;
+import com.wilo.server.community.service.counter.CommunityUniqueViewCounter;
+import com.wilo.server.community.service.detail.CommunityPostDetailCache;
+import com.wilo.server.community.service.search.feed.CommunityFeedEntry;
+import com.wilo.server.community.service.search.feed.CommunityFeedPage;
+import com.wilo.server.community.service.search.feed.CommunityPostFeedCache;
+import com.wilo.server.community.service.search.history.CommunitySearchHistoryBuffer;
+import com.wilo.server.community.service.search.trending.CommunityTrendingKeywordService;
 import com.wilo.server.global.config.security.jwt.JwtAuthentication;
+import com.wilo.server.user.dto.UserUpdateRequestDto;
 import com.wilo.server.user.entity.User;
 import com.wilo.server.user.repository.UserRepository;
+import com.wilo.server.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -60,8 +89,41 @@ class CommunityControllerTest {
     @Autowired
     private CommunitySearchHistoryRepository communitySearchHistoryRepository;
 
+    @Autowired
+    private CommunitySearchHistoryBuffer communitySearchHistoryBuffer;
+
+    @Autowired
+    private CommunityTrendingKeywordService communityTrendingKeywordService;
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CommunityPostFeedCache communityPostFeedCache;
+
+    @Autowired
+    private CommunityPostDetailCache communityPostDetailCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CommunityUniqueViewCounter communityUniqueViewCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
+        communitySearchHistoryBuffer.flush();
+        communityPostFeedCache.evictAll();
+        communityPostDetailCache.evictAll();
         communityCommentRepository.deleteAll();
         communityPostLikeRepository.deleteAll();
         communityPostImageRepository.deleteAll();
@@ -171,6 +233,75 @@ class CommunityControllerTest {
                 .andExpect(jsonPath("$.data.commentCount").value(2));
     }
 
+    @Test
+    void commentThreads_arePaginated_andRepliesExpandByCursor() throws Exception {
+        User user = saveUser("thread@example.com", "threadUser");
+        CommunityPost post = communityPostRepository.save(
+                CommunityPost.builder()
+                        .user(user)
+                        .category(CommunityCategory.SUNNY_PLACE)
+                        .title("댓글 페이지 테스트")
+                        .content("본문")
+                        .build()
+        );
+
+        CommunityComment firstComment = null;
+        for (int i = 0; i < 3; i++) {
+            CommunityComment comment = communityCommentRepository.save(
+                    CommunityComment.builder().post(post).user(user).content("댓글 " + i).build()
+            );
+            if (firstComment == null) {
+                firstComment = comment;
+            }
+        }
+        for (int i = 0; i < 5; i++) {
+            communityCommentRepository.save(
+                    CommunityComment.builder().post(post).user(user).parentComment(firstComment).content("답글 " + i).build()
+            );
+        }
+
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.comments.length()").value(3))
+                .andExpect(jsonPath("$.data.hasMoreComments").value(false));
+
+        MvcResult firstPageResult = mockMvc.perform(get("/api/v1/community/posts/{postId}/comments", post.getId())
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.items[0].content").value("댓글 0"))
+                .andExpect(jsonPath("$.data.items[0].author.nickname").value("threadUser"))
+                .andExpect(jsonPath("$.data.items[0].replyCount").value(5))
+                .andExpect(jsonPath("$.data.items[0].replies.length()").value(3))
+                .andExpect(jsonPath("$.data.items[0].replies[2].content").value("답글 2"))
+                .andExpect(jsonPath("$.data.items[0].repliesNextCursor").isNotEmpty())
+                .andExpect(jsonPath("$.data.items[1].replyCount").value(0))
+                .andReturn();
+        printPrettyResponse(firstPageResult);
+
+        JsonNode firstPageJson = objectMapper.readTree(firstPageResult.getResponse().getContentAsString());
+        String nextCursor = firstPageJson.path("data").path("nextCursor").asText();
+        String repliesNextCursor = firstPageJson.path("data").path("items").path(0).path("repliesNextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/community/posts/{postId}/comments", post.getId())
+                        .param("size", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].content").value("댓글 2"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+
+        mockMvc.perform(get("/api/v1/community/posts/{postId}/comments/{commentId}/replies",
+                        post.getId(), firstComment.getId())
+                        .param("cursor", repliesNextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.items[0].content").value("답글 3"))
+                .andExpect(jsonPath("$.data.items[1].content").value("답글 4"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
     @Test
     void like_and_unlike_updatesCount() throws Exception {
         User user = saveUser("like@example.com", "likeUser");
@@ -523,6 +654,359 @@ class CommunityControllerTest {
                 .andExpect(jsonPath("$.data.hasNext").value(false));
     }
 
+    @Test
+    void getLikedPostsByUser_usesSingleQuery_andSkipsDeletedPosts() throws Exception {
+        User postAuthor = saveUser("liked-n1-author@example.com", "likedN1Author");
+        User liker = saveUser("liked-n1-user@example.com", "likedN1User");
+
+        List<CommunityPost> posts = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            CommunityPost post = communityPostRepository.save(
+                    CommunityPost.builder()
+                            .user(postAuthor)
+                            .category(CommunityCategory.TREE_SHADE)
+                            .title("좋아요 글 " + i)
+                            .content("본문" + i)
+                            .build()
+            );
+            communityPostLikeRepository.save(CommunityPostLike.builder().post(post).user(liker).build());
+            posts.add(post);
+        }
+        // 좋아요 행은 남긴 채 최신 좋아요 게시글 하나를 소프트 삭제한다
+        jdbcTemplate.update("UPDATE community_posts SET deleted_at = now() WHERE id = ?", posts.get(24).getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        MvcResult firstPageResult = mockMvc.perform(get("/api/v1/community/users/{userId}/liked-posts", liker.getId())
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(20))
+                .andExpect(jsonPath("$.data.items[0].title").value("좋아요 글 23"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn();
+        long firstPageStatements = statistics.getPrepareStatementCount();
+
+        String nextCursor = objectMapper.readTree(firstPageResult.getResponse().getContentAsString())
+                .path("data").path("nextCursor").asText();
+        mockMvc.perform(get("/api/v1/community/users/{userId}/liked-posts", liker.getId())
+                        .param("size", "20")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(4))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+        statistics.setStatisticsEnabled(false);
+
+        System.out.println("==== liked posts statements per page: " + firstPageStatements + " ====");
+        assertEquals(1, firstPageStatements);
+    }
+
+    @Test
+    void searchHistory_repeatedSearches_areCoalescedBeforeWrite() throws Exception {
+        User user = saveUser("search-coalesce@example.com", "searchCoalesce");
+
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(get("/api/v1/community/posts")
+                            .with(authentication(new JwtAuthentication(user.getId())))
+                            .param("keyword", " 나무 "))
+                    .andExpect(status().isOk());
+        }
+
+        // 검색 요청은 DB에 쓰지 않고 버퍼에서 한 건으로 합쳐진다
+        assertEquals(1, communitySearchHistoryBuffer.getPendingCount());
+        assertEquals(0, communitySearchHistoryRepository.count());
+
+        communitySearchHistoryBuffer.flush();
+        mockMvc.perform(get("/api/v1/community/posts")
+                        .with(authentication(new JwtAuthentication(user.getId())))
+                        .param("keyword", "나무"))
+                .andExpect(status().isOk());
+        communitySearchHistoryBuffer.flush();
+
+        assertEquals(1, communitySearchHistoryRepository.count());
+        assertEquals(0, communitySearchHistoryBuffer.getPendingCount());
+    }
+
+    @Test
+    void trendingKeywords_areAggregatedFromSearches() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/v1/community/posts").param("keyword", "라벤더 "))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/v1/community/posts").param("keyword", "로즈마리"))
+                .andExpect(status().isOk());
+
+        communityTrendingKeywordService.refresh();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/community/search-keywords/trending").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.windowMinutes").value(60))
+                .andReturn();
+        printPrettyResponse(result);
+
+        JsonNode items = objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("items");
+        int lavenderRank = -1;
+        int rosemaryRank = -1;
+        for (JsonNode item : items) {
+            if (item.path("keyword").asText().equals("라벤더")) {
+                lavenderRank = item.path("rank").asInt();
+                assertEquals(5, item.path("searchCount").asLong());
+            }
+            if (item.path("keyword").asText().equals("로즈마리")) {
+                rosemaryRank = item.path("rank").asInt();
+            }
+        }
+        assertTrue(lavenderRank > 0 && lavenderRank < rosemaryRank);
+    }
+
+    @Test
+    void autocomplete_suggestsHistoryAndTitles_withChoseong() throws Exception {
+        User user = saveUser("autocomplete@example.com", "autocompleteUser");
+        Long shadePostId = communityService.createPost(user.getId(), new CommunityPostCreateRequestDto(
+                CommunityCategory.TREE_SHADE, "나무 그늘 아래 휴식", "본문", List.of()));
+        Long butterflyPostId = communityService.createPost(user.getId(), new CommunityPostCreateRequestDto(
+                CommunityCategory.TREE_SHADE, "나비 관찰 일기", "본문", List.of()));
+        communityService.createPost(user.getId(), new CommunityPostCreateRequestDto(
+                CommunityCategory.TREE_SHADE, "햇볕 좋은 날", "본문", List.of()));
+
+        mockMvc.perform(get("/api/v1/community/posts")
+                        .with(authentication(new JwtAuthentication(user.getId())))
+                        .param("keyword", "나들이"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/community/search-keywords/autocomplete").param("prefix", "ㄴㅁ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].text").value("나무 그늘 아래 휴식"))
+                .andExpect(jsonPath("$.data.items[0].type").value("POST_TITLE"));
+
+        mockMvc.perform(get("/api/v1/community/search-keywords/autocomplete")
+                        .with(authentication(new JwtAuthentication(user.getId())))
+                        .param("prefix", "나"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(3))
+                .andExpect(jsonPath("$.data.items[0].text").value("나들이"))
+                .andExpect(jsonPath("$.data.items[0].type").value("HISTORY"));
+
+        // 단어 중간(두 번째 단어)부터 입력해도 찾는다
+        mockMvc.perform(get("/api/v1/community/search-keywords/autocomplete").param("prefix", "관찰"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].text").value("나비 관찰 일기"));
+
+        communityService.updatePost(user.getId(), shadePostId, new CommunityPostUpdateRequestDto(
+                CommunityCategory.TREE_SHADE, "느티나무 그늘", "본문", List.of()));
+        communityService.deletePost(user.getId(), butterflyPostId);
+
+        mockMvc.perform(get("/api/v1/community/search-keywords/autocomplete").param("prefix", "ㄴㅌ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].text").value("느티나무 그늘"));
+        // 수정 전 제목과 삭제된 게시글 제목은 더 이상 추천되지 않는다
+        mockMvc.perform(get("/api/v1/community/search-keywords/autocomplete").param("prefix", "나"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(0));
+    }
+
+    @Test
+    void firstPageFeed_isServedFromMemory_andRefreshedAfterEvents() throws Exception {
+        User user = saveUser("feed@example.com", "feedUser");
+        for (int i = 0; i < 8; i++) {
+            communityService.createPost(user.getId(), new CommunityPostCreateRequestDto(
+                    CommunityCategory.TREE_SHADE, "피드 글 " + i, "본문", List.of()));
+        }
+
+        MvcResult firstPageResult = mockMvc.perform(get("/api/v1/community/posts")
+                        .param("sort", "LATEST")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(5))
+                .andExpect(jsonPath("$.data.items[0].title").value("피드 글 7"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/community/posts")
+                        .param("sort", "LATEST")
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(3));
+        long cachedStatements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        assertEquals(0, cachedStatements);
+
+        String nextCursor = objectMapper.readTree(firstPageResult.getResponse().getContentAsString())
+                .path("data").path("nextCursor").asText();
+        mockMvc.perform(get("/api/v1/community/posts")
+                        .param("sort", "LATEST")
+                        .param("size", "5")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(3))
+                .andExpect(jsonPath("$.data.items[0].title").value("피드 글 2"));
+
+        // 이벤트 직후에는 이전 목록을 유지하고, debounce 주기 작업이 돌면 새 글이 보인다
+        communityService.createPost(user.getId(), new CommunityPostCreateRequestDto(
+                CommunityCategory.TREE_SHADE, "새 피드 글", "본문", List.of()));
+        mockMvc.perform(get("/api/v1/community/posts").param("sort", "LATEST"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].title").value("피드 글 7"));
+
+        communityPostFeedCache.refresh();
+        mockMvc.perform(get("/api/v1/community/posts").param("sort", "LATEST"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].title").value("새 피드 글"))
+                .andExpect(jsonPath("$.data.items.length()").value(9));
+
+        // Redis에 저장하는 JSON 형식이 그대로 복원되는지 확인
+        CommunityFeedPage page = new CommunityFeedPage(List.of(new CommunityFeedEntry(
+                new CommunityPostSummaryDto(1L, CommunityCategory.TREE_SHADE, "제목", "미리보기",
+                        LocalDateTime.of(2026, 1, 1, 12, 0), 3L, 2L, 1L),
+                "2026-01-01T12:00|1"
+        )), 1234L);
+        assertEquals(page, objectMapper.readValue(objectMapper.writeValueAsString(page), CommunityFeedPage.class));
+    }
+
+    @Test
+    void postDetail_isServedFromCache_andInvalidatedByEvents() throws Exception {
+        User author = saveUser("detail-cache@example.com", "detailCacheUser");
+        Long postId = communityService.createPost(author.getId(), new CommunityPostCreateRequestDto(
+                CommunityCategory.TREE_SHADE, "캐시 전 제목", "본문", List.of("https://example.com/a.png")));
+
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("캐시 전 제목"))
+                .andExpect(jsonPath("$.data.viewCount").value(1));
+
+        double localHits = meterRegistry.counter("community.post.detail.cache", "result", "hit_local").count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imageUrls.length()").value(1))
+                .andExpect(jsonPath("$.data.viewCount").value(2));
+        long cachedStatements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        assertEquals(0, cachedStatements);
+        assertEquals(localHits + 1,
+                meterRegistry.counter("community.post.detail.cache", "result", "hit_local").count());
+        assertTrue(meterRegistry.get("community.post.detail.cache.hit.ratio").gauge().value() > 0);
+
+        // 좋아요는 카운터만, 댓글/수정은 스냅샷까지 다시 읽는다
+        mockMvc.perform(post("/api/v1/community/posts/{postId}/likes", postId)
+                        .with(authentication(new JwtAuthentication(author.getId()))))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/community/posts/{postId}/comments", postId)
+                        .with(authentication(new JwtAuthentication(author.getId())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"content":"새 댓글"}
+                                """))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.likeCount").value(1))
+                .andExpect(jsonPath("$.data.commentCount").value(1))
+                .andExpect(jsonPath("$.data.comments[0].content").value("새 댓글"));
+
+        communityService.updatePost(author.getId(), postId, new CommunityPostUpdateRequestDto(
+                CommunityCategory.TREE_SHADE, "캐시 후 제목", "본문", List.of()));
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("캐시 후 제목"))
+                .andExpect(jsonPath("$.data.imageUrls.length()").value(0));
+
+        mockMvc.perform(delete("/api/v1/community/posts/{postId}", postId)
+                        .with(authentication(new JwtAuthentication(author.getId()))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void conditionalGet_returnsNotModified_untilContentChanges() throws Exception {
+        User author = saveUser("etag@example.com", "etagUser");
+        Long postId = communityService.createPost(author.getId(), new CommunityPostCreateRequestDto(
+                CommunityCategory.TREE_SHADE, "ETag 글", "본문", List.of()));
+
+        String detailEtag = mockMvc.perform(get("/api/v1/community/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertTrue(detailEtag != null && detailEtag.startsWith("W/"));
+
+        // 변경이 없으면 본문 없이 304로 응답하고, 조회수는 그대로 센다
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, detailEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(post("/api/v1/community/posts/{postId}/likes", postId)
+                        .with(authentication(new JwtAuthentication(author.getId()))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, detailEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.likeCount").value(1))
+                .andExpect(jsonPath("$.data.viewCount").value(3))
+                .andExpect(header().string(HttpHeaders.ETAG, not(detailEtag)));
+
+        // 작성자 닉네임이 바뀌면 게시글 이벤트가 없어도 다시 내려준다
+        String likedEtag = mockMvc.perform(get("/api/v1/community/posts/{postId}", postId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        userService.updateUserProfile(author.getId(), new UserUpdateRequestDto("etagRenamed", null));
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, likedEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.author.nickname").value("etagRenamed"));
+
+        // 첫 페이지는 피드가 적재된 뒤부터 같은 ETag를 유지한다
+        mockMvc.perform(get("/api/v1/community/posts").param("sort", "LATEST"))
+                .andExpect(status().isOk());
+        String listEtag = mockMvc.perform(get("/api/v1/community/posts").param("sort", "LATEST"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/community/posts").param("sort", "LATEST")
+                        .header(HttpHeaders.IF_NONE_MATCH, listEtag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/v1/community/posts").param("keyword", "ETag"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(get("/api/v1/community/search-keywords/trending"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=10, public"));
+    }
+
+    @Test
+    void postDetail_countsUniqueViewersByUserOrGuestId() throws Exception {
+        User author = saveUser("unique-view@example.com", "uniqueViewUser");
+        Long postId = communityService.createPost(author.getId(), new CommunityPostCreateRequestDto(
+                CommunityCategory.TREE_SHADE, "순 방문자 글", "본문", List.of()));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/community/posts/{postId}", postId).header("X-Guest-Id", "device-a"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId).header("X-Guest-Id", "device-b"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId)
+                        .with(authentication(new JwtAuthentication(author.getId()))))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/community/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.viewCount").value(6))
+                .andExpect(jsonPath("$.data.uniqueViewCount").value(0));
+
+        communityUniqueViewCounter.fold();
+
+        CommunityPost folded = communityPostRepository.findById(postId).orElseThrow();
+        assertEquals(3L, folded.getUniqueViewCount());
+    }
+
     @Test
     void searchHistory_save_list_delete_success() throws Exception {
         User user = saveUser("search-user@example.com", "searchUser");
@@ -0,0 +1,182 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.dto.post.CommunityPostCreateRequestDto;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.error.CommunityErrorCase;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.community.CommunityService;
+import com.wilo.server.community.service.duplicate.CommunityDuplicatePostGuard;
+import com.wilo.server.community.service.duplicate.SimHash;
+import com.wilo.server.global.exception.ApplicationException;
+import com.wilo.server.user.entity.User;
+import com.wilo.server.user.repository.UserCommunityStatsRepository;
+import com.wilo.server.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "community.duplicate-post.enabled=true")
+@ActiveProfiles("test")
+class CommunityDuplicatePostTest {
+
+    private static final String SPAM_CONTENT = "지금 바로 아래 링크에서 무료 상담 받으세요! 선착순 백 명에게만 드리는 특별 혜택이 준비되어 있습니다. "
+            + "놓치면 후회하는 기회, 오늘 하루만 진행합니다.";
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private CommunityDuplicatePostGuard communityDuplicatePostGuard;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private UserCommunityStatsRepository userCommunityStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        communityDuplicatePostGuard.clear();
+        userCommunityStatsRepository.deleteAll();
+        communityPostRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void simHash_keepsNearDuplicatesWithinFewBits() {
+        long original = SimHash.fingerprint("무료 상담", SPAM_CONTENT).value();
+        long edited = SimHash.fingerprint("무료 상담!", SPAM_CONTENT.replace("백 명", "이백 명")).value();
+        long unrelated = SimHash.fingerprint("잠이 안 와요",
+                "요즘 밤마다 잠이 오지 않아서 너무 힘들어요. 누워도 생각이 많아지고 새벽 세 시가 넘어서야 겨우 잠들어요.").value();
+
+        assertTrue(SimHash.distance(original, edited) <= 6);
+        assertTrue(SimHash.distance(original, unrelated) > 20);
+        // 거리 7 이하이면 여덟 밴드 중 하나는 반드시 같다
+        boolean sharesBand = false;
+        for (int band = 0; band < SimHash.BANDS; band++) {
+            sharesBand |= SimHash.bandKey(original, band) == SimHash.bandKey(edited, band);
+        }
+        assertTrue(sharesBand);
+    }
+
+    @Test
+    void sameAuthorNearDuplicate_isRejectedBeforeInsert() {
+        User author = saveUser("dup-author@example.com", "dupAuthor");
+        communityService.createPost(author.getId(), request("무료 상담", SPAM_CONTENT));
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () -> communityService.createPost(
+                author.getId(), request("무료 상담!", SPAM_CONTENT.replace("백 명", "이백 명"))));
+        assertEquals(CommunityErrorCase.DUPLICATE_POST, exception.getErrorCase());
+        assertEquals(1, communityPostRepository.count());
+
+        // 다른 내용이나 짧은 글은 그대로 작성된다
+        assertNotNull(communityService.createPost(author.getId(), request("잠이 안 와요",
+                "요즘 밤마다 잠이 오지 않아서 너무 힘들어요. 누워도 생각이 많아지고 새벽 세 시가 넘어서야 겨우 잠들어요.")));
+        assertNotNull(communityService.createPost(author.getId(), request("안녕하세요", "반가워요")));
+        assertNotNull(communityService.createPost(author.getId(), request("안녕하세요", "반가워요")));
+        assertEquals(4, communityPostRepository.count());
+    }
+
+    @Test
+    void parallelIdenticalCreates_insertOnlyOnce() throws Exception {
+        User author = saveUser("double-tap@example.com", "doubleTap");
+        int attempts = 8;
+
+        // 작성 버튼을 연달아 누른 것처럼 같은 글이 동시에 들어온다
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ApplicationException>> results = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    communityService.createPost(author.getId(), request("무료 상담", SPAM_CONTENT));
+                    return null;
+                } catch (ApplicationException e) {
+                    return e;
+                }
+            }));
+        }
+        start.countDown();
+
+        int rejected = 0;
+        for (Future<ApplicationException> result : results) {
+            ApplicationException exception = result.get();
+            if (exception != null) {
+                assertEquals(CommunityErrorCase.DUPLICATE_POST, exception.getErrorCase());
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(attempts - 1, rejected);
+        assertEquals(1, communityPostRepository.count());
+    }
+
+    @Test
+    void rolledBackOrDeletedPost_doesNotBlockRepost() {
+        User author = saveUser("repost-author@example.com", "repostAuthor");
+
+        // 롤백된 작성은 지문을 남기지 않는다
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            communityService.createPost(author.getId(), request("무료 상담", SPAM_CONTENT));
+            status.setRollbackOnly();
+        });
+        Long postId = communityService.createPost(author.getId(), request("무료 상담", SPAM_CONTENT));
+
+        // 삭제한 글은 다시 올릴 수 있다
+        communityService.deletePost(author.getId(), postId);
+        assertNotNull(communityService.createPost(author.getId(), request("무료 상담", SPAM_CONTENT)));
+    }
+
+    @Test
+    void nearDuplicateBurstAcrossAccounts_isRateLimited() {
+        List<User> spammers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            spammers.add(saveUser("spammer" + i + "@example.com", "spammer" + i));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            communityService.createPost(spammers.get(i).getId(), request("무료 상담 " + i, SPAM_CONTENT));
+        }
+        ApplicationException exception = assertThrows(ApplicationException.class, () -> communityService.createPost(
+                spammers.get(3).getId(), request("무료 상담 3", SPAM_CONTENT)));
+        assertEquals(CommunityErrorCase.SIMILAR_POST_RATE_LIMITED, exception.getErrorCase());
+        assertEquals(3, communityPostRepository.count());
+    }
+
+    private CommunityPostCreateRequestDto request(String title, String content) {
+        return new CommunityPostCreateRequestDto(CommunityCategory.HELP_BRANCH, title, content, null);
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(
+                User.builder()
+                        .email(email)
+                        .password("encodedPassword")
+                        .nickname(nickname)
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,146 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.repository.CommunityCommentRepository;
+import com.wilo.server.community.repository.CommunityPostLikeRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.repository.CommunitySearchHistoryRepository;
+import com.wilo.server.notification.repository.UserNotificationRepository;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// 커서 조건이 인덱스 한 번의 범위 스캔이 되는지 H2 실행 계획으로 확인한다.
+// 커서 조건은 MySQL이 범위 접근으로 푸는 펼친 형태 a <= x AND (a < x OR (a = x AND id < y))다.
+// H2는 계획의 인덱스 주석에 범위 조건을 적어 주므로, 앞에 덧붙인 "A <= x"가 인덱스 조건으로 들어갔는지 본다.
+// (MySQL에서의 계획은 같은 조회를 EXPLAIN 해서 type=range, key_len이 인덱스 전체 길이인지로 확인한다)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.wilo.server.community.CommunityKeysetExplainTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+class CommunityKeysetExplainTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+    private static final LocalDateTime CURSOR_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+    private static final Long CURSOR_ID = 1_000L;
+    private static final Long OWNER_ID = 7L;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private CommunityCommentRepository communityCommentRepository;
+
+    @Autowired
+    private CommunityPostLikeRepository communityPostLikeRepository;
+
+    @Autowired
+    private CommunitySearchHistoryRepository communitySearchHistoryRepository;
+
+    @Autowired
+    private UserNotificationRepository userNotificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void latestPosts_useIdRangeOnCategoryIndexOrPrimaryKey() {
+        communityPostRepository.findLatestPostsByCursor(CommunityCategory.TREE_SHADE, null, null, CURSOR_ID, PAGE);
+        assertRangeScan("community_posts", "IDX_POSTS_CATEGORY_ID", "ID <",
+                CommunityCategory.TREE_SHADE.name(), CURSOR_ID, PAGE.getPageSize());
+
+        communityPostRepository.findLatestPostsByCursor(null, null, null, CURSOR_ID, PAGE);
+        assertRangeScan("community_posts", "PRIMARY_KEY", "ID <", CURSOR_ID, PAGE.getPageSize());
+
+        communityPostRepository.findLatestPostsByAuthorCursor(OWNER_ID, CURSOR_ID, PAGE);
+        assertRangeScan("community_posts", "IDX_POSTS_USER_ID", "ID <", OWNER_ID, CURSOR_ID, PAGE.getPageSize());
+    }
+
+    @Test
+    void recommendedPosts_useLeadingKeyRangeOnLikeIndex() {
+        communityPostRepository.findRecommendedPostsByCursor(null, null, null, 5L, CURSOR_TIME, CURSOR_ID, PAGE);
+        assertRangeScan("community_posts", "IDX_POSTS_LIKE_CREATED_ID", "LIKE_COUNT <=",
+                5L, 5L, 5L, CURSOR_TIME, CURSOR_TIME, CURSOR_ID, PAGE.getPageSize());
+    }
+
+    @Test
+    void commentCursors_useLeadingKeyRangeOnThreadIndexes() {
+        communityCommentRepository.findLatestByUserIdCursor(OWNER_ID, CURSOR_TIME, CURSOR_ID, PAGE);
+        assertRangeScan("community_comments", "IDX_COMMENTS_USER_CREATED_ID", "CREATED_AT <=",
+                OWNER_ID, CURSOR_TIME, CURSOR_TIME, CURSOR_TIME, CURSOR_ID, PAGE.getPageSize());
+
+        communityCommentRepository.findRepliesByParentIdCursor(OWNER_ID, CURSOR_TIME, CURSOR_ID, PAGE);
+        assertRangeScan("community_comments", "IDX_COMMENTS_PARENT_CREATED_ID", "CREATED_AT >=",
+                OWNER_ID, CURSOR_TIME, CURSOR_TIME, CURSOR_TIME, CURSOR_ID, PAGE.getPageSize());
+
+        // H2는 parent_comment_id IS NULL을 인덱스 조건으로 쓰지 않아 (post_id, created_at, id) 인덱스를 고른다
+        communityCommentRepository.findRootCommentsByPostIdCursor(OWNER_ID, CURSOR_TIME, CURSOR_ID, PAGE);
+        assertRangeScan("community_comments", "IDX_COMMENTS_POST_CREATED_ID", "CREATED_AT >=",
+                OWNER_ID, CURSOR_TIME, CURSOR_TIME, CURSOR_TIME, CURSOR_ID, PAGE.getPageSize());
+    }
+
+    @Test
+    void likeNotificationAndSearchHistoryCursors_useLeadingKeyRange() {
+        communityPostLikeRepository.findLikedPostsByUserIdCursor(OWNER_ID, CURSOR_TIME, CURSOR_ID, PAGE);
+        assertRangeScan("community_post_likes", "IDX_POST_LIKES_USER_CREATED_ID", "CREATED_AT <=",
+                OWNER_ID, CURSOR_TIME, CURSOR_TIME, CURSOR_TIME, CURSOR_ID, PAGE.getPageSize());
+
+        userNotificationRepository.findLatestByReceiverWithCursor(OWNER_ID, CURSOR_TIME, CURSOR_ID, PAGE);
+        assertRangeScan("user_notifications", "IDX_NOTIFICATION_RECEIVER_CREATED_ID", "CREATED_AT <=",
+                OWNER_ID, CURSOR_TIME, CURSOR_TIME, CURSOR_TIME, CURSOR_ID, PAGE.getPageSize());
+
+        communitySearchHistoryRepository.findLatestByUserIdCursor(OWNER_ID, CURSOR_TIME, CURSOR_ID, PAGE);
+        assertRangeScan("community_search_histories", "IDX_SEARCH_HISTORY_USER_LAST_ID", "LAST_SEARCHED_AT <=",
+                OWNER_ID, CURSOR_TIME, CURSOR_TIME, CURSOR_TIME, CURSOR_ID, PAGE.getPageSize());
+    }
+
+    // 방금 실행된 조회문을 같은 파라미터로(커서 값은 펼친 조건에 나오는 횟수만큼) EXPLAIN 해서, 기대한 인덱스의 조건에 범위 비교가 들어갔는지 본다
+    private void assertRangeScan(String table, String index, String rangeCondition, Object... params) {
+        String sql = CapturingStatementInspector.lastSelectFrom(table);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params);
+
+        int indexComment = plan.indexOf("/* PUBLIC." + index);
+        assertTrue(indexComment >= 0, () -> index + " 인덱스를 쓰지 않습니다.\n" + plan);
+        String indexConditions = plan.substring(indexComment, plan.indexOf("*/", indexComment));
+        assertTrue(indexConditions.contains(rangeCondition), () -> "인덱스 범위 조건이 없습니다: " + rangeCondition + "\n" + plan);
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final Deque<String> STATEMENTS = new ConcurrentLinkedDeque<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.addLast(sql);
+            return sql;
+        }
+
+        private static String lastSelectFrom(String table) {
+            Iterator<String> statements = STATEMENTS.descendingIterator();
+            while (statements.hasNext()) {
+                String sql = statements.next();
+                if (sql.startsWith("select") && sql.contains(" from " + table + " ")) {
+                    return sql;
+                }
+            }
+            throw new AssertionError(table + " 조회문이 실행되지 않았습니다: " + List.copyOf(STATEMENTS));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.repository.CommunityPostCounterShardRepository;
+import com.wilo.server.community.repository.CommunityPostLikeRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.community.CommunityService;
+import com.wilo.server.community.service.counter.CommunityPostCounterCompactor;
+import com.wilo.server.community.service.counter.CommunityPostCounterService;
+import com.wilo.server.notification.repository.UserNotificationRepository;
+import com.wilo.server.user.entity.User;
+import com.wilo.server.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommunityLikeConcurrencyTest {
+
+    private static final int LIKERS = 1000;
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private CommunityPostCounterCompactor communityPostCounterCompactor;
+
+    @Autowired
+    private CommunityPostCounterService communityPostCounterService;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private CommunityPostLikeRepository communityPostLikeRepository;
+
+    @Autowired
+    private CommunityPostCounterShardRepository communityPostCounterShardRepository;
+
+    @Autowired
+    private UserNotificationRepository userNotificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userNotificationRepository.deleteAll();
+        communityPostLikeRepository.deleteAll();
+        communityPostCounterShardRepository.deleteAll();
+        communityPostRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentLikes_onOnePost_keepExactCount() throws Exception {
+        User author = saveUser("like-author@example.com", "likeAuthor");
+        CommunityPost post = communityPostRepository.save(
+                CommunityPost.builder()
+                        .user(author)
+                        .category(CommunityCategory.HELP_BRANCH)
+                        .title("좋아요 동시성")
+                        .content("본문")
+                        .build()
+        );
+
+        List<Long> likerIds = new ArrayList<>();
+        for (int i = 0; i < LIKERS; i++) {
+            likerIds.add(saveUser("liker" + i + "@example.com", "liker" + i).getId());
+        }
+
+        // 같은 유저가 두 번씩 요청해도 좋아요는 한 번만 반영되어야 한다
+        List<Long> requests = new ArrayList<>(likerIds);
+        requests.addAll(likerIds);
+        Collections.shuffle(requests);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requests.size());
+        AtomicInteger failures = new AtomicInteger();
+        ConcurrentLinkedQueue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+
+        for (Long likerId : requests) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    long start = System.nanoTime();
+                    communityService.likePost(likerId, post.getId());
+                    latenciesNanos.add(System.nanoTime() - start);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertTrue(doneLatch.await(120, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertEquals(0, failures.get());
+        assertEquals(LIKERS, communityPostLikeRepository.findByPostId(post.getId()).size());
+
+        communityPostCounterCompactor.compactPendingCounters();
+
+        CommunityPost reloaded = communityPostRepository.findById(post.getId()).orElseThrow();
+        assertEquals(LIKERS, reloaded.getLikeCount());
+        assertEquals(LIKERS, communityPostCounterService.getCounts(List.of(reloaded)).get(post.getId()).likeCount());
+
+        List<Long> sorted = latenciesNanos.stream().sorted().toList();
+        long p95Micros = TimeUnit.NANOSECONDS.toMicros(sorted.get((int) (sorted.size() * 0.95) - 1));
+        System.out.println("==== 좋아요 동시성 p95 ====");
+        System.out.println("requests=" + sorted.size() + ", p95=" + p95Micros + "us");
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(
+                User.builder()
+                        .email(email)
+                        .password("encodedPassword")
+                        .nickname(nickname)
+                        .build()
+        );
+    }
+}
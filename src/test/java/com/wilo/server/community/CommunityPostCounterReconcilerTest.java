@@ -0,0 +1,130 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.wilo.server.community.dto.comment.CommunityCommentCreateRequestDto;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.repository.CommunityCommentRepository;
+import com.wilo.server.community.repository.CommunityPostCounterShardRepository;
+import com.wilo.server.community.repository.CommunityPostLikeRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.community.CommunityService;
+import com.wilo.server.community.service.counter.CommunityPostCounterCompactor;
+import com.wilo.server.community.service.counter.CommunityPostCounterReconciler;
+import com.wilo.server.community.service.counter.CommunityPostDisplayCounts;
+import com.wilo.server.notification.repository.UserNotificationRepository;
+import com.wilo.server.user.entity.User;
+import com.wilo.server.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommunityPostCounterReconcilerTest {
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private CommunityPostCounterReconciler communityPostCounterReconciler;
+
+    @Autowired
+    private CommunityPostCounterCompactor communityPostCounterCompactor;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private CommunityCommentRepository communityCommentRepository;
+
+    @Autowired
+    private CommunityPostLikeRepository communityPostLikeRepository;
+
+    @Autowired
+    private CommunityPostCounterShardRepository communityPostCounterShardRepository;
+
+    @Autowired
+    private UserNotificationRepository userNotificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userNotificationRepository.deleteAll();
+        communityCommentRepository.deleteAll();
+        communityPostLikeRepository.deleteAll();
+        communityPostCounterShardRepository.deleteAll();
+        communityPostRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void reconcileAll_fixesOnlyDriftedPosts() {
+        User author = saveUser("recount-author@example.com", "recountAuthor");
+        CommunityPost drifted = savePost(author, "어긋날 글");
+        CommunityPost intact = savePost(author, "그대로인 글");
+
+        for (int i = 0; i < 3; i++) {
+            User reader = saveUser("recount-reader" + i + "@example.com", "recountReader" + i);
+            communityService.likePost(reader.getId(), drifted.getId());
+            communityService.createComment(reader.getId(), drifted.getId(), new CommunityCommentCreateRequestDto(null, "댓글"));
+        }
+        communityService.createComment(author.getId(), intact.getId(), new CommunityCommentCreateRequestDto(null, "댓글"));
+        communityPostCounterCompactor.compactPendingCounters();
+
+        // 누락된 쓰기 경로를 흉내: 컬럼을 직접 틀어 놓고, 댓글 삭제는 카운터를 줄이지 않는다
+        jdbcTemplate.update("UPDATE community_posts SET like_count = like_count + 5 WHERE id = ?", drifted.getId());
+        communityCommentRepository.delete(communityCommentRepository.findAll().stream()
+                .filter(comment -> comment.getPost().getId().equals(drifted.getId()))
+                .findFirst()
+                .orElseThrow());
+        // 압축되지 않은 샤드 증분이 남아 있어도 합계 기준으로 비교한다
+        communityService.likePost(author.getId(), intact.getId());
+
+        assertEquals(1, communityPostCounterReconciler.reconcileAll());
+        assertCounts(drifted, 3, 2);
+        assertCounts(intact, 1, 1);
+
+        assertEquals(0, communityPostCounterReconciler.reconcileAll());
+        communityPostCounterCompactor.compactPendingCounters();
+        assertCounts(drifted, 3, 2);
+        assertEquals(3L, communityPostRepository.findById(drifted.getId()).orElseThrow().getLikeCount());
+    }
+
+    private void assertCounts(CommunityPost post, long likeCount, long commentCount) {
+        CommunityPostDisplayCounts counts = communityPostCounterShardRepository.findDisplayCountsByPostId(post.getId())
+                .orElseThrow();
+        assertEquals(likeCount, counts.likeCount());
+        assertEquals(commentCount, counts.commentCount());
+    }
+
+    private CommunityPost savePost(User author, String title) {
+        return communityPostRepository.save(
+                CommunityPost.builder()
+                        .user(author)
+                        .category(CommunityCategory.TREE_SHADE)
+                        .title(title)
+                        .content("본문")
+                        .build()
+        );
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(
+                User.builder()
+                        .email(email)
+                        .password("encodedPassword")
+                        .nickname(nickname)
+                        .build()
+        );
+    }
+}
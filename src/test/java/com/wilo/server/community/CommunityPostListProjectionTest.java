@@ -0,0 +1,122 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.user.entity.User;
+import com.wilo.server.user.repository.UserRepository;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommunityPostListProjectionTest {
+
+    private static final int POST_COUNT = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final int CONTENT_LENGTH = 4_000;
+    private static final int ROUNDS = 50;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        communityPostRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void summaryProjection_readsPreviewInsteadOfFullContent() {
+        User author = userRepository.save(
+                User.builder()
+                        .email("projection@example.com")
+                        .password("encodedPassword")
+                        .nickname("projectionUser")
+                        .build()
+        );
+        List<CommunityPost> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            posts.add(CommunityPost.builder()
+                    .user(author)
+                    .category(CommunityCategory.TREE_SHADE)
+                    .title("긴 본문 게시글 " + i)
+                    .content("가".repeat(CONTENT_LENGTH))
+                    .build());
+        }
+        communityPostRepository.saveAll(posts);
+
+        // 변경 전: 엔티티 전체(TEXT 본문 포함)를 읽은 뒤 메모리에서 미리보기를 자른다
+        Supplier<List<CommunityPostSummaryDto>> entityPage = () -> communityPostRepository
+                .findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, PAGE_SIZE)).stream()
+                .map(post -> new CommunityPostSummaryDto(
+                        post.getId(),
+                        post.getCategory(),
+                        post.getTitle(),
+                        CommunityPost.createPreview(post.getContent()),
+                        post.getCreatedAt(),
+                        post.getViewCount(),
+                        post.getLikeCount(),
+                        post.getCommentCount()
+                ))
+                .toList();
+        // 변경 후: 목록에 필요한 컬럼만 DTO로 바로 읽는다
+        Supplier<List<CommunityPostSummaryDto>> projectionPage = () -> communityPostRepository
+                .findLatestPostsByAuthorCursor(author.getId(), null, PageRequest.of(0, PAGE_SIZE));
+
+        List<CommunityPost> entities = communityPostRepository.findByIdGreaterThanOrderByIdAsc(
+                0L, PageRequest.of(0, PAGE_SIZE));
+        List<CommunityPostSummaryDto> summaries = projectionPage.get();
+        assertEquals(PAGE_SIZE, summaries.size());
+        assertEquals(CommunityPost.CONTENT_PREVIEW_LENGTH + 3, summaries.get(0).contentPreview().length());
+
+        long entityChars = entities.stream()
+                .mapToLong(post -> post.getTitle().length() + post.getContent().length()
+                        + post.getContentPreview().length())
+                .sum();
+        long projectionChars = summaries.stream()
+                .mapToLong(summary -> summary.title().length() + summary.contentPreview().length())
+                .sum();
+
+        long entityBytes = allocatedBytesPerCall(entityPage);
+        long projectionBytes = allocatedBytesPerCall(projectionPage);
+
+        System.out.println("==== community post list projection ====");
+        System.out.printf("page size=%d, content length=%d%n", PAGE_SIZE, CONTENT_LENGTH);
+        System.out.printf("text chars read: entity=%d, projection=%d%n", entityChars, projectionChars);
+        System.out.printf("allocated bytes per page: entity=%d, projection=%d%n", entityBytes, projectionBytes);
+
+        assertTrue(projectionChars * 10 < entityChars);
+        assertTrue(projectionBytes < entityBytes);
+    }
+
+    private long allocatedBytesPerCall(Supplier<List<CommunityPostSummaryDto>> page) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < ROUNDS; i++) {
+            page.get();
+        }
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ROUNDS; i++) {
+            page.get();
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ROUNDS;
+    }
+}
@@ -0,0 +1,146 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.event.CommunityPostEvent;
+import com.wilo.server.community.event.CommunityPostEventType;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.counter.CommunityPostCounterService;
+import com.wilo.server.community.service.counter.CommunityPostCounts;
+import com.wilo.server.community.service.ranking.CommunityPostRankingService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 추천순 랭킹 재구축이 그사이 들어온 이벤트를 잃지 않고, 카운터를 청크 단위로 한 번에 읽는지 확인한다.
+// Redis는 테스트에서 목이라 명령 순서로 검증한다.
+@ExtendWith(MockitoExtension.class)
+class CommunityPostRankingServiceTest {
+
+    private static final String GLOBAL_KEY = "community:ranking:global";
+    private static final String DIRTY_KEY = "community:ranking:dirty";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @Mock
+    private CommunityPostRepository communityPostRepository;
+
+    @Mock
+    private CommunityPostCounterService communityPostCounterService;
+
+    @InjectMocks
+    private CommunityPostRankingService communityPostRankingService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(communityPostRankingService, "likeWeight", 4.0);
+        ReflectionTestUtils.setField(communityPostRankingService, "commentWeight", 0.5);
+        ReflectionTestUtils.setField(communityPostRankingService, "decaySeconds", 45000L);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    void score_risesWithEngagementAndRecency() {
+        CommunityPost post = post(1L, CommunityCategory.TREE_SHADE, LocalDateTime.of(2026, 1, 1, 0, 0));
+        CommunityPost newer = post(2L, CommunityCategory.TREE_SHADE, LocalDateTime.of(2026, 1, 2, 0, 0));
+
+        double quiet = communityPostRankingService.score(post, new CommunityPostCounts(0L, 0L));
+        assertTrue(communityPostRankingService.score(post, new CommunityPostCounts(10L, 0L)) > quiet);
+        assertTrue(communityPostRankingService.score(post, new CommunityPostCounts(0L, 10L)) > quiet);
+        assertTrue(communityPostRankingService.score(newer, new CommunityPostCounts(0L, 0L)) > quiet);
+    }
+
+    @Test
+    void postEvent_isMarkedForReplayBeforeItIsApplied() {
+        CommunityPost post = post(7L, CommunityCategory.TREE_SHADE, LocalDateTime.of(2026, 1, 1, 0, 0));
+        when(communityPostRepository.findById(7L)).thenReturn(Optional.of(post));
+        when(communityPostCounterService.getCounts(post)).thenReturn(new CommunityPostCounts(1L, 0L));
+
+        communityPostRankingService.handlePostEvent(CommunityPostEvent.of(7L, CommunityPostEventType.LIKED));
+
+        InOrder order = inOrder(setOperations, zSetOperations);
+        order.verify(setOperations).add(DIRTY_KEY, member(7L));
+        order.verify(zSetOperations).add(eq(GLOBAL_KEY), eq(member(7L)), anyDouble());
+    }
+
+    @Test
+    void rebuild_readsCountsPerChunk_andReplaysPostsChangedDuringRebuild() {
+        CommunityPost first = post(1L, CommunityCategory.TREE_SHADE, LocalDateTime.of(2026, 1, 1, 0, 0));
+        CommunityPost second = post(2L, CommunityCategory.HELP_BRANCH, LocalDateTime.of(2026, 1, 1, 0, 0));
+        when(communityPostRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of());
+        when(communityPostCounterService.getCounts(anyList())).thenAnswer(invocation -> {
+            List<CommunityPost> posts = invocation.getArgument(0);
+            return posts.stream().collect(Collectors.toMap(
+                    CommunityPost::getId, post -> new CommunityPostCounts(post.getId() == 1L ? 5L : 0L, 0L)));
+        });
+
+        // 재구축 도중 1번 글에 좋아요가 더 붙고 3번 글은 삭제됐다
+        when(redisTemplate.hasKey(DIRTY_KEY)).thenReturn(true);
+        when(setOperations.members(DIRTY_KEY + ":replaying")).thenReturn(Set.of(member(1L), member(3L)));
+        when(communityPostRepository.findAllById(any())).thenReturn(List.of(first));
+
+        assertEquals(2, communityPostRankingService.rebuild());
+
+        // 게시글마다가 아니라 청크/재반영 단위로 카운터를 읽는다
+        verify(communityPostCounterService, times(2)).getCounts(anyList());
+        verify(communityPostCounterService, never()).getCounts(any(CommunityPost.class));
+
+        InOrder order = inOrder(redisTemplate, zSetOperations);
+        order.verify(redisTemplate).delete(DIRTY_KEY);
+        order.verify(redisTemplate).rename(GLOBAL_KEY + ":rebuilding", GLOBAL_KEY);
+        order.verify(redisTemplate).rename(DIRTY_KEY, DIRTY_KEY + ":replaying");
+        order.verify(zSetOperations).add(eq(GLOBAL_KEY), eq(member(1L)), anyDouble());
+        order.verify(zSetOperations).remove(GLOBAL_KEY, member(3L));
+    }
+
+    private CommunityPost post(Long id, CommunityCategory category, LocalDateTime createdAt) {
+        CommunityPost post = mock(CommunityPost.class);
+        lenient().when(post.getId()).thenReturn(id);
+        lenient().when(post.getCategory()).thenReturn(category);
+        lenient().when(post.getCreatedAt()).thenReturn(createdAt);
+        return post;
+    }
+
+    private static String member(Long postId) {
+        return String.format("%019d", postId);
+    }
+}
@@ -0,0 +1,137 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.service.search.index.CommunityPostSearchIndex;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CommunityPostSearchIndexTest {
+
+    private static final String[] WORDS = {
+            "나무", "햇볕", "물주기", "분갈이", "몬스테라", "Leaf", "잎사귀", "화분", "흙", "베란다", "겨울", "영양제"
+    };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void candidates_coverEveryLikeMatch_acrossFlushMergeAndReload() {
+        CommunityPostSearchIndex index = new CommunityPostSearchIndex(directory.toString(), 2, 20000);
+        index.load();
+        index.markReady();
+
+        Random random = new Random(7);
+        List<String[]> documents = new ArrayList<>();
+        for (int id = 1; id <= 600; id++) {
+            String title = randomText(random, 3);
+            String content = randomText(random, 20);
+            documents.add(new String[] {title, content});
+            index.add(id, title, content);
+            // 여러 번 flush해서 세그먼트 병합까지 거치게 한다
+            if (id % 100 == 0) {
+                index.flush(LocalDateTime.now());
+            }
+        }
+        index.remove(3L);
+
+        assertCandidatesCoverMatches(index, documents, "나무", 3L);
+        assertCandidatesCoverMatches(index, documents, "분갈이", 3L);
+        assertCandidatesCoverMatches(index, documents, "leaf 잎", 3L);
+        assertTrue(index.segmentCount() <= 2);
+
+        CommunityPostSearchIndex reloaded = new CommunityPostSearchIndex(directory.toString(), 2, 20000);
+        assertTrue(reloaded.load().isPresent());
+        reloaded.markReady();
+        assertCandidatesCoverMatches(reloaded, documents, "몬스테라", null);
+        assertArrayEquals(
+                index.findCandidateIds("영양제").orElseThrow(),
+                LongStream.of(reloaded.findCandidateIds("영양제").orElseThrow()).filter(id -> id != 3L).toArray()
+        );
+    }
+
+    @Test
+    void deletedIds_areForgottenOnceNoSegmentCanHoldThem() {
+        CommunityPostSearchIndex index = new CommunityPostSearchIndex(directory.toString(), 2, 20000);
+        index.load();
+        index.markReady();
+
+        index.add(1L, "몬스테라 분갈이", "흙");
+        index.flush(LocalDateTime.now());
+        index.remove(1L);
+
+        // 1번 글이 든 세그먼트가 남아 있는 동안은 삭제 표시로 걸러낸다
+        index.add(2L, "몬스테라 물주기", "햇볕");
+        index.add(3L, "몬스테라 잎사귀", "베란다");
+        index.flush(LocalDateTime.now());
+        assertEquals(1, index.deletedCount());
+        assertArrayEquals(new long[] {3L, 2L}, index.findCandidateIds("몬스테라").orElseThrow());
+
+        // 병합에서 1번 글이 빠지면 표시도 지운다
+        index.add(4L, "몬스테라 겨울나기", "화분");
+        index.add(5L, "몬스테라 영양제", "나무");
+        index.flush(LocalDateTime.now());
+        assertEquals(2, index.segmentCount());
+        assertEquals(0, index.deletedCount());
+        assertArrayEquals(new long[] {5L, 4L, 3L, 2L}, index.findCandidateIds("몬스테라").orElseThrow());
+    }
+
+    @Test
+    void shortOrUnreadyQueries_fallBackToLike() {
+        CommunityPostSearchIndex index = new CommunityPostSearchIndex(directory.toString(), 8, 20000);
+        index.load();
+        index.add(1L, "나무", "햇볕");
+
+        assertTrue(index.findCandidateIds("나무").isEmpty());
+        index.markReady();
+        assertTrue(index.findCandidateIds("볕").isEmpty());
+        assertArrayEquals(new long[] {1L}, index.findCandidateIds("나무").orElseThrow());
+        assertEquals(0, index.findCandidateIds("없는단어").orElseThrow().length);
+    }
+
+    private void assertCandidatesCoverMatches(
+            CommunityPostSearchIndex index,
+            List<String[]> documents,
+            String keyword,
+            Long deletedId
+    ) {
+        long[] candidates = index.findCandidateIds(keyword).orElseThrow();
+        String normalized = keyword.toLowerCase();
+
+        for (int i = 0; i < documents.size(); i++) {
+            long id = i + 1;
+            String[] document = documents.get(i);
+            boolean matches = document[0].toLowerCase().contains(normalized)
+                    || document[1].toLowerCase().contains(normalized);
+            boolean candidate = LongStream.of(candidates).anyMatch(value -> value == id);
+            if (deletedId != null && id == deletedId) {
+                assertTrue(!candidate, "삭제된 게시글은 후보에서 빠져야 한다");
+            } else if (matches) {
+                assertTrue(candidate, "LIKE 일치 게시글이 후보에 없음: " + id);
+            }
+        }
+
+        for (int i = 1; i < candidates.length; i++) {
+            assertTrue(candidates[i - 1] > candidates[i], "후보 id는 내림차순이어야 한다");
+        }
+    }
+
+    private String randomText(Random random, int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
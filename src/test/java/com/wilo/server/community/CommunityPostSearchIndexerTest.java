@@ -0,0 +1,52 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.search.index.CommunityPostSearchIndex;
+import com.wilo.server.community.service.search.index.CommunityPostSearchIndexer;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 이 노드로 이벤트가 오지 않은 변경(배포 전환 중 이전 컨테이너가 받은 글 등)을 주기적 따라잡기가 색인하는지 확인한다.
+class CommunityPostSearchIndexerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void catchUp_indexesPostsChangedOnOtherNodes() {
+        CommunityPostSearchIndex index = new CommunityPostSearchIndex(directory.toString(), 8, 20000);
+        CommunityPostRepository repository = mock(CommunityPostRepository.class);
+        CommunityPostSearchIndexer indexer = new CommunityPostSearchIndexer(index, repository);
+        ReflectionTestUtils.setField(indexer, "enabled", true);
+
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        indexer.initialize();
+        assertEquals(0, index.findCandidateIds("몬스테라").orElseThrow().length);
+
+        CommunityPost post = mock(CommunityPost.class);
+        when(post.getId()).thenReturn(42L);
+        when(post.getTitle()).thenReturn("몬스테라 분갈이");
+        when(post.getContent()).thenReturn("베란다에서 키워요");
+        when(repository.findByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                any(LocalDateTime.class), eq(0L), any(Pageable.class))).thenReturn(List.of(post));
+        when(repository.findByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                any(LocalDateTime.class), eq(42L), any(Pageable.class))).thenReturn(List.of());
+
+        indexer.catchUpRecent();
+        assertArrayEquals(new long[] {42L}, index.findCandidateIds("몬스테라").orElseThrow());
+    }
+}
@@ -0,0 +1,161 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.dto.post.CommunityPostCreateRequestDto;
+import com.wilo.server.community.dto.post.CommunityRelatedPostDto;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.repository.CommunityPostMinHashBandRepository;
+import com.wilo.server.community.repository.CommunityPostMinHashRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.repository.CommunityRelatedPostRepository;
+import com.wilo.server.community.service.community.CommunityService;
+import com.wilo.server.community.service.related.CommunityRelatedPostIndexer;
+import com.wilo.server.community.service.related.CommunityRelatedPostService;
+import com.wilo.server.community.service.related.MinHash;
+import com.wilo.server.community.service.version.CommunityContentVersionService;
+import com.wilo.server.user.entity.User;
+import com.wilo.server.user.repository.UserCommunityStatsRepository;
+import com.wilo.server.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommunityRelatedPostTest {
+
+    private static final String SLEEP_CONTENT = "요즘 밤마다 잠이 오지 않아서 너무 힘들어요. 누워도 생각이 많아지고 새벽 세 시가 넘어서야 겨우 잠들어요. "
+            + "아침에는 몸이 무겁고 하루 종일 피곤합니다. 비슷한 경험 있으신 분들은 어떻게 극복하셨는지 궁금해요.";
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private CommunityRelatedPostService communityRelatedPostService;
+
+    @Autowired
+    private CommunityRelatedPostIndexer communityRelatedPostIndexer;
+
+    @Autowired
+    private CommunityContentVersionService communityContentVersionService;
+
+    @Autowired
+    private CommunityRelatedPostRepository communityRelatedPostRepository;
+
+    @Autowired
+    private CommunityPostMinHashRepository communityPostMinHashRepository;
+
+    @Autowired
+    private CommunityPostMinHashBandRepository communityPostMinHashBandRepository;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private UserCommunityStatsRepository userCommunityStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        communityRelatedPostRepository.deleteAll();
+        communityPostMinHashBandRepository.deleteAll();
+        communityPostMinHashRepository.deleteAll();
+        userCommunityStatsRepository.deleteAll();
+        communityPostRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void minHash_estimatesJaccardSimilarity() {
+        int[] original = MinHash.signature("잠이 안 와요", SLEEP_CONTENT);
+        int[] spacingOnly = MinHash.signature("잠이안와요", SLEEP_CONTENT.replace(" ", ""));
+        int[] edited = MinHash.signature("잠이 안 와요", SLEEP_CONTENT.replace("새벽 세 시", "새벽 네 시"));
+        int[] unrelated = MinHash.signature("취업 준비", "자기소개서를 몇 번이나 고쳐 써도 서류에서 계속 떨어지네요. 면접까지 가 본 적이 없어요.");
+
+        assertEquals(1.0, MinHash.similarity(original, spacingOnly));
+        assertTrue(MinHash.similarity(original, edited) >= 0.8);
+        assertTrue(MinHash.similarity(original, unrelated) < 0.2);
+        assertNull(MinHash.signature("잠", ""));
+    }
+
+    @Test
+    void relatedPosts_stayWithinCategory_areMaintainedIncrementally_andServedByOneQuery() {
+        User author = saveUser("related-author@example.com", "relatedAuthor");
+        Long original = createPost(author, CommunityCategory.TREE_SHADE, "잠이 안 와요", SLEEP_CONTENT);
+        Long similar = createPost(author, CommunityCategory.TREE_SHADE, "요즘 잠이 안 와요",
+                SLEEP_CONTENT.replace("새벽 세 시", "새벽 네 시"));
+        Long unrelated = createPost(author, CommunityCategory.TREE_SHADE, "취업 준비",
+                "자기소개서를 몇 번이나 고쳐 써도 서류에서 계속 떨어지네요. 면접까지 가 본 적이 없어요.");
+        Long otherCategory = createPost(author, CommunityCategory.HELP_BRANCH, "잠이 안 와요", SLEEP_CONTENT);
+
+        String versionBeforeRebuild = communityContentVersionService.getPostVersion(original);
+        assertEquals(4, communityRelatedPostIndexer.rebuildAll());
+        // 목록이 바뀐 글은 ETag 버전도 바뀌고, 다시 계산해도 구성이 같은 목록은 바뀐 것으로 치지 않는다
+        assertNotEquals(versionBeforeRebuild, communityContentVersionService.getPostVersion(original));
+        assertEquals(Set.of(), communityRelatedPostService.refresh(original));
+        assertEquals(List.of(similar), relatedIds(original));
+        assertEquals(List.of(original), relatedIds(similar));
+        assertEquals(List.of(), relatedIds(unrelated));
+        assertEquals(List.of(), relatedIds(otherCategory));
+
+        // 새 글은 자신의 목록을 만들면서 이웃 글의 목록에도 들어간다
+        Long later = createPost(author, CommunityCategory.TREE_SHADE, "잠이 안 와요", SLEEP_CONTENT + " 감사합니다.");
+        assertEquals(Set.of(later, original, similar), communityRelatedPostService.refresh(later));
+        assertEquals(List.of(original, similar), relatedIds(later));
+        assertEquals(List.of(later, similar), relatedIds(original));
+
+        List<CommunityRelatedPostDto> detailRelated = communityService.getPostDetail(original, null).relatedPosts();
+        assertEquals(List.of(later, similar), detailRelated.stream().map(CommunityRelatedPostDto::id).toList());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        communityRelatedPostService.getRelatedPosts(original);
+        long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        assertEquals(1, statements);
+
+        // 삭제된 글은 다른 글의 목록에서도 빠진다
+        communityService.deletePost(author.getId(), later);
+        communityRelatedPostService.remove(later);
+        assertEquals(List.of(similar), relatedIds(original));
+        assertFalse(communityPostMinHashRepository.existsById(later));
+    }
+
+    private List<Long> relatedIds(Long postId) {
+        return communityRelatedPostService.getRelatedPosts(postId).stream()
+                .map(CommunityRelatedPostDto::id)
+                .toList();
+    }
+
+    private Long createPost(User author, CommunityCategory category, String title, String content) {
+        return communityService.createPost(author.getId(), new CommunityPostCreateRequestDto(category, title, content, null));
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(
+                User.builder()
+                        .email(email)
+                        .password("encodedPassword")
+                        .nickname(nickname)
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,184 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.wilo.server.community.dto.post.CommunityPostListResponseDto;
+import com.wilo.server.community.dto.post.CommunityPostSummaryDto;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.entity.post.CommunityPostSortType;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.search.CommunitySearchService;
+import com.wilo.server.community.service.search.index.CommunityPostSearchIndex;
+import com.wilo.server.user.entity.User;
+import com.wilo.server.user.repository.UserRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// 게시글 수를 지정해 실행: COMMUNITY_SEARCH_BENCHMARK_POSTS=1000000 ./gradlew test --tests '*SearchIndexBenchmark*'
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "COMMUNITY_SEARCH_BENCHMARK_POSTS", matches = "\\d+")
+class CommunitySearchIndexBenchmarkTest {
+
+    private static final String[] WORDS = {
+            "나무", "햇볕", "물주기", "분갈이", "몬스테라", "잎사귀", "화분", "흙", "베란다", "겨울", "영양제", "가지치기",
+            "새싹", "뿌리", "장마", "습도", "선인장", "다육이", "허브", "바질", "로즈마리", "병충해", "진딧물", "꽃봉오리"
+    };
+    private static final String RARE_KEYWORD = "희귀식물";
+    private static final int RARE_INTERVAL = 10_000;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private CommunitySearchService communitySearchService;
+
+    @Autowired
+    private CommunityPostSearchIndex communityPostSearchIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM community_posts");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void indexedSearch_versusLikeScan() {
+        int postCount = Integer.parseInt(System.getenv("COMMUNITY_SEARCH_BENCHMARK_POSTS"));
+        User author = userRepository.save(
+                User.builder()
+                        .email("search-bench@example.com")
+                        .password("encodedPassword")
+                        .nickname("searchBench")
+                        .build()
+        );
+        insertPosts(author.getId(), postCount);
+
+        long buildStart = System.nanoTime();
+        communityPostSearchIndex.clear();
+        jdbcTemplate.query("SELECT id, title, content FROM community_posts ORDER BY id", resultSet -> {
+            communityPostSearchIndex.add(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3));
+            if (communityPostSearchIndex.pendingDocCount() >= 50_000) {
+                communityPostSearchIndex.flush(LocalDateTime.now());
+            }
+        });
+        communityPostSearchIndex.flush(LocalDateTime.now());
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStart);
+
+        long reloadMillis = measureReload();
+        communityPostSearchIndex.markReady();
+
+        System.out.println("==== 검색 색인 벤치마크 (posts=" + postCount + ") ====");
+        System.out.println("build=" + buildMillis + "ms, segments=" + communityPostSearchIndex.segmentCount()
+                + ", reload=" + reloadMillis + "ms");
+
+        for (String keyword : List.of(RARE_KEYWORD, "분갈이 새싹", "몬스테라")) {
+            for (CommunityPostSortType sort : CommunityPostSortType.values()) {
+                List<Long> likeIds = ids(likeSearch(keyword, sort));
+                List<Long> indexIds = communitySearchService
+                        .getPosts(null, null, sort, keyword, null, 20).items().stream()
+                        .map(CommunityPostSummaryDto::id)
+                        .toList();
+                assertEquals(likeIds, indexIds, "색인 검색 결과가 LIKE와 달라졌습니다: " + keyword + ", " + sort);
+
+                long likeMicros = medianMicros(() -> likeSearch(keyword, sort));
+                long indexMicros = medianMicros(() -> communitySearchService.getPosts(null, null, sort, keyword, null, 20));
+                System.out.println("keyword=" + keyword + ", sort=" + sort
+                        + ", like=" + likeMicros + "us, index=" + indexMicros + "us");
+            }
+        }
+    }
+
+    private void insertPosts(Long userId, int postCount) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+        CommunityCategory[] categories = CommunityCategory.values();
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+
+        for (int i = 0; i < postCount; i++) {
+            String content = randomText(random, 40);
+            if (i % RARE_INTERVAL == 0) {
+                content = content + " " + RARE_KEYWORD;
+            }
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i * 30L));
+            batch.add(new Object[] {
+                    userId, categories[i % categories.length].name(), randomText(random, 4), content,
+                    CommunityPost.createPreview(content), (long) random.nextInt(1000), createdAt, createdAt
+            });
+
+            if (batch.size() == INSERT_BATCH_SIZE || i == postCount - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO community_posts
+                            (user_id, category, title, content, content_preview, view_count, like_count, comment_count, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, 0, ?, 0, ?, ?)
+                        """, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private List<CommunityPostSummaryDto> likeSearch(String keyword, CommunityPostSortType sort) {
+        PageRequest pageable = PageRequest.of(0, 21);
+        return switch (sort) {
+            case LATEST -> communityPostRepository.findLatestPostsByCursor(null, keyword, null, null, pageable);
+            case RECOMMENDED -> communityPostRepository.findRecommendedPostsByCursor(
+                    null, keyword, null, null, null, null, pageable);
+        };
+    }
+
+    private List<Long> ids(List<CommunityPostSummaryDto> posts) {
+        return posts.stream().limit(20).map(CommunityPostSummaryDto::id).toList();
+    }
+
+    // 세그먼트 파일만으로 색인을 다시 여는 시간 (재기동 시 전체 재색인 대신 수행되는 작업)
+    private long measureReload() {
+        long start = System.nanoTime();
+        CommunityPostSearchIndex reloaded = new CommunityPostSearchIndex(
+                communityPostSearchIndex.directory().toString(), 8, 20000);
+        reloaded.load();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private long medianMicros(Supplier<?> search) {
+        List<Long> samples = new ArrayList<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            samples.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+        return samples.stream().sorted().toList().get(ROUNDS / 2);
+    }
+
+    private String randomText(Random random, int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.service.search.trending.CountMinSketch;
+import com.wilo.server.community.service.search.trending.TrendingKeywordBucket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CommunityTrendingKeywordTest {
+
+    @Test
+    void sketchNeverUnderestimates_andSnapshotsMergeAcrossNodes() {
+        TrendingKeywordBucket nodeA = new TrendingKeywordBucket(1L, 4, 2048, 100);
+        TrendingKeywordBucket nodeB = new TrendingKeywordBucket(1L, 4, 2048, 100);
+        Map<String, Integer> actualCounts = new HashMap<>();
+        Random random = new Random(7);
+
+        // 상위 몇 개 키워드가 대부분을 차지하는 분포 (heavy hitter + 긴 꼬리)
+        for (int i = 0; i < 50_000; i++) {
+            String keyword = random.nextInt(10) < 6
+                    ? "인기" + random.nextInt(5)
+                    : "희귀" + random.nextInt(20_000);
+            actualCounts.merge(keyword, 1, Integer::sum);
+            (i % 2 == 0 ? nodeA : nodeB).add(keyword);
+        }
+
+        CountMinSketch merged = new CountMinSketch(4, 2048);
+        TrendingKeywordBucket.fromSnapshot(nodeA.toSnapshot()).mergeSketchInto(merged);
+        TrendingKeywordBucket.fromSnapshot(nodeB.toSnapshot()).mergeSketchInto(merged);
+
+        assertEquals(50_000, merged.totalCount());
+        actualCounts.forEach((keyword, count) -> assertTrue(merged.estimate(keyword) >= count));
+        for (int i = 0; i < 5; i++) {
+            String keyword = "인기" + i;
+            long error = merged.estimate(keyword) - actualCounts.get(keyword);
+            // 오차 한계: e / width * 전체 건수
+            assertTrue(error <= Math.ceil(Math.E / 2048 * 50_000), keyword + " error=" + error);
+            assertTrue(nodeA.candidateKeywords().contains(keyword));
+            assertTrue(nodeB.candidateKeywords().contains(keyword));
+        }
+    }
+
+    @Test
+    void candidateHeap_keepsOnlyCapacityKeywords() {
+        TrendingKeywordBucket bucket = new TrendingKeywordBucket(1L, 4, 2048, 3);
+        for (int i = 0; i < 100; i++) {
+            bucket.add("롱테일" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            bucket.add("나무");
+            bucket.add("햇볕");
+        }
+
+        assertEquals(3, bucket.candidateKeywords().size());
+        assertTrue(bucket.candidateKeywords().contains("나무"));
+        assertTrue(bucket.candidateKeywords().contains("햇볕"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.service.counter.HyperLogLog;
+import org.junit.jupiter.api.Test;
+
+class CommunityUniqueViewCounterTest {
+
+    @Test
+    void repeatedViewers_doNotIncreaseEstimate() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add("g:device-" + (i % 10));
+        }
+
+        assertEquals(10, sketch.estimate());
+        assertFalse(sketch.add("g:device-3"));
+    }
+
+    @Test
+    void estimate_staysWithinStandardErrorForLargeCardinality() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        int viewers = 200_000;
+        for (int i = 0; i < viewers; i++) {
+            sketch.add("u:" + i);
+        }
+
+        // 2^12 레지스터의 표준 오차는 약 1.6%, 여유 있게 3배까지 허용한다
+        double error = Math.abs(sketch.estimate() - viewers) / (double) viewers;
+        System.out.println("==== HyperLogLog estimate: " + sketch.estimate() + " / " + viewers + " ====");
+        assertTrue(error < 0.05, "error=" + error);
+    }
+}
@@ -0,0 +1,126 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.entity.post.CommunityPost;
+import com.wilo.server.community.repository.CommunityPostCounterRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.community.CommunityService;
+import com.wilo.server.community.service.counter.CommunityViewCountBuffer;
+import com.wilo.server.user.entity.User;
+import com.wilo.server.user.repository.UserRepository;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommunityViewCountConcurrencyTest {
+
+    private static final int VIEW_REQUESTS = 1000;
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private CommunityViewCountBuffer communityViewCountBuffer;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private CommunityPostCounterRepository communityPostCounterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        communityViewCountBuffer.flush();
+        communityPostRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void parallelViews_areFlushedWithoutLostIncrements() throws Exception {
+        CommunityPost post = savePost("view");
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(VIEW_REQUESTS);
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 0; i < VIEW_REQUESTS; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    communityService.getPostDetail(post.getId(), null);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertTrue(doneLatch.await(60, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        communityViewCountBuffer.flush();
+
+        CommunityPost reloaded = communityPostRepository.findById(post.getId()).orElseThrow();
+        assertEquals(0, failures.get());
+        assertEquals(VIEW_REQUESTS, reloaded.getViewCount());
+        assertEquals(0L, communityViewCountBuffer.getPendingCount(post.getId()));
+    }
+
+    @Test
+    void postEdit_doesNotOverwriteCountersFlushedDuringItsTransaction() {
+        CommunityPost post = savePost("edit");
+
+        // 게시글을 읽은 뒤 조회수 flush가 끼어들어도, 수정 UPDATE가 읽어 둔 0으로 되돌리지 않아야 한다
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            CommunityPost loaded = communityPostRepository.findById(post.getId()).orElseThrow();
+            communityPostCounterRepository.addViewCounts(Map.of(post.getId(), 5L));
+            loaded.updatePost(CommunityCategory.TREE_SHADE, "수정한 제목", "수정한 본문");
+        });
+
+        CommunityPost reloaded = communityPostRepository.findById(post.getId()).orElseThrow();
+        assertEquals("수정한 제목", reloaded.getTitle());
+        assertEquals(5L, reloaded.getViewCount());
+    }
+
+    private CommunityPost savePost(String name) {
+        User user = userRepository.save(
+                User.builder()
+                        .email(name + "@example.com")
+                        .password("encodedPassword")
+                        .nickname(name + "User")
+                        .build()
+        );
+        return communityPostRepository.save(
+                CommunityPost.builder()
+                        .user(user)
+                        .category(CommunityCategory.TREE_SHADE)
+                        .title("조회수 동시성")
+                        .content("본문")
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,189 @@
+package com.wilo.server.community;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.wilo.server.community.dto.comment.CommunityCommentCreateRequestDto;
+import com.wilo.server.community.dto.post.CommunityPostCreateRequestDto;
+import com.wilo.server.community.entity.post.CommunityCategory;
+import com.wilo.server.community.repository.CommunityCommentRepository;
+import com.wilo.server.community.repository.CommunityPostImageRepository;
+import com.wilo.server.community.repository.CommunityPostLikeRepository;
+import com.wilo.server.community.repository.CommunityPostRepository;
+import com.wilo.server.community.service.community.CommunityService;
+import com.wilo.server.community.service.stats.UserCommunityStatsReconciler;
+import com.wilo.server.community.service.stats.UserLikeStatsBuffer;
+import com.wilo.server.user.entity.User;
+import com.wilo.server.user.repository.UserCommunityStatsRepository;
+import com.wilo.server.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserCommunityStatsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private UserCommunityStatsReconciler userCommunityStatsReconciler;
+
+    @Autowired
+    private UserLikeStatsBuffer userLikeStatsBuffer;
+
+    @Autowired
+    private UserCommunityStatsRepository userCommunityStatsRepository;
+
+    @Autowired
+    private CommunityCommentRepository communityCommentRepository;
+
+    @Autowired
+    private CommunityPostLikeRepository communityPostLikeRepository;
+
+    @Autowired
+    private CommunityPostImageRepository communityPostImageRepository;
+
+    @Autowired
+    private CommunityPostRepository communityPostRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        userCommunityStatsRepository.deleteAll();
+        communityCommentRepository.deleteAll();
+        communityPostLikeRepository.deleteAll();
+        communityPostImageRepository.deleteAll();
+        communityPostRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void writePaths_keepStatsInSync_andProfileReadIsSinglePrimaryKeyLookup() throws Exception {
+        User author = saveUser("stats-author@example.com", "statsAuthor");
+        User reader = saveUser("stats-reader@example.com", "statsReader");
+
+        Long kept = communityService.createPost(author.getId(), postRequest("남길 글"));
+        Long removed = communityService.createPost(author.getId(), postRequest("지울 글"));
+        communityService.createComment(reader.getId(), kept, new CommunityCommentCreateRequestDto(null, "댓글"));
+        communityService.createComment(reader.getId(), removed, new CommunityCommentCreateRequestDto(null, "댓글"));
+        communityService.likePost(reader.getId(), kept);
+        communityService.likePost(reader.getId(), removed);
+        communityService.likePost(author.getId(), kept);
+        communityService.likePost(author.getId(), removed);
+        communityService.unlikePost(author.getId(), removed);
+
+        assertStats(author, 2, 0, 3, 1);
+        assertStats(reader, 0, 2, 0, 2);
+
+        // 글을 지우면 작성자의 글/받은 좋아요와 누른 사람의 누른 좋아요가 함께 줄어든다
+        communityService.deletePost(author.getId(), removed);
+        assertStats(author, 1, 0, 2, 1);
+        assertStats(reader, 0, 2, 0, 1);
+
+        userLikeStatsBuffer.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/users/{userId}/community-stats", author.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.postCount").value(1));
+        long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void likes_skipStatsRowsInTheirTransaction_andRolledBackLikesAreNotCounted() throws Exception {
+        User author = saveUser("hot-author@example.com", "hotAuthor");
+        User reader = saveUser("hot-reader@example.com", "hotReader");
+        Long postId = communityService.createPost(author.getId(), postRequest("인기 글"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            communityService.likePost(reader.getId(), postId);
+            status.setRollbackOnly();
+        });
+        communityService.likePost(reader.getId(), postId);
+
+        // 좋아요 트랜잭션은 작성자의 집계 행을 건드리지 않고, 커밋된 증분만 flush 때 반영된다
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT likes_received FROM user_community_stats WHERE user_id = ?", Long.class, author.getId()));
+        assertStats(author, 1, 0, 1, 0);
+        assertStats(reader, 0, 0, 0, 1);
+    }
+
+    @Test
+    void reconciler_correctsDriftedAndMissingRows() throws Exception {
+        User author = saveUser("drift-author@example.com", "driftAuthor");
+        User reader = saveUser("drift-reader@example.com", "driftReader");
+        User idle = saveUser("drift-idle@example.com", "driftIdle");
+
+        Long postId = communityService.createPost(author.getId(), postRequest("보정 글"));
+        communityService.createComment(reader.getId(), postId, new CommunityCommentCreateRequestDto(null, "댓글"));
+        communityService.likePost(reader.getId(), postId);
+
+        jdbcTemplate.update("UPDATE user_community_stats SET post_count = 99, likes_received = 0 WHERE user_id = ?", author.getId());
+        jdbcTemplate.update("DELETE FROM user_community_stats WHERE user_id = ?", reader.getId());
+
+        userCommunityStatsReconciler.reconcileAll();
+
+        assertStats(author, 1, 0, 1, 0);
+        assertStats(reader, 0, 1, 0, 1);
+        assertStats(idle, 0, 0, 0, 0);
+        assertEquals(List.of(), userCommunityStatsRepository.findAllById(List.of(idle.getId())));
+    }
+
+    private void assertStats(User user, long posts, long comments, long likesReceived, long likesGiven) throws Exception {
+        userLikeStatsBuffer.flush();
+        mockMvc.perform(get("/api/v1/users/{userId}/community-stats", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.userId").value(user.getId()))
+                .andExpect(jsonPath("$.data.postCount").value(posts))
+                .andExpect(jsonPath("$.data.commentCount").value(comments))
+                .andExpect(jsonPath("$.data.likesReceived").value(likesReceived))
+                .andExpect(jsonPath("$.data.likesGiven").value(likesGiven));
+    }
+
+    private CommunityPostCreateRequestDto postRequest(String title) {
+        return new CommunityPostCreateRequestDto(CommunityCategory.TREE_SHADE, title, "본문", null);
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(
+                User.builder()
+                        .email(email)
+                        .password("encodedPassword")
+                        .nickname(nickname)
+                        .build()
+        );
+    }
+}
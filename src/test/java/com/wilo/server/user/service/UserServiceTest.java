@@ -2,6 +2,7 @@ package com.wilo.server.user.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -16,6 +17,7 @@ import com.wilo.server.user.dto.UserPasswordResetRequestDto;
 import com.wilo.server.user.dto.UserUpdateRequestDto;
 import com.wilo.server.user.entity.User;
 import com.wilo.server.user.error.UserErrorCase;
+import com.wilo.server.user.event.UserProfileUpdatedEvent;
 import com.wilo.server.user.repository.UserRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +43,9 @@ class UserServiceTest {
     @Mock
     private PhoneVerificationCodeRepository phoneVerificationCodeRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -58,6 +64,7 @@ class UserServiceTest {
 
         userService.updateUserProfile(1L, new UserUpdateRequestDto("newNickname", null));
 
+        verify(eventPublisher).publishEvent(UserProfileUpdatedEvent.of(1L));
         assertEquals("newNickname", user.getNickname());
         assertEquals("oldDescription", user.getDescription());
         assertEquals("01012345678", user.getPhoneNumber());
@@ -78,6 +85,7 @@ class UserServiceTest {
         userService.updateUserProfile(1L, new UserUpdateRequestDto(null, "newDescription"));
 
         verify(userRepository, never()).existsByNickname(anyString());
+        verify(eventPublisher, never()).publishEvent(any());
         assertEquals("oldNickname", user.getNickname());
         assertEquals("newDescription", user.getDescription());
         assertEquals("01012345678", user.getPhoneNumber());